@@ -0,0 +1,125 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 두 JMH JSON 결과를 벤치마크/파라미터 단위로 비교하는 리포트입니다.
+ *
+ * 처리량 모드({@code thrpt})는 값이 클수록, 그 외 시간 측정 모드는 값이 작을수록 좋은 것으로 판단하며,
+ * 변화율이 임계값을 넘고 두 측정의 오차 범위가 겹치지 않을 때만 개선/회귀로 표시합니다.
+ */
+final class BaselineComparison {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<Row> rows;
+
+    private BaselineComparison(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    static BaselineComparison compare(Path baseline, Path current, double threshold) throws IOException {
+        Map<String, JsonNode> baselineResults = read(baseline);
+        Map<String, JsonNode> currentResults = read(current);
+
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : currentResults.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baselineResults.get(entry.getKey());
+            rows.add(Row.of(entry.getKey(), before, now, threshold));
+        }
+        return new BaselineComparison(rows);
+    }
+
+    boolean hasRegression() {
+        return rows.stream().anyMatch(row -> row.verdict() == Verdict.REGRESSION);
+    }
+
+    String toMarkdown() {
+        StringBuilder report = new StringBuilder();
+        report.append("| benchmark | unit | baseline | current | change | verdict |\n");
+        report.append("|---|---|---:|---:|---:|---|\n");
+        for (Row row : rows) {
+            report.append("| ").append(row.key())
+                    .append(" | ").append(row.unit())
+                    .append(" | ").append(row.baseline() == null ? "-" : format(row.baseline()))
+                    .append(" | ").append(format(row.current()))
+                    .append(" | ").append(row.baseline() == null ? "-" : String.format("%+.1f%%", row.change() * 100))
+                    .append(" | ").append(row.verdict())
+                    .append(" |\n");
+        }
+        return report.toString();
+    }
+
+    private static String format(double value) {
+        return String.format("%.3f", value);
+    }
+
+    private static Map<String, JsonNode> read(Path path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : OBJECT_MAPPER.readTree(path.toFile())) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                .replace(BenchmarkRunner.class.getPackageName() + ".", ""));
+        JsonNode params = result.path("params");
+        if (!params.isMissingNode()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                key.append(" ").append(field.getKey()).append("=").append(field.getValue().asText());
+            }
+        }
+        return key.toString();
+    }
+
+    enum Verdict {
+        NEW, SAME, IMPROVED, REGRESSION
+    }
+
+    record Row(String key, String unit, Double baseline, double current, double change, Verdict verdict) {
+
+        static Row of(String key, JsonNode before, JsonNode now, double threshold) {
+            JsonNode currentMetric = now.path("primaryMetric");
+            double current = currentMetric.path("score").asDouble();
+            String unit = currentMetric.path("scoreUnit").asText();
+            if (before == null) {
+                return new Row(key, unit, null, current, 0.0, Verdict.NEW);
+            }
+
+            JsonNode baselineMetric = before.path("primaryMetric");
+            double baseline = baselineMetric.path("score").asDouble();
+            double change = baseline == 0.0 ? 0.0 : (current - baseline) / baseline;
+            boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+
+            double currentError = errorOf(currentMetric);
+            double baselineError = errorOf(baselineMetric);
+            boolean overlapping = Math.abs(current - baseline) <= currentError + baselineError;
+
+            Verdict verdict = Verdict.SAME;
+            if (Math.abs(change) > threshold && !overlapping) {
+                boolean better = higherIsBetter ? change > 0 : change < 0;
+                verdict = better ? Verdict.IMPROVED : Verdict.REGRESSION;
+            }
+            return new Row(key, unit, baseline, current, change, verdict);
+        }
+
+        private static double errorOf(JsonNode metric) {
+            double error = metric.path("scoreError").asDouble();
+            return Double.isNaN(error) ? 0.0 : error;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 픽스처 데이터입니다.
+ *
+ * 운영에서 큐로 들어오는 회의실 예약 완료/취소/변경 메일 본문을 그대로 사용하여
+ * HTML 변환 비용이 실제 트래픽과 같은 구조의 문서로 측정되도록 합니다.
+ */
+final class BenchmarkFixtures {
+
+    static final List<String> BOOKING_HTML_FIXTURES = List.of(
+            "booking-completed.html",
+            "booking-cancelled.html",
+            "booking-changed.html"
+    );
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 클래스패스의 fixtures 디렉터리에서 HTML 픽스처를 읽습니다.
+     *
+     * @param name 픽스처 파일 이름
+     * @return 파일 내용
+     */
+    static String html(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * n번째 가상 사용자의 이메일 주소를 반환합니다.
+     *
+     * @param index 사용자 번호
+     * @return 이메일 주소
+     */
+    static String userEmail(int index) {
+        return "user" + index + "@nhnacademy.com";
+    }
+}
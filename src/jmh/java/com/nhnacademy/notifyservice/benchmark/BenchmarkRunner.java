@@ -0,0 +1,80 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 벤치마크를 실행하고 결과를 기준 결과와 비교하는 진입점입니다.
+ *
+ * {@code benchmark} Maven 프로필의 {@code integration-test} 단계에서 실행되며,
+ * 인자는 JMH 명령행 옵션을 그대로 받습니다 (예: {@code HtmlTextConverter -f 1 -prof gc}).
+ *
+ * <p>시스템 프로퍼티:</p>
+ * <ul>
+ * <li>{@code jmh.resultDir} - 결과 JSON과 비교 리포트를 저장할 디렉터리</li>
+ * <li>{@code jmh.baseline} - 비교할 기준 결과 JSON 경로, 없으면 비교를 건너뜁니다</li>
+ * <li>{@code jmh.saveBaseline} - true면 이번 결과를 기준 결과로 저장합니다</li>
+ * <li>{@code jmh.regressionThreshold} - 회귀로 판단할 변화율 (기본 0.10 = 10%)</li>
+ * <li>{@code jmh.failOnRegression} - true면 회귀가 있을 때 0이 아닌 코드로 종료합니다</li>
+ * </ul>
+ *
+ * 기준 결과는 측정한 장비에 종속되므로 같은 장비에서 만든 결과끼리만 비교해야 합니다.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path resultDir = Path.of(System.getProperty("jmh.resultDir", "target/jmh"));
+        Files.createDirectories(resultDir);
+        Path result = resultDir.resolve("result.json");
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+        Options options = builder
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+
+        new Runner(options).run();
+
+        String baselineProperty = System.getProperty("jmh.baseline");
+        Path baseline = baselineProperty == null || baselineProperty.isBlank() ? null : Path.of(baselineProperty);
+
+        int exitCode = 0;
+        if (baseline != null && Files.exists(baseline)) {
+            double threshold = Double.parseDouble(System.getProperty("jmh.regressionThreshold", "0.10"));
+            BaselineComparison comparison = BaselineComparison.compare(baseline, result, threshold);
+            String report = comparison.toMarkdown();
+            Files.writeString(resultDir.resolve("comparison.md"), report);
+            System.out.println(report);
+
+            if (comparison.hasRegression() && Boolean.getBoolean("jmh.failOnRegression")) {
+                exitCode = 1;
+            }
+        } else {
+            System.out.println("기준 결과가 없어 비교를 건너뜁니다: " + baseline
+                    + " (-Djmh.saveBaseline=true 로 현재 결과를 기준으로 저장할 수 있습니다)");
+        }
+
+        if (baseline != null && Boolean.getBoolean("jmh.saveBaseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("기준 결과 저장: " + baseline);
+        }
+
+        System.exit(exitCode);
+    }
+}
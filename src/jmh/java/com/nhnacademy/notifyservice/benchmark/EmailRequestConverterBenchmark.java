@@ -0,0 +1,53 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RabbitConfig에 등록된 {@link Jackson2JsonMessageConverter}로 {@link EmailRequest}를
+ * 직렬화/역직렬화하는 비용을 측정합니다.
+ *
+ * 프로듀서는 요청마다 직렬화를, 컨슈머는 메시지마다 역직렬화를 수행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRequestConverterBenchmark {
+
+    @Param({"booking-completed.html"})
+    private String fixture;
+
+    private Jackson2JsonMessageConverter converter;
+
+    private EmailRequest request;
+
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        converter = new Jackson2JsonMessageConverter();
+        request = new EmailRequest("booker01@nhnacademy.com", "회의실 예약 완료",
+                BenchmarkFixtures.html(fixture), "ROLE_ADMIN", "HTML");
+        request.setTraceId("3f2b1c9e7a6d4e8f9b0a1c2d3e4f5a6b");
+        request.setEnqueuedAt(System.currentTimeMillis());
+        message = converter.toMessage(request, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serialize() {
+        return converter.toMessage(request, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return converter.fromMessage(message);
+    }
+}
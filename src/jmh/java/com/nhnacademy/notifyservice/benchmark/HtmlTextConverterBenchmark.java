@@ -0,0 +1,50 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.util.HtmlTextConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HtmlTextConverter}의 관리자 알림 변환, 팝업 요약, 순수 텍스트 변환 비용을 측정합니다.
+ *
+ * 관리자 알림은 메시지 한 건마다 변환과 요약이 모두 수행되므로 큐 소비 처리량에 직접 영향을 줍니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlTextConverterBenchmark {
+
+    @Param({"booking-completed.html", "booking-cancelled.html", "booking-changed.html"})
+    private String fixture;
+
+    private HtmlTextConverter htmlTextConverter;
+
+    private String html;
+
+    @Setup
+    public void setUp() {
+        htmlTextConverter = new HtmlTextConverter(new NotificationMetrics(new SimpleMeterRegistry()));
+        html = BenchmarkFixtures.html(fixture);
+    }
+
+    @Benchmark
+    public String convertToAdminNotification() {
+        return htmlTextConverter.convertToAdminNotification(html);
+    }
+
+    @Benchmark
+    public String createAdminSummary() {
+        return htmlTextConverter.createAdminSummary(html, 150);
+    }
+
+    @Benchmark
+    public String convertToPlainText() {
+        return htmlTextConverter.convertToPlainText(html);
+    }
+}
@@ -0,0 +1,98 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.SharedByteArrayInputStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 50KB HTML 메일의 MIME 메시지를 만드는 비용을 측정합니다.
+ *
+ * {@code build}는 EmailService가 캐시 없이 수행하는 multipart 생성/본문 인코딩/직렬화를,
+ * {@code cloneFromTemplate}은 {@link com.nhnacademy.notifyservice.cache.MimeMessageTemplateCache}에
+ * 보관한 직렬화 본문으로 메시지를 만들고 수신자/제목 헤더만 바꾸는 경로를 측정합니다.
+ * 두 경로 모두 JavaMailSenderImpl처럼 헤더를 갱신한 뒤 SMTP로 쓰는 바이트를 버리는 스트림에 기록합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MimeMessageBuildBenchmark {
+
+    private static final int BODY_SIZE = 50 * 1024;
+
+    @Param({"booking-completed.html"})
+    private String fixture;
+
+    private Session session;
+
+    private String html;
+
+    private byte[] template;
+
+    private InternetAddress to;
+
+    private int sequence;
+
+    @Setup
+    public void setUp() throws MessagingException, IOException {
+        session = Session.getInstance(new Properties());
+        String fragment = BenchmarkFixtures.html(fixture);
+        StringBuilder body = new StringBuilder(BODY_SIZE + fragment.length());
+        while (body.length() < BODY_SIZE) {
+            body.append(fragment);
+        }
+        html = body.toString();
+        to = new InternetAddress(BenchmarkFixtures.userEmail(1));
+
+        MimeMessage message = newHtmlMessage();
+        message.saveChanges();
+        message.removeHeader("Message-ID");
+        message.removeHeader("Date");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        template = out.toByteArray();
+    }
+
+    private MimeMessage newHtmlMessage() throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, StandardCharsets.UTF_8.name());
+        helper.setText(html, true);
+        return message;
+    }
+
+    private static void send(MimeMessage message, InternetAddress to, int sequence) throws MessagingException, IOException {
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        message.setRecipient(Message.RecipientType.TO, to);
+        helper.setSubject("회의실 예약 완료 #" + sequence);
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public MimeMessage build() throws MessagingException, IOException {
+        MimeMessage message = newHtmlMessage();
+        send(message, to, sequence++);
+        return message;
+    }
+
+    @Benchmark
+    public MimeMessage cloneFromTemplate() throws MessagingException, IOException {
+        MimeMessage message = new MimeMessage(session, new SharedByteArrayInputStream(template));
+        send(message, to, sequence++);
+        return message;
+    }
+}
@@ -0,0 +1,61 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import com.nhnacademy.notifyservice.service.NotificationMessageMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 내역 조회({@code NotificationServiceImpl#getHistoryNotification})의 엔티티 → DTO 변환 비용을 측정합니다.
+ *
+ * 미리 만든 엔티티 목록을 {@link NotificationMessageMapper}로 직접 변환하여 DB 조회와 협력 객체를 제외하고
+ * 알림 내역 크기에 따른 매핑 비용만 측정합니다. 목(mock) 객체는 호출을 기록하므로 측정 구간에 두지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationHistoryMappingBenchmark {
+
+    private static final String EMAIL = "admin@nhnacademy.com";
+
+    @Param({"50", "500", "5000"})
+    private int historySize;
+
+    private List<NotificationMessage> history;
+
+    @Setup
+    public void setUp() {
+        Role role = Role.ofNewRole("ROLE_ADMIN", "관리자");
+        Member member = Member.ofNewMember(role, "관리자", EMAIL, "password", "010-0000-0000");
+        String content = BenchmarkFixtures.html("booking-completed.html");
+
+        history = new ArrayList<>(historySize);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < historySize; i++) {
+            history.add(NotificationMessage.builder()
+                    .id((long) i + 1)
+                    .member(member)
+                    .role(role)
+                    .content(content)
+                    .isRead(i % 3 == 0)
+                    .createdAt(createdAt.plusMinutes(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<NotificationMessageDto> getHistoryNotification() {
+        return NotificationMessageMapper.toDtos(history, Map.of());
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.notifyservice.benchmark;
+
+import com.nhnacademy.notifyservice.config.NotificationSessionTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접속 세션 수에 따른 {@link NotificationSessionTracker} 조회/등록 비용을 측정합니다.
+ *
+ * 세션 수 조회는 관리자 알림 저장 시 수신자마다 호출되므로 접속자가 늘어도 일정한 비용을 유지해야 합니다.
+ * 사용자마다 {@code sessionsPerUser}개의 탭이 열려 있다고 가정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationSessionTrackerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int sessions;
+
+    @Param({"2"})
+    private int sessionsPerUser;
+
+    private NotificationSessionTracker tracker;
+
+    private String[] userEmails;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        tracker = new NotificationSessionTracker();
+        int users = Math.max(1, sessions / sessionsPerUser);
+        userEmails = new String[users];
+        for (int i = 0; i < users; i++) {
+            userEmails[i] = BenchmarkFixtures.userEmail(i);
+        }
+        for (int i = 0; i < sessions; i++) {
+            tracker.notificationSessionIdToUserEmailMapRegisterSession("session-" + i, userEmails[i % users], 10_000L);
+        }
+    }
+
+    private String nextUserEmail() {
+        cursor = (cursor + 1) % userEmails.length;
+        return userEmails[cursor];
+    }
+
+    @Benchmark
+    public int countSessionsByUserEmail() {
+        return tracker.countSessionsByUserEmail(nextUserEmail());
+    }
+
+    @Benchmark
+    public int countSessionsByOfflineUser() {
+        return tracker.countSessionsByUserEmail("offline@nhnacademy.com");
+    }
+
+    @Benchmark
+    public int registerAndUnregister() {
+        String email = nextUserEmail();
+        tracker.notificationSessionIdToUserEmailMapRegisterSession("bench-session", email, 10_000L);
+        tracker.notificationSessionIdToUserEmailMapUnregisterSession("bench-session");
+        return tracker.sessionCount();
+    }
+}
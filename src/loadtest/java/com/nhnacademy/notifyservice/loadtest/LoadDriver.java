@@ -0,0 +1,183 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 설정된 비율과 요청 종류 구성으로 이메일 API에 HTTP 부하를 겁니다.
+ *
+ * <ul>
+ * <li>{@code html-admin} - {@code /api/v1/email/html}, ROLE_ADMIN (관리자 알림 저장/전송 + HTML 메일)</li>
+ * <li>{@code text-admin} - {@code /api/v1/email/text}, ROLE_ADMIN (관리자 알림 저장/전송 + 텍스트 메일)</li>
+ * <li>{@code popup} - {@code /api/v1/email/text}, ROLE_ALL (수신자 팝업만 전송)</li>
+ * </ul>
+ *
+ * 요청은 10ms 단위로 고르게 분산하여 보내며 응답을 기다리지 않으므로(open model) 서버가 느려져도 유입량이 줄지 않습니다.
+ */
+class LoadDriver {
+
+    static final Set<String> REQUEST_KINDS = Set.of("html-admin", "text-admin", "popup");
+
+    private static final long TICK_MILLIS = 10L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(8))
+            .build();
+
+    private final MeterRegistry meterRegistry;
+
+    private final LoadTestSettings settings;
+
+    private final URI baseUri;
+
+    private final List<String> weightedKinds = new ArrayList<>();
+
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadDriver(int port, LoadTestSettings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.baseUri = URI.create("http://127.0.0.1:" + port);
+        for (Map.Entry<String, Integer> entry : settings.mix().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                weightedKinds.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * {@link LoadTestSettings#durationSeconds()} 동안 부하를 걸고, 보낸 요청의 응답을 모두 기다립니다.
+     *
+     * @return 보낸 요청 수
+     */
+    long run() throws InterruptedException {
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        double perTick = settings.rate() * TICK_MILLIS / 1000.0;
+        double[] carry = {0.0};
+
+        ticker.scheduleAtFixedRate(() -> {
+            carry[0] += perTick;
+            int count = (int) carry[0];
+            carry[0] -= count;
+            for (int i = 0; i < count; i++) {
+                fire();
+            }
+        }, 0L, TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(settings.durationSeconds() * 1000L);
+        ticker.shutdownNow();
+        ticker.awaitTermination(5, TimeUnit.SECONDS);
+
+        List<CompletableFuture<?>> sent;
+        synchronized (pending) {
+            sent = new ArrayList<>(pending);
+        }
+        CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        return sent.size();
+    }
+
+    private void fire() {
+        String kind = weightedKinds.get(ThreadLocalRandom.current().nextInt(weightedKinds.size()));
+        long n = sequence.incrementAndGet();
+
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path(kind)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(kind, n)))
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<?> future = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    String outcome = error != null ? "error" : String.valueOf(response.statusCode());
+                    sample.stop(Timer.builder("loadtest.http.latency")
+                            .tags("kind", kind)
+                            .publishPercentiles(0.5, 0.99)
+                            .register(meterRegistry));
+                    Counter.builder("loadtest.http.requests")
+                            .tags("kind", kind, "outcome", outcome)
+                            .register(meterRegistry)
+                            .increment();
+                });
+        synchronized (pending) {
+            pending.add(future);
+        }
+    }
+
+    private static String path(String kind) {
+        return "html-admin".equals(kind) ? "/api/v1/email/html" : "/api/v1/email/text";
+    }
+
+    private String body(String kind, long n) {
+        int member = settings.admins() + (int) (n % Math.max(1, settings.users()));
+        String to = settings.users() > 0 ? settings.memberEmail(member) : settings.memberEmail(0);
+
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("to", to);
+        switch (kind) {
+            case "html-admin" -> {
+                body.put("subject", "회의실 예약 완료");
+                body.put("content", bookingHtml(to, n));
+                body.put("roleType", "ROLE_ADMIN");
+            }
+            case "text-admin" -> {
+                body.put("subject", "회의실 예약 알림");
+                body.put("content", to + "님이 회의실을 예약하였습니다. 예약 번호 " + n);
+                body.put("roleType", "ROLE_ADMIN");
+            }
+            default -> {
+                body.put("subject", "회의 시작 알림");
+                body.put("content", "예약하신 회의가 10분 후 시작됩니다. (" + n + ")");
+                body.put("roleType", "ROLE_ALL");
+            }
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 운영 예약 완료 메일과 같은 구조의 HTML 본문을 만듭니다.
+     */
+    private static String bookingHtml(String email, long n) {
+        return """
+                <html><body><div class="container">
+                <h2>회의실 예약이 완료되었습니다</h2>
+                <p><strong>%s</strong>님, 요청하신 회의실 예약이 정상적으로 처리되었습니다.</p>
+                <div class="info"><p><strong>예약 번호</strong>: LT-%d<br>
+                <strong>회의실</strong>: 판교 3층 코튼룸 (8인)<br>
+                <strong>날짜</strong>: 2026-10-20 14:00 ~ 15:30</p></div>
+                <p>예약 시간 10분 전까지 입실하지 않으면 예약이 자동으로 취소될 수 있습니다.</p>
+                <div class="cta"><a href="https://coffee-legends.example.com/booking/LT-%d">예약 확인하기</a></div>
+                </div></body></html>
+                """.formatted(email, n, n);
+    }
+}
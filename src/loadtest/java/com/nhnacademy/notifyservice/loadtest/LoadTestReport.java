@@ -0,0 +1,171 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과(처리량, 단계별 p50/p99, GC/할당량)를 모으고 기준 결과와 비교하는 리포트입니다.
+ *
+ * 처리량과 p99 지연 시간만 회귀 판단(gated)에 사용하고, 나머지 값은 참고용으로 함께 기록합니다.
+ * GC/할당량은 부하 발생기와 STOMP 클라이언트가 같은 JVM에서 동작하므로 그 비용이 포함된 값입니다.
+ */
+class LoadTestReport {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 지연 시간을 리포트에 포함할 애플리케이션 타이머입니다.
+     */
+    private static final List<String> APPLICATION_TIMERS = List.of(
+            "notification.stage",
+            "notification.queue.process",
+            "notification.html.convert",
+            "notification.db",
+            "notification.email.send"
+    );
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    record Entry(double value, String unit, boolean higherIsBetter, boolean gated) {
+    }
+
+    /**
+     * JVM 전체 GC 횟수/시간과 누적 할당량의 스냅샷입니다.
+     */
+    record JvmSnapshot(long gcCount, long gcTimeMillis, long allocatedBytes) {
+
+        static JvmSnapshot take() {
+            long count = 0;
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                time += Math.max(0, gc.getCollectionTime());
+            }
+            long allocated = ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                    .getTotalThreadAllocatedBytes();
+            return new JvmSnapshot(count, time, allocated);
+        }
+    }
+
+    void throughput(String key, double count, double seconds) {
+        entries.put("throughput." + key, new Entry(seconds > 0 ? count / seconds : 0.0, "ops/s", true, true));
+    }
+
+    void count(String key, double value) {
+        entries.put("count." + key, new Entry(value, "count", false, false));
+    }
+
+    void jvm(JvmSnapshot before, JvmSnapshot after, double seconds) {
+        long allocated = after.allocatedBytes() - before.allocatedBytes();
+        entries.put("jvm.gc.count", new Entry(after.gcCount() - before.gcCount(), "count", false, false));
+        entries.put("jvm.gc.time", new Entry(after.gcTimeMillis() - before.gcTimeMillis(), "ms", false, false));
+        entries.put("jvm.alloc.total", new Entry(allocated / (1024.0 * 1024.0), "MB", false, false));
+        entries.put("jvm.alloc.rate", new Entry(seconds > 0 ? allocated / (1024.0 * 1024.0) / seconds : 0.0, "MB/s", false, false));
+    }
+
+    /**
+     * 애플리케이션 레지스트리의 파이프라인 타이머와 부하 발생기 레지스트리의 클라이언트 타이머에서 p50/p99를 수집합니다.
+     */
+    void latencies(MeterRegistry applicationRegistry, MeterRegistry clientRegistry) {
+        for (String name : APPLICATION_TIMERS) {
+            for (Timer timer : applicationRegistry.find(name).timers()) {
+                percentiles(timer);
+            }
+        }
+        for (Timer timer : clientRegistry.find("loadtest.http.latency").timers()) {
+            percentiles(timer);
+        }
+        for (Timer timer : clientRegistry.find("loadtest.stomp.latency").timers()) {
+            percentiles(timer);
+        }
+        for (Timer timer : clientRegistry.find("loadtest.poll.latency").timers()) {
+            percentiles(timer);
+        }
+    }
+
+    private void percentiles(Timer timer) {
+        if (timer.count() == 0) {
+            return;
+        }
+        String key = timer.getId().getName() + timer.getId().getTags().stream()
+                .filter(tag -> !"application".equals(tag.getKey()))
+                .map(Tag::getValue)
+                .collect(Collectors.joining(",", "[", "]"));
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.5) {
+                entries.put("latency.p50." + key, new Entry(value.value(TimeUnit.MILLISECONDS), "ms", false, false));
+            } else if (value.percentile() == 0.99) {
+                entries.put("latency.p99." + key, new Entry(value.value(TimeUnit.MILLISECONDS), "ms", false, true));
+            }
+        }
+    }
+
+    static double count(MeterRegistry registry, String name, String... tags) {
+        return registry.find(name).tags(tags).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    void write(Path resultDir) throws IOException {
+        Files.createDirectories(resultDir);
+        OBJECT_MAPPER.writeValue(resultDir.resolve("report.json").toFile(), entries);
+    }
+
+    /**
+     * 기준 결과와 비교한 markdown 표를 만듭니다. 기준 결과가 없으면 이번 결과만 표시합니다.
+     *
+     * @return 비교 표와 회귀 여부
+     */
+    Comparison compare(Path baseline, double threshold) throws IOException {
+        Map<String, Entry> before = baseline != null && Files.exists(baseline)
+                ? OBJECT_MAPPER.readValue(baseline.toFile(), new TypeReference<LinkedHashMap<String, Entry>>() {
+                })
+                : Map.of();
+
+        boolean regression = false;
+        StringBuilder report = new StringBuilder();
+        report.append("| metric | unit | baseline | current | change | verdict |\n");
+        report.append("|---|---|---:|---:|---:|---|\n");
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Entry now = entry.getValue();
+            Entry old = before.get(entry.getKey());
+            String verdict = "";
+            String change = "-";
+            if (old != null && old.value() != 0.0) {
+                double ratio = (now.value() - old.value()) / old.value();
+                change = String.format("%+.1f%%", ratio * 100);
+                if (now.gated() && Math.abs(ratio) > threshold) {
+                    boolean better = now.higherIsBetter() ? ratio > 0 : ratio < 0;
+                    verdict = better ? "IMPROVED" : "REGRESSION";
+                    regression |= !better;
+                }
+            }
+            report.append("| ").append(entry.getKey())
+                    .append(" | ").append(now.unit())
+                    .append(" | ").append(old == null ? "-" : String.format("%.2f", old.value()))
+                    .append(" | ").append(String.format("%.2f", now.value()))
+                    .append(" | ").append(change)
+                    .append(" | ").append(verdict)
+                    .append(" |\n");
+        }
+        return new Comparison(report.toString(), regression);
+    }
+
+    record Comparison(String markdown, boolean regression) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.nhnacademy.notifyservice.NotifyServiceApplication;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 인프라 없이 애플리케이션 전체 파이프라인에 부하를 거는 로컬 부하 테스트 진입점입니다.
+ *
+ * <ol>
+ * <li>GreenMail SMTP 서버를 띄우고 loadtest 프로필(H2, loopback 브로커)로 애플리케이션을 기동합니다.</li>
+ * <li>관리자/일반 회원을 저장하고 STOMP 클라이언트를 접속시킵니다.</li>
+ * <li>설정된 비율로 HTTP 요청을 보내고 큐가 모두 처리될 때까지 기다립니다.
+ * {@code loadtest.pollers}가 설정되면 같은 시간 동안 알림 개수/히스토리 API를 동시에 폴링합니다.</li>
+ * <li>처리량, 단계별 p50/p99, GC/할당량을 {@code target/loadtest}에 기록하고 기준 결과와 비교합니다.</li>
+ * </ol>
+ *
+ * {@code benchmark} 프로필과 마찬가지로 {@code loadtest} Maven 프로필의 {@code integration-test} 단계에서 실행됩니다.
+ * 설정은 {@link LoadTestSettings}를 참고하세요.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final long DRAIN_TIMEOUT_MILLIS = 120_000L;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        // devtools 재시작 클래스로더는 프로퍼티 파일이 아닌 시스템 프로퍼티로만 끌 수 있습니다.
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        GreenMail smtp = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        smtp.start();
+
+        int exitCode = 0;
+        ConfigurableApplicationContext context = null;
+        StompClientSwarm swarm = null;
+        PollingSwarm pollingSwarm = null;
+        try {
+            context = new SpringApplicationBuilder(NotifyServiceApplication.class)
+                    .profiles("loadtest")
+                    .properties("spring.mail.port=" + smtp.getSmtp().getPort(),
+                            "spring.threads.virtual.enabled=" + settings.virtualThreads())
+                    .run(args);
+
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            seedMembers(context, settings);
+
+            LoopbackBroker broker = context.getBean(LoopbackBroker.class);
+            MeterRegistry applicationRegistry = context.getBean(MeterRegistry.class);
+            MeterRegistry clientRegistry = new SimpleMeterRegistry();
+
+            swarm = new StompClientSwarm(broker, clientRegistry);
+            swarm.connect(port, settings);
+
+            log.info("LOAD TEST: {} req/s for {}s, mix {}, {} STOMP clients, {} consumers, {} {} pollers, virtual threads {}",
+                    settings.rate(), settings.durationSeconds(), settings.mix(), swarm.connected(), settings.consumers(),
+                    settings.pollers(), settings.pollMode(), settings.virtualThreads());
+
+            LoadTestReport.JvmSnapshot jvmBefore = LoadTestReport.JvmSnapshot.take();
+            long startedAt = System.nanoTime();
+
+            if (settings.pollers() > 0) {
+                pollingSwarm = new PollingSwarm(clientRegistry);
+                pollingSwarm.start(port, settings);
+            }
+            long sent = new LoadDriver(port, settings, clientRegistry).run();
+            if (pollingSwarm != null) {
+                pollingSwarm.stop();
+            }
+            boolean drained = broker.awaitDrained(DRAIN_TIMEOUT_MILLIS);
+            // 마지막 STOMP 프레임이 클라이언트에 도착할 시간을 줍니다.
+            Thread.sleep(500);
+
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            LoadTestReport.JvmSnapshot jvmAfter = LoadTestReport.JvmSnapshot.take();
+
+            LoadTestReport report = new LoadTestReport();
+            report.throughput("http.accepted", LoadTestReport.count(clientRegistry, "loadtest.http.requests", "outcome", "200"), seconds);
+            report.throughput("queue.consumed", LoadTestReport.count(applicationRegistry, "notification.queue.consumed", "outcome", "success"), seconds);
+            report.throughput("smtp.received", smtp.getReceivedMessages().length, seconds);
+            report.throughput("stomp.frames", LoadTestReport.count(clientRegistry, "loadtest.stomp.frames"), seconds);
+            if (settings.pollers() > 0) {
+                report.throughput("poll.ok", LoadTestReport.count(clientRegistry, "loadtest.poll.requests", "outcome", "200"), seconds);
+                report.count("poll.rejected", LoadTestReport.count(clientRegistry, "loadtest.poll.requests", "outcome", "503"));
+                report.count("poll.failed", LoadTestReport.count(clientRegistry, "loadtest.poll.requests", "outcome", "500")
+                        + LoadTestReport.count(clientRegistry, "loadtest.poll.requests", "outcome", "error"));
+            }
+            report.count("http.sent", sent);
+            report.count("http.failed", sent - LoadTestReport.count(clientRegistry, "loadtest.http.requests", "outcome", "200"));
+            report.count("queue.dead-lettered", broker.deadLettered());
+            report.count("queue.undrained", drained ? 0 : broker.depth());
+            report.count("stomp.connect-failures", swarm.connectFailures());
+            report.latencies(applicationRegistry, clientRegistry);
+            report.jvm(jvmBefore, jvmAfter, seconds);
+            report.write(settings.resultDir());
+
+            LoadTestReport.Comparison comparison = report.compare(settings.baseline(), settings.regressionThreshold());
+            Files.writeString(settings.resultDir().resolve("report.md"), comparison.markdown());
+            System.out.println(comparison.markdown());
+
+            if (settings.saveBaseline()) {
+                Files.createDirectories(settings.baseline().toAbsolutePath().getParent());
+                Files.copy(settings.resultDir().resolve("report.json"), settings.baseline(), StandardCopyOption.REPLACE_EXISTING);
+                log.info("LOAD TEST: baseline saved to {}", settings.baseline());
+            }
+            if (comparison.regression() && settings.failOnRegression()) {
+                exitCode = 1;
+            }
+        } catch (Exception e) {
+            log.error("LOAD TEST: failed", e);
+            exitCode = 2;
+        } finally {
+            if (pollingSwarm != null) {
+                pollingSwarm.stop();
+            }
+            if (swarm != null) {
+                swarm.disconnect();
+            }
+            if (context != null) {
+                context.getBean(LoopbackBroker.class).shutdown();
+                context.close();
+            }
+            smtp.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void seedMembers(ConfigurableApplicationContext context, LoadTestSettings settings) {
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+
+        Role admin = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        Role user = roleRepository.save(Role.ofNewRole("ROLE_USER", "일반 회원"));
+
+        List<Member> members = new ArrayList<>(settings.members());
+        for (int i = 0; i < settings.members(); i++) {
+            Role role = i < settings.admins() ? admin : user;
+            members.add(Member.ofNewMember(role, "member" + i, settings.memberEmail(i), "{noop}password",
+                    "010-0000-" + String.format("%04d", i % 10_000)));
+        }
+        memberRepository.saveAll(members);
+    }
+}
@@ -0,0 +1,80 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. 모든 값은 {@code loadtest.*} 시스템 프로퍼티로 지정합니다.
+ *
+ * @param rate 초당 HTTP 요청 수
+ * @param durationSeconds 부하를 거는 시간(초)
+ * @param clients 동시에 접속하는 STOMP 클라이언트 수
+ * @param admins 관리자 회원 수 (ROLE_ADMIN 알림 수신자)
+ * @param users 일반 회원 수 (ROLE_ALL 팝업 수신자)
+ * @param mix 요청 종류별 가중치 (html-admin, text-admin, popup)
+ * @param consumers loopback 브로커의 컨슈머 스레드 수
+ * @param resultDir 리포트를 저장할 디렉터리
+ * @param baseline 비교할 기준 리포트 경로
+ * @param saveBaseline 이번 결과를 기준 리포트로 저장할지 여부
+ * @param regressionThreshold 회귀로 판단할 변화율
+ * @param failOnRegression 회귀가 있을 때 0이 아닌 코드로 종료할지 여부
+ * @param pollers 알림 개수/히스토리 API를 동시에 폴링하는 클라이언트 수 (0이면 폴링하지 않음)
+ * @param pollMode 폴링할 API 변형 ({@code sync}, {@code async} 또는 {@code long})
+ * @param virtualThreads 애플리케이션의 요청 처리에 가상 스레드를 사용할지 여부 ({@code spring.threads.virtual.enabled})
+ */
+record LoadTestSettings(int rate, int durationSeconds, int clients, int admins, int users,
+                        Map<String, Integer> mix, int consumers, Path resultDir, Path baseline,
+                        boolean saveBaseline, double regressionThreshold, boolean failOnRegression,
+                        int pollers, String pollMode, boolean virtualThreads) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rate", 50),
+                Integer.getInteger("loadtest.duration", 30),
+                Integer.getInteger("loadtest.clients", 1000),
+                Integer.getInteger("loadtest.admins", 10),
+                Integer.getInteger("loadtest.users", 500),
+                parseMix(System.getProperty("loadtest.mix", "html-admin:50,text-admin:20,popup:30")),
+                Integer.getInteger("loadtest.consumers", 1),
+                Path.of(System.getProperty("loadtest.resultDir", "target/loadtest")),
+                Path.of(System.getProperty("loadtest.baseline", "src/loadtest/baseline.json")),
+                Boolean.getBoolean("loadtest.saveBaseline"),
+                Double.parseDouble(System.getProperty("loadtest.regressionThreshold", "0.20")),
+                Boolean.getBoolean("loadtest.failOnRegression"),
+                Integer.getInteger("loadtest.pollers", 0),
+                parsePollMode(System.getProperty("loadtest.pollMode", "sync")),
+                Boolean.getBoolean("loadtest.virtualThreads")
+        );
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2 || !LoadDriver.REQUEST_KINDS.contains(pair[0])) {
+                throw new IllegalArgumentException("invalid loadtest.mix entry: " + entry);
+            }
+            mix.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return mix;
+    }
+
+    private static String parsePollMode(String value) {
+        if (!"sync".equals(value) && !"async".equals(value) && !"long".equals(value)) {
+            throw new IllegalArgumentException("invalid loadtest.pollMode: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * n번째 회원의 이메일 주소를 반환합니다. 앞의 {@link #admins()}명은 관리자입니다.
+     */
+    String memberEmail(int index) {
+        return index < admins ? "admin" + index + "@loadtest.local" : "user" + (index - admins) + "@loadtest.local";
+    }
+
+    int members() {
+        return admins + users;
+    }
+}
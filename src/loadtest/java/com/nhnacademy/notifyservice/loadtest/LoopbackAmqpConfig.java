@@ -0,0 +1,68 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import com.nhnacademy.notifyservice.config.RabbitConfig;
+import com.nhnacademy.notifyservice.consumer.EmailQueueConsumer;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * loadtest 프로필에서 RabbitMQ 연결 대신 {@link LoopbackBroker}를 사용하도록 AMQP 빈을 교체합니다.
+ *
+ * <ul>
+ * <li>{@link RabbitTemplate}: 변환/헤더 설정까지는 실제 구현을 그대로 거치고, 전송만 loopback 큐로 보냅니다.</li>
+ * <li>{@link RabbitAdmin}: 큐 선언을 하지 않고, 큐 정보 조회는 loopback 큐의 적체량을 반환합니다.</li>
+ * </ul>
+ * {@code @RabbitListener} 컨테이너는 {@code spring.rabbitmq.listener.*.auto-startup=false}로 기동하지 않습니다.
+ */
+@Profile("loadtest")
+@Configuration
+public class LoopbackAmqpConfig {
+
+    @Bean
+    public LoopbackBroker loopbackBroker(MessageConverter messageConverter,
+                                         @Lazy EmailQueueConsumer emailQueueConsumer,
+                                         @Value("${loadtest.consumers:1}") int consumers) {
+        return new LoopbackBroker(messageConverter, emailQueueConsumer, consumers);
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, LoopbackBroker loopbackBroker,
+                                         MessageConverter messageConverter) {
+        // 연결 팩토리는 검증용으로만 주입되며 실제 연결은 열리지 않습니다.
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory) {
+            @Override
+            public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+                if (RabbitConfig.EMAIL_DLX.equals(exchange)) {
+                    // DLQ는 모델링하지 않으므로 일부 수신자 재처리 요청은 loopback 큐로 되돌리지 않음
+                    return;
+                }
+                // 지연 큐(RabbitConfig.EMAIL_DELAY_QUEUE)의 TTL은 모델링하지 않으므로 바로 loopback 큐로 보냄
+                loopbackBroker.publish(message);
+            }
+        };
+        rabbitTemplate.setMessageConverter(messageConverter);
+        return rabbitTemplate;
+    }
+
+    @Bean
+    public RabbitAdmin amqpAdmin(ConnectionFactory connectionFactory, LoopbackBroker loopbackBroker) {
+        RabbitAdmin rabbitAdmin = new RabbitAdmin(connectionFactory) {
+            @Override
+            public QueueInformation getQueueInfo(String queueName) {
+                return new QueueInformation(queueName, loopbackBroker.depth(), loopbackBroker.consumers());
+            }
+        };
+        rabbitAdmin.setAutoStartup(false);
+        return rabbitAdmin;
+    }
+}
@@ -0,0 +1,155 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import com.nhnacademy.notifyservice.consumer.EmailQueueConsumer;
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RabbitMQ 대신 사용하는 프로세스 내 단일 큐 브로커입니다.
+ *
+ * 프로듀서가 보낸 메시지를 실제 브로커와 같은 {@link MessageConverter}로 직렬화된 상태로 보관하고,
+ * 컨슈머 스레드가 역직렬화하여 {@link EmailQueueConsumer#onMessage}로 전달합니다.
+ * 따라서 직렬화 비용, 큐 대기 시간, DLQ로 가는 실패 건수가 실제 파이프라인과 같은 방식으로 측정됩니다.
+ * 네트워크 왕복과 브로커 자체의 지연은 포함하지 않습니다.
+ */
+public class LoopbackBroker {
+
+    private static final Logger log = LoggerFactory.getLogger(LoopbackBroker.class);
+
+    private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+
+    private final MessageConverter messageConverter;
+
+    private final EmailQueueConsumer emailQueueConsumer;
+
+    private final int consumers;
+
+    private final ExecutorService executor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong published = new AtomicLong();
+
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    /**
+     * trace id별 큐 적재 시각입니다. STOMP 클라이언트가 프레임을 받은 시점까지의 지연 시간을 계산하는 데 사용합니다.
+     */
+    private final Map<String, Long> enqueuedAtByTraceId = new ConcurrentHashMap<>();
+
+    private volatile boolean running = true;
+
+    public LoopbackBroker(MessageConverter messageConverter, EmailQueueConsumer emailQueueConsumer, int consumers) {
+        this.messageConverter = messageConverter;
+        this.emailQueueConsumer = emailQueueConsumer;
+        this.consumers = consumers;
+        this.executor = Executors.newFixedThreadPool(consumers, runnable -> {
+            Thread thread = new Thread(runnable, "loopback-consumer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < consumers; i++) {
+            executor.submit(this::consumeLoop);
+        }
+    }
+
+    void publish(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Object traceId = properties.getHeader(NotificationTrace.TRACE_ID_HEADER);
+        Object enqueuedAt = properties.getHeader(NotificationTrace.ENQUEUED_AT_HEADER);
+        if (traceId != null && enqueuedAt instanceof Long timestamp) {
+            enqueuedAtByTraceId.put(traceId.toString(), timestamp);
+        }
+        published.incrementAndGet();
+        queue.add(message);
+    }
+
+    private void consumeLoop() {
+        while (running) {
+            Message message;
+            try {
+                message = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (message == null) {
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            try {
+                MessageProperties properties = message.getMessageProperties();
+                EmailRequest request = (EmailRequest) messageConverter.fromMessage(message);
+                emailQueueConsumer.onMessage(request,
+                        (String) properties.getHeader(NotificationTrace.TRACE_ID_HEADER),
+                        (Long) properties.getHeader(NotificationTrace.ENQUEUED_AT_HEADER));
+            } catch (AmqpRejectAndDontRequeueException e) {
+                deadLettered.incrementAndGet();
+            } catch (RuntimeException e) {
+                deadLettered.incrementAndGet();
+                log.warn("LOOPBACK: unexpected consumer failure", e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 큐가 비고 처리 중인 메시지가 없을 때까지 기다립니다.
+     *
+     * @param timeoutMillis 최대 대기 시간(ms)
+     * @return 제한 시간 안에 모두 처리되었으면 true
+     */
+    boolean awaitDrained(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            if (queue.isEmpty() && inFlight.get() == 0) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    void shutdown() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    Long enqueuedAt(String traceId) {
+        return enqueuedAtByTraceId.get(traceId);
+    }
+
+    int depth() {
+        return queue.size();
+    }
+
+    int consumers() {
+        return consumers;
+    }
+
+    long published() {
+        return published.get();
+    }
+
+    long deadLettered() {
+        return deadLettered.get();
+    }
+}
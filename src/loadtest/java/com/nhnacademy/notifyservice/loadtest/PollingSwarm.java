@@ -0,0 +1,111 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 프런트엔드 폴링 폭주를 흉내 내는 동시 폴러 집합입니다.
+ *
+ * 각 폴러는 응답을 받은 즉시 다음 요청을 보내며(closed model), 9번은 읽지 않은 개수, 1번은 히스토리를 조회합니다.
+ * {@code loadtest.pollMode=async}이면 같은 조회의 {@code /async} 변형을 호출합니다.
+ * {@code loadtest.pollMode=long}이면 읽지 않은 개수는 마지막 ETag를 보내는 {@code /unread/count/wait} 롱 폴링으로 조회합니다.
+ * 폴러마다 가상 스레드 하나를 사용하므로 수천 개의 폴러도 부하 발생기 스레드 수에 제한받지 않습니다.
+ */
+class PollingSwarm {
+
+    private static final int HISTORY_EVERY = 10;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final ExecutorService pollers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final MeterRegistry meterRegistry;
+
+    PollingSwarm(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@link LoadTestSettings#pollers()}개의 폴러를 1초에 걸쳐 나누어 시작합니다.
+     */
+    void start(int port, LoadTestSettings settings) {
+        URI baseUri = URI.create("http://127.0.0.1:" + port + "/api/v1/notification");
+        String suffix = "async".equals(settings.pollMode()) ? "/async" : "";
+        boolean longPoll = "long".equals(settings.pollMode());
+        running.set(true);
+
+        for (int i = 0; i < settings.pollers(); i++) {
+            String email = settings.memberEmail(i % settings.members());
+            long startDelayMillis = 1000L * i / settings.pollers();
+            pollers.execute(() -> poll(baseUri, suffix, longPoll, email, startDelayMillis));
+        }
+    }
+
+    private void poll(URI baseUri, String suffix, boolean longPoll, String email, long startDelayMillis) {
+        try {
+            Thread.sleep(startDelayMillis);
+        } catch (InterruptedException e) {
+            return;
+        }
+        String eTag = null;
+        for (long n = 0; running.get(); n++) {
+            String endpoint = n % HISTORY_EVERY == 0 ? "history" : "unread-count";
+            String path = "history".equals(endpoint) ? "/history" + suffix
+                    : longPoll ? "/unread/count/wait" : "/unread/count" + suffix;
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("X-USER", email)
+                    .GET();
+            if (longPoll && eTag != null && "unread-count".equals(endpoint)) {
+                builder.header("If-None-Match", eTag);
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome;
+            try {
+                HttpResponse<Void> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+                outcome = String.valueOf(response.statusCode());
+                if ("unread-count".equals(endpoint) && response.statusCode() == 200) {
+                    eTag = response.headers().firstValue("ETag").orElse(null);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                outcome = "error";
+            }
+            sample.stop(Timer.builder("loadtest.poll.latency")
+                    .tags("endpoint", endpoint)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+            Counter.builder("loadtest.poll.requests")
+                    .tags("endpoint", endpoint, "outcome", outcome)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 폴러를 멈추고 진행 중인 요청이 끝날 때까지 기다립니다.
+     */
+    void stop() throws InterruptedException {
+        running.set(false);
+        pollers.shutdown();
+        pollers.awaitTermination(35, TimeUnit.SECONDS);
+    }
+}
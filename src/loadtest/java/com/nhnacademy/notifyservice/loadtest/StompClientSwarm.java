@@ -0,0 +1,168 @@
+package com.nhnacademy.notifyservice.loadtest;
+
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다수의 STOMP 클라이언트를 접속시켜 알림 프레임 수신량과 지연 시간을 측정합니다.
+ *
+ * 각 클라이언트는 브라우저와 같은 방식으로 {@code X-USER} 헤더로 접속하여 본문/팝업/개수 토픽을 구독합니다.
+ * 프레임의 {@code X-Trace-Id} 헤더로 큐 적재 시각을 찾아 적재부터 클라이언트 수신까지의 지연 시간을 기록합니다.
+ */
+class StompClientSwarm {
+
+    private static final Logger log = LoggerFactory.getLogger(StompClientSwarm.class);
+
+    private static final List<String> TOPICS = List.of(
+            "/notification/%s",
+            "/notification/notification-message/%s",
+            "/notification/unread-notification-count-updates/%s"
+    );
+
+    private final WebSocketStompClient stompClient;
+
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+
+    private final List<StompSession> sessions = new CopyOnWriteArrayList<>();
+
+    private final LoopbackBroker loopbackBroker;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger connectFailures = new AtomicInteger();
+
+    StompClientSwarm(LoopbackBroker loopbackBroker, MeterRegistry meterRegistry) {
+        this.loopbackBroker = loopbackBroker;
+        this.meterRegistry = meterRegistry;
+
+        heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("swarm-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+        stompClient.setInboundMessageSizeLimit(256 * 1024);
+    }
+
+    /**
+     * 클라이언트를 접속시킵니다. n번째 클라이언트는 n % members 번째 회원으로 접속합니다.
+     */
+    void connect(int port, LoadTestSettings settings) throws InterruptedException {
+        URI uri = URI.create("ws://127.0.0.1:" + port + "/ws/notification/connect/websocket");
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setOrigin("http://localhost:10253");
+
+        List<CompletableFuture<StompSession>> pending = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < settings.clients(); i++) {
+            String email = settings.memberEmail(i % settings.members());
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("X-USER", email);
+
+            CompletableFuture<StompSession> future = stompClient
+                    .connectAsync(uri, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {
+                    })
+                    .thenApply(session -> subscribe(session, email));
+            pending.add(future);
+
+            // 접속 폭주로 핸드셰이크가 타임아웃되지 않도록 묶음 단위로 기다립니다.
+            if (pending.size() >= 200) {
+                awaitAll(pending);
+                pending.clear();
+            }
+        }
+        awaitAll(pending);
+        log.info("STOMP SWARM: {} connected, {} failed", sessions.size(), connectFailures.get());
+    }
+
+    private void awaitAll(List<CompletableFuture<StompSession>> pending) throws InterruptedException {
+        for (CompletableFuture<StompSession> future : pending) {
+            try {
+                sessions.add(future.get(30, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                connectFailures.incrementAndGet();
+            }
+        }
+    }
+
+    private StompSession subscribe(StompSession session, String email) {
+        for (String topic : TOPICS) {
+            String destination = topic.formatted(email);
+            String frame = frameName(topic);
+            Counter frames = Counter.builder("loadtest.stomp.frames").tag("frame", frame).register(meterRegistry);
+            Timer latency = Timer.builder("loadtest.stomp.latency").tag("frame", frame)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+
+            session.subscribe(destination, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    frames.increment();
+                    String traceId = headers.getFirst(NotificationTrace.TRACE_ID_HEADER);
+                    Long enqueuedAt = traceId == null ? null : loopbackBroker.enqueuedAt(traceId);
+                    if (enqueuedAt != null) {
+                        latency.record(Math.max(0L, System.currentTimeMillis() - enqueuedAt), TimeUnit.MILLISECONDS);
+                    }
+                }
+            });
+        }
+        return session;
+    }
+
+    private static String frameName(String topic) {
+        if (topic.contains("notification-message")) {
+            return "popup";
+        }
+        if (topic.contains("unread-notification-count")) {
+            return "unread-count";
+        }
+        return "content";
+    }
+
+    int connected() {
+        return sessions.size();
+    }
+
+    int connectFailures() {
+        return connectFailures.get();
+    }
+
+    void disconnect() {
+        for (StompSession session : sessions) {
+            try {
+                session.disconnect();
+            } catch (RuntimeException e) {
+                // 종료 중 오류는 무시합니다.
+            }
+        }
+        heartbeatScheduler.shutdown();
+    }
+}
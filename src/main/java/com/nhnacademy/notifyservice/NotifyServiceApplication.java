@@ -4,10 +4,12 @@ import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @SpringBootApplication
 @EnableRabbit
+@EnableScheduling
 public class NotifyServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,73 @@
+package com.nhnacademy.notifyservice.async;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 REST 엔드포인트의 조회 작업을 서블릿 요청 스레드 밖에서 실행하는 컴포넌트입니다.
+ *
+ * 프런트엔드 폴링이 몰리면 요청 스레드 대부분이 MySQL 응답을 기다리며 점유되어 다른 요청까지 처리하지 못합니다.
+ * 비동기 엔드포인트는 조회를 이 실행기에 맡기고 요청 스레드를 바로 반환하며,
+ * 실제 동시 조회 수는 {@code notification.web.async.pool-size}로 제한합니다.
+ * 조회마다 데이터베이스 커넥션을 하나씩 사용하므로 이 값은 Hikari {@code maximum-pool-size} 중 비동기 조회에 나눠 준 몫입니다.
+ * 나머지 커넥션은 큐 소비자의 알림 저장과 동기 요청이 사용하므로, 풀 크기 이상으로 설정하면 기동 시 실패합니다.
+ * (소비자 몫은 {@link com.nhnacademy.notifyservice.autoscaling.ConsumerAutoscaler}가 이 값을 뺀 나머지로 검증)
+ *
+ * 대기열({@code notification.web.async.queue-capacity})이 가득 차면 작업을 거절하며,
+ * 호출자는 이를 과부하 응답(503)으로 변환합니다.
+ */
+@Component
+public class NotificationQueryExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public NotificationQueryExecutor(@Value("${notification.web.async.pool-size:4}") int poolSize,
+                                     @Value("${notification.web.async.queue-capacity:2000}") int queueCapacity,
+                                     @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        requireWithinConnectionPool(poolSize, connectionPoolSize);
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-query-");
+        executor.initialize();
+    }
+
+    /**
+     * 비동기 조회 스레드 수가 데이터베이스 커넥션 풀을 모두 차지하면 예외를 던집니다.
+     *
+     * @param poolSize 비동기 조회 스레드 수
+     * @param connectionPoolSize 데이터베이스 커넥션 풀 크기
+     */
+    static void requireWithinConnectionPool(int poolSize, int connectionPoolSize) {
+        if (poolSize >= connectionPoolSize) {
+            throw new IllegalStateException("notification.web.async.pool-size(" + poolSize
+                    + ") must be smaller than maximum-pool-size(" + connectionPoolSize + ").");
+        }
+    }
+
+    /**
+     * 조회 작업을 실행기에 제출합니다.
+     *
+     * @param query 조회 작업
+     * @return 조회 결과, 대기열이 가득 차면 {@link TaskRejectedException}으로 실패한 future
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, executor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,262 @@
+package com.nhnacademy.notifyservice.autoscaling;
+
+import com.nhnacademy.notifyservice.consumer.EmailQueueConsumer;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 큐 깊이와 단계별 지연 시간에 따라 이메일 큐 리스너의 소비자 수와 prefetch를 조정하는 컴포넌트입니다.
+ *
+ * 고정된 동시성은 시간대에 따라 놀거나 밀리므로, 주기마다 다음 값을 관측하여 {@link ConsumerAutoscalingPolicy}로
+ * 다음 값을 정한 뒤 {@link SimpleMessageListenerContainer}에 적용합니다.
+ * <ul>
+ * <li>큐 깊이/전체 소비자 수 - {@link AmqpAdmin#getQueueInfo}(passive declare)</li>
+ * <li>처리 수와 평균 처리 시간 - {@code notification.queue.process} 타이머의 주기별 증가분</li>
+ * <li>평균 SMTP 발송 시간 - {@code notification.email.send} 타이머의 주기별 증가분</li>
+ * <li>평균 알림 저장 시간 - {@code notification.db} 타이머 중 컨슈머가 사용하는 저장 작업의 주기별 증가분</li>
+ * </ul>
+ *
+ * prefetch는 이후에 시작하는 소비자부터 적용됩니다.
+ * 회로 차단기가 리스너를 멈춘 동안은 조정하지 않으며, 다시 시작하면 관측을 처음부터 다시 시작합니다.
+ *
+ * <p>소비자 하나는 관리자 알림을 최대 {@code notification.fan-out.parallelism}개의 묶음 트랜잭션으로 나누어 저장하고,
+ * 묶음마다 회원별 요약 생성({@code REQUIRES_NEW})에 커넥션을 하나 더 쓸 수 있으므로 소비자당 최대
+ * {@code parallelism * 2}개의 커넥션을 사용합니다. 커넥션 풀 중 {@code notification.web.async.pool-size}개는
+ * 비동기 REST 조회({@link com.nhnacademy.notifyservice.async.NotificationQueryExecutor})의 몫이므로, {@code max-consumers}가
+ * {@code (spring.datasource.hikari.maximum-pool-size - notification.web.async.pool-size) / (parallelism * 2)}를 넘으면
+ * 기동 시 실패합니다.</p>
+ *
+ * <p>소비자가 둘 이상이면 서로 다른 메시지가 동시에 처리되므로, 자동 확장을 사용하면 같은 수신자의 알림이
+ * 큐 순서대로 저장/전송된다는 보장은 포기합니다 ({@link com.nhnacademy.notifyservice.fanout.NotificationFanOutExecutor} 참고).</p>
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.consumer.autoscaling.consumers} - 현재 소비자 수</li>
+ * <li>{@code notification.consumer.autoscaling.prefetch} - 현재 소비자별 prefetch</li>
+ * <li>{@code notification.consumer.autoscaling.adjustments} - 소비자 수 조정 횟수 (direction: up, down)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "notification.consumer.autoscaling", name = "enabled", havingValue = "true")
+public class ConsumerAutoscaler {
+
+    /**
+     * 컨슈머가 알림을 저장할 때 기록하는 {@code notification.db} 작업입니다. 정리 작업처럼 오래 걸리는 배치 작업은 제외합니다.
+     */
+    static final Set<String> CONSUMER_DB_OPERATIONS = Set.of("save-event-body", "save-notification", "update-summary");
+
+    private final AmqpAdmin amqpAdmin;
+
+    private final RabbitListenerEndpointRegistry registry;
+
+    private final ConsumerAutoscalingPolicy policy;
+
+    private final String queue;
+
+    private final int initialPrefetch;
+
+    private final LongSupplier clock;
+
+    private final TimerWindow processWindow;
+
+    private final TimerWindow smtpWindow;
+
+    private final TimerWindow dbWindow;
+
+    private final Counter scaleUpCounter;
+
+    private final Counter scaleDownCounter;
+
+    private volatile ConsumerAutoscalingPolicy.Decision current;
+
+    private long lastObservedAt = -1L;
+
+    @Autowired
+    public ConsumerAutoscaler(AmqpAdmin amqpAdmin, RabbitListenerEndpointRegistry registry, ConsumerAutoscalingProperties properties,
+                              NotificationMetrics notificationMetrics, @Value("${email.queue}") String queue,
+                              @Value("${spring.rabbitmq.listener.simple.prefetch:250}") int initialPrefetch,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                              @Value("${notification.fan-out.parallelism:4}") int fanOutParallelism,
+                              @Value("${notification.web.async.pool-size:4}") int asyncQueryPoolSize) {
+        this(amqpAdmin, registry, properties, notificationMetrics, queue, initialPrefetch, System::nanoTime);
+        requireWithinConnectionPool(properties, poolSize, fanOutParallelism, asyncQueryPoolSize);
+    }
+
+    ConsumerAutoscaler(AmqpAdmin amqpAdmin, RabbitListenerEndpointRegistry registry, ConsumerAutoscalingProperties properties,
+                       NotificationMetrics notificationMetrics, String queue, int initialPrefetch, LongSupplier clock) {
+        this.amqpAdmin = amqpAdmin;
+        this.registry = registry;
+        this.policy = new ConsumerAutoscalingPolicy(properties);
+        this.queue = queue;
+        this.initialPrefetch = initialPrefetch;
+        this.clock = clock;
+
+        MeterRegistry meterRegistry = notificationMetrics.getMeterRegistry();
+        this.processWindow = new TimerWindow(meterRegistry, "notification.queue.process", timer -> true);
+        this.smtpWindow = new TimerWindow(meterRegistry, "notification.email.send", timer -> true);
+        this.dbWindow = new TimerWindow(meterRegistry, "notification.db",
+                timer -> CONSUMER_DB_OPERATIONS.contains(timer.getId().getTag("operation")));
+
+        this.scaleUpCounter = adjustmentCounter(meterRegistry, "up");
+        this.scaleDownCounter = adjustmentCounter(meterRegistry, "down");
+        Gauge.builder("notification.consumer.autoscaling.consumers", this, autoscaler -> autoscaler.current == null ? 0 : autoscaler.current.consumers())
+                .description("이메일 큐 리스너 소비자 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.consumer.autoscaling.prefetch", this, autoscaler -> autoscaler.current == null ? 0 : autoscaler.current.prefetch())
+                .description("이메일 큐 리스너 소비자별 prefetch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 큐 깊이와 지연 시간을 관측하고 소비자 수와 prefetch를 조정합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.consumer.autoscaling.interval:10000}")
+    public synchronized void adjust() {
+        MessageListenerContainer listener = registry.getListenerContainer(EmailQueueConsumer.LISTENER_ID);
+        if (!(listener instanceof SimpleMessageListenerContainer container) || !container.isRunning()) {
+            lastObservedAt = -1L;
+            return;
+        }
+        QueueInformation queueInfo = amqpAdmin.getQueueInfo(queue);
+        if (queueInfo == null) {
+            log.warn("AUTOSCALING: queue {} not found, skipping", queue);
+            return;
+        }
+
+        long now = clock.getAsLong();
+        TimerWindow.Delta process = processWindow.advance();
+        TimerWindow.Delta smtp = smtpWindow.advance();
+        TimerWindow.Delta db = dbWindow.advance();
+
+        if (current == null) {
+            apply(container, policy.clamp(new ConsumerAutoscalingPolicy.Decision(container.getActiveConsumerCount(), initialPrefetch)));
+        }
+        if (lastObservedAt < 0) {
+            // 첫 관측은 타이머 기준점만 기록
+            lastObservedAt = now;
+            return;
+        }
+
+        ConsumerAutoscalingPolicy.Observation observation = new ConsumerAutoscalingPolicy.Observation(
+                queueInfo.getMessageCount(), queueInfo.getConsumerCount(), process.count(), process.meanMillis(),
+                smtp.meanMillis(), db.meanMillis(), Math.max(1L, now - lastObservedAt) / 1_000_000_000.0);
+        lastObservedAt = now;
+
+        ConsumerAutoscalingPolicy.Decision next = policy.next(current, observation);
+        if (!next.equals(current)) {
+            log.info("AUTOSCALING: consumers {} -> {}, prefetch {} -> {} (depth={}, processMillis={}, smtpMillis={}, dbMillis={})",
+                    current.consumers(), next.consumers(), current.prefetch(), next.prefetch(), observation.queueDepth(),
+                    Math.round(observation.processMillis()), Math.round(observation.smtpMillis()), Math.round(observation.dbMillis()));
+            if (next.consumers() != current.consumers()) {
+                (next.consumers() > current.consumers() ? scaleUpCounter : scaleDownCounter).increment();
+            }
+            apply(container, next);
+        }
+    }
+
+    /**
+     * 현재 적용된 소비자 수와 prefetch를 반환합니다. 아직 조정하지 않았으면 null입니다.
+     */
+    ConsumerAutoscalingPolicy.Decision current() {
+        return current;
+    }
+
+    private void apply(SimpleMessageListenerContainer container, ConsumerAutoscalingPolicy.Decision decision) {
+        // 새로 시작하는 소비자가 바뀐 prefetch를 사용하도록 먼저 설정
+        container.setPrefetchCount(decision.prefetch());
+        container.setConcurrentConsumers(decision.consumers());
+        current = decision;
+    }
+
+    /**
+     * 최대 소비자 수가 비동기 조회 몫을 뺀 커넥션 풀로 감당할 수 있는 수를 넘으면 예외를 던집니다.
+     *
+     * @param properties 자동 확장 설정
+     * @param poolSize 데이터베이스 커넥션 풀 크기
+     * @param fanOutParallelism 소비자 하나가 동시에 처리하는 알림 묶음 수
+     * @param asyncQueryPoolSize 비동기 REST 조회에 나눠 준 커넥션 수
+     */
+    static void requireWithinConnectionPool(ConsumerAutoscalingProperties properties, int poolSize, int fanOutParallelism,
+                                            int asyncQueryPoolSize) {
+        int limit = (poolSize - asyncQueryPoolSize) / (fanOutParallelism * 2);
+        if (properties.getMaxConsumers() > limit) {
+            throw new IllegalStateException("notification.consumer.autoscaling.max-consumers(" + properties.getMaxConsumers()
+                    + ") must not exceed (maximum-pool-size(" + poolSize + ") - async query pool-size(" + asyncQueryPoolSize
+                    + ")) / (fan-out parallelism(" + fanOutParallelism + ") * 2) = " + limit + ".");
+        }
+    }
+
+    private static Counter adjustmentCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("notification.consumer.autoscaling.adjustments")
+                .description("이메일 큐 리스너 소비자 수 조정 횟수")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 이름의 타이머들의 누적 횟수/시간을 이전 관측과 비교하여 주기별 증가분을 구합니다.
+     */
+    static final class TimerWindow {
+
+        record Delta(long count, double totalMillis) {
+
+            /**
+             * @return 평균 시간(ms), 증가분이 없으면 NaN
+             */
+            double meanMillis() {
+                return count > 0 ? totalMillis / count : Double.NaN;
+            }
+        }
+
+        private final MeterRegistry meterRegistry;
+
+        private final String name;
+
+        private final Predicate<Timer> filter;
+
+        private long lastCount;
+
+        private double lastTotalMillis;
+
+        TimerWindow(MeterRegistry meterRegistry, String name, Predicate<Timer> filter) {
+            this.meterRegistry = meterRegistry;
+            this.name = name;
+            this.filter = filter;
+        }
+
+        Delta advance() {
+            long count = 0L;
+            double totalMillis = 0.0;
+            for (Timer timer : meterRegistry.find(name).timers()) {
+                if (filter.test(timer)) {
+                    count += timer.count();
+                    totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+                }
+            }
+            Delta delta = new Delta(count - lastCount, totalMillis - lastTotalMillis);
+            lastCount = count;
+            lastTotalMillis = totalMillis;
+            return delta;
+        }
+    }
+}
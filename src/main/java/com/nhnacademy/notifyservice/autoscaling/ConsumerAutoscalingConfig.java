@@ -0,0 +1,12 @@
+package com.nhnacademy.notifyservice.autoscaling;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이메일 큐 리스너 자동 확장 설정({@link ConsumerAutoscalingProperties})을 등록하는 Configuration 클래스입니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ConsumerAutoscalingProperties.class)
+public class ConsumerAutoscalingConfig {
+}
@@ -0,0 +1,151 @@
+package com.nhnacademy.notifyservice.autoscaling;
+
+/**
+ * 큐 깊이와 단계별 지연 시간으로 다음 소비자 수와 prefetch를 정하는 정책입니다.
+ *
+ * <p>필요한 소비자 수는 다음과 같이 계산합니다.</p>
+ * <pre>
+ * 유입량 = (이번 주기 처리 수 + 큐 깊이 변화) / 경과 시간
+ * 필요 소비자 = (유입량 + 밀린 메시지 / target-drain-time) / (소비자당 처리량 * target-utilization)
+ * </pre>
+ * 소비자당 처리량은 메시지 한 건의 평균 처리 시간의 역수이며, 여러 인스턴스가 같은 큐를 소비하면
+ * 밀린 메시지는 큐의 전체 소비자 중 이 인스턴스 소비자의 비율만큼만 맡습니다.
+ *
+ * <p>늘렸다 줄였다 반복하지 않도록 다음 규칙을 적용합니다.</p>
+ * <ul>
+ * <li>늘릴 때는 한 번에 최대 두 배까지 바로 늘립니다.</li>
+ * <li>줄일 때는 필요한 소비자 수가 {@code scale-down-ticks}번 연속 현재보다 적어야 하며, 한 번에 하나씩 줄입니다.</li>
+ * <li>SMTP/DB 지연 시간이 임계값 이상이면 하위 자원이 포화된 것이므로 하나씩 줄이고,
+ * 임계값의 {@code scale-up-latency-ratio} 이상이면 늘리지 않고 유지합니다.</li>
+ * <li>prefetch는 목표 값과 두 배 이상 차이 날 때만 바꿉니다.</li>
+ * </ul>
+ *
+ * 상태를 가지므로 하나의 리스너 컨테이너에 하나의 인스턴스를 사용하며, 스레드 안전하지 않습니다.
+ */
+final class ConsumerAutoscalingPolicy {
+
+    /**
+     * 한 주기 동안 관측한 값입니다.
+     *
+     * @param queueDepth 큐에 쌓인 메시지 수
+     * @param queueConsumers 큐의 전체 소비자 수 (다른 인스턴스 포함)
+     * @param processed 이 인스턴스가 이번 주기에 처리한 메시지 수
+     * @param processMillis 메시지 한 건의 평균 처리 시간(ms), 처리한 메시지가 없으면 NaN
+     * @param smtpMillis 평균 SMTP 발송 시간(ms), 발송이 없으면 NaN
+     * @param dbMillis 평균 알림 저장 시간(ms), 저장이 없으면 NaN
+     * @param elapsedSeconds 이전 관측부터 경과한 시간(초)
+     */
+    record Observation(long queueDepth, int queueConsumers, long processed, double processMillis,
+                       double smtpMillis, double dbMillis, double elapsedSeconds) {
+    }
+
+    /**
+     * 리스너 컨테이너에 적용할 값입니다.
+     *
+     * @param consumers 소비자 수
+     * @param prefetch 소비자별 prefetch
+     */
+    record Decision(int consumers, int prefetch) {
+    }
+
+    private final ConsumerAutoscalingProperties properties;
+
+    private long lastDepth = -1L;
+
+    private double lastProcessMillis = Double.NaN;
+
+    private int lowTicks;
+
+    ConsumerAutoscalingPolicy(ConsumerAutoscalingProperties properties) {
+        if (properties.getMinConsumers() <= 0 || properties.getMaxConsumers() < properties.getMinConsumers()
+                || properties.getMinPrefetch() <= 0 || properties.getMaxPrefetch() < properties.getMinPrefetch()) {
+            throw new IllegalArgumentException("consumer and prefetch bounds must be positive and ordered.");
+        }
+        this.properties = properties;
+    }
+
+    /**
+     * 관측한 값으로 다음 소비자 수와 prefetch를 정합니다.
+     *
+     * @param current 현재 적용된 값
+     * @param observation 이번 주기 관측 값
+     * @return 다음에 적용할 값 (바꿀 필요가 없으면 current와 같은 값)
+     */
+    Decision next(Decision current, Observation observation) {
+        if (observation.processed() > 0 && observation.processMillis() > 0) {
+            lastProcessMillis = observation.processMillis();
+        }
+        long previousDepth = lastDepth < 0 ? observation.queueDepth() : lastDepth;
+        lastDepth = observation.queueDepth();
+
+        return new Decision(nextConsumers(current.consumers(), observation, previousDepth), nextPrefetch(current.prefetch()));
+    }
+
+    /**
+     * 현재 값을 소비자 수/prefetch 범위 안으로 맞춥니다.
+     */
+    Decision clamp(Decision decision) {
+        return new Decision(clamp(decision.consumers(), properties.getMinConsumers(), properties.getMaxConsumers()),
+                clamp(decision.prefetch(), properties.getMinPrefetch(), properties.getMaxPrefetch()));
+    }
+
+    private int nextConsumers(int current, Observation observation, long previousDepth) {
+        if (isSaturated(observation, 1.0)) {
+            lowTicks = 0;
+            return Math.max(properties.getMinConsumers(), current - 1);
+        }
+
+        int desired = desiredConsumers(current, observation, previousDepth);
+        if (desired > current) {
+            lowTicks = 0;
+            return isSaturated(observation, properties.getScaleUpLatencyRatio()) ? current : Math.min(desired, current * 2);
+        }
+        if (desired < current) {
+            if (++lowTicks < properties.getScaleDownTicks()) {
+                return current;
+            }
+            lowTicks = 0;
+            return current - 1;
+        }
+        lowTicks = 0;
+        return current;
+    }
+
+    private int desiredConsumers(int current, Observation observation, long previousDepth) {
+        if (observation.queueDepth() == 0 && observation.processed() == 0) {
+            return properties.getMinConsumers();
+        }
+        if (Double.isNaN(lastProcessMillis)) {
+            // 아직 처리량을 모르면 유지
+            return current;
+        }
+
+        double perConsumerRate = 1000.0 / lastProcessMillis;
+        double arrivalRate = Math.max(0.0,
+                (observation.processed() + observation.queueDepth() - previousDepth) / observation.elapsedSeconds());
+        double backlogShare = observation.queueDepth() * (double) current / Math.max(current, observation.queueConsumers());
+        double required = (arrivalRate + backlogShare / properties.getTargetDrainTime().toMillis() * 1000.0)
+                / (perConsumerRate * properties.getTargetUtilization());
+
+        // 부동소수점 오차로 정확히 나누어떨어지는 값이 하나 더 커지지 않도록 보정
+        return clamp((int) Math.ceil(required - 1e-9), properties.getMinConsumers(), properties.getMaxConsumers());
+    }
+
+    private int nextPrefetch(int current) {
+        if (Double.isNaN(lastProcessMillis)) {
+            return current;
+        }
+        int target = clamp((int) Math.ceil(properties.getPrefetchWindow().toMillis() / lastProcessMillis),
+                properties.getMinPrefetch(), properties.getMaxPrefetch());
+        return target >= current * 2 || target * 2 <= current ? target : current;
+    }
+
+    private boolean isSaturated(Observation observation, double ratio) {
+        return observation.smtpMillis() >= properties.getSmtpLatencyThreshold().toMillis() * ratio
+                || observation.dbMillis() >= properties.getDbLatencyThreshold().toMillis() * ratio;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,95 @@
+package com.nhnacademy.notifyservice.autoscaling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 이메일 큐 리스너 자동 확장 설정 프로퍼티입니다.
+ *
+ * <pre>
+ * notification.consumer.autoscaling.enabled=false
+ * notification.consumer.autoscaling.interval=10000
+ * notification.consumer.autoscaling.min-consumers=1
+ * notification.consumer.autoscaling.max-consumers=2
+ * notification.consumer.autoscaling.min-prefetch=1
+ * notification.consumer.autoscaling.max-prefetch=250
+ * notification.consumer.autoscaling.prefetch-window=1s
+ * notification.consumer.autoscaling.target-drain-time=30s
+ * notification.consumer.autoscaling.target-utilization=0.8
+ * notification.consumer.autoscaling.scale-down-ticks=3
+ * notification.consumer.autoscaling.smtp-latency-threshold=2s
+ * notification.consumer.autoscaling.db-latency-threshold=500ms
+ * notification.consumer.autoscaling.scale-up-latency-ratio=0.8
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.consumer.autoscaling")
+public class ConsumerAutoscalingProperties {
+
+    /**
+     * 자동 확장 사용 여부입니다. 사용하지 않으면 {@code spring.rabbitmq.listener.simple.*} 설정을 그대로 사용합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 소비자 수의 하한입니다.
+     */
+    private int minConsumers = 1;
+
+    /**
+     * 소비자 수의 상한입니다. 소비자마다 최대 fan-out 병렬도의 두 배만큼 DB 커넥션을 사용하므로
+     * {@code (maximum-pool-size - notification.web.async.pool-size) / (notification.fan-out.parallelism * 2)} 이하로 설정합니다 (넘으면 기동 시 실패).
+     * 2 이상이면 수신자별 알림 순서는 보장하지 않습니다.
+     */
+    private int maxConsumers = 2;
+
+    /**
+     * 소비자별 prefetch의 하한입니다.
+     */
+    private int minPrefetch = 1;
+
+    /**
+     * 소비자별 prefetch의 상한입니다.
+     */
+    private int maxPrefetch = 250;
+
+    /**
+     * 소비자 하나가 미리 받아 둘 처리 시간입니다. prefetch는 소비자 처리량에 이 시간을 곱한 값입니다.
+     */
+    private Duration prefetchWindow = Duration.ofSeconds(1);
+
+    /**
+     * 밀린 메시지를 비우는 데 목표로 하는 시간입니다.
+     */
+    private Duration targetDrainTime = Duration.ofSeconds(30);
+
+    /**
+     * 소비자 처리량 중 사용할 비율입니다. 유입량이 조금 늘어도 바로 밀리지 않도록 여유를 둡니다.
+     */
+    private double targetUtilization = 0.8;
+
+    /**
+     * 소비자를 줄이기 전에 필요한 소비자 수가 현재보다 적은 상태가 연속되어야 하는 주기 수입니다.
+     */
+    private int scaleDownTicks = 3;
+
+    /**
+     * 평균 SMTP 발송 시간이 이 값 이상이면 릴레이가 포화된 것으로 보고 소비자를 줄입니다.
+     */
+    private Duration smtpLatencyThreshold = Duration.ofSeconds(2);
+
+    /**
+     * 평균 알림 저장 시간이 이 값 이상이면 데이터베이스가 포화된 것으로 보고 소비자를 줄입니다.
+     */
+    private Duration dbLatencyThreshold = Duration.ofMillis(500);
+
+    /**
+     * 지연 시간이 임계값의 이 비율 이상이면 소비자를 늘리지 않습니다.
+     * 늘리는 기준과 줄이는 기준 사이에 간격을 두어 포화 경계에서 늘렸다 줄였다 반복하지 않게 합니다.
+     */
+    private double scaleUpLatencyRatio = 0.8;
+}
@@ -0,0 +1,122 @@
+package com.nhnacademy.notifyservice.cache;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 본문이 같은 HTML 메일의 인코딩된 MIME 본문을 메모리에 보관하는 LRU 캐시 컴포넌트입니다.
+ *
+ * 같은 예약 메일이 여러 수신자에게 발송되면 수신자만 다르고 본문은 같으므로,
+ * 매번 multipart를 만들고 큰 HTML을 quoted-printable/base64로 인코딩할 필요가 없습니다.
+ * HTML 본문의 SHA-256 해시를 키로, 수신자/제목 헤더 없이 직렬화한 MIME 메시지(헤더 + 인코딩된 본문)를 값으로 보관하며,
+ * 발송할 때는 이 바이트로 메시지를 만들고 수신자/제목 헤더만 설정합니다.
+ *
+ * 본문 크기만큼 메모리를 사용하므로 {@code max-body-size}보다 큰 본문은 보관하지 않습니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.email.mime-cache} - 조회 결과별 횟수 (result: hit, miss)</li>
+ * </ul>
+ */
+@Component
+public class MimeMessageTemplateCache {
+
+    private final boolean enabled;
+
+    private final int maxBodySize;
+
+    /**
+     * 본문 해시를 키로, 직렬화한 MIME 메시지를 값으로 하는 접근 순서 맵입니다.
+     */
+    private final Map<String, byte[]> hashToTemplateMap;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public MimeMessageTemplateCache(@Value("${notification.email.mime-cache.enabled:true}") boolean enabled,
+                                    @Value("${notification.email.mime-cache.max-entries:64}") int maxEntries,
+                                    @Value("${notification.email.mime-cache.max-body-size:1048576}") int maxBodySize,
+                                    NotificationMetrics notificationMetrics) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("max entries must be positive.");
+        }
+        this.enabled = enabled;
+        this.maxBodySize = maxBodySize;
+        this.hashToTemplateMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hitCounter = counter(notificationMetrics, "hit");
+        this.missCounter = counter(notificationMetrics, "miss");
+    }
+
+    /**
+     * 본문을 캐시할 수 있는지 확인합니다.
+     *
+     * @param content HTML 본문
+     * @return 캐시를 사용하고 본문이 최대 크기 이하이면 true
+     */
+    public boolean isCacheable(String content) {
+        return enabled && content != null && content.length() <= maxBodySize;
+    }
+
+    /**
+     * 본문의 캐시 키(SHA-256 16진 문자열)를 계산합니다.
+     *
+     * @param content HTML 본문
+     * @return 캐시 키
+     */
+    public String keyOf(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * 직렬화한 MIME 메시지를 조회합니다.
+     *
+     * @param key 본문 해시
+     * @return 직렬화한 MIME 메시지, 캐시에 없으면 null
+     */
+    public byte[] get(String key) {
+        byte[] template;
+        synchronized (this) {
+            template = hashToTemplateMap.get(key);
+        }
+        (template == null ? missCounter : hitCounter).increment();
+        return template;
+    }
+
+    /**
+     * 직렬화한 MIME 메시지를 기록합니다. 가득 찬 경우 가장 오래 사용하지 않은 메시지가 제거됩니다.
+     *
+     * @param key 본문 해시
+     * @param template 직렬화한 MIME 메시지 (변경하지 않아야 함)
+     */
+    public synchronized void put(String key, byte[] template) {
+        hashToTemplateMap.put(key, template);
+    }
+
+    private static Counter counter(NotificationMetrics notificationMetrics, String result) {
+        return Counter.builder("notification.email.mime-cache")
+                .description("HTML 메일 MIME 본문 캐시 조회 수")
+                .tag("result", result)
+                .register(notificationMetrics.getMeterRegistry());
+    }
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.notifyservice.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 사용한 공유 알림 본문을 메모리에 보관하는 LRU 캐시 컴포넌트입니다.
+ *
+ * 수신자별 알림이 본문 id만 참조하는 경우, 히스토리/재접속 조회가 같은 본문을
+ * 반복해서 데이터베이스에서 읽지 않도록 본문 id로 최근 본문을 찾습니다.
+ * 대부분의 조회는 최근 이벤트의 본문을 대상으로 하므로 작은 크기로도 충분합니다.
+ * 본문은 저장 후 변경되지 않으므로 무효화는 필요하지 않습니다.
+ */
+@Component
+public class NotificationEventBodyCache {
+
+    /**
+     * 본문 id를 키로, 본문을 값으로 하는 접근 순서 맵입니다.
+     */
+    private final Map<Long, String> idToContentMap;
+
+    public NotificationEventBodyCache(@Value("${notification.event-body-cache.max-entries:256}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("max entries must be positive.");
+        }
+        this.idToContentMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 본문을 조회합니다.
+     *
+     * @param id 본문 id
+     * @return 본문, 캐시에 없으면 null
+     */
+    public synchronized String get(Long id) {
+        return idToContentMap.get(id);
+    }
+
+    /**
+     * 본문을 기록합니다. 가득 찬 경우 가장 오래 사용하지 않은 본문이 제거됩니다.
+     *
+     * @param id 본문 id
+     * @param content 본문
+     */
+    public synchronized void put(Long id, String content) {
+        idToContentMap.put(id, content);
+    }
+}
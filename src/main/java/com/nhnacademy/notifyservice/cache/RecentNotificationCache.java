@@ -0,0 +1,163 @@
+package com.nhnacademy.notifyservice.cache;
+
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 알림을 메모리에 보관하는 고정 크기 링 버퍼 컴포넌트입니다.
+ *
+ * STOMP 재접속 시 오프라인 동안 놓친 알림을 데이터베이스 조회 없이 전달하기 위해 사용됩니다.
+ * 배포 직후처럼 다수의 클라이언트가 동시에 재접속하는 상황에서도 대부분의 요청이 메모리에서 처리됩니다.
+ *
+ * <p>각 사용자별 링은 다음 정보를 유지합니다:</p>
+ * <ul>
+ * <li>최근 알림 최대 {@code notification.catch-up.ring-size}개 (id 오름차순)</li>
+ * <li>링이 빠짐없이 보관하고 있음을 보장하는 최소 알림 id (coveredFromId)</li>
+ * </ul>
+ *
+ * 읽지 않은 알림 개수는 여러 컨슈머와 읽음 처리가 동시에 갱신하므로 메모리에 보관하지 않고,
+ * 원자적으로 증감되는 회원별 요약 행에서 조회합니다.
+ *
+ * 클라이언트가 전달한 마지막 확인 id가 링의 보장 범위를 벗어나면 캐시 미스로 처리하며,
+ * 호출자는 keyset 쿼리로 데이터베이스에서 조회해야 합니다.
+ *
+ * 링은 이 인스턴스가 저장한 알림만 보관합니다. 다른 인스턴스가 저장한 알림은 링에 들어오지 않으므로
+ * {@code notification.catch-up.instance-count}가 2 이상이면 링을 사용하지 않고 항상 캐시 미스로 처리합니다.
+ */
+@Component
+public class RecentNotificationCache {
+
+    /**
+     * 사용자 이메일을 키로, 해당 사용자의 최근 알림 링을 값으로 하는 맵입니다.
+     */
+    private final Map<String, Ring> userEmailToRingMap = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자별로 보관할 최대 알림 개수입니다.
+     */
+    private final int ringSize;
+
+    /**
+     * 알림을 저장하는 인스턴스가 하나뿐이어서 링이 해당 사용자의 알림을 빠짐없이 볼 수 있는지 여부입니다.
+     */
+    private final boolean enabled;
+
+    public RecentNotificationCache(@Value("${notification.catch-up.ring-size:50}") int ringSize,
+                                   @Value("${notification.catch-up.instance-count:1}") int instanceCount) {
+        if (ringSize <= 0) {
+            throw new IllegalArgumentException("ring size must be positive.");
+        }
+        if (instanceCount <= 0) {
+            throw new IllegalArgumentException("instance count must be positive.");
+        }
+        this.ringSize = ringSize;
+        this.enabled = instanceCount == 1;
+    }
+
+    /**
+     * 새로 저장된 알림을 사용자의 링에 추가합니다.
+     * 링이 가득 찬 경우 가장 오래된 알림이 제거됩니다.
+     *
+     * @param userEmail 알림을 받은 사용자의 이메일 주소
+     * @param notification 저장된 알림 (id가 반드시 존재해야 함)
+     */
+    public void append(String userEmail, NotificationMessageDto notification) {
+        if (!enabled) {
+            return;
+        }
+        userEmailToRingMap.computeIfAbsent(userEmail, key -> new Ring(ringSize))
+                .append(notification);
+    }
+
+    /**
+     * 마지막으로 확인한 알림 이후의 알림 목록을 반환합니다.
+     *
+     * @param userEmail 조회할 사용자의 이메일 주소
+     * @param lastSeenId 클라이언트가 마지막으로 확인한 알림 id
+     * @return 오래된 순으로 정렬된 알림 목록, 링이 해당 구간을 보장하지 못하거나 여러 인스턴스가 실행 중이면 null
+     */
+    public List<NotificationMessageDto> findAfter(String userEmail, long lastSeenId) {
+        if (!enabled) {
+            return null;
+        }
+        Ring ring = userEmailToRingMap.get(userEmail);
+        if (ring == null) {
+            return null;
+        }
+        return ring.findAfter(lastSeenId);
+    }
+
+    /**
+     * 사용자의 링을 제거합니다.
+     * 보관 기간이 지난 알림을 삭제한 경우처럼 메모리의 알림 목록을 더 이상 신뢰할 수 없을 때 호출합니다.
+     *
+     * @param userEmail 사용자의 이메일 주소
+     */
+    public void evict(String userEmail) {
+        userEmailToRingMap.remove(userEmail);
+    }
+
+    /**
+     * 한 사용자의 최근 알림을 보관하는 링입니다.
+     * 동일 사용자에 대한 접근은 드물게 경합하므로 인스턴스 단위 동기화로 충분합니다.
+     */
+    private static final class Ring {
+
+        private final int capacity;
+
+        private final Deque<NotificationMessageDto> entries;
+
+        /**
+         * 이 값 이상인 id의 알림은 모두 링에 존재함을 보장합니다. 링이 비어 있으면 null입니다.
+         */
+        private Long coveredFromId;
+
+        private Ring(int capacity) {
+            this.capacity = capacity;
+            this.entries = new ArrayDeque<>(capacity);
+        }
+
+        private synchronized void append(NotificationMessageDto notification) {
+            if (entries.size() == capacity) {
+                NotificationMessageDto evicted = entries.pollFirst();
+                coveredFromId = evicted.getId() + 1;
+            }
+
+            // 여러 컨슈머가 동시에 저장하면 id 순서와 추가 순서가 어긋날 수 있으므로 뒤에서부터 정렬 위치를 찾는다
+            Deque<NotificationMessageDto> newer = new ArrayDeque<>();
+            while (!entries.isEmpty() && entries.peekLast().getId() > notification.getId()) {
+                newer.push(entries.pollLast());
+            }
+            entries.addLast(notification);
+            while (!newer.isEmpty()) {
+                entries.addLast(newer.pop());
+            }
+
+            if (coveredFromId == null) {
+                coveredFromId = notification.getId();
+            }
+        }
+
+        private synchronized List<NotificationMessageDto> findAfter(long lastSeenId) {
+            if (coveredFromId == null || lastSeenId < coveredFromId - 1) {
+                return null;
+            }
+
+            List<NotificationMessageDto> result = new ArrayList<>();
+            for (NotificationMessageDto entry : entries) {
+                if (entry.getId() > lastSeenId) {
+                    result.add(entry);
+                }
+            }
+            return result;
+        }
+    }
+}
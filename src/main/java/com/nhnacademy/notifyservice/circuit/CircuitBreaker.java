@@ -0,0 +1,172 @@
+package com.nhnacademy.notifyservice.circuit;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 자원(SMTP 릴레이, 데이터베이스) 호출을 감싸는 회로 차단기입니다.
+ *
+ * <ul>
+ * <li>CLOSED - 모든 호출을 허용하며, 자원 장애로 분류된 실패가 {@code failureThreshold}번 연속되면 OPEN으로 전환</li>
+ * <li>OPEN - 호출을 시도하지 않고 {@link CircuitOpenException}으로 즉시 실패, {@code openDuration}이 지나면 HALF_OPEN으로 전환</li>
+ * <li>HALF_OPEN - {@code halfOpenCalls}번의 시험 호출만 허용하며, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN으로 전환</li>
+ * </ul>
+ *
+ * 장애로 분류하지 않는 예외(제약 조건 위반, 잘못된 수신자 등)는 자원이 응답한 것이므로 성공으로 집계합니다.
+ * 상태 전환 리스너는 잠금을 잡은 채 호출되므로 블로킹 작업을 하지 않아야 합니다.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final int halfOpenCalls;
+
+    private final Predicate<Throwable> failurePredicate;
+
+    private final LongSupplier clock;
+
+    private final Consumer<State> transitionListener;
+
+    private volatile State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long openedAt;
+
+    private int halfOpenPermits;
+
+    private int halfOpenSuccesses;
+
+    /**
+     * @param name 이름 (메트릭 태그와 로그에 사용)
+     * @param failureThreshold OPEN으로 전환할 연속 실패 수
+     * @param openDuration OPEN 상태를 유지할 시간
+     * @param halfOpenCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+     * @param failurePredicate 자원 장애로 집계할 예외인지 판별
+     * @param clock 나노초 단위 시계
+     * @param transitionListener 상태가 바뀔 때 새 상태로 호출
+     */
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, int halfOpenCalls,
+                          Predicate<Throwable> failurePredicate, LongSupplier clock, Consumer<State> transitionListener) {
+        if (failureThreshold <= 0 || halfOpenCalls <= 0 || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("failure threshold, half-open calls and open duration must be positive.");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.failurePredicate = failurePredicate;
+        this.clock = clock;
+        this.transitionListener = transitionListener;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 지금 호출하면 시도할 수 있는지 확인합니다. 상태를 바꾸거나 시험 호출 허가를 사용하지 않습니다.
+     *
+     * @return OPEN 상태가 아니거나 OPEN 유지 시간이 지났으면 true
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> clock.getAsLong() - openedAt >= openNanos;
+            case HALF_OPEN -> halfOpenPermits > 0;
+        };
+    }
+
+    /**
+     * 호출을 실행하고 결과를 집계합니다.
+     *
+     * @param call 외부 자원 호출
+     * @return 호출 결과
+     * @throws CircuitOpenException 회로가 열려 있어 호출하지 않은 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (failurePredicate.test(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 반환값이 없는 호출을 실행하고 결과를 집계합니다.
+     *
+     * @param call 외부 자원 호출
+     * @throws CircuitOpenException 회로가 열려 있어 호출하지 않은 경우
+     */
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                throw new CircuitOpenException(name);
+            }
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                throw new CircuitOpenException(name);
+            }
+            halfOpenPermits--;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN && ++halfOpenSuccesses >= halfOpenCalls) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private synchronized void onFailure() {
+        if (state == State.HALF_OPEN || (state == State.CLOSED && ++consecutiveFailures >= failureThreshold)) {
+            open();
+        }
+    }
+
+    private void open() {
+        consecutiveFailures = 0;
+        halfOpenPermits = 0;
+        openedAt = clock.getAsLong();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        transitionListener.accept(next);
+    }
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.notifyservice.circuit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회로 차단기 설정({@link CircuitBreakerProperties})을 등록하는 Configuration 클래스입니다.
+ */
+@Configuration
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
+public class CircuitBreakerConfig {
+}
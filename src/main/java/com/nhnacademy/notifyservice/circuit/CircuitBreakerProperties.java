@@ -0,0 +1,71 @@
+package com.nhnacademy.notifyservice.circuit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SMTP/데이터베이스 회로 차단기 설정 프로퍼티입니다.
+ *
+ * <pre>
+ * notification.circuit-breaker.enabled=true
+ * notification.circuit-breaker.pause-listener=true
+ * notification.circuit-breaker.smtp.failure-threshold=5
+ * notification.circuit-breaker.smtp.open-duration=30s
+ * notification.circuit-breaker.smtp.half-open-calls=1
+ * notification.circuit-breaker.database.failure-threshold=5
+ * notification.circuit-breaker.database.open-duration=10s
+ * notification.circuit-breaker.database.half-open-calls=1
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    /**
+     * 회로 차단기 사용 여부입니다. 사용하지 않으면 실패를 집계하지 않아 회로가 열리지 않습니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 데이터베이스 회로가 열려 있는 동안 이메일 큐 리스너를 멈출지 여부입니다.
+     */
+    private boolean pauseListener = true;
+
+    /**
+     * SMTP 릴레이 회로 설정입니다.
+     */
+    private Breaker smtp = new Breaker(5, Duration.ofSeconds(30), 1);
+
+    /**
+     * 데이터베이스 회로 설정입니다.
+     */
+    private Breaker database = new Breaker(5, Duration.ofSeconds(10), 1);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Breaker {
+
+        /**
+         * 회로를 여는 연속 실패 수입니다.
+         */
+        private int failureThreshold;
+
+        /**
+         * 회로를 열어 둘 시간입니다. 지나면 시험 호출을 허용합니다.
+         */
+        private Duration openDuration;
+
+        /**
+         * 회로를 닫기 위해 성공해야 하는 시험 호출 수입니다.
+         */
+        private int halfOpenCalls;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nhnacademy.notifyservice.circuit;
+
+/**
+ * 회로 차단기가 열려 있어 호출을 시도하지 않고 즉시 실패했을 때 발생하는 예외입니다.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String name) {
+        super("circuit breaker '" + name + "' is open");
+    }
+}
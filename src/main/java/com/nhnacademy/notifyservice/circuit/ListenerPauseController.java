@@ -0,0 +1,79 @@
+package com.nhnacademy.notifyservice.circuit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RabbitMQ 리스너 컨테이너를 잠시 멈췄다가 다시 시작하는 컴포넌트입니다.
+ *
+ * 의존하는 자원이 응답하지 않는 동안 메시지를 계속 꺼내면 모두 실패하거나 다시 큐에 넣어야 하므로,
+ * 리스너를 멈춰 메시지를 큐에 그대로 두고 지정한 시간이 지나면 다시 시작합니다.
+ * 다시 시작한 뒤 처음 처리하는 메시지가 회로 차단기의 시험 호출이 됩니다.
+ *
+ * 리스너 스레드에서 컨테이너를 멈추면 자기 자신이 끝나기를 기다리게 되므로 별도 스레드에서 멈추고 시작합니다.
+ * 멈추는 동안 받아 두었지만 확인(ack)하지 않은 메시지는 큐로 돌아갑니다.
+ */
+@Slf4j
+@Component
+public class ListenerPauseController {
+
+    private final RabbitListenerEndpointRegistry registry;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("listener-pause").daemon().factory());
+
+    private final AtomicBoolean paused = new AtomicBoolean();
+
+    public ListenerPauseController(RabbitListenerEndpointRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 리스너를 멈추고 지정한 시간 뒤 다시 시작합니다. 이미 멈춰 있으면 무시합니다.
+     *
+     * @param listenerId {@code @RabbitListener}의 id
+     * @param duration 멈춰 둘 시간
+     */
+    public void pause(String listenerId, Duration duration) {
+        if (!paused.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.execute(() -> {
+            MessageListenerContainer container = registry.getListenerContainer(listenerId);
+            if (container == null || !container.isRunning()) {
+                paused.set(false);
+                return;
+            }
+            container.stop();
+            log.warn("LISTENER: {} paused for {}", listenerId, duration);
+
+            scheduler.schedule(() -> {
+                container.start();
+                paused.set(false);
+                log.info("LISTENER: {} resumed", listenerId);
+            }, duration.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * 리스너를 멈춰 둔 상태인지 확인합니다.
+     */
+    public boolean isPaused() {
+        return paused.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 종료 중에는 멈춘 리스너를 다시 시작하지 않음
+        scheduler.shutdownNow();
+    }
+}
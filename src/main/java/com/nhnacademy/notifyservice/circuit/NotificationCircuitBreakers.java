@@ -0,0 +1,153 @@
+package com.nhnacademy.notifyservice.circuit;
+
+import com.nhnacademy.notifyservice.consumer.EmailQueueConsumer;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.mail.SendFailedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 이메일 큐 처리에서 사용하는 SMTP/데이터베이스 {@link CircuitBreaker}를 보관하는 컴포넌트입니다.
+ *
+ * <ul>
+ * <li>{@code smtp} - {@code JavaMailSender.send} 호출. 인증 실패와 연결 실패를 장애로 집계하며,
+ * 일부 수신자만 거절된 경우({@link SendFailedException})는 릴레이가 응답한 것이므로 집계하지 않습니다.</li>
+ * <li>{@code database} - 알림 조회/저장 호출. 연결 획득 실패, 자원 장애, 쿼리 시간 초과를 장애로 집계하며,
+ * 제약 조건 위반이나 잠금 충돌은 집계하지 않습니다.</li>
+ * </ul>
+ *
+ * 데이터베이스 회로가 열리면 {@link ListenerPauseController}로 이메일 큐 리스너를 회로가 열려 있는 시간만큼 멈춥니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.circuit-breaker.state} - 현재 상태 (name, 0: CLOSED, 1: HALF_OPEN, 2: OPEN)</li>
+ * <li>{@code notification.circuit-breaker.transitions} - 상태 전환 수 (name, state)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationCircuitBreakers {
+
+    public static final String SMTP = "smtp";
+
+    public static final String DATABASE = "database";
+
+    private final CircuitBreaker smtp;
+
+    private final CircuitBreaker database;
+
+    @Autowired
+    public NotificationCircuitBreakers(CircuitBreakerProperties properties, NotificationMetrics notificationMetrics,
+                                       ListenerPauseController listenerPauseController) {
+        this(properties, notificationMetrics, listenerPauseController, System::nanoTime);
+    }
+
+    NotificationCircuitBreakers(CircuitBreakerProperties properties, NotificationMetrics notificationMetrics,
+                                ListenerPauseController listenerPauseController, LongSupplier clock) {
+        Consumer<CircuitBreaker.State> pauseListener = state -> {
+            if (state == CircuitBreaker.State.OPEN && properties.isPauseListener()) {
+                listenerPauseController.pause(EmailQueueConsumer.LISTENER_ID, properties.getDatabase().getOpenDuration());
+            }
+        };
+
+        this.smtp = newBreaker(SMTP, properties.getSmtp(), enabled(properties, NotificationCircuitBreakers::isSmtpFailure),
+                clock, notificationMetrics, state -> { });
+        this.database = newBreaker(DATABASE, properties.getDatabase(), enabled(properties, NotificationCircuitBreakers::isDatabaseFailure),
+                clock, notificationMetrics, pauseListener);
+    }
+
+    /**
+     * SMTP 릴레이 회로를 반환합니다.
+     */
+    public CircuitBreaker smtp() {
+        return smtp;
+    }
+
+    /**
+     * 데이터베이스 회로를 반환합니다.
+     */
+    public CircuitBreaker database() {
+        return database;
+    }
+
+    /**
+     * SMTP 릴레이 장애로 집계할 예외인지 판별합니다.
+     */
+    static boolean isSmtpFailure(Throwable e) {
+        if (e instanceof MailAuthenticationException) {
+            return true;
+        }
+        if (e instanceof MailSendException sendException) {
+            // 연결 실패는 모든 메시지가 연결 오류로, 수신자 거절은 SendFailedException으로 기록됨
+            return sendException.getFailedMessages().isEmpty()
+                    || sendException.getFailedMessages().values().stream().anyMatch(cause -> !(cause instanceof SendFailedException));
+        }
+        return false;
+    }
+
+    /**
+     * 데이터베이스 장애로 집계할 예외인지 판별합니다.
+     */
+    static boolean isDatabaseFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof QueryTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Predicate<Throwable> enabled(CircuitBreakerProperties properties, Predicate<Throwable> failurePredicate) {
+        return properties.isEnabled() ? failurePredicate : e -> false;
+    }
+
+    private static CircuitBreaker newBreaker(String name, CircuitBreakerProperties.Breaker settings, Predicate<Throwable> failurePredicate,
+                                             LongSupplier clock, NotificationMetrics notificationMetrics,
+                                             Consumer<CircuitBreaker.State> listener) {
+        // 상태 전환마다 빌더로 다시 등록하지 않도록 상태별 카운터를 미리 등록
+        Map<CircuitBreaker.State, Counter> transitions = new EnumMap<>(CircuitBreaker.State.class);
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            transitions.put(state, Counter.builder("notification.circuit-breaker.transitions")
+                    .description("회로 차단기 상태 전환 수")
+                    .tag("name", name)
+                    .tag("state", state.name())
+                    .register(notificationMetrics.getMeterRegistry()));
+        }
+
+        CircuitBreaker breaker = new CircuitBreaker(name, settings.getFailureThreshold(), settings.getOpenDuration(),
+                settings.getHalfOpenCalls(), failurePredicate, clock, state -> {
+            if (state == CircuitBreaker.State.OPEN) {
+                log.warn("CIRCUIT: {} opened", name);
+            } else {
+                log.info("CIRCUIT: {} {}", name, state);
+            }
+            transitions.get(state).increment();
+            listener.accept(state);
+        });
+
+        Gauge.builder("notification.circuit-breaker.state", breaker, b -> b.getState() == CircuitBreaker.State.OPEN ? 2
+                        : b.getState() == CircuitBreaker.State.HALF_OPEN ? 1 : 0)
+                .description("회로 차단기 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .tag("name", name)
+                .register(notificationMetrics.getMeterRegistry());
+        return breaker;
+    }
+}
@@ -0,0 +1,32 @@
+package com.nhnacademy.notifyservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트로부터 수신되는 모든 STOMP 프레임과 heartbeat에서 세션 활동을 기록하는 인터셉터입니다.
+ *
+ * clientInboundChannel에 등록되어 세션의 마지막 활동 시각을 갱신하며,
+ * {@link NotificationSessionReaper}는 이 시각을 기준으로 끊긴 세션을 판별합니다.
+ *
+ * @see NotificationSessionTracker#touch(String)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSessionActivityInterceptor implements ChannelInterceptor {
+
+    private final NotificationSessionTracker notificationSessionTracker;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            notificationSessionTracker.touch(sessionId);
+        }
+        return message;
+    }
+}
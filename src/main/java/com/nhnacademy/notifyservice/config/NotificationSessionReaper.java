@@ -0,0 +1,120 @@
+package com.nhnacademy.notifyservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DISCONNECT 이벤트 없이 남은 알림 세션을 주기적으로 제거하는 컴포넌트 클래스입니다.
+ *
+ * SockJS 연결이 비정상적으로 끊기면 {@link org.springframework.web.socket.messaging.SessionDisconnectEvent}가
+ * 발생하지 않아 {@link NotificationSessionTracker}에 유령 세션이 남을 수 있습니다.
+ * 유령 세션은 사용자의 세션 수를 부풀려 알림이 잘못 읽음 처리되게 만들고, 맵이 무한히 커지게 합니다.
+ * 이 컴포넌트는 마지막 활동 시각을 기준으로 오래된 세션을 제거하여 접속 상태를 정확하게 유지합니다.
+ *
+ * <p>제거 기준:</p>
+ * <ul>
+ * <li>heartbeat가 협상된 세션: {@code notification.session.stale-timeout}과 heartbeat 주기의 3배 중 큰 시간 동안 활동이 없는 경우</li>
+ * <li>heartbeat가 협상되지 않은 세션: {@code notification.session.max-idle} 동안 활동이 없는 경우</li>
+ * </ul>
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.sessions.live} - 현재 등록된 세션 수</li>
+ * <li>{@code notification.sessions.reaped} - DISCONNECT 없이 남아 제거된 세션 누적 수</li>
+ * <li>{@code notification.sessions.leaked} - 마지막 점검 시 heartbeat가 2회 이상 누락되어 유령 세션으로 의심되는 세션 수</li>
+ * </ul>
+ *
+ * @see NotificationSessionTracker
+ */
+@Slf4j
+@Component
+public class NotificationSessionReaper {
+
+    /**
+     * 세션을 제거하기 전에 허용하는 heartbeat 누락 횟수입니다.
+     */
+    private static final int MISSED_HEARTBEATS_BEFORE_REAP = 3;
+
+    private final NotificationSessionTracker notificationSessionTracker;
+
+    private final long staleTimeoutMillis;
+
+    private final long maxIdleMillis;
+
+    private final Counter reapedCounter;
+
+    private final AtomicInteger leakedSessions = new AtomicInteger();
+
+    public NotificationSessionReaper(NotificationSessionTracker notificationSessionTracker,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.session.stale-timeout:60000}") long staleTimeoutMillis,
+                                     @Value("${notification.session.max-idle:86400000}") long maxIdleMillis) {
+        this.notificationSessionTracker = notificationSessionTracker;
+        this.staleTimeoutMillis = staleTimeoutMillis;
+        this.maxIdleMillis = maxIdleMillis;
+
+        Gauge.builder("notification.sessions.live", notificationSessionTracker, NotificationSessionTracker::sessionCount)
+                .description("등록된 STOMP 알림 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sessions.leaked", leakedSessions, AtomicInteger::get)
+                .description("heartbeat 누락으로 유령 세션으로 의심되는 세션 수")
+                .register(meterRegistry);
+        this.reapedCounter = Counter.builder("notification.sessions.reaped")
+                .description("DISCONNECT 이벤트 없이 제거된 세션 누적 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오래된 세션을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.session.reap-interval:30000}")
+    public void reapStaleSessions() {
+        reapStaleSessions(System.currentTimeMillis());
+    }
+
+    /**
+     * 지정된 시각을 기준으로 오래된 세션을 제거합니다.
+     *
+     * @param now 기준 시각 (epoch millis)
+     * @return 제거된 세션 수
+     */
+    int reapStaleSessions(long now) {
+        int reaped = 0;
+        int suspected = 0;
+
+        for (Map.Entry<String, NotificationSessionTracker.SessionActivity> entry
+                : notificationSessionTracker.getNotificationSessionIdToActivityMap().entrySet()) {
+            NotificationSessionTracker.SessionActivity activity = entry.getValue();
+            long heartbeatInterval = activity.getHeartbeatIntervalMillis();
+            long idle = now - activity.getLastActiveAt();
+
+            long threshold = heartbeatInterval > 0
+                    ? Math.max(staleTimeoutMillis, heartbeatInterval * MISSED_HEARTBEATS_BEFORE_REAP)
+                    : maxIdleMillis;
+
+            if (idle > threshold) {
+                String userEmail = notificationSessionTracker.getNotificationSessionIdToUserEmailMap().get(entry.getKey());
+                notificationSessionTracker.notificationSessionIdToUserEmailMapUnregisterSession(entry.getKey());
+                reaped++;
+                log.warn("SESSION REAPED: session {} of {} idle for {}ms", entry.getKey(), userEmail, idle);
+            } else if (heartbeatInterval > 0 && idle > heartbeatInterval * 2) {
+                suspected++;
+            }
+        }
+
+        leakedSessions.set(suspected);
+        if (reaped > 0) {
+            reapedCounter.increment(reaped);
+            log.info("SESSION REAPER: reaped {}, suspected {}, live {}", reaped, suspected, notificationSessionTracker.sessionCount());
+        }
+        return reaped;
+    }
+}
@@ -21,6 +21,26 @@ public class NotificationSessionTracker {
      */
     private final Map<String, String> notificationSessionIdToUserEmailMap = new ConcurrentHashMap<>();
 
+    /**
+     * 알림 세션 ID와 클라이언트가 CONNECT 시 전달한 마지막 확인 알림 id를 매핑하는 맵입니다.
+     * 재접속 후 catch-up 구독이 들어오면 한 번 소비되고 제거됩니다.
+     */
+    private final Map<String, Long> notificationSessionIdToLastSeenIdMap = new ConcurrentHashMap<>();
+
+    /**
+     * 알림 세션 ID와 세션의 마지막 활동 정보를 매핑하는 맵입니다.
+     * 비정상적으로 끊긴 SockJS 연결처럼 DISCONNECT 이벤트 없이 남은 세션을
+     * {@link NotificationSessionReaper}가 찾아 제거하는 데 사용됩니다.
+     */
+    private final Map<String, SessionActivity> notificationSessionIdToActivityMap = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 이메일별 활성 세션 수를 유지하는 맵입니다.
+     * 알림 저장 시 수신자마다 전체 세션을 순회하지 않고 O(1)로 접속 상태를 확인하기 위해 사용됩니다.
+     * 세션 수가 0이 되면 키를 제거하여 맵 크기를 접속자 수로 제한합니다.
+     */
+    private final Map<String, Integer> userEmailToSessionCountMap = new ConcurrentHashMap<>();
+
     /**
      * 새로운 알림 세션을 등록합니다.
      * 사용자가 알림을 받기 위해 WebSocket 연결을 설정할 때 호출됩니다.
@@ -31,7 +51,26 @@ public class NotificationSessionTracker {
      * @throws IllegalArgumentException sessionId 또는 userEmail이 null인 경우
      */
     public void notificationSessionIdToUserEmailMapRegisterSession(String sessionId, String userEmail) {
-        notificationSessionIdToUserEmailMap.put(sessionId, userEmail);
+        notificationSessionIdToUserEmailMapRegisterSession(sessionId, userEmail, 0L);
+    }
+
+    /**
+     * 새로운 알림 세션을 협상된 heartbeat 주기와 함께 등록합니다.
+     *
+     * @param sessionId 등록할 알림 세션의 고유 식별자 (WebSocket 세션 ID)
+     * @param userEmail 알림을 받을 사용자의 이메일 주소
+     * @param heartbeatIntervalMillis 클라이언트가 heartbeat를 보내기로 협상된 주기(ms), 협상되지 않았다면 0
+     */
+    public void notificationSessionIdToUserEmailMapRegisterSession(String sessionId, String userEmail, long heartbeatIntervalMillis) {
+        notificationSessionIdToActivityMap.put(sessionId, new SessionActivity(heartbeatIntervalMillis, System.currentTimeMillis()));
+        String previous = notificationSessionIdToUserEmailMap.put(sessionId, userEmail);
+        if (userEmail.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            decrementSessionCount(previous);
+        }
+        userEmailToSessionCountMap.merge(userEmail, 1, Integer::sum);
     }
 
     /**
@@ -43,7 +82,68 @@ public class NotificationSessionTracker {
      * @return 제거된 사용자 이메일, 세션이 존재하지 않았다면 null
      */
     public void notificationSessionIdToUserEmailMapUnregisterSession(String sessionId) {
-        notificationSessionIdToUserEmailMap.remove(sessionId);
+        String userEmail = notificationSessionIdToUserEmailMap.remove(sessionId);
+        if (userEmail != null) {
+            decrementSessionCount(userEmail);
+        }
+        notificationSessionIdToLastSeenIdMap.remove(sessionId);
+        notificationSessionIdToActivityMap.remove(sessionId);
+    }
+
+    /**
+     * 세션의 마지막 활동 시각을 현재 시각으로 갱신합니다.
+     * 클라이언트로부터 STOMP 프레임 또는 heartbeat가 수신될 때마다 호출됩니다.
+     *
+     * @param sessionId 활동이 감지된 알림 세션의 고유 식별자
+     */
+    public void touch(String sessionId) {
+        SessionActivity activity = notificationSessionIdToActivityMap.get(sessionId);
+        if (activity != null) {
+            activity.lastActiveAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 특정 사용자의 활성 알림 세션 수를 반환합니다.
+     *
+     * @param userEmail 조회할 사용자의 이메일 주소
+     * @return 활성 세션 수, 접속하지 않았다면 0
+     */
+    public int countSessionsByUserEmail(String userEmail) {
+        return userEmailToSessionCountMap.getOrDefault(userEmail, 0);
+    }
+
+    private void decrementSessionCount(String userEmail) {
+        userEmailToSessionCountMap.computeIfPresent(userEmail, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 현재 등록된 알림 세션 수를 반환합니다.
+     *
+     * @return 등록된 알림 세션 수
+     */
+    public int sessionCount() {
+        return notificationSessionIdToUserEmailMap.size();
+    }
+
+    /**
+     * 세션이 CONNECT 시 전달한 마지막 확인 알림 id를 기록합니다.
+     *
+     * @param sessionId 알림 세션의 고유 식별자
+     * @param lastSeenId 클라이언트가 마지막으로 확인한 알림 id
+     */
+    public void registerLastSeenNotificationId(String sessionId, Long lastSeenId) {
+        notificationSessionIdToLastSeenIdMap.put(sessionId, lastSeenId);
+    }
+
+    /**
+     * 세션에 기록된 마지막 확인 알림 id를 꺼내고 제거합니다.
+     *
+     * @param sessionId 알림 세션의 고유 식별자
+     * @return 마지막 확인 알림 id, 기록되지 않았다면 null
+     */
+    public Long pollLastSeenNotificationId(String sessionId) {
+        return notificationSessionIdToLastSeenIdMap.remove(sessionId);
     }
 
     /**
@@ -57,4 +157,40 @@ public class NotificationSessionTracker {
     public Map<String, String> getNotificationSessionIdToUserEmailMap() {
         return notificationSessionIdToUserEmailMap;
     }
+
+    /**
+     * 현재 등록된 모든 알림 세션의 활동 정보를 반환합니다.
+     *
+     * @return 알림 세션 ID를 키로, 활동 정보를 값으로 하는 맵
+     */
+    Map<String, SessionActivity> getNotificationSessionIdToActivityMap() {
+        return notificationSessionIdToActivityMap;
+    }
+
+    /**
+     * 알림 세션의 활동 정보입니다.
+     * heartbeat마다 갱신되므로 락 없이 volatile 필드로 관리합니다.
+     */
+    static final class SessionActivity {
+
+        /**
+         * 클라이언트가 heartbeat를 보내기로 협상된 주기(ms)입니다. 0이면 heartbeat를 보내지 않는 세션입니다.
+         */
+        private final long heartbeatIntervalMillis;
+
+        private volatile long lastActiveAt;
+
+        SessionActivity(long heartbeatIntervalMillis, long lastActiveAt) {
+            this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+            this.lastActiveAt = lastActiveAt;
+        }
+
+        long getHeartbeatIntervalMillis() {
+            return heartbeatIntervalMillis;
+        }
+
+        long getLastActiveAt() {
+            return lastActiveAt;
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.nhnacademy.notifyservice.config;
 
+import com.nhnacademy.notifyservice.ratelimit.EmailRateLimitProperties;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
@@ -19,6 +20,7 @@ import java.util.Map;
  * - 이메일 발송용 큐(email-queue) 및 해당 큐의 Dead Letter Queue(email-queue.dlq) 설정을 포함합니다.
  * - 원본 큐에 메시지 처리 실패 시 Dead Letter Exchange(email-exchange.dlx)로 메시지를 보내고,
  *   DLX는 DLQ로 메시지를 라우팅합니다.
+ * - 발송 속도 제한에 걸린 이메일은 지연 큐(email-queue.delay)에 보관했다가 TTL이 지나면 원본 큐로 되돌립니다.
  * </p>
  */
 @Configuration
@@ -32,12 +34,17 @@ public class RabbitConfig {
     /**
      * Dead Letter Queue 이름 상수입니다.
      */
-    private static final String EMAIL_DLQ = "email-queue.dlq";
+    public static final String EMAIL_DLQ = "email-queue.dlq";
 
     /**
      * Dead Letter Exchange 이름 상수입니다.
      */
-    private static final String EMAIL_DLX = "email-exchange.dlx";
+    public static final String EMAIL_DLX = "email-exchange.dlx";
+
+    /**
+     * 발송 속도 제한 지연 큐 이름 상수입니다.
+     */
+    public static final String EMAIL_DELAY_QUEUE = "email-queue.delay";
 
     @Bean
     public MessageConverter jsonMessageConverter() {
@@ -114,6 +121,27 @@ public class RabbitConfig {
         return new Queue(EMAIL_DLQ, true); // durable
     }
 
+    /**
+     * 발송 속도 제한에 걸린 이메일을 잠시 보관하는 지연 큐를 생성합니다.
+     * <p>
+     * 컨슈머 없이 큐 단위 TTL({@code notification.email.rate-limit.defer-delay})만 두어, 만료된 메시지가
+     * 기본 Exchange를 통해 원본 큐로 dead-letter되도록 합니다. 모든 메시지의 TTL이 같으므로
+     * 메시지별 TTL과 달리 앞의 메시지가 뒤 메시지의 만료를 막지 않습니다.
+     * TTL을 변경하려면 기존 큐를 삭제한 뒤 다시 선언해야 합니다.
+     * </p>
+     *
+     * @param properties 발송 속도 제한 설정
+     * @return durable한 지연 {@link Queue} 빈
+     */
+    @Bean
+    public Queue emailDelayQueue(EmailRateLimitProperties properties) {
+        Map<String, Object> args = new HashMap<>();
+        args.put("x-message-ttl", properties.getDeferDelay().toMillis());
+        args.put("x-dead-letter-exchange", ""); // 기본 Exchange
+        args.put("x-dead-letter-routing-key", emailQueue); // 원본 큐로 되돌림
+        return new Queue(EMAIL_DELAY_QUEUE, true, false, false, args);
+    }
+
     /**
      * Dead Letter Queue와 Dead Letter Exchange를 바인딩합니다.
      * <p>
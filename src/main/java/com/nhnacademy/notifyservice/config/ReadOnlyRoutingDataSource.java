@@ -0,0 +1,24 @@
+package com.nhnacademy.notifyservice.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 읽기 전용 여부에 따라 커넥션을 가져올 데이터소스를 선택하는 라우팅 데이터소스입니다.
+ *
+ * {@code @Transactional(readOnly = true)} 구간은 레플리카로, 그 외의 구간은 프라이머리로 라우팅합니다.
+ * 트랜잭션 매니저는 읽기 전용 플래그를 설정하기 전에 커넥션을 먼저 요청하므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ *
+ * @see ReadReplicaDataSourceConfig
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,85 @@
+package com.nhnacademy.notifyservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카 DB로 보내는 읽기/쓰기 분리 데이터소스 설정 클래스입니다.
+ *
+ * {@code notification.datasource.replica.url}이 설정된 경우에만 활성화되며,
+ * 설정하지 않으면 Spring Boot 기본 데이터소스 하나로 동작합니다.
+ * 알림 개수, 히스토리, 역할 조회처럼 폴링이 잦은 조회 경로가 프라이머리 커넥션을 점유하지 않도록 합니다.
+ *
+ * <p>사용하는 설정:</p>
+ * <ul>
+ * <li>{@code spring.datasource.*}, {@code spring.datasource.hikari.*} - 프라이머리(쓰기) 데이터소스</li>
+ * <li>{@code notification.datasource.replica.*}, {@code notification.datasource.replica.hikari.*} - 레플리카(읽기) 데이터소스</li>
+ * </ul>
+ *
+ * 레플리카는 복제 지연이 있으므로 방금 커밋한 데이터를 다시 읽어야 하는 경로는
+ * 읽기 전용 트랜잭션으로 선언하지 않아야 합니다.
+ *
+ * @see ReadOnlyRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notification.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("notification.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("notification.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * JPA가 사용하는 기본 데이터소스입니다.
+     * 실제 커넥션은 첫 쿼리 시점에 획득하므로 트랜잭션의 읽기 전용 여부가 확정된 뒤 라우팅됩니다.
+     *
+     * @param primaryDataSource 프라이머리 데이터소스
+     * @param replicaDataSource 레플리카 데이터소스
+     * @return 지연 커넥션 프록시로 감싼 라우팅 데이터소스
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadOnlyRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadOnlyRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.notifyservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@code @Scheduled} 작업을 실행하는 전용 스케줄러 설정 클래스입니다.
+ *
+ * STOMP 심플 브로커가 {@code messageBrokerTaskScheduler}를 등록하면 Spring Boot는 기본 스케줄러를 만들지 않으므로,
+ * 별도 스케줄러가 없으면 세션 정리, 아웃박스 릴레이, 보관 기간 정리 같은 작업이 브로커 heartbeat 스케줄러에서 실행됩니다.
+ * 이 경우 느린 작업이 heartbeat 전송을 지연시켜 정상 세션이 끊길 수 있으므로,
+ * {@code taskScheduler} 이름의 전용 스케줄러를 등록하여 {@code @Scheduled} 작업이 이를 사용하도록 합니다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * {@code @Scheduled} 작업 전용 스케줄러를 생성합니다.
+     * 빈 이름이 {@code taskScheduler}이므로 스케줄러가 여러 개여도 {@code @Scheduled} 작업은 이 스케줄러를 사용합니다.
+     *
+     * @param poolSize 동시에 실행할 수 있는 예약 작업 수
+     * @return 예약 작업 전용 스케줄러
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${notification.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("notification-scheduling-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return taskScheduler;
+    }
+}
@@ -1,7 +1,13 @@
 package com.nhnacademy.notifyservice.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -18,6 +24,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * <li>STOMP 엔드포인트 등록 및 CORS 설정</li>
  * <li>SockJS 폴백 지원</li>
  * <li>메시지 브로커 경로 설정</li>
+ * <li>서버/클라이언트 STOMP heartbeat 설정</li>
  * <li>실시간 알림 구독/발행 메커니즘</li>
  * </ul>
  *
@@ -36,6 +43,29 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Configuration
 @EnableWebSocketMessageBroker
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    /**
+     * 서버가 heartbeat를 보내고 클라이언트에게 요구하는 주기(ms)입니다.
+     */
+    @Value("${notification.session.heartbeat-interval:10000}")
+    private long heartbeatInterval;
+
+    /**
+     * 클라이언트 프레임과 heartbeat 수신 시 세션 활동을 기록하는 인터셉터입니다.
+     */
+    @Autowired
+    private NotificationSessionActivityInterceptor notificationSessionActivityInterceptor;
+
+    /**
+     * 심플 브로커의 heartbeat 전송에 사용하는 스케줄러입니다.
+     * 메시지 브로커 설정과의 순환 참조를 피하기 위해 지연 주입합니다.
+     */
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     /**
      * STOMP WebSocket 엔드포인트를 등록하고 구성합니다.
      *
@@ -80,6 +110,8 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * <li><strong>브로커 Prefix:</strong> {@code /notification}</li>
      * <li><strong>사용 목적:</strong> 서버 → 클라이언트 메시지 전송</li>
      * <li><strong>구독 패턴:</strong> {@code /notification/{userEmail}}, {@code /notification/unread-notification-count-updates/{userEmail}} 등</li>
+     * <li><strong>Heartbeat:</strong> 서버 전송/클라이언트 수신 모두 {@code notification.session.heartbeat-interval} 주기.
+     * 클라이언트 heartbeat가 끊기면 브로커가 세션을 종료하여 DISCONNECT 이벤트가 발생합니다.</li>
      * </ul>
      *
      * <p>클라이언트 구독 예시:</p>
@@ -109,6 +141,21 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 클라이언트가 메시지를 보낼 때 사용하는 목적지 prefix
         // 클라이언트에서 /publish 형태로 시작하는 url 패턴으로 메시지가 발행되면 @Controller 객체의 @MessageMapping 메서드로 라우팅
         // 서버가 메시지를 클라이언트에게 발행할 때 사용하는 경로 prefix
-        registry.enableSimpleBroker("/notification");
+        registry.enableSimpleBroker("/notification")
+                .setHeartbeatValue(new long[]{heartbeatInterval, heartbeatInterval})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+    }
+
+    /**
+     * 클라이언트 → 서버 채널에 세션 활동 기록 인터셉터를 등록합니다.
+     *
+     * 클라이언트 heartbeat도 이 채널을 통과하므로, 메시지를 보내지 않는 유휴 클라이언트도
+     * heartbeat만으로 활성 세션으로 유지됩니다.
+     *
+     * @param registration 클라이언트 인바운드 채널 설정을 위한 레지스트레이션
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(notificationSessionActivityInterceptor);
     }
 }
\ No newline at end of file
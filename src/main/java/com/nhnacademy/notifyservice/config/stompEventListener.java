@@ -1,11 +1,14 @@
 package com.nhnacademy.notifyservice.config;
 
+import com.nhnacademy.notifyservice.service.NotificationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 /**
  * STOMP WebSocket 세션의 연결 및 해제 이벤트를 처리하는 이벤트 리스너 클래스입니다.
@@ -18,6 +21,7 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
  * <ul>
  * <li>{@link SessionConnectEvent} - 새로운 STOMP 연결이 설정될 때</li>
  * <li>{@link SessionDisconnectEvent} - STOMP 연결이 해제될 때</li>
+ * <li>{@link SessionSubscribeEvent} - 재접속한 클라이언트가 catch-up 채널을 구독할 때</li>
  * </ul>
  *
  * @see NotificationSessionTracker
@@ -27,18 +31,36 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 @Slf4j
 @Component
 public class stompEventListener {
+    /**
+     * 재접속한 클라이언트가 놓친 알림을 수신하기 위해 구독하는 목적지 prefix입니다.
+     */
+    private static final String CATCH_UP_DESTINATION_PREFIX = "/notification/catch-up/";
+
     /**
      * 알림 세션을 추적하고 관리하는 서비스 객체입니다.
      * 세션 ID와 사용자 이메일 간의 매핑을 관리하여 타겟팅된 알림 전송을 가능하게 합니다.
      */
     private final NotificationSessionTracker notificationSessionTracker;
+    /**
+     * 재접속 시 놓친 알림을 조회하고 전송하는 서비스 객체입니다.
+     */
+    private final NotificationService notificationService;
+    /**
+     * 서버가 클라이언트에게 요구하는 heartbeat 수신 주기(ms)입니다.
+     */
+    private final long heartbeatInterval;
     /**
      * StompEventListener의 생성자입니다.
      *
      * @param notificationSessionTracker 알림 세션 추적을 위한 서비스 객체
+     * @param notificationService 재접속 catch-up 전송을 위한 서비스 객체
+     * @param heartbeatInterval 서버가 클라이언트에게 요구하는 heartbeat 주기(ms)
      */
-    public stompEventListener(NotificationSessionTracker notificationSessionTracker) {
+    public stompEventListener(NotificationSessionTracker notificationSessionTracker, NotificationService notificationService,
+                              @Value("${notification.session.heartbeat-interval:10000}") long heartbeatInterval) {
         this.notificationSessionTracker = notificationSessionTracker;
+        this.notificationService = notificationService;
+        this.heartbeatInterval = heartbeatInterval;
     }
     /**
      * STOMP WebSocket 연결 이벤트를 처리합니다.
@@ -52,6 +74,7 @@ public class stompEventListener {
      * <li>STOMP 헤더에서 사용자 이메일 추출 (X-USER 헤더)</li>
      * <li>세션 ID 추출</li>
      * <li>세션 추적기에 매핑 정보 등록</li>
+     * <li>'X-LAST-SEEN-ID' 헤더가 있으면 catch-up 커서로 기록</li>
      * <li>연결 로그 기록</li>
      * </ol>
      *
@@ -67,7 +90,13 @@ public class stompEventListener {
 
         if(userEmail != null) {
             String sessionId = headerAccessor.getSessionId();
-            notificationSessionTracker.notificationSessionIdToUserEmailMapRegisterSession(sessionId, userEmail);
+            notificationSessionTracker.notificationSessionIdToUserEmailMapRegisterSession(sessionId, userEmail,
+                    negotiateHeartbeatInterval(headerAccessor.getHeartbeat()));
+
+            Long lastSeenId = parseLastSeenId(headerAccessor.getFirstNativeHeader("X-LAST-SEEN-ID"));
+            if(lastSeenId != null) {
+                notificationSessionTracker.registerLastSeenNotificationId(sessionId, lastSeenId);
+            }
             log.info("LIST CONNECT: {} joined", userEmail);
             log.info("LIST CONNECT: {}", notificationSessionTracker.getNotificationSessionIdToUserEmailMap().values());
         }
@@ -101,4 +130,76 @@ public class stompEventListener {
         notificationSessionTracker.notificationSessionIdToUserEmailMapUnregisterSession(sessionId);
         log.info("LIST DISCONNECT: session {} disconnected {}", sessionId, userEmail);
     }
+
+    /**
+     * STOMP 구독 이벤트를 처리하여 재접속한 클라이언트에게 놓친 알림을 전송합니다.
+     *
+     * CONNECT 직후에는 클라이언트가 아직 어떤 목적지도 구독하지 않았기 때문에,
+     * catch-up 메시지는 클라이언트가 {@code /notification/catch-up/{userEmail}}을 구독한 시점에 전송합니다.
+     * 마지막 확인 알림 id는 CONNECT 헤더 또는 SUBSCRIBE 헤더의 'X-LAST-SEEN-ID'로 전달받습니다.
+     *
+     * <p>처리 과정:</p>
+     * <ol>
+     * <li>구독 목적지가 catch-up 채널인지 확인</li>
+     * <li>세션에 등록된 사용자 이메일과 구독 목적지의 이메일이 일치하는지 확인</li>
+     * <li>읽지 않은 알림 개수와 놓친 알림 목록 전송</li>
+     * </ol>
+     *
+     * @param event STOMP 구독 이벤트 객체
+     * @see SessionSubscribeEvent
+     */
+    @EventListener
+    public void subscribeHandle(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+
+        String destination = headerAccessor.getDestination();
+        if(destination == null || !destination.startsWith(CATCH_UP_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        String sessionId = headerAccessor.getSessionId();
+        String userEmail = notificationSessionTracker.getNotificationSessionIdToUserEmailMap().get(sessionId);
+        if(userEmail == null || !destination.equals(CATCH_UP_DESTINATION_PREFIX + userEmail)) {
+            log.warn("CATCH-UP: session {} subscribed to {} without matching X-USER", sessionId, destination);
+            return;
+        }
+
+        Long lastSeenId = notificationSessionTracker.pollLastSeenNotificationId(sessionId);
+        Long subscribeLastSeenId = parseLastSeenId(headerAccessor.getFirstNativeHeader("X-LAST-SEEN-ID"));
+        if(subscribeLastSeenId != null) {
+            lastSeenId = subscribeLastSeenId;
+        }
+
+        try {
+            notificationService.sendCatchUpNotification(userEmail, lastSeenId);
+        } catch (Exception e) {
+            // catch-up 실패가 구독 자체를 실패시키지 않도록 로그만 남김 (클라이언트는 REST API로 재조회 가능)
+            log.error("CATCH-UP: failed for {} after {}", userEmail, lastSeenId, e);
+        }
+    }
+
+    /**
+     * 클라이언트가 CONNECT 시 제시한 heart-beat 헤더와 서버 설정으로 클라이언트의 heartbeat 전송 주기를 계산합니다.
+     *
+     * @param clientHeartbeat 클라이언트 heart-beat 헤더 값 ({전송 주기, 수신 주기})
+     * @return 클라이언트가 heartbeat를 보내는 주기(ms), 어느 한쪽이 0이면 heartbeat 없음(0)
+     */
+    private long negotiateHeartbeatInterval(long[] clientHeartbeat) {
+        if(clientHeartbeat == null || clientHeartbeat[0] == 0 || heartbeatInterval == 0) {
+            return 0L;
+        }
+        return Math.max(clientHeartbeat[0], heartbeatInterval);
+    }
+
+    private Long parseLastSeenId(String value) {
+        if(value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("CATCH-UP: invalid X-LAST-SEEN-ID {}", value);
+            return null;
+        }
+    }
 }
@@ -1,23 +1,55 @@
 package com.nhnacademy.notifyservice.consumer;
 
+import com.nhnacademy.notifyservice.circuit.CircuitBreaker;
+import com.nhnacademy.notifyservice.circuit.CircuitOpenException;
+import com.nhnacademy.notifyservice.circuit.NotificationCircuitBreakers;
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
+import com.nhnacademy.notifyservice.delivery.NotificationEventFactory;
+import com.nhnacademy.notifyservice.digest.NotificationDigestAggregator;
 import com.nhnacademy.notifyservice.domain.Member;
 import com.nhnacademy.notifyservice.domain.Role;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.fanout.FanOutResult;
+import com.nhnacademy.notifyservice.fanout.NotificationFanOutExecutor;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.producer.EmailQueueProducer;
+import com.nhnacademy.notifyservice.ratelimit.EmailRateLimiter;
 import com.nhnacademy.notifyservice.service.EmailService;
 import com.nhnacademy.notifyservice.service.NotificationService;
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.slf4j.MDC;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * RabbitMQ 큐로부터 이메일 발송 요청을 비동기적으로 수신하고 처리하는 Consumer 서비스입니다.
  * <p>
  * - 큐에서 수신한 EmailRequest의 type에 따라 텍스트 또는 HTML 이메일을 발송합니다.
  * - 발송 성공/실패를 로깅하며, 실패 시 메시지를 Dead Letter Queue(DLQ)로 이동시킵니다.
+ * - 관리자 알림은 {@link NotificationFanOutExecutor}로 수신자 묶음을 병렬 처리하고,
+ *   일부 수신자만 실패하면 실패한 수신자만 담은 복사본을 DLQ로 보냅니다.
+ * - 이메일은 {@link EmailRateLimiter}의 발송 속도 제한을 통과한 경우에만 발송하고,
+ *   제한에 걸리면 실패로 처리하지 않고 이메일만 다시 발송하는 복사본을 지연 큐로 보냅니다.
+ * - 여러 수신자(bcc)에게 보내는 이메일은 봉투 묶음으로 발송하고, 실패한 수신자만 담은 복사본을 DLQ로 보냅니다.
+ * - 요약(digest) 모드인 수신자의 이메일은 바로 발송하지 않고 {@link NotificationDigestAggregator}에 모읍니다 (알림은 바로 저장).
+ * - 데이터베이스 호출은 {@link NotificationCircuitBreakers#database()}를 거치며, 회로가 열려 있으면 요청을 그대로 지연 큐로 보냅니다
+ *   (회로가 열리는 동안 리스너는 {@link com.nhnacademy.notifyservice.circuit.ListenerPauseController}가 멈춥니다).
+ * - SMTP 회로({@link NotificationCircuitBreakers#smtp()})가 열려 있으면 이메일을 발송하지 않고 지연 큐로 보냅니다.
+ * - 요청의 trace id를 처리 중 MDC에 설정하고, 큐 대기/처리/전체 지연 시간을 기록합니다.
  * </p>
  */
 @Slf4j
@@ -25,59 +57,373 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmailQueueConsumer {
 
+    /**
+     * 이메일 큐 리스너 컨테이너의 id입니다. 회로 차단기와 자동 확장이 {@code RabbitListenerEndpointRegistry}에서 컨테이너를 찾을 때 사용합니다.
+     */
+    public static final String LISTENER_ID = "emailQueueListener";
+
     /**
      * 실제 이메일 발송을 담당하는 서비스입니다.
      */
     private final EmailService emailService;
     private final NotificationService notificationService;
+    private final NotificationMetrics notificationMetrics;
+    private final NotificationFanOutExecutor notificationFanOutExecutor;
+    private final EmailQueueProducer emailQueueProducer;
+    private final EmailRateLimiter emailRateLimiter;
+    private final NotificationDigestAggregator notificationDigestAggregator;
+    private final NotificationEventFactory notificationEventFactory;
+    private final NotificationCircuitBreakers notificationCircuitBreakers;
+
+    /**
+     * 큐 적재부터 처리 완료까지 이 시간(ms)을 넘기면 단계별 지연 시간을 경고 로그로 남깁니다.
+     */
+    @Value("${notification.trace.slow-threshold:2000}")
+    private long slowThresholdMillis;
+
+    /**
+     * RabbitMQ 큐에서 메시지를 수신하는 리스너 진입점입니다.
+     * <p>
+     * 본문에 trace 정보가 없는 경우(이전 버전 프로듀서가 보낸 메시지 등) AMQP 헤더에서 복원한 뒤
+     * {@link #receiveEmailRequest(EmailRequest)}로 처리를 위임합니다.
+     * </p>
+     *
+     * @param request 큐로부터 수신한 이메일 발송 요청 정보
+     * @param traceId AMQP {@code X-Trace-Id} 헤더 값
+     * @param enqueuedAt AMQP {@code X-Enqueued-At} 헤더 값
+     */
+    @RabbitListener(id = LISTENER_ID, queues = "${email.queue}")
+    public void onMessage(@Payload EmailRequest request,
+                          @Header(name = NotificationTrace.TRACE_ID_HEADER, required = false) String traceId,
+                          @Header(name = NotificationTrace.ENQUEUED_AT_HEADER, required = false) Long enqueuedAt) {
+        if (request.getTraceId() == null) {
+            request.setTraceId(traceId);
+        }
+        if (request.getEnqueuedAt() == null) {
+            request.setEnqueuedAt(enqueuedAt);
+        }
+        receiveEmailRequest(request);
+    }
 
     /**
      * RabbitMQ 큐에서 EmailRequest 메시지를 수신하여 이메일을 발송합니다.
      * <p>
-     * - type이 "HTML"이면 HTML 이메일을, 그 외에는 텍스트 이메일을 발송합니다.
+     * - type이 "HTML"이면 HTML 이메일을, "TEXT"이거나 지정되지 않았으면 텍스트 이메일을 발송합니다.
+     *   그 외의 형식은 발송하지 않고 DLQ로 이동시킵니다.
+     * - 역할(roleType)이 없거나 여러 수신자(bcc)에게 보내는 요청은 알림을 저장하지 않고 이메일만 발송합니다.
      * - 발송 성공 시 info 로그를 남기고, 실패 시 error 로그를 남긴 뒤
      *   AmqpRejectAndDontRequeueException을 throw하여 메시지를 DLQ로 이동시킵니다.
+     * - 관리자 알림의 일부 수신자 저장 또는 이메일 발송만 실패한 경우에는 원본 메시지를 정상 처리하고
+     *   실패한 부분만 담은 복사본({@link EmailRequest#forRetry})을 DLQ로 보냅니다.
+     *   복사본을 다시 큐에 넣으면 실패한 수신자만 저장하고, 이미 발송한 이메일은 다시 보내지 않습니다.
      * </p>
      *
      * @param request 큐로부터 수신한 이메일 발송 요청 정보
      * @throws AmqpRejectAndDontRequeueException 이메일 발송 실패 시 DLQ로 메시지 이동
      */
-    @RabbitListener(queues = "${email.queue}")
     public void receiveEmailRequest(EmailRequest request) {
+        Timer.Sample sample = notificationMetrics.startTimer();
+        long startedAt = System.currentTimeMillis();
+        long queueWaitMillis = -1L;
+
+        if (request.getTraceId() != null) {
+            MDC.put(NotificationTrace.MDC_TRACE_ID, request.getTraceId());
+        }
+        if (request.getEnqueuedAt() != null) {
+            queueWaitMillis = notificationMetrics.recordQueueWait(request.getEnqueuedAt(), startedAt);
+        }
+
+        try {
+            process(request, sample);
+        } finally {
+            long finishedAt = System.currentTimeMillis();
+            if (request.getEnqueuedAt() != null) {
+                long endToEndMillis = finishedAt - request.getEnqueuedAt();
+                notificationMetrics.recordStage("end-to-end", endToEndMillis);
+                if (endToEndMillis > slowThresholdMillis) {
+                    log.warn("느린 알림 처리 : traceId={}, endToEnd={}ms, queueWait={}ms, processing={}ms",
+                            request.getTraceId(), endToEndMillis, queueWaitMillis, finishedAt - startedAt);
+                }
+            }
+            MDC.remove(NotificationTrace.MDC_TRACE_ID);
+        }
+    }
+
+    private void process(EmailRequest request, Timer.Sample sample) {
+        try {
+            handle(request, sample);
+        } catch (CircuitOpenException e) {
+            // 아직 아무것도 저장하지 않았으므로 요청 전체를 지연 큐에 두었다가 다시 처리
+            parkRequest(request, sample);
+        }
+    }
+
+    private void handle(EmailRequest request, Timer.Sample sample) {
+        CircuitBreaker database = notificationCircuitBreakers.database();
 
-        List<Member> admins = notificationService.findByRole_RoleName("ROLE_ADMIN");
-        Role role = notificationService.findByRoleName("ROLE_ADMIN");
+        List<Member> admins = database.execute(() -> notificationService.findByRole_RoleName("ROLE_ADMIN"));
+        Role role = database.execute(() -> notificationService.findByRoleName("ROLE_ADMIN"));
 
         try{
-            if(request.getRoleType().equals("ROLE_ADMIN")) {
-                // 관리자 메시지
-                for(Member admin : admins) {
-                    // 큐에서 메시지 꺼낸 후 저장하고 프런트로 전송 (관리자는 모든 알림 메시지 저장)
-                    notificationService.saveNotificationMessage(admin, role, request);
+            if(request.getRoleType() == null || hasBcc(request)) {
+                // 역할이 없거나 여러 수신자(bcc)에게 보내는 요청 - 역할과 무관하게 알림 없이 이메일만 발송
+                requireSupportedType(request);
+                if (!sendOrDeferEmail(request)) {
+                    throw new IllegalStateException("이메일 발송 실패");
                 }
+            } else if("ROLE_ADMIN".equals(request.getRoleType())) {
+                // 알림을 저장하기 전에 발송할 수 없는 형식을 걸러냄
+                requireSupportedType(request);
+                List<Member> recipients = recipientsOf(request, admins);
+
+                // 관리자 메시지 - HTML 변환/요약 등 수신자와 무관한 작업은 이벤트당 한 번만 수행
+                // 저장할 알림이 없으면(이메일만 다시 보내는 요청) 공유 본문도 저장하지 않음
+                NotificationEvent event = recipients.isEmpty()
+                        ? notificationEventFactory.create(request)
+                        : database.execute(() -> notificationService.prepareNotificationEvent(request));
+
+                // 큐에서 메시지 꺼낸 후 저장하고 프런트로 전송 (관리자는 모든 알림 메시지 저장)
+                // 수신자를 묶음으로 나누어 병렬로 처리하며, 묶음마다 별도 트랜잭션을 사용
+                FanOutResult result = notificationFanOutExecutor.execute(recipients,
+                        chunk -> database.run(() -> notificationService.saveNotificationMessages(chunk, role, event)));
 
-                if (request.getType().equals("HTML")) {
-                    // 이메일로 HTML 메시지 전송
-                    emailService.sendHtmlEmail(request);
-                } else if (request.getType().equals("TEXT")) {
-                    // 이메일로 텍스트 메시지 전송
-                    emailService.sendTextEmail(request);
+                boolean emailSent = request.isEmailSent() || sendOrBufferEmail(request, event);
+
+                if (result.hasFailures() || !emailSent) {
+                    deadLetterFailedRecipients(request, result, emailSent);
+                    notificationMetrics.recordConsume(sample, request.getType(), request.getRoleType(), NotificationMetrics.OUTCOME_PARTIAL);
+                    return;
                 }
 
-                log.info("이메일 발송 성공 : {}", request);
-            } else if(request.getRoleType().equals("ROLE_ALL")) {
+                log.info("이메일 발송 성공 : traceId={}, recipients={}", request.getTraceId(), recipientCount(request));
+            } else if("ROLE_ALL".equals(request.getRoleType())) {
                 // 팝업 메시지
                 String toEmail = request.getTo();
 
-                Member member = notificationService.findMemberByEmail(toEmail);
+                Member member = database.execute(() -> notificationService.findMemberByEmail(toEmail));
 
-                notificationService.sendNotification(member, request.getContent());
+                database.run(() -> notificationService.sendNotification(member, request.getContent()));
             }
-        }  catch (Exception e) {
-            log.error("이메일 발송 실패 : {}", request, e);
+            notificationMetrics.recordConsume(sample, request.getType(), request.getRoleType(), NotificationMetrics.OUTCOME_SUCCESS);
+        } catch (CircuitOpenException e) {
+            throw e;
+        } catch (Exception e) {
+            notificationMetrics.recordConsume(sample, request.getType(), request.getRoleType(), NotificationMetrics.OUTCOME_FAILURE);
+            log.error("이메일 발송 실패 : traceId={}, recipients={}", request.getTraceId(), recipientCount(request), e);
 
             // Slack 등 실시간 알림 연동 기능
             throw new AmqpRejectAndDontRequeueException("DLQ로 이동", e);
         }
     }
+
+    /**
+     * 데이터베이스 회로가 열려 처리할 수 없는 요청을 그대로 지연 큐로 보냅니다.
+     * 지연 시간이 지나면 이메일 큐로 돌아와 처음부터 다시 처리되며, 지연 횟수에는 포함하지 않습니다.
+     * 지연 큐 전송에도 실패하면 DLQ로 보냅니다.
+     */
+    private void parkRequest(EmailRequest request, Timer.Sample sample) {
+        try {
+            emailQueueProducer.sendToDelay(request);
+        } catch (AmqpException e) {
+            notificationMetrics.recordConsume(sample, request.getType(), request.getRoleType(), NotificationMetrics.OUTCOME_FAILURE);
+            log.error("데이터베이스 회로 열림, 지연 큐 전송 실패 : traceId={}", request.getTraceId(), e);
+            throw new AmqpRejectAndDontRequeueException("DLQ로 이동", e);
+        }
+        notificationMetrics.recordConsume(sample, request.getType(), request.getRoleType(), NotificationMetrics.OUTCOME_PARKED);
+        log.warn("데이터베이스 회로 열림, 지연 큐에 보관 : traceId={}", request.getTraceId());
+    }
+
+    /**
+     * 알림을 저장할 관리자 목록을 반환합니다.
+     * 일부 수신자만 재처리하는 요청이면 해당 수신자만 반환합니다.
+     * 지연 큐에서 돌아온 요청({@link EmailRequest#forDeferredEmail})은 빈 목록이므로 알림을 다시 저장하지 않습니다.
+     */
+    private List<Member> recipientsOf(EmailRequest request, List<Member> admins) {
+        if (request.getRetryRecipients() == null) {
+            return admins;
+        }
+        Set<String> retryRecipients = Set.copyOf(request.getRetryRecipients());
+        return admins.stream()
+                .filter(admin -> retryRecipients.contains(admin.getMbEmail()))
+                .toList();
+    }
+
+    /**
+     * 이메일 수신자가 요약 모드이면 요약 버퍼에 모으고, 아니면 바로 발송합니다.
+     *
+     * @return 발송했거나 지연 큐/요약 버퍼로 보냈으면 true
+     */
+    private boolean sendOrBufferEmail(EmailRequest request, NotificationEvent event) {
+        if (notificationDigestAggregator.accepts(request) && request.getBcc() == null
+                && notificationDigestAggregator.isDigestRecipient(request.getRoleType(), request.getTo())) {
+            notificationDigestAggregator.bufferEmail(request, event);
+            return true;
+        }
+        return sendOrDeferEmail(request);
+    }
+
+    /**
+     * SMTP 회로와 발송 속도 제한을 확인한 뒤 이메일을 발송합니다.
+     * 회로가 열려 있거나 제한에 걸리면 이메일만 다시 발송하는 복사본을 지연 큐로 보내며, 원본 메시지는 정상 처리됩니다.
+     * 지연 횟수를 넘었거나 지연 큐 전송에 실패하면 발송 실패로 처리하여 DLQ로 보냅니다.
+     *
+     * @return 발송했거나 지연 큐로 보냈으면 true
+     */
+    private boolean sendOrDeferEmail(EmailRequest request) {
+        if (request.getBcc() != null) {
+            return sendOrDeferBulkEmail(request);
+        }
+        if (!notificationCircuitBreakers.smtp().isCallPermitted()) {
+            return deferEmail(request, NotificationCircuitBreakers.SMTP);
+        }
+        Optional<String> throttledBy = emailRateLimiter.tryAcquire(request.getTo());
+        if (throttledBy.isPresent()) {
+            return deferEmail(request, throttledBy.get());
+        }
+        try {
+            sendEmail(request);
+            return true;
+        } catch (CircuitOpenException e) {
+            // 다른 스레드가 시험 호출을 모두 사용한 경우
+            return deferEmail(request, NotificationCircuitBreakers.SMTP);
+        } catch (Exception e) {
+            log.error("이메일 발송 실패 : traceId={}, recipients={}", request.getTraceId(), recipientCount(request), e);
+            return false;
+        }
+    }
+
+    /**
+     * 이메일만 다시 발송하는 복사본을 지연 큐로 보냅니다.
+     *
+     * @param reason 지연 사유 (제한 항목 또는 열린 회로 이름)
+     * @return 지연 큐로 보냈으면 true
+     */
+    private boolean deferEmail(EmailRequest request, String reason) {
+        if (!emailRateLimiter.canDefer(request.getDeferrals())) {
+            log.error("이메일 발송 지연 횟수 초과 : traceId={}, limit={}, deferrals={}",
+                    request.getTraceId(), reason, request.getDeferrals());
+            return false;
+        }
+        try {
+            emailQueueProducer.sendToDelay(request.forDeferredEmail());
+            log.debug("이메일 발송 지연 : traceId={}, limit={}, deferrals={}",
+                    request.getTraceId(), reason, request.getDeferrals() + 1);
+            return true;
+        } catch (AmqpException e) {
+            log.error("이메일 지연 큐 전송 실패 : traceId={}, recipients={}", request.getTraceId(), recipientCount(request), e);
+            return false;
+        }
+    }
+
+    /**
+     * 여러 수신자에게 같은 이메일을 발송합니다.
+     * <p>
+     * 수신자마다 발송 속도 제한을 확인하여 제한에 걸린 수신자만 담은 복사본을 지연 큐로 보내고
+     * (SMTP 회로가 열려 있으면 모든 수신자를 지연 큐로 보냄),
+     * 나머지는 {@link EmailService#sendBulkEmail}로 봉투 묶음 단위로 발송합니다.
+     * 발송에 실패했거나 더 지연시킬 수 없는 수신자만 담은 복사본을 DLQ로 보내므로,
+     * 이미 받은 수신자에게는 다시 발송하지 않습니다.
+     * </p>
+     *
+     * @return 실패한 수신자를 DLQ로 보냈거나 모두 발송/지연시켰으면 true, DLQ 전송에 실패하면 false
+     */
+    private boolean sendOrDeferBulkEmail(EmailRequest request) {
+        List<String> allowed = new ArrayList<>();
+        List<String> throttled = new ArrayList<>();
+        if (notificationCircuitBreakers.smtp().isCallPermitted()) {
+            for (String recipient : request.envelopeRecipients()) {
+                (emailRateLimiter.tryAcquire(recipient).isEmpty() ? allowed : throttled).add(recipient);
+            }
+        } else {
+            throttled.addAll(request.envelopeRecipients());
+        }
+
+        List<String> failed = new ArrayList<>();
+        try {
+            failed.addAll(emailService.sendBulkEmail(request, allowed));
+        } catch (CircuitOpenException e) {
+            throttled.addAll(allowed);
+        } catch (Exception e) {
+            log.error("이메일 발송 실패 : traceId={}, recipients={}", request.getTraceId(), recipientCount(request), e);
+            failed.addAll(allowed);
+        }
+
+        if (!throttled.isEmpty()) {
+            if (!emailRateLimiter.canDefer(request.getDeferrals())) {
+                log.error("이메일 발송 지연 횟수 초과 : traceId={}, recipients={}, deferrals={}",
+                        request.getTraceId(), throttled.size(), request.getDeferrals());
+                failed.addAll(throttled);
+            } else {
+                try {
+                    emailQueueProducer.sendToDelay(request.forRecipients(throttled).forDeferredEmail());
+                } catch (AmqpException e) {
+                    log.error("이메일 지연 큐 전송 실패 : traceId={}, recipients={}", request.getTraceId(), recipientCount(request), e);
+                    failed.addAll(throttled);
+                }
+            }
+        }
+
+        if (failed.isEmpty()) {
+            return true;
+        }
+        try {
+            emailQueueProducer.sendToDeadLetter(request.forRecipients(failed).forRetry(List.of(), false));
+            return true;
+        } catch (AmqpException e) {
+            log.error("실패한 이메일 수신자 DLQ 전송 실패 : traceId={}, failed={}", request.getTraceId(), failed.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 여러 수신자(bcc)에게 보내는 요청인지 확인합니다.
+     */
+    private static boolean hasBcc(EmailRequest request) {
+        return request.getBcc() != null && !request.getBcc().isEmpty();
+    }
+
+    /**
+     * 로그에 남길 이메일 수신자 수를 반환합니다. 수신자 목록이 길 수 있으므로 요청 전체를 로그에 남기지 않습니다.
+     */
+    private static int recipientCount(EmailRequest request) {
+        return request.envelopeRecipients().size();
+    }
+
+    /**
+     * 이메일 형식이 "HTML", "TEXT" 또는 지정되지 않은(null) 경우가 아니면 예외를 던집니다.
+     * 알 수 없는 형식을 텍스트로 바꾸어 발송하지 않고 메시지를 DLQ로 보내기 위해 사용합니다.
+     */
+    private void requireSupportedType(EmailRequest request) {
+        String type = request.getType();
+        if (type != null && !"HTML".equals(type) && !"TEXT".equals(type)) {
+            throw new IllegalArgumentException("지원하지 않는 이메일 형식입니다 : " + type);
+        }
+    }
+
+    /**
+     * 요청 형식에 맞는 이메일을 발송합니다.
+     * 형식이 지정되지 않은 요청은 텍스트 이메일로 발송합니다.
+     */
+    private void sendEmail(EmailRequest request) throws MessagingException {
+        if ("HTML".equals(request.getType())) {
+            // 이메일로 HTML 메시지 전송
+            emailService.sendHtmlEmail(request);
+        } else if (request.getType() == null || "TEXT".equals(request.getType())) {
+            // 이메일로 텍스트 메시지 전송
+            emailService.sendTextEmail(request);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 이메일 형식입니다 : " + request.getType());
+        }
+    }
+
+    /**
+     * 실패한 수신자와 이메일 발송 여부만 담은 복사본을 DLQ로 보냅니다.
+     * 원본 메시지는 정상 처리되므로, 이미 저장된 수신자의 알림은 재처리 시 중복 저장되지 않습니다.
+     * DLQ 전송에 실패하면 예외를 던져 원본 메시지 전체를 DLQ로 이동시킵니다.
+     */
+    private void deadLetterFailedRecipients(EmailRequest request, FanOutResult result, boolean emailSent) {
+        log.error("일부 수신자 처리 실패 : traceId={}, failed={}/{}, emailSent={}",
+                request.getTraceId(), result.failedRecipients().size(), result.recipients(), emailSent, result.firstFailure());
+        emailQueueProducer.sendToDeadLetter(request.forRetry(result.failedRecipients(), emailSent));
+    }
 }
@@ -1,12 +1,32 @@
 package com.nhnacademy.notifyservice.controller;
 
+import com.nhnacademy.notifyservice.async.NotificationQueryExecutor;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import com.nhnacademy.notifyservice.longpoll.NotificationWaiterRegistry;
 import com.nhnacademy.notifyservice.service.NotificationService;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 실시간 알림 서비스의 REST API 엔드포인트를 제공하는 컨트롤러 클래스입니다.
@@ -17,10 +37,19 @@ import org.springframework.web.bind.annotation.RestController;
  * <li>읽지 않은 알림 개수 조회</li>
  * <li>알림 읽음 처리</li>
  * <li>알림 히스토리 조회</li>
+ * <li>읽지 않은 개수/요약 SSE 스트림</li>
+ * <li>읽지 않은 개수 롱 폴링</li>
  * </ul>
  *
  * <p>모든 API는 HTTP 헤더의 'X-USER'를 통해 사용자 이메일을 전달받아 인증 및 권한 처리를 수행합니다.</p>
  *
+ * <p>읽지 않은 개수와 히스토리 조회는 회원별 알림 변경 버전을 ETag로 반환합니다.
+ * 클라이언트가 {@code If-None-Match}로 같은 ETag를 보내면 알림 테이블을 읽지 않고 304로 응답합니다.</p>
+ *
+ * <p>폴링이 잦은 읽지 않은 개수와 히스토리 조회는 {@code /async} 변형도 제공합니다.
+ * 비동기 변형은 조회를 {@link NotificationQueryExecutor}에 맡기고 요청 스레드를 바로 반환하며,
+ * 조회 대기열이 가득 차거나 {@code notification.web.async.timeout}을 넘기면 503을 반환합니다.</p>
+ *
  * @see NotificationService
  */
 @RestController
@@ -33,6 +62,27 @@ public class NotificationController {
      */
     private final NotificationService notificationService;
 
+    /**
+     * 비동기 엔드포인트의 조회를 실행하는 실행기입니다.
+     */
+    private final NotificationQueryExecutor notificationQueryExecutor;
+
+    /**
+     * SSE 배지 스트림 연결을 관리하는 레지스트리입니다.
+     */
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
+    /**
+     * 롱 폴링 요청을 회원별로 대기시키는 레지스트리입니다.
+     */
+    private final NotificationWaiterRegistry notificationWaiterRegistry;
+
+    /**
+     * 비동기 엔드포인트가 조회 결과를 기다리는 최대 시간(ms)입니다.
+     */
+    @Value("${notification.web.async.timeout:10000}")
+    private long asyncTimeoutMillis;
+
     /**
      * 사용자의 이메일을 기반으로 해당 사용자의 역할(Role)을 조회합니다.
      *
@@ -53,14 +103,20 @@ public class NotificationController {
      *
      * 이 API는 사용자 인터페이스에서 알림 배지나 카운터를 표시하기 위해 사용됩니다.
      * 실시간으로 업데이트되는 읽지 않은 알림 개수를 제공하여 사용자 경험을 향상시킵니다.
+     * {@code If-None-Match}가 현재 알림 변경 버전과 같으면 개수를 조회하지 않고 304를 반환합니다.
      *
      * @param userEmail HTTP 헤더 'X-USER'에서 전달받은 사용자 이메일 주소
-     * @return ResponseEntity 읽지 않은 알림의 개수를 포함한 응답 객체
+     * @param webRequest 조건부 요청 헤더를 확인할 요청
+     * @return ResponseEntity 읽지 않은 알림의 개수를 포함한 응답 객체, 변경이 없으면 null (304)
      * @throws IllegalArgumentException userEmail이 null이거나 빈 문자열인 경우
      */
     @GetMapping("/unread/count")
-    public ResponseEntity<?> getNotificationUnreadCount(@RequestHeader("X-USER") String userEmail) {
-        return ResponseEntity.ok(notificationService.getNotificationUnreadCount(userEmail));
+    public ResponseEntity<?> getNotificationUnreadCount(@RequestHeader("X-USER") String userEmail, WebRequest webRequest) {
+        String eTag = notificationETag(userEmail);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return revalidated(eTag).body(notificationService.getNotificationUnreadCount(userEmail));
     }
 
     /**
@@ -86,13 +142,188 @@ public class NotificationController {
      * 사용자가 받은 모든 알림(읽음/미읽음 포함)의 목록을 시간순으로 정렬하여 반환합니다.
      * 알림 내용, 발송 시간, 읽음 상태 등의 상세 정보를 포함하여
      * 사용자가 과거 알림을 확인할 수 있도록 합니다.
+     * {@code If-None-Match}가 현재 알림 변경 버전과 같으면 히스토리를 조회하지 않고 304를 반환합니다.
      *
      * @param userEmail HTTP 헤더 'X-USER'에서 전달받은 사용자 이메일 주소
-     * @return ResponseEntity 사용자의 알림 히스토리 목록을 포함한 응답 객체
+     * @param webRequest 조건부 요청 헤더를 확인할 요청
+     * @return ResponseEntity 사용자의 알림 히스토리 목록을 포함한 응답 객체, 변경이 없으면 null (304)
      * @throws IllegalArgumentException userEmail이 null이거나 빈 문자열인 경우
      */
     @GetMapping("/history")
-    public ResponseEntity<?> getHistoryNotification(@RequestHeader("X-USER") String userEmail) {
-        return ResponseEntity.ok(notificationService.getHistoryNotification(userEmail));
+    public ResponseEntity<?> getHistoryNotification(@RequestHeader("X-USER") String userEmail, WebRequest webRequest) {
+        String eTag = notificationETag(userEmail);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return revalidated(eTag).body(notificationService.getHistoryNotification(userEmail));
+    }
+
+    /**
+     * 읽지 않은 알림 개수를 비동기로 조회합니다.
+     *
+     * {@link #getNotificationUnreadCount(String, WebRequest)}와 같은 값을 반환하지만, 조회가 끝날 때까지 요청 스레드를 점유하지 않습니다.
+     *
+     * @param userEmail HTTP 헤더 'X-USER'에서 전달받은 사용자 이메일 주소
+     * @return 읽지 않은 알림의 개수, 조회 대기열이 가득 차거나 시간 초과 시 503
+     */
+    @GetMapping("/unread/count/async")
+    public CompletableFuture<ResponseEntity<Long>> getNotificationUnreadCountAsync(@RequestHeader("X-USER") String userEmail) {
+        return notificationQueryExecutor.supply(() -> notificationService.getNotificationUnreadCount(userEmail))
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(NotificationController::serviceUnavailableIfRejected)
+                .completeOnTimeout(serviceUnavailable(), asyncTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 알림 메시지 히스토리를 비동기로 조회합니다.
+     *
+     * {@link #getHistoryNotification(String, WebRequest)}와 같은 목록을 반환하지만, 조회가 끝날 때까지 요청 스레드를 점유하지 않습니다.
+     *
+     * @param userEmail HTTP 헤더 'X-USER'에서 전달받은 사용자 이메일 주소
+     * @return 사용자의 알림 히스토리 목록, 조회 대기열이 가득 차거나 시간 초과 시 503
+     */
+    @GetMapping("/history/async")
+    public DeferredResult<ResponseEntity<List<NotificationMessageDto>>> getHistoryNotificationAsync(@RequestHeader("X-USER") String userEmail) {
+        DeferredResult<ResponseEntity<List<NotificationMessageDto>>> result =
+                new DeferredResult<>(asyncTimeoutMillis, serviceUnavailable());
+
+        notificationQueryExecutor.supply(() -> notificationService.getHistoryNotification(userEmail))
+                .whenComplete((history, e) -> {
+                    if (e == null) {
+                        result.setResult(ResponseEntity.ok(history));
+                    } else if (unwrap(e) instanceof RejectedExecutionException) {
+                        result.setResult(serviceUnavailable());
+                    } else {
+                        result.setErrorResult(unwrap(e));
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * 읽지 않은 알림 개수가 바뀔 때까지 기다렸다가 반환합니다 (롱 폴링).
+     *
+     * WebSocket을 유지할 수 없는 클라이언트를 위한 엔드포인트로, 마지막으로 받은 ETag({@code If-None-Match})나
+     * 개수({@code count})를 보내면 현재 값과 같은 동안 요청을 대기시킵니다.
+     * 알림 저장이나 읽음 처리가 커밋되면 즉시 새 개수와 ETag를 반환하고,
+     * {@code notification.long-poll.timeout} 동안 변경이 없으면 304를 반환합니다. 클라이언트는 응답을 받는 즉시 다시 요청합니다.
+     * 둘 다 보내지 않거나 이미 값이 다르면 바로 현재 개수를 반환합니다.
+     *
+     * @param userEmail HTTP 헤더 'X-USER'에서 전달받은 사용자 이메일 주소
+     * @param ifNoneMatch 클라이언트가 마지막으로 받은 ETag
+     * @param knownCount 클라이언트가 마지막으로 받은 읽지 않은 알림 개수
+     * @return 읽지 않은 알림의 개수, 변경 없이 시간 초과 시 304, 대기 요청 수 제한을 넘거나 조회 대기열이 가득 차면 503
+     */
+    @GetMapping("/unread/count/wait")
+    public DeferredResult<ResponseEntity<Long>> waitNotificationUnreadCount(@RequestHeader("X-USER") String userEmail,
+                                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                             @RequestParam(value = "count", required = false) Long knownCount) {
+        DeferredResult<ResponseEntity<Long>> result = new DeferredResult<>(notificationWaiterRegistry.getTimeoutMillis(),
+                ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        // 변경 신호는 커밋한 스레드에서 오므로 조회는 조회 실행기에 위임
+        Runnable onChange = () -> notificationQueryExecutor.supply(() -> unreadCountResponse(userEmail))
+                .whenComplete((response, e) -> {
+                    if (e == null) {
+                        result.setResult(response);
+                    } else if (unwrap(e) instanceof RejectedExecutionException) {
+                        result.setResult(serviceUnavailable());
+                    } else {
+                        result.setErrorResult(unwrap(e));
+                    }
+                });
+        if (!notificationWaiterRegistry.register(userEmail, result, onChange)) {
+            result.setResult(serviceUnavailable());
+            return result;
+        }
+
+        // 등록한 뒤 현재 값을 확인해야 등록 전에 커밋된 변경을 놓치지 않음
+        ResponseEntity<Long> current = unreadCountResponse(userEmail);
+        if (!isUnchanged(current, ifNoneMatch, knownCount)) {
+            result.setResult(current);
+        }
+        return result;
+    }
+
+    /**
+     * 읽지 않은 알림 개수와 새 알림 요약을 Server-Sent Events로 구독합니다.
+     *
+     * 배지만 표시하는 클라이언트를 위한 SockJS/STOMP의 경량 대안으로, 연결 직후 현재 개수를 {@code unread-count}
+     * 이벤트로 보내고 이후 새 알림마다 {@code summary}, {@code unread-count} 이벤트를 보냅니다.
+     * 연결 유지를 위해 주기적으로 SSE 주석(heartbeat)을 보냅니다.
+     *
+     * @param userEmail HTTP 헤더 'X-USER'에서 전달받은 사용자 이메일 주소
+     * @return SSE 스트림
+     * @throws ResponseStatusException 연결 수 제한을 넘은 경우 (503)
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader("X-USER") String userEmail) {
+        return notificationStreamRegistry.open(userEmail, notificationService.getNotificationUnreadCount(userEmail))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "too many notification streams"));
+    }
+
+    /**
+     * 회원별 알림 변경 버전으로 ETag를 만듭니다.
+     * 본문보다 먼저 조회하므로, 조회 사이에 알림이 바뀌어도 ETag가 본문보다 새 버전을 가리키지 않습니다.
+     *
+     * @param userEmail 사용자 이메일 주소
+     * @return ETag, 요약 행이 없으면 null
+     */
+    private String notificationETag(String userEmail) {
+        return notificationService.findNotificationVersion(userEmail)
+                .map(NotificationController::eTagOf)
+                .orElse(null);
+    }
+
+    private static String eTagOf(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * 방금 커밋된 값을 기준으로 읽지 않은 개수 응답을 만듭니다.
+     * 요약 행이 있으면 버전과 개수를 한 행에서 함께 읽고, 없으면 ETag 없이 개수만 반환합니다.
+     */
+    private ResponseEntity<Long> unreadCountResponse(String userEmail) {
+        return notificationService.findUnreadState(userEmail)
+                .map(state -> revalidated(eTagOf(state.version())).body(state.unreadCount()))
+                .orElseGet(() -> revalidated(null).body(notificationService.getNotificationUnreadCount(userEmail)));
+    }
+
+    /**
+     * 클라이언트가 마지막으로 받은 값과 현재 값이 같은지 확인합니다.
+     * ETag를 비교할 수 있으면 ETag로, 아니면 개수로 비교합니다.
+     */
+    private static boolean isUnchanged(ResponseEntity<Long> current, String ifNoneMatch, Long knownCount) {
+        String eTag = current.getHeaders().getETag();
+        if (ifNoneMatch != null && eTag != null) {
+            return ifNoneMatch.equals(eTag);
+        }
+        return knownCount != null && knownCount.equals(current.getBody());
+    }
+
+    /**
+     * 매 요청마다 ETag로 재검증하도록 하는 200 응답을 만듭니다.
+     * 사용자별 응답이므로 공유 캐시에는 저장하지 않습니다.
+     */
+    private static ResponseEntity.BodyBuilder revalidated(String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy("X-USER");
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+
+    private static <T> ResponseEntity<T> serviceUnavailableIfRejected(Throwable e) {
+        if (unwrap(e) instanceof RejectedExecutionException) {
+            return serviceUnavailable();
+        }
+        throw e instanceof CompletionException completionException ? completionException : new CompletionException(e);
+    }
+
+    private static <T> ResponseEntity<T> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 }
@@ -0,0 +1,30 @@
+package com.nhnacademy.notifyservice.delivery;
+
+/**
+ * 한 수신자에 대한 알림 저장/전송 방식을 나타내는 결정 결과입니다.
+ *
+ * @param markRead 알림을 저장할 때 즉시 읽음 처리할지 여부
+ * @param pushUnreadCount 읽지 않은 알림 개수 업데이트 프레임 전송 여부
+ * @param pushPopup 팝업 메시지 프레임 전송 여부
+ * @param pushContent 알림 페이지용 본문 프레임 전송 여부
+ */
+public record DeliveryDecision(
+        boolean markRead,
+        boolean pushUnreadCount,
+        boolean pushPopup,
+        boolean pushContent) {
+
+    /**
+     * 접속하지 않은 수신자에게 적용되는 결정입니다. 저장만 하고 아무 프레임도 전송하지 않습니다.
+     */
+    public static final DeliveryDecision STORE_ONLY = new DeliveryDecision(false, false, false, false);
+
+    /**
+     * 하나 이상의 STOMP 프레임을 전송해야 하는지 여부를 반환합니다.
+     *
+     * @return 전송할 프레임이 있으면 true
+     */
+    public boolean hasPush() {
+        return pushUnreadCount || pushPopup || pushContent;
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.notifyservice.delivery;
+
+/**
+ * 알림 이벤트를 수신자에게 어떻게 저장하고 전송할지 결정하는 정책 인터페이스입니다.
+ *
+ * 구현체는 Spring 컨텍스트 없이 단위 테스트할 수 있어야 하며,
+ * 수신자마다 호출되므로 문자열 검색이나 I/O 없이 미리 계산된 값만으로 판단해야 합니다.
+ *
+ * @see PresenceDeliveryPolicy
+ * @see DeliveryPolicyRegistry
+ */
+public interface DeliveryPolicy {
+
+    /**
+     * 수신자에 대한 저장/전송 방식을 결정합니다.
+     *
+     * @param event 이벤트 단위로 미리 계산된 알림 데이터
+     * @param recipientEmail 수신자 이메일 주소
+     * @param sessionCount 수신자의 현재 활성 STOMP 세션 수
+     * @return 저장/전송 결정 결과
+     */
+    DeliveryDecision decide(NotificationEvent event, String recipientEmail, int sessionCount);
+
+    /**
+     * STOMP 세션 없이 SSE 배지 리스너만 연결된 수신자에 대한 저장/전송 방식을 결정합니다.
+     * 배지 리스너는 알림 페이지를 보고 있지 않으므로 읽음 처리와 본문 프레임은 결정에 포함하지 않습니다.
+     *
+     * @param event 이벤트 단위로 미리 계산된 알림 데이터
+     * @param recipientEmail 수신자 이메일 주소
+     * @return 개수/팝업 프레임만 전송하는 결정
+     */
+    DeliveryDecision decideBadge(NotificationEvent event, String recipientEmail);
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.notifyservice.delivery;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 전송 정책 관련 빈을 등록하는 Configuration 클래스입니다.
+ * {@link DeliveryPolicyProperties}의 형식별 설정으로 {@link DeliveryPolicyRegistry}를 구성합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(DeliveryPolicyProperties.class)
+public class DeliveryPolicyConfig {
+
+    @Bean
+    public DeliveryPolicyRegistry deliveryPolicyRegistry(DeliveryPolicyProperties properties) {
+        Map<String, DeliveryPolicy> typeToPolicyMap = new HashMap<>();
+        properties.getPolicies().forEach((type, settings) -> typeToPolicyMap.put(type, settings.toPolicy()));
+
+        return new DeliveryPolicyRegistry(typeToPolicyMap, properties.getDefaults().toPolicy());
+    }
+}
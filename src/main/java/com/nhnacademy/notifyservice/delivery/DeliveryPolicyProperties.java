@@ -0,0 +1,56 @@
+package com.nhnacademy.notifyservice.delivery;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 전송 정책 설정 프로퍼티입니다.
+ *
+ * <pre>
+ * notification.delivery.defaults.read-session-threshold=2
+ * notification.delivery.policies.TEXT.popup-enabled=false
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.delivery")
+public class DeliveryPolicyProperties {
+
+    /**
+     * 형식별 설정이 없을 때 적용되는 기본 정책 설정입니다.
+     */
+    private PolicySettings defaults = new PolicySettings();
+
+    /**
+     * 이벤트 형식("HTML", "TEXT")별 정책 설정입니다.
+     */
+    private Map<String, PolicySettings> policies = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class PolicySettings {
+
+        /**
+         * 이 값 이상의 세션이 열려 있으면 알림을 즉시 읽음 처리합니다. 0 이하이면 자동 읽음 처리하지 않습니다.
+         */
+        private int readSessionThreshold = 2;
+
+        /**
+         * 팝업 메시지 전송 여부입니다.
+         */
+        private boolean popupEnabled = true;
+
+        /**
+         * 수신자 본인이 발생시킨 이벤트의 팝업을 생략할지 여부입니다.
+         */
+        private boolean suppressSelfAuthoredPopup = true;
+
+        PresenceDeliveryPolicy toPolicy() {
+            return new PresenceDeliveryPolicy(readSessionThreshold, popupEnabled, suppressSelfAuthoredPopup);
+        }
+    }
+}
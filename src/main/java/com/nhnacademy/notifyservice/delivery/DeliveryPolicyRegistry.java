@@ -0,0 +1,34 @@
+package com.nhnacademy.notifyservice.delivery;
+
+import java.util.Map;
+
+/**
+ * 이벤트 형식("HTML", "TEXT" 등)별 전송 정책을 보관하고 조회하는 레지스트리입니다.
+ * 형식별 정책이 없으면 기본 정책을 반환합니다.
+ *
+ * @see DeliveryPolicyConfig
+ */
+public class DeliveryPolicyRegistry {
+
+    private final Map<String, DeliveryPolicy> typeToPolicyMap;
+
+    private final DeliveryPolicy defaultPolicy;
+
+    public DeliveryPolicyRegistry(Map<String, DeliveryPolicy> typeToPolicyMap, DeliveryPolicy defaultPolicy) {
+        this.typeToPolicyMap = Map.copyOf(typeToPolicyMap);
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    /**
+     * 이벤트 형식에 해당하는 전송 정책을 반환합니다.
+     *
+     * @param type 이벤트 형식
+     * @return 형식별 정책, 없으면 기본 정책
+     */
+    public DeliveryPolicy getPolicy(String type) {
+        if (type == null) {
+            return defaultPolicy;
+        }
+        return typeToPolicyMap.getOrDefault(type, defaultPolicy);
+    }
+}
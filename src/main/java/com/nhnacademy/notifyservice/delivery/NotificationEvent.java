@@ -0,0 +1,51 @@
+package com.nhnacademy.notifyservice.delivery;
+
+import java.util.Set;
+
+/**
+ * 하나의 알림 이벤트(큐 메시지)에 대해 수신자와 무관하게 한 번만 계산되는 데이터입니다.
+ *
+ * 관리자 수만큼 반복되는 수신자 루프에서 HTML 변환, 요약 생성, 본문 문자열 검색이
+ * 반복되지 않도록 이벤트 단위로 미리 계산해 둡니다.
+ *
+ * @param type 메시지 형식 ("HTML" 또는 "TEXT")
+ * @param roleType 알림 대상 역할 ("ROLE_ADMIN" 또는 "ROLE_ALL")
+ * @param formattedContent 알림 페이지에 저장/전송할 본문 (HTML인 경우 관리자용 구조화 텍스트)
+ * @param summary 팝업으로 전송할 요약 메시지
+ * @param mentionedEmails 원본 본문에 등장하는 이메일 주소 집합 (본인 작성 여부 판별용)
+ * @param bodyId 본문을 한 번만 저장한 경우 공유 본문 id, 수신자마다 본문을 저장하면 null
+ */
+public record NotificationEvent(
+        String type,
+        String roleType,
+        String formattedContent,
+        String summary,
+        Set<String> mentionedEmails,
+        Long bodyId) {
+
+    public NotificationEvent(String type, String roleType, String formattedContent, String summary,
+                             Set<String> mentionedEmails) {
+        this(type, roleType, formattedContent, summary, mentionedEmails, null);
+    }
+
+    /**
+     * 저장한 공유 본문 id를 가진 이벤트를 반환합니다.
+     *
+     * @param bodyId 공유 본문 id
+     * @return 공유 본문을 참조하는 이벤트
+     */
+    public NotificationEvent withBodyId(Long bodyId) {
+        return new NotificationEvent(type, roleType, formattedContent, summary, mentionedEmails, bodyId);
+    }
+
+    /**
+     * 수신자가 이 이벤트를 직접 발생시켰는지 여부를 반환합니다.
+     * 본문을 다시 검색하지 않고 미리 추출한 이메일 집합에서 조회합니다.
+     *
+     * @param recipientEmail 수신자 이메일 주소
+     * @return 본문에 수신자 이메일이 포함되어 있으면 true
+     */
+    public boolean isAuthoredBy(String recipientEmail) {
+        return mentionedEmails.contains(recipientEmail);
+    }
+}
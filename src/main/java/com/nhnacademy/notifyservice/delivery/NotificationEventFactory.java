@@ -0,0 +1,67 @@
+package com.nhnacademy.notifyservice.delivery;
+
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.util.HtmlTextConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 큐에서 수신한 {@link EmailRequest}로부터 {@link NotificationEvent}를 생성하는 컴포넌트입니다.
+ *
+ * HTML 변환, 팝업 요약 생성, 본문 내 이메일 추출처럼 비용이 큰 작업을
+ * 수신자 수와 무관하게 이벤트당 한 번만 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventFactory {
+
+    /**
+     * 팝업 요약 메시지의 최대 길이입니다.
+     */
+    private static final int SUMMARY_MAX_LENGTH = 150;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+
+    private final HtmlTextConverter htmlTextConverter;
+
+    /**
+     * 알림 이벤트를 생성합니다.
+     *
+     * @param request 큐에서 수신한 요청
+     * @return 이벤트 단위로 미리 계산된 알림 데이터
+     */
+    public NotificationEvent create(EmailRequest request) {
+        String content = request.getContent();
+        String formattedContent = content;
+        String summary = null;
+
+        if ("HTML".equals(request.getType())) {
+            // HTML인 경우 관리자가 보기 편한 형태로 저장하고, 팝업용 요약을 생성
+            formattedContent = htmlTextConverter.convertToAdminNotification(content);
+            summary = htmlTextConverter.createAdminSummary(content, SUMMARY_MAX_LENGTH);
+        } else if ("TEXT".equals(request.getType())) {
+            summary = content;
+        }
+
+        return new NotificationEvent(request.getType(), request.getRoleType(), formattedContent, summary,
+                extractEmails(content));
+    }
+
+    private Set<String> extractEmails(String content) {
+        if (content == null || content.indexOf('@') < 0) {
+            return Set.of();
+        }
+
+        Set<String> emails = new HashSet<>();
+        Matcher matcher = EMAIL_PATTERN.matcher(content);
+        while (matcher.find()) {
+            emails.add(matcher.group());
+        }
+        return Set.copyOf(emails);
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.notifyservice.delivery;
+
+/**
+ * 수신자의 접속 상태(활성 세션 수)를 기준으로 알림 전송 방식을 결정하는 기본 정책입니다.
+ *
+ * <p>결정 규칙:</p>
+ * <ul>
+ * <li>세션 수가 {@code readSessionThreshold} 이상이면 알림 페이지를 보고 있는 것으로 간주하여 즉시 읽음 처리</li>
+ * <li>접속 중이고 읽음 처리되지 않은 경우 읽지 않은 알림 개수와 팝업 메시지 전송</li>
+ * <li>본인이 발생시킨 이벤트의 팝업은 전송하지 않음 ({@code suppressSelfAuthoredPopup})</li>
+ * <li>접속 중이면 항상 알림 페이지용 본문 전송</li>
+ * <li>SSE 배지 리스너만 연결된 경우 세션 수와 관계없이 읽음 처리하지 않고 개수와 팝업만 전송</li>
+ * </ul>
+ *
+ * {@code readSessionThreshold}가 0 이하이면 자동 읽음 처리를 하지 않습니다.
+ */
+public class PresenceDeliveryPolicy implements DeliveryPolicy {
+
+    private final int readSessionThreshold;
+
+    private final boolean popupEnabled;
+
+    private final boolean suppressSelfAuthoredPopup;
+
+    public PresenceDeliveryPolicy(int readSessionThreshold, boolean popupEnabled, boolean suppressSelfAuthoredPopup) {
+        this.readSessionThreshold = readSessionThreshold;
+        this.popupEnabled = popupEnabled;
+        this.suppressSelfAuthoredPopup = suppressSelfAuthoredPopup;
+    }
+
+    @Override
+    public DeliveryDecision decide(NotificationEvent event, String recipientEmail, int sessionCount) {
+        if (sessionCount <= 0) {
+            return DeliveryDecision.STORE_ONLY;
+        }
+
+        boolean markRead = readSessionThreshold > 0 && sessionCount >= readSessionThreshold;
+        boolean pushPopup = !markRead && popupAllowed(event, recipientEmail);
+
+        return new DeliveryDecision(markRead, !markRead, pushPopup, true);
+    }
+
+    @Override
+    public DeliveryDecision decideBadge(NotificationEvent event, String recipientEmail) {
+        return new DeliveryDecision(false, true, popupAllowed(event, recipientEmail), false);
+    }
+
+    private boolean popupAllowed(NotificationEvent event, String recipientEmail) {
+        return popupEnabled
+                && event.summary() != null
+                && !(suppressSelfAuthoredPopup && event.isAuthoredBy(recipientEmail));
+    }
+}
@@ -0,0 +1,282 @@
+package com.nhnacademy.notifyservice.digest;
+
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.producer.EmailQueueProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 요약(digest) 모드 수신자의 이메일을 수신자별로 모았다가 시간 창마다 한 통으로 보내는 컴포넌트입니다.
+ *
+ * 예약이 몰리는 시간에는 관리자가 거의 같은 이메일을 수백 통씩 받습니다.
+ * 요약 모드({@link NotificationDigestProperties})인 수신자의 이메일은 바로 발송하지 않고 수신자별 버퍼에 모은 뒤,
+ * 첫 이메일부터 {@code window}가 지나거나 {@code max-entries}개가 모이면 이벤트 요약({@link NotificationEvent#summary()})을
+ * 나열한 텍스트 이메일 한 통을 이메일만 다시 발송하는 요청으로 원본 큐에 넣습니다 (발송 속도 제한을 거침).
+ * 버퍼에 이메일이 하나뿐이면 요약하지 않고 원래 이메일을 그대로 보냅니다.
+ *
+ * 알림은 요약하지 않고 소비자가 바로 저장합니다. 버퍼는 인스턴스 메모리에 있으므로 정상 종료 시에는 남은 버퍼를 모두 보내지만,
+ * 비정상 종료되면 아직 보내지 않은 요약 이메일은 유실됩니다 (알림은 이미 저장됨).
+ * 요약을 큐에 넣지 못하면 같은 요청을 DLQ로 보내고, DLQ 전송도 실패하면 버퍼에 되돌려 다음 주기에 다시 보냅니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.digest.buffered} - 요약으로 모은 이메일 수</li>
+ * <li>{@code notification.digest.flushed} - 보낸 요약 수 (outcome: success, dead-lettered, retried)</li>
+ * <li>{@code notification.digest.pending} - 아직 보내지 않은 이메일 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationDigestAggregator {
+
+    /**
+     * 요약을 큐에 넣지 못해 DLQ로 보낸 경우의 결과 태그입니다.
+     */
+    static final String OUTCOME_DEAD_LETTERED = "dead-lettered";
+
+    /**
+     * DLQ 전송도 실패해 버퍼에 되돌린 경우의 결과 태그입니다.
+     */
+    static final String OUTCOME_RETRIED = "retried";
+
+    private final NotificationDigestProperties properties;
+
+    private final EmailQueueProducer emailQueueProducer;
+
+    private final NotificationMetrics notificationMetrics;
+
+    private final LongSupplier clock;
+
+    /**
+     * 이메일 수신자별 이메일 버퍼입니다.
+     */
+    private final Map<String, DigestBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter bufferedCounter;
+
+    @Autowired
+    public NotificationDigestAggregator(NotificationDigestProperties properties, EmailQueueProducer emailQueueProducer,
+                                        NotificationMetrics notificationMetrics) {
+        this(properties, emailQueueProducer, notificationMetrics, System::currentTimeMillis);
+    }
+
+    NotificationDigestAggregator(NotificationDigestProperties properties, EmailQueueProducer emailQueueProducer,
+                                 NotificationMetrics notificationMetrics, LongSupplier clock) {
+        if (properties.getMaxEntries() <= 0) {
+            throw new IllegalArgumentException("max entries must be positive.");
+        }
+        this.properties = properties;
+        this.emailQueueProducer = emailQueueProducer;
+        this.notificationMetrics = notificationMetrics;
+        this.clock = clock;
+
+        this.bufferedCounter = Counter.builder("notification.digest.buffered")
+                .description("요약으로 모은 이메일 수")
+                .register(notificationMetrics.getMeterRegistry());
+        Gauge.builder("notification.digest.pending", pending, AtomicInteger::get)
+                .description("아직 보내지 않은 요약 대상 이메일 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 요청을 요약으로 모을 수 있는지 확인합니다.
+     * 재처리/지연/요약 발송 요청처럼 일부만 다시 처리하는 요청({@code retryRecipients != null})은 모으지 않습니다.
+     *
+     * @param request 큐에서 수신한 요청
+     * @return 처음 처리하는 요청이고 요약 모드를 사용하면 true
+     */
+    public boolean accepts(EmailRequest request) {
+        return properties.isEnabled() && request.getRetryRecipients() == null;
+    }
+
+    /**
+     * 수신자가 요약 모드인지 확인합니다.
+     *
+     * @param roleName 요청의 roleType
+     * @param email 이메일 수신자
+     * @return 역할 또는 수신자가 요약 모드로 설정되어 있으면 true
+     */
+    public boolean isDigestRecipient(String roleName, String email) {
+        return properties.isEnabled()
+                && (properties.getRoles().contains(roleName) || properties.getMembers().contains(email));
+    }
+
+    /**
+     * 이메일 수신자의 이메일 버퍼에 요청을 추가합니다.
+     *
+     * @param request 이메일 발송 요청
+     * @param event 이벤트 단위로 미리 계산된 알림 데이터 (요약 문구에 사용)
+     */
+    public void bufferEmail(EmailRequest request, NotificationEvent event) {
+        bufferedCounter.increment();
+        pending.incrementAndGet();
+        DigestBuffer[] full = new DigestBuffer[1];
+        // compute 안에서 추가/제거하므로 보내는 중인 버퍼에 이메일이 추가되지 않음
+        buffers.compute(keyOf(request.getTo()), (k, buffer) -> {
+            DigestBuffer target = buffer == null ? new DigestBuffer(clock.getAsLong(), request.getTo()) : buffer;
+            target.entries.add(new Entry(request, event));
+            if (target.entries.size() >= properties.getMaxEntries()) {
+                full[0] = target;
+                return null;
+            }
+            return target;
+        });
+
+        if (full[0] != null) {
+            send(full[0]);
+        }
+    }
+
+    /**
+     * 시간 창이 끝난 버퍼를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval:5000}")
+    public void flushDue() {
+        flush(clock.getAsLong() - properties.getWindow().toMillis());
+    }
+
+    /**
+     * 종료 시 남은 버퍼를 모두 보냅니다. 이때 DLQ 전송까지 실패한 요약은 다시 보낼 기회가 없으므로 유실됩니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        flush(Long.MAX_VALUE);
+        if (pending.get() > 0) {
+            log.error("종료 시 보내지 못한 알림 요약 이메일 유실 : entries={}", pending.get());
+        }
+    }
+
+    /**
+     * 아직 보내지 않은 이메일 수를 반환합니다.
+     *
+     * @return 버퍼에 있는 이메일 수
+     */
+    int pendingCount() {
+        return pending.get();
+    }
+
+    private void flush(long dueBefore) {
+        for (String key : buffers.keySet()) {
+            DigestBuffer[] due = new DigestBuffer[1];
+            buffers.computeIfPresent(key, (k, buffer) -> {
+                if (buffer.openedAt <= dueBefore) {
+                    due[0] = buffer;
+                    return null;
+                }
+                return buffer;
+            });
+            if (due[0] != null) {
+                send(due[0]);
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 이메일을 큐에 넣습니다. 실패하면 DLQ로 보내고, DLQ 전송도 실패하면 버퍼에 되돌립니다.
+     */
+    private void send(DigestBuffer buffer) {
+        List<Entry> entries = buffer.entries;
+        pending.addAndGet(-entries.size());
+        EmailRequest request = entries.size() == 1
+                ? entries.get(0).request().forRetry(List.of(), false)
+                : digestEmail(buffer.to, entries);
+        String outcome = NotificationMetrics.OUTCOME_SUCCESS;
+        try {
+            emailQueueProducer.sendEmailOnly(request);
+        } catch (AmqpException e) {
+            log.error("알림 요약 전송 실패, DLQ로 이동 : recipient={}, entries={}", buffer.to, entries.size(), e);
+            outcome = deadLetter(buffer, request);
+        }
+        notificationMetrics.counter("notification.digest.flushed", "보낸 알림 요약 수", "outcome", outcome).increment();
+    }
+
+    private String deadLetter(DigestBuffer buffer, EmailRequest request) {
+        try {
+            emailQueueProducer.sendToDeadLetter(request);
+            return OUTCOME_DEAD_LETTERED;
+        } catch (AmqpException e) {
+            log.error("알림 요약 DLQ 전송 실패, 다음 주기에 다시 전송 : recipient={}, entries={}",
+                    buffer.to, buffer.entries.size(), e);
+            restore(buffer);
+            return OUTCOME_RETRIED;
+        }
+    }
+
+    /**
+     * 보내지 못한 버퍼를 되돌립니다. 그사이 같은 수신자의 새 버퍼가 생겼으면 앞에 합치고 처음 시각을 유지합니다.
+     */
+    private void restore(DigestBuffer failed) {
+        pending.addAndGet(failed.entries.size());
+        buffers.merge(keyOf(failed.to), failed, (current, restored) -> {
+            restored.entries.addAll(current.entries);
+            return restored;
+        });
+    }
+
+    private static String keyOf(String to) {
+        return to.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 모은 요청을 요약한 텍스트 이메일을 만듭니다. 이메일만 다시 발송하는 요청이므로 알림은 저장하지 않습니다.
+     */
+    static EmailRequest digestEmail(String to, List<Entry> entries) {
+        // 가장 먼저 모은 요청의 trace id와 큐 적재 시각을 이어받아 원래 이벤트와 전체 지연 시간을 추적
+        EmailRequest first = entries.get(0).request();
+        return new EmailRequest(to, "[알림 요약] 새 알림 " + entries.size() + "건", digestContent(entries),
+                first.getRoleType(), "TEXT", first.getTraceId(), first.getEnqueuedAt(), List.of(), false, 0, null);
+    }
+
+    private static String digestContent(List<Entry> entries) {
+        StringBuilder content = new StringBuilder("【알림 요약】 새 알림 ").append(entries.size()).append("건\n");
+        for (Entry entry : entries) {
+            NotificationEvent event = entry.event();
+            content.append("\n• ").append(event.summary() != null ? event.summary() : event.formattedContent());
+        }
+        return content.toString();
+    }
+
+    /**
+     * 버퍼에 모은 이메일입니다.
+     *
+     * @param request 이메일 요청
+     * @param event 알림 이벤트 (요약 문구에 사용)
+     */
+    record Entry(EmailRequest request, NotificationEvent event) {
+    }
+
+    /**
+     * 한 이메일 수신자의 버퍼입니다.
+     */
+    private static final class DigestBuffer {
+
+        private final long openedAt;
+
+        private final String to;
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        private DigestBuffer(long openedAt, String to) {
+            this.openedAt = openedAt;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.notifyservice.digest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림 요약 모드 설정({@link NotificationDigestProperties})을 등록하는 Configuration 클래스입니다.
+ */
+@Configuration
+@EnableConfigurationProperties(NotificationDigestProperties.class)
+public class NotificationDigestConfig {
+}
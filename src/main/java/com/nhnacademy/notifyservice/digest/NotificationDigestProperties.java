@@ -0,0 +1,51 @@
+package com.nhnacademy.notifyservice.digest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 알림 요약(digest) 모드 설정 프로퍼티입니다.
+ *
+ * <pre>
+ * notification.digest.enabled=true
+ * notification.digest.window=5m
+ * notification.digest.max-entries=100
+ * notification.digest.roles=ROLE_ADMIN
+ * notification.digest.members=admin@test.com
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.digest")
+public class NotificationDigestProperties {
+
+    /**
+     * 요약 모드 사용 여부입니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 첫 이메일을 모은 뒤 요약을 보낼 때까지의 시간입니다.
+     */
+    private Duration window = Duration.ofMinutes(5);
+
+    /**
+     * 한 요약에 모을 최대 이메일 수입니다. 도달하면 시간 창이 끝나기 전에 바로 보냅니다.
+     */
+    private int maxEntries = 100;
+
+    /**
+     * 요약으로 받을 역할입니다. 요청의 roleType으로 확인합니다.
+     */
+    private Set<String> roles = new HashSet<>();
+
+    /**
+     * 역할과 무관하게 요약으로 받을 이메일 수신자입니다.
+     */
+    private Set<String> members = new HashSet<>();
+}
@@ -0,0 +1,52 @@
+package com.nhnacademy.notifyservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 알림 요약(읽지 않은 알림 개수, 마지막 알림 id, 마지막 읽음 시각)을 보관하는 엔티티입니다.
+ * <p>
+ * 알림 배지처럼 자주 조회되는 읽지 않은 알림 개수를 상세 테이블 집계 없이 기본 키 한 행으로 조회하기 위한
+ * 비정규화 테이블입니다. 알림 저장/읽음 처리와 같은 트랜잭션에서 단일 UPDATE 문으로 증감하며,
+ * 어긋난 값은 {@code NotificationSummaryRepairJob}이 상세 테이블 기준으로 바로잡습니다.
+ * </p>
+ * <p>
+ * {@code version}은 회원의 알림이 바뀔 때마다 증가하므로, 읽지 않은 개수/히스토리 폴링의 ETag로 사용합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "member_notification_summary")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemberNotificationSummary {
+
+    @Id
+    @Column(name = "mb_no")
+    @Comment("회원번호")
+    private Long mbNo;
+
+    @Column(name = "unread_count", nullable = false)
+    @Comment("읽지 않은 알림 개수")
+    private long unreadCount;
+
+    @Column(name = "last_notification_id")
+    @Comment("마지막 알림 id")
+    private Long lastNotificationId;
+
+    @Column(name = "last_read_at")
+    @Comment("마지막 읽음 처리 시각")
+    private LocalDateTime lastReadAt;
+
+    /**
+     * 알림 저장, 읽음 처리, 삭제마다 증가하는 변경 버전입니다.
+     * 낙관적 잠금이 아니라 조건부 GET의 ETag로 사용하며, 단일 UPDATE 문에서 함께 증가시킵니다.
+     */
+    @Column(name = "version", nullable = false)
+    @Comment("알림 변경 버전")
+    private long version;
+}
@@ -0,0 +1,56 @@
+package com.nhnacademy.notifyservice.domain;
+
+import com.nhnacademy.notifyservice.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 수신자가 공유하는 알림 본문 엔티티입니다.
+ * <p>
+ * 관리자 알림처럼 같은 본문이 수신자 수만큼 저장되는 경우, 본문은 이벤트당 한 번만 이 테이블에 저장하고
+ * 수신자별 {@link NotificationMessage}는 (회원, 본문 id, 읽음 여부)만 기록합니다.
+ * 더 이상 참조하는 알림이 없는 본문은 보관 기간 정리 작업이 삭제합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "notification_event_body")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class NotificationEventBody {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    @Comment("알림 본문")
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성일자")
+    private LocalDateTime createdAt;
+
+    private NotificationEventBody(String content) {
+        this.content = content;
+    }
+
+    /**
+     * 알림 본문을 생성합니다.
+     *
+     * @param content 수신자에게 공통으로 저장할 본문
+     * @return 알림 본문
+     */
+    public static NotificationEventBody of(String content) {
+        return new NotificationEventBody(content);
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
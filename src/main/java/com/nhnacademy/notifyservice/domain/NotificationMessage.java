@@ -1,5 +1,6 @@
 package com.nhnacademy.notifyservice.domain;
 
+import com.nhnacademy.notifyservice.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,13 +11,18 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "notification_message", indexes = {
+        @Index(name = "idx_notification_message_member_read", columnList = "mb_no, is_read"),
+        @Index(name = "idx_notification_message_member_created", columnList = "mb_no, created_at, id"),
+        @Index(name = "idx_notification_message_role_created", columnList = "role_no, created_at, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Getter
 public class NotificationMessage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -27,9 +33,14 @@ public class NotificationMessage {
     @JoinColumn(name = "role_no", nullable = false)
     private Role role;
 
-    @Column(nullable = false, length = 1000)
+    // 본문을 공유하는 알림은 content 대신 event를 참조합니다 (notification.storage.normalized-content)
+    @Column(length = 1000)
     private String content;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    private NotificationEventBody event;
+
     @Column(nullable = false)
     private boolean isRead;
 
@@ -0,0 +1,113 @@
+package com.nhnacademy.notifyservice.domain;
+
+import com.nhnacademy.notifyservice.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커밋 이후 전송할 STOMP 프레임을 보관하는 아웃박스 엔티티입니다.
+ * <p>
+ * 알림 저장과 같은 트랜잭션에서 기록되므로, 롤백된 알림의 프레임은 전송되지 않고
+ * 커밋된 알림의 프레임은 애플리케이션이 중단되더라도 남아 있다가 다시 전송됩니다.
+ * 한 트랜잭션에서 기록한 프레임은 목적지 목록과 함께 JSON으로 묶어 한 행({@code frames})에 저장합니다.
+ * {@code destination}, {@code payload}, {@code payload_type}, {@code frame} 컬럼은 프레임마다 한 행을 기록하던
+ * 이전 버전의 행에만 채워져 있습니다.
+ * 전송이 끝난 행은 삭제되며, 스윕이 재전송 중인 행은 점유 시각({@code claimed_at})으로 표시됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "notification_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class NotificationOutbox {
+
+    /**
+     * 읽지 않은 알림 개수처럼 숫자로 전송해야 하는 페이로드 형식입니다.
+     */
+    public static final String PAYLOAD_COUNT = "COUNT";
+
+    /**
+     * 문자열 그대로 전송하는 페이로드 형식입니다.
+     */
+    public static final String PAYLOAD_TEXT = "TEXT";
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(length = 16777215)
+    @Comment("전송할 프레임 목록 (JSON: 프레임 종류, 페이로드, 목적지 목록)")
+    private String frames;
+
+    @Column(length = 255)
+    @Comment("STOMP 목적지 (이전 형식)")
+    private String destination;
+
+    @Column(length = 65535)
+    @Comment("전송할 페이로드 (이전 형식)")
+    private String payload;
+
+    @Column(name = "payload_type", length = 10)
+    @Comment("페이로드 형식 (TEXT, COUNT) (이전 형식)")
+    private String payloadType;
+
+    @Column(length = 30)
+    @Comment("프레임 종류 (content, popup, unread-count) (이전 형식)")
+    private String frame;
+
+    @Column(name = "trace_id", length = 64)
+    @Comment("요청 추적 id")
+    private String traceId;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성일자")
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_at")
+    @Comment("스윕이 재전송을 위해 점유한 시각")
+    private LocalDateTime claimedAt;
+
+    private NotificationOutbox(String frames, String traceId) {
+        this.frames = frames;
+        this.traceId = traceId;
+    }
+
+    /**
+     * 묶음으로 기록한 프레임으로 아웃박스 항목을 생성합니다.
+     *
+     * @param frames 전송할 프레임 목록 JSON
+     * @param traceId 요청 추적 id, 없으면 null
+     * @return 아웃박스 항목
+     */
+    public static NotificationOutbox of(String frames, String traceId) {
+        return new NotificationOutbox(frames, traceId);
+    }
+
+    /**
+     * 일부 프레임만 전송된 경우 남은 프레임으로 교체합니다.
+     *
+     * @param frames 아직 전송하지 못한 프레임 목록 JSON
+     */
+    public void replaceFrames(String frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * 이전 형식으로 저장된 페이로드를 원래 형식으로 복원합니다.
+     *
+     * @return 숫자 페이로드는 Long, 그 외에는 문자열
+     */
+    public Object restorePayload() {
+        return PAYLOAD_COUNT.equals(payloadType) ? Long.valueOf(payload) : payload;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
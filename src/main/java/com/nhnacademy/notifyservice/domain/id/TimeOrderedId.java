@@ -0,0 +1,29 @@
+package com.nhnacademy.notifyservice.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 시간 순으로 증가하는 {@code Long} id를 할당하는 식별자 어노테이션입니다.
+ *
+ * {@code GenerationType.IDENTITY}는 INSERT를 실행해야 id를 알 수 있어 Hibernate JDBC 배치가 비활성화됩니다.
+ * 이 어노테이션을 사용하면 persist 시점에 id가 정해지므로 여러 INSERT를 하나의 배치로 묶을 수 있습니다.
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;TimeOrderedId
+ * private Long id;
+ * </pre>
+ *
+ * @see TimeOrderedIdGenerator
+ * @see TimeOrderedIdSource
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.notifyservice.domain.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * {@link TimeOrderedId}가 선언된 엔티티의 id를 INSERT 전에 생성하는 Hibernate 식별자 생성기입니다.
+ *
+ * 노드 번호는 Hibernate 설정 {@value #NODE_SETTING}에서 읽습니다.
+ * Spring Boot에서는 {@code spring.jpa.properties.notification.id.node}로 전달하며,
+ * 기본 설정은 환경 변수 {@code NOTIFICATION_ID_NODE}를 사용합니다. 값이 없으면 EntityManagerFactory 생성이 실패합니다.
+ *
+ * @see TimeOrderedIdSource
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    /**
+     * 인스턴스별 노드 번호(0 ~ 15)를 지정하는 Hibernate 설정 키입니다.
+     */
+    public static final String NODE_SETTING = "notification.id.node";
+
+    private final TimeOrderedIdSource idSource;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        Object node = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_SETTING);
+
+        this.idSource = TimeOrderedIdSource.forNode(node == null ? null : node.toString());
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return idSource.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,108 @@
+package com.nhnacademy.notifyservice.domain.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 증가하는 53비트 {@code Long} id를 만드는 생성기입니다.
+ *
+ * <p>비트 구성 (상위 → 하위):</p>
+ * <ul>
+ * <li>41비트 - {@link #EPOCH} 이후 경과 시간(ms), 약 69년 사용 가능</li>
+ * <li>4비트 - 노드 번호 (0 ~ 15)</li>
+ * <li>8비트 - 같은 밀리초 안의 순번 (노드당 밀리초에 256개)</li>
+ * </ul>
+ *
+ * 전체 길이를 53비트로 제한하여 JSON으로 전달된 id를 브라우저에서 {@code Number}로 다뤄도 정밀도가 손실되지 않습니다.
+ * 기존 IDENTITY id보다 항상 크므로 {@code id > lastSeenId} 형태의 keyset 조회도 그대로 동작합니다.
+ *
+ * <p>시계 오차 한계: id는 한 노드 안에서만 단조 증가합니다.
+ * 인스턴스 사이의 id 순서는 각 서버 시계의 순서이므로, 시계가 늦은 노드는 다른 노드가 먼저 발급한 id보다 작은 id를
+ * 나중에 발급할 수 있습니다. 이 경우 {@code id > lastSeenId} keyset 조회(재접속 catch-up)는 클라이언트가 마지막 id를
+ * 받은 뒤에 저장된 더 작은 id의 알림을 건너뛰며, 건너뛴 알림은 히스토리 API에서만 보입니다.
+ * 누락 가능 구간은 노드 간 시계 차이만큼이므로 모든 인스턴스의 시계를 NTP 등으로 동기화해야 합니다.</p>
+ *
+ * 같은 밀리초에 순번을 모두 사용했거나 시계가 뒤로 이동하면 마지막 시각을 1ms씩 앞당겨
+ * 대기하지 않고 단조 증가를 유지합니다.
+ * 인스턴스마다 서로 다른 노드 번호({@code NOTIFICATION_ID_NODE}, 0 ~ 15)를 반드시 지정해야 id가 충돌하지 않습니다.
+ * 노드 번호가 없으면 임의로 고르지 않고 시작 시점에 실패합니다.
+ * 임의 번호는 16개 중 하나이므로 인스턴스 두 대만 있어도 같은 번호를 고를 수 있고, 그 경우 기본 키가 중복됩니다.
+ */
+public final class TimeOrderedIdSource {
+
+    /**
+     * 타임스탬프 기준 시각 (2025-01-01T00:00:00Z)입니다.
+     */
+    public static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static final Map<Integer, TimeOrderedIdSource> SOURCES = new ConcurrentHashMap<>();
+
+    private final long node;
+
+    private final LongSupplier clock;
+
+    private long lastMillis = -1L;
+
+    private int sequence;
+
+    TimeOrderedIdSource(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드 번호별로 JVM 안에서 공유하는 생성기를 반환합니다.
+     *
+     * @param node 노드 번호 문자열
+     * @return 노드 번호에 해당하는 생성기
+     * @throws IllegalStateException 노드 번호가 없거나 0 ~ 15 사이의 정수가 아닌 경우
+     */
+    public static TimeOrderedIdSource forNode(String node) {
+        if (node == null || node.isBlank()) {
+            throw new IllegalStateException(TimeOrderedIdGenerator.NODE_SETTING
+                    + " is not set: set NOTIFICATION_ID_NODE to a node number (0-" + MAX_NODE + ") unique per instance.");
+        }
+
+        int nodeNumber;
+        try {
+            nodeNumber = Integer.parseInt(node.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(TimeOrderedIdGenerator.NODE_SETTING + " must be a number: " + node, e);
+        }
+        if (nodeNumber < 0 || nodeNumber > MAX_NODE) {
+            throw new IllegalStateException(TimeOrderedIdGenerator.NODE_SETTING
+                    + " must be between 0 and " + MAX_NODE + ": " + nodeNumber);
+        }
+        return SOURCES.computeIfAbsent(nodeNumber, n -> new TimeOrderedIdSource(n, System::currentTimeMillis));
+    }
+
+    /**
+     * 다음 id를 생성합니다.
+     * 같은 노드에서 이전에 생성한 id보다 항상 크지만, 다른 노드가 생성한 id와의 순서는 시계 차이에 따라 달라집니다.
+     *
+     * @return 이 노드가 이전에 생성한 id보다 큰 id
+     */
+    public synchronized long nextId() {
+        long now = clock.getAsLong() - EPOCH;
+
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            lastMillis++;
+            sequence = 0;
+        }
+
+        return (lastMillis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -3,6 +3,9 @@ package com.nhnacademy.notifyservice.dto;
 import lombok.*;
 
 import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -14,4 +17,84 @@ public class EmailRequest implements Serializable {
     private String content;
     private String roleType; // "ROLE_ADMIN" 또는 "ROLE_ALL"
     private String type; // "TEXT" 또는 "HTML"
+    private String traceId; // 요청 추적 id (EmailQueueProducer에서 설정)
+    private Long enqueuedAt; // 큐 적재 시각 epoch millis (EmailQueueProducer에서 설정)
+    private List<String> retryRecipients; // 재처리할 관리자 이메일 (null이면 모든 관리자)
+    private boolean emailSent; // 이메일 발송 완료 여부 (재처리 시 중복 발송 방지)
+    private int deferrals; // 발송 속도 제한으로 지연 큐를 거친 횟수
+    private List<String> bcc; // 같은 메일을 숨은 참조로 받을 수신자 이메일 (null이면 to 한 명에게만 발송)
+
+    public EmailRequest(String to, String subject, String content) {
+        this(to, subject, content, null, null);
+    }
+
+    public EmailRequest(String to, String subject, String content, String type) {
+        this(to, subject, content, null, type);
+    }
+
+    public EmailRequest(String to, String subject, String content, String roleType, String type) {
+        this(to, subject, content, roleType, type, null, null, null, false, 0, null);
+    }
+
+    /**
+     * 일부 수신자 처리에 실패한 요청을 실패한 수신자만 재처리하도록 복사합니다.
+     * trace id는 유지하여 재처리 로그를 원래 요청과 연결할 수 있게 합니다.
+     *
+     * @param recipients 재처리할 관리자 이메일
+     * @param emailSent 이메일 발송 완료 여부
+     * @return 재처리용 요청
+     */
+    public EmailRequest forRetry(List<String> recipients, boolean emailSent) {
+        return new EmailRequest(to, subject, content, roleType, type, traceId, enqueuedAt, List.copyOf(recipients), emailSent, deferrals, bcc);
+    }
+
+    /**
+     * 발송 속도 제한에 걸린 요청을 이메일만 다시 발송하도록 복사합니다.
+     * 재처리할 수신자를 비워 두므로 알림은 다시 저장하지 않습니다.
+     *
+     * @return 지연 큐로 보낼 요청
+     */
+    public EmailRequest forDeferredEmail() {
+        return new EmailRequest(to, subject, content, roleType, type, traceId, enqueuedAt, List.of(), false, deferrals + 1, bcc);
+    }
+
+    /**
+     * trace id와 큐 적재 시각만 바꾼 복사본을 만듭니다.
+     *
+     * @param traceId 요청 추적 id
+     * @param enqueuedAt 큐 적재 시각 epoch millis
+     * @return 추적 정보를 설정한 요청
+     */
+    public EmailRequest withTrace(String traceId, Long enqueuedAt) {
+        return new EmailRequest(to, subject, content, roleType, type, traceId, enqueuedAt, retryRecipients, emailSent, deferrals, bcc);
+    }
+
+    /**
+     * 이메일을 받을 모든 수신자(to와 bcc)를 반환합니다.
+     *
+     * @return 중복을 제거한 수신자 이메일 목록
+     */
+    public List<String> envelopeRecipients() {
+        Set<String> recipients = new LinkedHashSet<>();
+        if (to != null) {
+            recipients.add(to);
+        }
+        if (bcc != null) {
+            recipients.addAll(bcc);
+        }
+        return List.copyOf(recipients);
+    }
+
+    /**
+     * 지정된 수신자에게만 이메일을 발송하도록 복사합니다.
+     * to가 목록에 없으면 비우고, 나머지 수신자는 bcc로 옮깁니다.
+     *
+     * @param recipients 이메일을 받을 수신자 ({@link #envelopeRecipients()}의 일부)
+     * @return 지정된 수신자에게만 발송할 요청
+     */
+    public EmailRequest forRecipients(List<String> recipients) {
+        String keptTo = to != null && recipients.contains(to) ? to : null;
+        List<String> keptBcc = recipients.stream().filter(recipient -> !recipient.equals(keptTo)).toList();
+        return new EmailRequest(keptTo, subject, content, roleType, type, traceId, enqueuedAt, retryRecipients, emailSent, deferrals, keptBcc);
+    }
 }
@@ -0,0 +1,39 @@
+package com.nhnacademy.notifyservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * STOMP 재접속 시 오프라인 동안 놓친 알림을 한 번에 전달하기 위한 DTO 클래스입니다.
+ *
+ * 클라이언트가 {@code /notification/catch-up/{userEmail}}을 구독하면
+ * 현재 읽지 않은 알림 개수와 마지막으로 확인한 알림 이후의 알림 목록이 이 객체로 전송됩니다.
+ *
+ * @see NotificationMessageDto
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationCatchUpDto {
+
+    /**
+     * 현재 읽지 않은 알림 개수입니다.
+     */
+    private Long unreadCount;
+
+    /**
+     * 클라이언트가 마지막으로 확인한 알림 이후에 생성된 알림 목록입니다 (오래된 순).
+     */
+    private List<NotificationMessageDto> notifications;
+
+    /**
+     * 놓친 알림이 최대 전달 개수를 초과하여 일부만 전달되었는지 여부입니다.
+     * true인 경우 클라이언트는 {@code /api/v1/notification/history}로 전체 목록을 다시 조회해야 합니다.
+     */
+    private boolean truncated;
+}
@@ -29,6 +29,16 @@ import java.time.LocalDateTime;
 @Builder
 public class NotificationMessageDto {
 
+    /**
+     * 알림 메시지의 고유 식별자입니다.
+     *
+     * 클라이언트가 마지막으로 수신한 알림 위치를 기억했다가
+     * 재접속 시 {@code X-LAST-SEEN-ID} 헤더로 전달하는 커서 값으로 사용됩니다.
+     *
+     * @since 1.1
+     */
+    private Long id;
+
     /**
      * 알림 메시지의 실제 내용입니다.
      *
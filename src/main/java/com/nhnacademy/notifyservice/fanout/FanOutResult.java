@@ -0,0 +1,22 @@
+package com.nhnacademy.notifyservice.fanout;
+
+import java.util.List;
+
+/**
+ * 수신자 분산 처리 결과입니다.
+ *
+ * @param recipients 처리를 시도한 수신자 수
+ * @param failedRecipients 처리에 실패한 묶음에 속한 수신자 이메일 (해당 묶음의 트랜잭션은 롤백됨)
+ * @param firstFailure 처음 실패한 묶음의 예외, 실패가 없으면 null
+ */
+public record FanOutResult(int recipients, List<String> failedRecipients, Throwable firstFailure) {
+
+    /**
+     * 실패한 수신자가 있는지 여부를 반환합니다.
+     *
+     * @return 실패한 수신자가 있으면 true
+     */
+    public boolean hasFailures() {
+        return !failedRecipients.isEmpty();
+    }
+}
@@ -0,0 +1,159 @@
+package com.nhnacademy.notifyservice.fanout;
+
+import com.nhnacademy.notifyservice.domain.Member;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 하나의 알림 이벤트를 여러 수신자에게 저장/전송하는 작업을 묶음 단위로 나누어 병렬로 처리하는 컴포넌트입니다.
+ *
+ * 관리자 수만큼 순차로 반복하면 처리 시간이 수신자 수에 비례하여 늘어나므로,
+ * 수신자를 {@code notification.fan-out.chunk-size}명씩 나누어 최대 {@code notification.fan-out.parallelism}개의 묶음을
+ * 동시에 처리합니다. 묶음 처리기는 묶음마다 별도 트랜잭션을 사용해야 하며, 실패한 묶음은 해당 수신자만 실패로 집계합니다.
+ *
+ * <p>한 수신자는 이벤트당 하나의 묶음에만 속하고, 호출자는 모든 묶음이 끝난 뒤 다음 메시지를 처리하므로
+ * 이메일 큐 리스너의 소비자가 하나일 때(기본값)에만 수신자별 알림 순서가 큐 순서와 같게 유지됩니다.
+ * 소비자가 둘 이상이면 서로 다른 메시지가 동시에 처리되므로 같은 수신자의 알림 순서는 보장하지 않습니다.</p>
+ *
+ * 묶음 수가 1개이면 호출 스레드에서 바로 처리합니다. 작업 스레드에는 호출 스레드의 MDC(trace id)를 복사합니다.
+ * 동시에 처리하는 묶음마다 데이터베이스 커넥션을 하나씩 사용하므로 병렬도는 커넥션 풀 크기보다 작게 설정합니다.
+ */
+@Slf4j
+@Component
+public class NotificationFanOutExecutor {
+
+    private final int chunkSize;
+
+    /**
+     * 동시에 처리하는 묶음 수를 제한합니다. 가상 스레드는 개수 제한이 없으므로 허가 수로 병렬도를 제한합니다.
+     */
+    private final Semaphore permits;
+
+    private final ExecutorService executor;
+
+    public NotificationFanOutExecutor(@Value("${notification.fan-out.parallelism:4}") int parallelism,
+                                      @Value("${notification.fan-out.chunk-size:50}") int chunkSize,
+                                      @Value("${notification.fan-out.virtual-threads:true}") boolean virtualThreads) {
+        if (parallelism <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("parallelism and chunk size must be positive.");
+        }
+        this.chunkSize = chunkSize;
+        this.permits = new Semaphore(parallelism);
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory())
+                : Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("fan-out-", 0).daemon().factory());
+    }
+
+    /**
+     * 수신자를 묶음으로 나누어 처리하고, 모든 묶음이 끝날 때까지 기다립니다.
+     *
+     * @param recipients 수신자 목록
+     * @param chunkHandler 묶음 처리기 (묶음마다 별도 트랜잭션에서 처리)
+     * @return 처리 결과
+     */
+    public FanOutResult execute(List<Member> recipients, Consumer<List<Member>> chunkHandler) {
+        List<List<Member>> chunks = partition(recipients);
+        if (chunks.size() <= 1) {
+            return executeInline(recipients, chunks, chunkHandler);
+        }
+
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<Future<?>> futures = new ArrayList<>(chunks.size());
+        for (List<Member> chunk : chunks) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            try {
+                futures.add(executor.submit(() -> {
+                    try {
+                        runWithMdc(mdc, () -> chunkHandler.accept(chunk));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RuntimeException e) {
+                permits.release();
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        List<String> failedRecipients = new ArrayList<>();
+        Throwable firstFailure = null;
+        for (int i = 0; i < chunks.size(); i++) {
+            Throwable failure = await(futures.get(i));
+            if (failure != null) {
+                log.error("FAN-OUT: chunk of {} recipients failed", chunks.get(i).size(), failure);
+                chunks.get(i).forEach(member -> failedRecipients.add(member.getMbEmail()));
+                firstFailure = firstFailure == null ? failure : firstFailure;
+            }
+        }
+        return new FanOutResult(recipients.size(), failedRecipients, firstFailure);
+    }
+
+    private FanOutResult executeInline(List<Member> recipients, List<List<Member>> chunks, Consumer<List<Member>> chunkHandler) {
+        if (chunks.isEmpty()) {
+            return new FanOutResult(0, List.of(), null);
+        }
+        try {
+            chunkHandler.accept(chunks.get(0));
+            return new FanOutResult(recipients.size(), List.of(), null);
+        } catch (RuntimeException e) {
+            log.error("FAN-OUT: chunk of {} recipients failed", recipients.size(), e);
+            return new FanOutResult(recipients.size(), recipients.stream().map(Member::getMbEmail).toList(), e);
+        }
+    }
+
+    private List<List<Member>> partition(List<Member> recipients) {
+        List<List<Member>> chunks = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += chunkSize) {
+            chunks.add(recipients.subList(from, Math.min(from + chunkSize, recipients.size())));
+        }
+        return chunks;
+    }
+
+    private static void runWithMdc(Map<String, String> mdc, Runnable task) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            task.run();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static Throwable await(Future<?> future) {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
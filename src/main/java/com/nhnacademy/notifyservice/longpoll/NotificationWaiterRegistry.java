@@ -0,0 +1,179 @@
+package com.nhnacademy.notifyservice.longpoll;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽지 않은 개수 롱 폴링 요청을 회원별로 대기시키는 컴포넌트입니다.
+ *
+ * WebSocket을 유지할 수 없는 클라이언트가 짧은 주기로 {@code /unread/count}를 폴링하면
+ * 변경이 없어도 요청마다 데이터베이스를 조회합니다. 롱 폴링 요청은 {@link DeferredResult}로 요청 스레드를 반환하고
+ * 이 레지스트리에 대기하다가, 알림 저장이나 읽음 처리가 커밋되면 {@link #signal(String)}으로 즉시 깨어납니다.
+ * 변경이 없으면 {@code notification.long-poll.timeout}이 지난 뒤 304로 완료됩니다.
+ *
+ * 대기 요청 수는 사용자당 {@code notification.long-poll.max-waiters-per-user}, 전체 {@code notification.long-poll.max-waiters}로 제한합니다.
+ * 대기 요청은 이 인스턴스의 메모리에만 등록되므로, 변경을 커밋한 인스턴스에 대기 중인 요청만 즉시 깨어나고
+ * 다른 인스턴스의 요청은 시간 초과 후 다시 폴링하여 변경을 확인합니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.long-poll.waiters} - 현재 대기 중인 요청 수</li>
+ * <li>{@code notification.long-poll.woken} - 변경으로 깨어난 요청 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationWaiterRegistry {
+
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    private final long timeoutMillis;
+
+    private final int maxWaiters;
+
+    private final int maxWaitersPerUser;
+
+    private final Counter wokenCounter;
+
+    public NotificationWaiterRegistry(NotificationMetrics notificationMetrics,
+                                      @Value("${notification.long-poll.timeout:25000}") long timeoutMillis,
+                                      @Value("${notification.long-poll.max-waiters:10000}") int maxWaiters,
+                                      @Value("${notification.long-poll.max-waiters-per-user:5}") int maxWaitersPerUser) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxWaiters = maxWaiters;
+        this.maxWaitersPerUser = maxWaitersPerUser;
+
+        Gauge.builder("notification.long-poll.waiters", waiterCount, AtomicInteger::get)
+                .description("현재 대기 중인 롱 폴링 요청 수")
+                .register(notificationMetrics.getMeterRegistry());
+        this.wokenCounter = Counter.builder("notification.long-poll.woken")
+                .description("변경으로 깨어난 롱 폴링 요청 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 롱 폴링 요청의 최대 대기 시간(ms)을 반환합니다.
+     *
+     * @return 최대 대기 시간
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 사용자의 대기 요청을 등록합니다.
+     * 요청이 완료(결과 설정, 시간 초과, 오류)되면 자동으로 제거됩니다.
+     *
+     * 등록 전에 커밋된 변경은 신호를 받지 못하므로, 호출자는 등록한 뒤 현재 상태를 확인해야 합니다.
+     *
+     * @param email 사용자 이메일
+     * @param deferredResult 대기 중인 요청
+     * @param onChange 변경 신호를 받으면 한 번 실행할 작업 (신호를 보낸 스레드에서 실행되므로 오래 걸리는 작업은 위임)
+     * @return 등록했으면 true, 대기 요청 수 제한을 넘으면 false
+     */
+    public boolean register(String email, DeferredResult<?> deferredResult, Runnable onChange) {
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            return false;
+        }
+
+        Waiter waiter = new Waiter(email, onChange);
+        boolean[] added = {false};
+        waiters.compute(email, (key, set) -> {
+            Set<Waiter> userWaiters = set == null ? ConcurrentHashMap.newKeySet() : set;
+            if (userWaiters.size() < maxWaitersPerUser) {
+                userWaiters.add(waiter);
+                added[0] = true;
+            }
+            return userWaiters.isEmpty() ? null : userWaiters;
+        });
+        if (!added[0]) {
+            waiterCount.decrementAndGet();
+            return false;
+        }
+
+        deferredResult.onCompletion(() -> remove(waiter));
+        return true;
+    }
+
+    /**
+     * 사용자의 알림 상태가 바뀌었음을 알리고 대기 중인 요청을 모두 깨웁니다.
+     * 변경을 커밋한 뒤 호출해야 깨어난 요청이 변경된 값을 읽습니다.
+     *
+     * @param email 사용자 이메일
+     */
+    public void signal(String email) {
+        Set<Waiter> userWaiters = waiters.remove(email);
+        if (userWaiters == null) {
+            return;
+        }
+
+        for (Waiter waiter : userWaiters) {
+            if (!waiter.release()) {
+                continue;
+            }
+            waiterCount.decrementAndGet();
+            wokenCounter.increment();
+            try {
+                waiter.onChange.run();
+            } catch (RuntimeException e) {
+                // 다른 대기 요청과 신호를 보낸 트랜잭션 후처리에 영향을 주지 않음 (요청은 시간 초과로 완료)
+                log.warn("LONG-POLL: cannot wake waiter of {}", email, e);
+            }
+        }
+    }
+
+    /**
+     * 현재 대기 중인 요청 수를 반환합니다.
+     *
+     * @return 대기 요청 수
+     */
+    public int size() {
+        return waiterCount.get();
+    }
+
+    private void remove(Waiter waiter) {
+        if (!waiter.release()) {
+            return;
+        }
+        waiterCount.decrementAndGet();
+        waiters.computeIfPresent(waiter.email, (key, set) -> {
+            set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 대기 중인 요청 하나입니다. 신호와 완료 중 먼저 도착한 쪽만 정리합니다.
+     */
+    private static final class Waiter {
+
+        private final String email;
+
+        private final Runnable onChange;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Waiter(String email, Runnable onChange) {
+            this.email = email;
+            this.onChange = onChange;
+        }
+
+        private boolean release() {
+            return released.compareAndSet(false, true);
+        }
+    }
+}
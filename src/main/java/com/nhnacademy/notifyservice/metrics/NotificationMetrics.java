@@ -0,0 +1,231 @@
+package com.nhnacademy.notifyservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 알림 파이프라인 전 구간의 Micrometer 메트릭 이름과 태그를 한 곳에서 관리하는 컴포넌트입니다.
+ *
+ * 큐 소비 → HTML 변환 → DB 저장 → STOMP 전송 → SMTP 발송 각 단계의 처리량과 지연 시간을 기록하여
+ * 운영 환경에서 어느 단계가 처리량을 제한하는지 확인할 수 있도록 합니다.
+ * 모든 타이머는 p50/p95/p99 백분위와 Prometheus 히스토그램을 함께 노출합니다.
+ *
+ * <p>메트릭 목록:</p>
+ * <ul>
+ * <li>{@code notification.queue.consumed} - 큐 메시지 소비 수 (type, roleType, outcome)</li>
+ * <li>{@code notification.queue.process} - 큐 메시지 한 건의 전체 처리 시간 (type, roleType, outcome)</li>
+ * <li>{@code notification.email.send} - SMTP 발송 시간 (type, outcome)</li>
+ * <li>{@code notification.html.convert} - Jsoup 기반 HTML 변환 시간 (operation)</li>
+ * <li>{@code notification.db} - 알림 테이블 쓰기/조회 시간 (operation)</li>
+ * <li>{@code notification.push} - STOMP 프레임 전송 수 (frame)</li>
+ * <li>{@code notification.stage} - 단계별 지연 시간 (stage: queue-wait, push, end-to-end)</li>
+ * <li>{@code notification.queue.lag} - 마지막으로 소비한 메시지의 큐 대기 시간(ms)</li>
+ * </ul>
+ *
+ * 태그 값은 요청 데이터에서 오므로 허용된 값 외에는 {@code other}로 정규화하여 카디널리티를 제한합니다.
+ * 수신자마다 호출되는 경로에서 빌더와 레지스트리 조회를 반복하지 않도록 등록한 미터는 이름과 태그별로 캐시합니다.
+ */
+@Component
+public class NotificationMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_PARTIAL = "partial";
+    public static final String OUTCOME_PARKED = "parked";
+
+    private static final Set<String> KNOWN_TYPES = Set.of("HTML", "TEXT");
+    private static final Set<String> KNOWN_ROLE_TYPES = Set.of("ROLE_ADMIN", "ROLE_ALL");
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong queueLagMillis = new AtomicLong();
+
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public NotificationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("notification.queue.lag", queueLagMillis, AtomicLong::get)
+                .description("마지막으로 소비한 메시지의 큐 대기 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 타이머 측정을 시작합니다.
+     *
+     * @return 측정 샘플
+     */
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 큐 메시지 한 건의 소비 결과와 처리 시간을 기록합니다.
+     *
+     * @param sample {@link #startTimer()}로 시작한 샘플
+     * @param type 메시지 형식
+     * @param roleType 알림 대상 역할
+     * @param outcome 처리 결과 ({@link #OUTCOME_SUCCESS}, {@link #OUTCOME_FAILURE}, 일부 수신자만 실패한 {@link #OUTCOME_PARTIAL}
+     *                또는 회로가 열려 지연 큐로 보낸 {@link #OUTCOME_PARKED})
+     */
+    public void recordConsume(Timer.Sample sample, String type, String roleType, String outcome) {
+        String typeTag = normalize(type, KNOWN_TYPES);
+        String roleTypeTag = normalize(roleType, KNOWN_ROLE_TYPES);
+
+        sample.stop(timer("notification.queue.process", "큐 메시지 처리 시간",
+                "type", typeTag, "roleType", roleTypeTag, "outcome", outcome));
+        counter("notification.queue.consumed", "큐 메시지 소비 수",
+                "type", typeTag, "roleType", roleTypeTag, "outcome", outcome).increment();
+    }
+
+    /**
+     * SMTP 발송 시간을 기록합니다.
+     *
+     * @param sample {@link #startTimer()}로 시작한 샘플
+     * @param type 메일 형식
+     * @param outcome 발송 결과
+     */
+    public void recordEmailSend(Timer.Sample sample, String type, String outcome) {
+        sample.stop(timer("notification.email.send", "SMTP 발송 시간",
+                "type", normalize(type, KNOWN_TYPES), "outcome", outcome));
+    }
+
+    /**
+     * HTML 변환 작업의 시간을 기록합니다.
+     *
+     * @param operation 변환 작업 이름
+     * @param conversion 변환 작업
+     * @return 변환 결과
+     */
+    public <T> T recordHtmlConversion(String operation, Supplier<T> conversion) {
+        return timer("notification.html.convert", "HTML 변환 시간", "operation", operation).record(conversion);
+    }
+
+    /**
+     * 알림 테이블 쓰기/조회 시간을 기록합니다.
+     *
+     * @param operation DB 작업 이름
+     * @param query DB 작업
+     * @return 작업 결과
+     */
+    public <T> T recordDb(String operation, Supplier<T> query) {
+        return timer("notification.db", "알림 DB 작업 시간", "operation", operation).record(query);
+    }
+
+    /**
+     * 알림 테이블 쓰기/조회 시간을 기록합니다.
+     *
+     * @param operation DB 작업 이름
+     * @param command 반환값이 없는 DB 작업
+     */
+    public void recordDb(String operation, Runnable command) {
+        timer("notification.db", "알림 DB 작업 시간", "operation", operation).record(command);
+    }
+
+    /**
+     * STOMP 프레임 전송 수를 증가시킵니다.
+     *
+     * @param frame 프레임 종류 (unread-count, popup, content, catch-up 등)
+     */
+    public void countPush(String frame) {
+        counter("notification.push", "STOMP 프레임 전송 수", "frame", frame).increment();
+    }
+
+    /**
+     * 큐 적재 시각부터 소비 시작까지의 대기 시간을 기록합니다.
+     *
+     * @param enqueuedAt 큐 적재 시각 (epoch millis)
+     * @param now 소비 시작 시각 (epoch millis)
+     * @return 큐 대기 시간(ms)
+     */
+    public long recordQueueWait(long enqueuedAt, long now) {
+        long waitMillis = Math.max(0L, now - enqueuedAt);
+        queueLagMillis.set(waitMillis);
+        recordStage("queue-wait", waitMillis);
+        return waitMillis;
+    }
+
+    /**
+     * 단계별 지연 시간을 기록합니다.
+     *
+     * @param stage 단계 이름
+     * @param durationMillis 지연 시간(ms)
+     */
+    public void recordStage(String stage, long durationMillis) {
+        timer("notification.stage", "단계별 지연 시간", "stage", stage).record(durationMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 단계별 지연 시간을 측정합니다.
+     *
+     * @param stage 단계 이름
+     * @param command 측정할 작업
+     */
+    public void recordStage(String stage, Runnable command) {
+        timer("notification.stage", "단계별 지연 시간", "stage", stage).record(command);
+    }
+
+    /**
+     * 메트릭 레지스트리를 반환합니다. 게이지처럼 컴포넌트별로 직접 등록해야 하는 메트릭에 사용합니다.
+     *
+     * @return 메트릭 레지스트리
+     */
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * 이름과 태그별로 캐시한 카운터를 반환합니다. 다른 컴포넌트가 자주 증가시키는 카운터도 이 메서드로 얻습니다.
+     *
+     * @param name 메트릭 이름
+     * @param description 설명 (처음 등록할 때만 사용)
+     * @param tags 태그 키와 값을 번갈아 나열한 배열
+     * @return 카운터
+     */
+    public Counter counter(String name, String description, String... tags) {
+        return counters.computeIfAbsent(new MeterKey(name, List.of(tags)), key -> Counter.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return timers.computeIfAbsent(new MeterKey(name, List.of(tags)), key -> Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private String normalize(String value, Set<String> known) {
+        if (value == null) {
+            return "none";
+        }
+        return known.contains(value) ? value : "other";
+    }
+
+    /**
+     * 캐시한 미터의 키입니다.
+     *
+     * @param name 메트릭 이름
+     * @param tags 태그 키와 값
+     */
+    private record MeterKey(String name, List<String> tags) {
+    }
+}
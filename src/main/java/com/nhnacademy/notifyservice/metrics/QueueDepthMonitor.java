@@ -0,0 +1,76 @@
+package com.nhnacademy.notifyservice.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 큐의 적체량을 주기적으로 조회하여 게이지로 노출하는 컴포넌트입니다.
+ *
+ * 브로커에 passive declare로 큐 정보를 조회하므로 큐를 생성하거나 변경하지 않습니다.
+ * 큐 적체량은 소비 속도가 유입 속도를 따라가지 못하는지 판단하는 지표로 사용됩니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.queue.depth} - 큐에 대기 중인 메시지 수</li>
+ * <li>{@code notification.queue.consumers} - 큐에 연결된 컨슈머 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class QueueDepthMonitor {
+
+    private final AmqpAdmin amqpAdmin;
+
+    private final String emailQueue;
+
+    private final AtomicLong depth = new AtomicLong();
+
+    private final AtomicLong consumers = new AtomicLong();
+
+    public QueueDepthMonitor(AmqpAdmin amqpAdmin, NotificationMetrics notificationMetrics,
+                             @Value("${email.queue}") String emailQueue) {
+        this.amqpAdmin = amqpAdmin;
+        this.emailQueue = emailQueue;
+
+        Gauge.builder("notification.queue.depth", depth, AtomicLong::get)
+                .description("이메일 큐에 대기 중인 메시지 수")
+                .tag("queue", emailQueue)
+                .register(notificationMetrics.getMeterRegistry());
+        Gauge.builder("notification.queue.consumers", consumers, AtomicLong::get)
+                .description("이메일 큐에 연결된 컨슈머 수")
+                .tag("queue", emailQueue)
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 브로커에서 큐 정보를 조회하여 게이지 값을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.metrics.queue-depth-interval:15000}")
+    public void refresh() {
+        try {
+            QueueInformation queueInformation = amqpAdmin.getQueueInfo(emailQueue);
+            if (queueInformation != null) {
+                depth.set(queueInformation.getMessageCount());
+                consumers.set(queueInformation.getConsumerCount());
+            }
+        } catch (Exception e) {
+            log.debug("QUEUE DEPTH: failed to read {}", emailQueue, e);
+        }
+    }
+
+    /**
+     * 마지막으로 조회한 큐 적체량을 반환합니다.
+     *
+     * @return 대기 중인 메시지 수
+     */
+    public long getDepth() {
+        return depth.get();
+    }
+}
@@ -0,0 +1,269 @@
+package com.nhnacademy.notifyservice.outbox;
+
+import com.nhnacademy.notifyservice.domain.NotificationOutbox;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.NotificationOutboxRepository;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커밋된 아웃박스 항목을 STOMP로 전송하고 삭제하는 릴레이 컴포넌트입니다.
+ *
+ * <p>전송 경로:</p>
+ * <ul>
+ * <li>커밋 직후: {@link NotificationOutboxWriter}가 커밋된 항목의 id를 전달하면 전용 스레드가
+ *     {@code notification.outbox.batch-size}개씩 묶어 조회/전송/삭제합니다. 요청 스레드와 DB 커넥션은 전송을 기다리지 않습니다.</li>
+ * <li>재전송: 커밋 직후 전달이 유실된 항목(애플리케이션 중단, 전송 실패 등)은
+ *     {@code notification.outbox.stale-after}가 지난 뒤 주기적인 스윕에서 다시 전송됩니다.
+ *     스윕은 짧은 트랜잭션에서 항목을 점유하고 커밋한 뒤 전송하므로, 전송하는 동안 행 잠금이나 DB 커넥션을 잡고 있지 않습니다.</li>
+ * </ul>
+ *
+ * 아웃박스 한 행에는 한 트랜잭션에서 기록한 프레임이 목적지 목록과 함께 묶여 있으며, 릴레이가 목적지마다 프레임을 만들어 전송합니다.
+ * 일부 목적지에만 전송하지 못한 경우 남은 프레임만 행에 보관하여 다시 전송합니다.
+ * 읽지 않은 개수와 팝업 프레임은 같은 사용자의 SSE 연결({@link NotificationStreamRegistry})에도 전달합니다.
+ * 전송은 최소 한 번(at-least-once)을 보장하며, 릴레이가 stale-after 이상 밀린 경우 같은 프레임이 중복 전송될 수 있습니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.outbox.pending} - 커밋 후 전송을 기다리는 항목 수</li>
+ * <li>{@code notification.stage{stage=outbox-delay}} - 아웃박스 기록부터 전송까지의 지연 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    private final SimpMessageSendingOperations messageTemplate;
+
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
+    private final NotificationMetrics notificationMetrics;
+
+    private final int batchSize;
+
+    private final long staleAfterMillis;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Queue<Long> pendingIds = new ConcurrentLinkedQueue<>();
+
+    private final Set<Long> inFlightIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   SimpMessageSendingOperations messageTemplate,
+                                   NotificationStreamRegistry notificationStreamRegistry,
+                                   NotificationMetrics notificationMetrics,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                   @Value("${notification.outbox.stale-after:30000}") long staleAfterMillis) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.messageTemplate = messageTemplate;
+        this.notificationStreamRegistry = notificationStreamRegistry;
+        this.notificationMetrics = notificationMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.staleAfterMillis = staleAfterMillis;
+
+        Gauge.builder("notification.outbox.pending", pendingIds, Queue::size)
+                .description("커밋 후 전송을 기다리는 아웃박스 항목 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 커밋된 아웃박스 항목의 전송을 요청합니다. 전송은 릴레이 스레드에서 비동기로 수행됩니다.
+     *
+     * @param outboxId 커밋된 아웃박스 항목 id
+     */
+    public void publish(Long outboxId) {
+        pendingIds.add(outboxId);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 아웃박스에 기록하지 않고 프레임을 바로 전송합니다.
+     * <p>
+     * 재접속 catch-up처럼 커밋된 데이터를 조회해서 만든 일회성 프레임에 사용합니다.
+     * 구독 시점에 바로 보내야 하고 유실되면 클라이언트가 REST API로 다시 조회하므로 재전송이 필요 없으며,
+     * 페이로드는 메시지 컨버터가 JSON으로 변환합니다.
+     * </p>
+     *
+     * @param destination STOMP 목적지
+     * @param payload 전송할 객체
+     * @param frame 프레임 종류 (메트릭 태그)
+     */
+    public void sendDirect(String destination, Object payload, String frame) {
+        notificationMetrics.recordStage("push", () -> messageTemplate.convertAndSend(
+                destination, payload, NotificationTrace.stompHeaders()));
+        notificationMetrics.countPush(frame);
+    }
+
+    /**
+     * 대기 중인 항목을 배치 단위로 전송합니다. 전송하지 못한 항목은 테이블에 남아 스윕에서 다시 전송됩니다.
+     */
+    void drain() {
+        try {
+            List<Long> batch = pollBatch();
+            while (!batch.isEmpty()) {
+                try {
+                    List<NotificationOutbox> entries = new ArrayList<>(notificationOutboxRepository.findAllById(batch));
+                    entries.sort(Comparator.comparing(NotificationOutbox::getId));
+                    deleteSent(send(entries));
+                } finally {
+                    batch.forEach(inFlightIds::remove);
+                }
+                batch = pollBatch();
+            }
+        } catch (RuntimeException e) {
+            log.warn("OUTBOX RELAY: batch failed, remaining entries will be retried by sweep", e);
+        } finally {
+            draining.set(false);
+            if (!pendingIds.isEmpty() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * 커밋 직후 전송되지 않고 남은 오래된 항목을 다시 전송합니다.
+     * <p>
+     * 항목 조회와 점유만 트랜잭션에서 수행하고, 전송과 삭제는 커밋 이후에 수행합니다.
+     * 이 인스턴스의 릴레이 스레드가 아직 전송하려고 기다리거나 전송 중인 항목은 가져가지 않습니다.
+     * 전송에 실패한 항목은 점유가 만료된 뒤 다시 전송됩니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.sweep-interval:10000}")
+    public void sweep() {
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> claimStale());
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        List<Long> sent = send(claimed);
+        deleteSent(sent);
+        log.info("OUTBOX SWEEP: resent {} of {} stale entries", sent.size(), claimed.size());
+    }
+
+    private List<NotificationOutbox> claimStale() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minusNanos(staleAfterMillis * 1_000_000L);
+        List<NotificationOutbox> stale = new ArrayList<>(notificationOutboxRepository
+                .findClaimable(before, PageRequest.of(0, batchSize)));
+
+        Set<Long> relaying = new HashSet<>(pendingIds);
+        relaying.addAll(inFlightIds);
+        stale.removeIf(entry -> relaying.contains(entry.getId()));
+        if (!stale.isEmpty()) {
+            notificationOutboxRepository.claim(stale.stream().map(NotificationOutbox::getId).toList(), now);
+        }
+        return stale;
+    }
+
+    private List<Long> send(List<NotificationOutbox> entries) {
+        List<Long> sent = new ArrayList<>(entries.size());
+        for (NotificationOutbox entry : entries) {
+            try {
+                List<OutboxFrame> frames = OutboxFrames.decode(entry);
+                List<OutboxFrame> unsent = new ArrayList<>();
+                int frameCount = 0;
+                RuntimeException failure = null;
+                for (OutboxFrame frame : frames) {
+                    List<String> unsentDestinations = new ArrayList<>();
+                    for (String destination : frame.destinations()) {
+                        frameCount++;
+                        try {
+                            send(frame, destination, entry.getTraceId());
+                        } catch (RuntimeException e) {
+                            unsentDestinations.add(destination);
+                            failure = e;
+                        }
+                    }
+                    if (!unsentDestinations.isEmpty()) {
+                        unsent.add(frame.withDestinations(unsentDestinations));
+                    }
+                }
+                notificationMetrics.recordStage("outbox-delay",
+                        Math.max(0L, Duration.between(entry.getCreatedAt(), LocalDateTime.now()).toMillis()));
+
+                if (unsent.isEmpty()) {
+                    sent.add(entry.getId());
+                    continue;
+                }
+                int unsentCount = unsent.stream().mapToInt(frame -> frame.destinations().size()).sum();
+                log.warn("OUTBOX RELAY: failed to send {} of {} frames in {}", unsentCount, frameCount, entry.getId(), failure);
+                if (unsentCount < frameCount) {
+                    // 이미 전송한 프레임이 스윕에서 다시 전송되지 않도록 남은 프레임만 보관
+                    entry.replaceFrames(OutboxFrames.encode(unsent));
+                    notificationMetrics.recordDb("outbox-retain", () -> notificationOutboxRepository.save(entry));
+                }
+            } catch (RuntimeException e) {
+                log.warn("OUTBOX RELAY: failed to send {}", entry.getId(), e);
+            }
+        }
+        return sent;
+    }
+
+    private void send(OutboxFrame frame, String destination, String traceId) {
+        notificationMetrics.recordStage("push", () -> messageTemplate.convertAndSend(
+                destination, frame.payload(), NotificationTrace.stompHeaders(traceId)));
+        notificationStreamRegistry.publish(destination, frame.frame(), frame.payload());
+        notificationMetrics.countPush(frame.frame());
+    }
+
+    private void deleteSent(List<Long> sent) {
+        if (!sent.isEmpty()) {
+            notificationMetrics.recordDb("outbox-delete", () -> notificationOutboxRepository.deleteAllByIdInBatch(sent));
+        }
+    }
+
+    private List<Long> pollBatch() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        Long id;
+        while (batch.size() < batchSize && (id = pendingIds.poll()) != null) {
+            // 큐에서 꺼낸 뒤 삭제될 때까지 스윕이 같은 항목을 가져가지 않도록 표시
+            inFlightIds.add(id);
+            batch.add(id);
+        }
+        return batch;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,110 @@
+package com.nhnacademy.notifyservice.outbox;
+
+import com.nhnacademy.notifyservice.domain.NotificationOutbox;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.NotificationOutboxRepository;
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * STOMP 프레임을 현재 트랜잭션의 아웃박스에 기록하는 컴포넌트입니다.
+ *
+ * 알림 행과 같은 트랜잭션에 아웃박스 항목을 저장하고, 커밋된 경우에만 {@link NotificationOutboxRelay}에 전송을 요청합니다.
+ * 롤백된 트랜잭션의 프레임은 전송되지 않으며, 트랜잭션은 WebSocket 전송을 기다리지 않고 바로 커밋됩니다.
+ * 트랜잭션 안에서 기록한 프레임은 메모리에 모았다가 커밋 직전에 한 행으로 저장하므로,
+ * 팬아웃 청크 하나(수신자 수 x 프레임 수)가 아웃박스 INSERT 한 번과 전송 후 DELETE 한 번으로 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    private final NotificationOutboxRelay notificationOutboxRelay;
+
+    private final NotificationMetrics notificationMetrics;
+
+    /**
+     * 전송할 프레임을 아웃박스에 기록합니다.
+     * 트랜잭션 안에서는 현재 트랜잭션의 묶음에 추가하고, 트랜잭션이 없으면 바로 한 행을 저장하고 전송을 요청합니다.
+     *
+     * @param destination STOMP 목적지
+     * @param payload 전송할 값 (문자열 또는 숫자)
+     * @param frame 프레임 종류 (메트릭 태그)
+     * @throws IllegalArgumentException 페이로드가 문자열이나 숫자가 아닌 경우
+     */
+    public void enqueue(String destination, Object payload, String frame) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            OutboxFrames frames = new OutboxFrames();
+            frames.add(destination, payload, frame);
+            notificationOutboxRelay.publish(write(frames));
+            return;
+        }
+        currentFrames().add(destination, payload, frame);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 작업을 실행합니다. 트랜잭션이 없으면 즉시 실행합니다.
+     * 메모리 캐시처럼 커밋된 데이터만 반영해야 하는 작업에 사용합니다.
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션의 프레임 묶음을 반환하며, 처음 호출되면 커밋 직전 저장과 커밋 후 전송 요청을 등록합니다.
+     */
+    private OutboxFrames currentFrames() {
+        OutboxFrames bound = (OutboxFrames) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        OutboxFrames frames = new OutboxFrames();
+        TransactionSynchronizationManager.bindResource(this, frames);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Long outboxId;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                TransactionSynchronizationManager.unbindResource(NotificationOutboxWriter.this);
+                if (!frames.isEmpty()) {
+                    outboxId = write(frames);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                if (outboxId != null) {
+                    notificationOutboxRelay.publish(outboxId);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NotificationOutboxWriter.this);
+            }
+        });
+        return frames;
+    }
+
+    private Long write(OutboxFrames frames) {
+        NotificationOutbox entry = NotificationOutbox.of(frames.encode(), NotificationTrace.currentTraceId());
+        notificationMetrics.recordDb("outbox-write", () -> notificationOutboxRepository.save(entry));
+        return entry.getId();
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.notifyservice.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 한 행에 묶어 저장하는 STOMP 프레임입니다.
+ * <p>
+ * 같은 페이로드를 받는 목적지를 한 프레임에 모으므로, 이벤트의 본문/요약은 수신자 수와 관계없이 한 번만 저장됩니다.
+ * </p>
+ *
+ * @param frame 프레임 종류 (메트릭 태그)
+ * @param payload 전송할 값 (문자열 또는 Long)
+ * @param destinations STOMP 목적지 목록
+ */
+record OutboxFrame(String frame, Object payload, List<String> destinations) {
+
+    OutboxFrame {
+        payload = normalize(payload);
+    }
+
+    /**
+     * 페이로드를 저장 가능한 형식으로 변환합니다.
+     * JSON에서 복원한 숫자는 크기에 따라 Integer가 될 수 있으므로 읽지 않은 개수와 같은 Long으로 맞춥니다.
+     *
+     * @param payload 전송할 값
+     * @return 문자열 또는 Long
+     * @throws IllegalArgumentException 페이로드가 문자열이나 숫자가 아닌 경우
+     */
+    static Object normalize(Object payload) {
+        if (payload instanceof Number number) {
+            return number.longValue();
+        }
+        if (payload instanceof CharSequence text) {
+            return text.toString();
+        }
+        // 객체는 toString 결과로 저장되어 JSON으로 전송되지 않으므로 기록하지 않음
+        throw new IllegalArgumentException("outbox payload must be a string or a number.");
+    }
+
+    OutboxFrame withDestinations(List<String> destinations) {
+        return new OutboxFrame(frame, payload, destinations);
+    }
+}
@@ -0,0 +1,92 @@
+package com.nhnacademy.notifyservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.notifyservice.domain.NotificationOutbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 트랜잭션에서 기록한 STOMP 프레임을 아웃박스 한 행으로 묶는 빌더이자, 저장된 행의 프레임을 복원하는 변환기입니다.
+ * <p>
+ * 프레임 종류와 페이로드가 같은 목적지는 한 {@link OutboxFrame}으로 모읍니다.
+ * 같은 목적지에 서로 다른 프레임이 기록된 경우에는 기록한 순서대로 전송되도록 묶음을 새로 시작합니다.
+ * </p>
+ */
+final class OutboxFrames {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<List<OutboxFrame>> FRAME_LIST = new TypeReference<>() {
+    };
+
+    private final List<OutboxFrame> frames = new ArrayList<>();
+
+    private final Map<OutboxFrame, Integer> lastIndexByKey = new HashMap<>();
+
+    private final Map<String, Integer> lastIndexByDestination = new HashMap<>();
+
+    /**
+     * 전송할 프레임을 추가합니다.
+     *
+     * @param destination STOMP 목적지
+     * @param payload 전송할 값 (문자열 또는 숫자)
+     * @param frame 프레임 종류
+     * @throws IllegalArgumentException 페이로드가 문자열이나 숫자가 아닌 경우
+     */
+    void add(String destination, Object payload, String frame) {
+        OutboxFrame key = new OutboxFrame(frame, payload, List.of());
+        Integer index = lastIndexByKey.get(key);
+        if (index == null || index < lastIndexByDestination.getOrDefault(destination, -1)) {
+            index = frames.size();
+            frames.add(key.withDestinations(new ArrayList<>()));
+            lastIndexByKey.put(key, index);
+        }
+        frames.get(index).destinations().add(destination);
+        lastIndexByDestination.put(destination, index);
+    }
+
+    boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    /**
+     * 추가한 프레임을 JSON으로 변환합니다.
+     *
+     * @return 아웃박스 행에 저장할 JSON 문자열
+     */
+    String encode() {
+        return encode(frames);
+    }
+
+    static String encode(List<OutboxFrame> frames) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(frames);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox frames cannot be serialized.", e);
+        }
+    }
+
+    /**
+     * 아웃박스 행에 저장된 프레임을 복원합니다.
+     * 프레임을 묶어 저장하기 전에 기록된 행은 목적지 하나짜리 프레임으로 복원합니다.
+     *
+     * @param entry 아웃박스 항목
+     * @return 기록한 순서의 프레임 목록
+     * @throws IllegalStateException 저장된 JSON을 읽을 수 없는 경우
+     */
+    static List<OutboxFrame> decode(NotificationOutbox entry) {
+        if (entry.getFrames() == null) {
+            return List.of(new OutboxFrame(entry.getFrame(), entry.restorePayload(), List.of(entry.getDestination())));
+        }
+        try {
+            return OBJECT_MAPPER.readValue(entry.getFrames(), FRAME_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox frames cannot be read.", e);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.nhnacademy.notifyservice.producer;
 
+import com.nhnacademy.notifyservice.config.RabbitConfig;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+
 /**
  * 이메일 발송 요청을 RabbitMQ 큐에 비동기적으로 전달하는 프로듀서 서비스입니다.
  * <p>
  * - 텍스트/HTML 이메일 요청을 각각 큐에 전송할 수 있습니다.
  * - 큐 이름은 application.properties의 email.queue 프로퍼티로 주입받습니다.
+ * - 모든 요청에 trace id와 큐 적재 시각을 기록하여 WebSocket 전달까지의 지연 시간을 추적할 수 있게 합니다.
  * </p>
  */
 @Service
@@ -46,7 +52,8 @@ public class EmailQueueProducer {
      */
     public void sendTextEmail(EmailRequest request) {
         request.setType("TEXT");
-        rabbitTemplate.convertAndSend(emailQueue, request);
+        clearRetryState(request);
+        send(request);
     }
 
     /**
@@ -59,6 +66,103 @@ public class EmailQueueProducer {
      */
     public void sendHtmlEmail(EmailRequest request) {
         request.setType("HTML");
-        rabbitTemplate.convertAndSend(emailQueue, request);
+        clearRetryState(request);
+        send(request);
+    }
+
+    /**
+     * 이메일만 발송할 요청을 형식을 유지한 채 큐에 전송합니다.
+     * <p>
+     * 알림 요약({@link com.nhnacademy.notifyservice.digest.NotificationDigestAggregator})처럼
+     * 알림은 이미 처리하고 이메일만 남은 요청을 원본 큐로 보내 발송 속도 제한과 DLQ 처리를 거치게 합니다.
+     * 원래 요청의 trace id와 큐 적재 시각은 그대로 유지하고, 없는 경우에만 새로 기록한 복사본을 보냅니다
+     * (전달받은 요청은 변경하지 않음).
+     * </p>
+     *
+     * @param request 이메일만 발송할 요청 ({@code retryRecipients}가 빈 목록)
+     */
+    public void sendEmailOnly(EmailRequest request) {
+        EmailRequest traced = request.getTraceId() != null && request.getEnqueuedAt() != null
+                ? request
+                : request.withTrace(request.getTraceId() != null ? request.getTraceId() : NotificationTrace.currentOrNewTraceId(),
+                        request.getEnqueuedAt() != null ? request.getEnqueuedAt() : System.currentTimeMillis());
+        rabbitTemplate.convertAndSend(emailQueue, traced, traceHeaders(traced));
+    }
+
+    /**
+     * 일부 수신자 처리에 실패한 요청을 Dead Letter Queue로 직접 전송합니다.
+     * <p>
+     * 원본 메시지는 정상 처리(ack)하고, 실패한 수신자만 담은 복사본을 DLQ에 남겨
+     * 재처리 시 이미 저장된 수신자에게 알림이 중복 저장되지 않도록 합니다.
+     * 원래 요청의 trace id와 큐 적재 시각은 그대로 유지합니다.
+     * </p>
+     *
+     * @param request 재처리할 수신자를 담은 요청 ({@link EmailRequest#forRetry})
+     */
+    public void sendToDeadLetter(EmailRequest request) {
+        rabbitTemplate.convertAndSend(RabbitConfig.EMAIL_DLX, RabbitConfig.EMAIL_DLQ, request, traceHeaders(request));
+    }
+
+    /**
+     * 발송 속도 제한에 걸린 요청을 지연 큐로 전송합니다.
+     * <p>
+     * 지연 큐에는 컨슈머가 없으며, 메시지는 {@code notification.email.rate-limit.defer-delay}가 지나면
+     * 원본 큐로 dead-letter되어 다시 처리됩니다.
+     * </p>
+     *
+     * @param request 이메일만 다시 발송할 요청 ({@link EmailRequest#forDeferredEmail})
+     */
+    public void sendToDelay(EmailRequest request) {
+        rabbitTemplate.convertAndSend(RabbitConfig.EMAIL_DELAY_QUEUE, request, traceHeaders(request));
+    }
+
+    /**
+     * 외부에서 받은 요청의 재처리 상태를 초기화합니다.
+     * <p>
+     * 재처리 필드는 컨슈머가 만든 복사본({@link EmailRequest#forRetry})에서만 의미가 있습니다.
+     * HTTP 본문에서 바인딩한 값을 그대로 두면 호출자가 이메일 발송을 건너뛰거나({@code emailSent})
+     * 알림을 저장할 관리자를 고르거나({@code retryRecipients}) 지연 횟수 제한을 우회할 수 있으므로({@code deferrals})
+     * 큐에 넣기 전에 비웁니다.
+     * </p>
+     */
+    private static void clearRetryState(EmailRequest request) {
+        request.setRetryRecipients(null);
+        request.setEmailSent(false);
+        request.setDeferrals(0);
+    }
+
+    /**
+     * 원래 요청의 trace id와 큐 적재 시각을 AMQP 헤더에 기록합니다.
+     */
+    private static MessagePostProcessor traceHeaders(EmailRequest request) {
+        return message -> {
+            message.getMessageProperties().setHeader(NotificationTrace.TRACE_ID_HEADER, request.getTraceId());
+            if (request.getEnqueuedAt() != null) {
+                message.getMessageProperties().setHeader(NotificationTrace.ENQUEUED_AT_HEADER, request.getEnqueuedAt());
+            }
+            return message;
+        };
+    }
+
+    /**
+     * 요청에 trace id와 큐 적재 시각을 기록한 뒤 큐에 전송합니다.
+     * <p>
+     * 같은 값을 AMQP 헤더({@code X-Trace-Id}, {@code X-Enqueued-At})와 메시지 timestamp에도 기록하여
+     * 본문을 역직렬화하지 않는 브로커 측 도구에서도 추적할 수 있게 합니다.
+     * </p>
+     *
+     * @param request 이메일 발송 요청 정보
+     */
+    private void send(EmailRequest request) {
+        long enqueuedAt = System.currentTimeMillis();
+        request.setTraceId(NotificationTrace.currentOrNewTraceId());
+        request.setEnqueuedAt(enqueuedAt);
+
+        rabbitTemplate.convertAndSend(emailQueue, request, message -> {
+            message.getMessageProperties().setHeader(NotificationTrace.TRACE_ID_HEADER, request.getTraceId());
+            message.getMessageProperties().setHeader(NotificationTrace.ENQUEUED_AT_HEADER, enqueuedAt);
+            message.getMessageProperties().setTimestamp(new Date(enqueuedAt));
+            return message;
+        });
     }
 }
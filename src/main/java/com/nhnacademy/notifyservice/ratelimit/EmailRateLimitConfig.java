@@ -0,0 +1,12 @@
+package com.nhnacademy.notifyservice.ratelimit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이메일 발송 속도 제한 설정({@link EmailRateLimitProperties})을 등록하는 Configuration 클래스입니다.
+ */
+@Configuration
+@EnableConfigurationProperties(EmailRateLimitProperties.class)
+public class EmailRateLimitConfig {
+}
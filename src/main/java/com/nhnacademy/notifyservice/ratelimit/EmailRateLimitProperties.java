@@ -0,0 +1,78 @@
+package com.nhnacademy.notifyservice.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 이메일 발송 속도 제한 설정 프로퍼티입니다.
+ *
+ * <pre>
+ * notification.email.rate-limit.enabled=true
+ * notification.email.rate-limit.global.permits=50
+ * notification.email.rate-limit.global.period=1s
+ * notification.email.rate-limit.domain.permits=20
+ * notification.email.rate-limit.domain.period=1s
+ * notification.email.rate-limit.recipient.permits=60
+ * notification.email.rate-limit.recipient.period=1h
+ * notification.email.rate-limit.defer-delay=5s
+ * notification.email.rate-limit.max-deferrals=720
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.email.rate-limit")
+public class EmailRateLimitProperties {
+
+    /**
+     * 발송 속도 제한 사용 여부입니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * SMTP 릴레이 전체 발송 속도입니다.
+     */
+    private Limit global = new Limit(50, Duration.ofSeconds(1));
+
+    /**
+     * 수신자 도메인별 발송 속도입니다.
+     */
+    private Limit domain = new Limit(20, Duration.ofSeconds(1));
+
+    /**
+     * 수신자별 발송 한도입니다.
+     */
+    private Limit recipient = new Limit(60, Duration.ofHours(1));
+
+    /**
+     * 제한에 걸린 이메일을 지연 큐에 보관할 시간입니다.
+     * 지연 큐의 {@code x-message-ttl}로 선언되므로, 이미 선언된 큐가 있으면 큐를 삭제한 뒤 변경해야 합니다.
+     */
+    private Duration deferDelay = Duration.ofSeconds(5);
+
+    /**
+     * 한 이메일을 지연시킬 최대 횟수입니다. 넘으면 DLQ로 보냅니다.
+     */
+    private int maxDeferrals = 720;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * {@code period}마다 허용하는 발송 수이자 순간 최대 발송 수입니다.
+         */
+        private long permits;
+
+        /**
+         * 보충 주기입니다.
+         */
+        private Duration period;
+    }
+}
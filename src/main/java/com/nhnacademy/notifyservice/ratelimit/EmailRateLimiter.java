@@ -0,0 +1,162 @@
+package com.nhnacademy.notifyservice.ratelimit;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * SMTP 릴레이로 나가는 이메일의 발송 속도를 제한하는 컴포넌트입니다.
+ *
+ * 상위 서비스가 폭주하면 릴레이 계정이 제한되거나 차단 목록에 올라 모든 메일이 멈출 수 있습니다.
+ * {@code EmailService.send*} 호출 전에 다음 세 개의 {@link TokenBucket}에서 토큰을 하나씩 가져가며,
+ * 하나라도 부족하면 이미 가져간 토큰을 되돌리고 제한에 걸린 항목을 반환합니다.
+ * <ol>
+ * <li>수신자별 한도 ({@code recipient}) - 한 수신자가 받는 메일 수</li>
+ * <li>수신자 도메인별 속도 ({@code domain}) - 수신 측 메일 서버의 제한</li>
+ * <li>전체 발송 속도 ({@code global}) - 릴레이 계정의 제한</li>
+ * </ol>
+ * 폭주하는 수신자는 공유 버킷을 건드리지 않고 거절되도록 가장 좁은 범위부터 확인합니다.
+ *
+ * 도메인/수신자 버킷은 처음 발송할 때 만들고, 가득 찬 버킷은 새로 만든 버킷과 같으므로 주기적으로 제거합니다.
+ * 제거와 동시에 발송한 경우 토큰 하나만큼 느슨해질 수 있습니다.
+ * 버킷은 인스턴스 메모리에 있으므로 전체 속도는 인스턴스 수만큼 나누어 설정합니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.email.throttled} - 제한에 걸린 이메일 수 (limit)</li>
+ * <li>{@code notification.email.rate-limit.buckets} - 현재 도메인/수신자 버킷 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmailRateLimiter {
+
+    public static final String LIMIT_RECIPIENT = "recipient";
+
+    public static final String LIMIT_DOMAIN = "domain";
+
+    public static final String LIMIT_GLOBAL = "global";
+
+    private final EmailRateLimitProperties properties;
+
+    private final LongSupplier clock;
+
+    private final TokenBucket globalBucket;
+
+    private final Map<String, TokenBucket> domainBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, TokenBucket> recipientBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> throttledCounters;
+
+    @Autowired
+    public EmailRateLimiter(EmailRateLimitProperties properties, NotificationMetrics notificationMetrics) {
+        this(properties, notificationMetrics, System::nanoTime);
+    }
+
+    EmailRateLimiter(EmailRateLimitProperties properties, NotificationMetrics notificationMetrics, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.globalBucket = newBucket(properties.getGlobal(), clock.getAsLong());
+
+        this.throttledCounters = Map.of(
+                LIMIT_RECIPIENT, throttledCounter(notificationMetrics, LIMIT_RECIPIENT),
+                LIMIT_DOMAIN, throttledCounter(notificationMetrics, LIMIT_DOMAIN),
+                LIMIT_GLOBAL, throttledCounter(notificationMetrics, LIMIT_GLOBAL));
+        Gauge.builder("notification.email.rate-limit.buckets", () -> domainBuckets.size() + recipientBuckets.size())
+                .description("현재 도메인/수신자 버킷 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 이메일 한 통을 발송할 수 있는지 확인하고 토큰을 가져갑니다.
+     *
+     * @param to 수신자 이메일
+     * @return 발송할 수 있으면 빈 값, 제한에 걸리면 제한 항목({@link #LIMIT_RECIPIENT}, {@link #LIMIT_DOMAIN}, {@link #LIMIT_GLOBAL})
+     */
+    public Optional<String> tryAcquire(String to) {
+        if (!properties.isEnabled() || to == null) {
+            return Optional.empty();
+        }
+
+        long now = clock.getAsLong();
+        String recipient = to.trim().toLowerCase(Locale.ROOT);
+
+        TokenBucket recipientBucket = recipientBuckets.computeIfAbsent(recipient, key -> newBucket(properties.getRecipient(), now));
+        if (!recipientBucket.tryConsume(now)) {
+            return throttled(LIMIT_RECIPIENT);
+        }
+
+        TokenBucket domainBucket = domainBuckets.computeIfAbsent(domainOf(recipient), key -> newBucket(properties.getDomain(), now));
+        if (!domainBucket.tryConsume(now)) {
+            recipientBucket.refund(now);
+            return throttled(LIMIT_DOMAIN);
+        }
+
+        if (!globalBucket.tryConsume(now)) {
+            domainBucket.refund(now);
+            recipientBucket.refund(now);
+            return throttled(LIMIT_GLOBAL);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 지연 큐를 거쳐 다시 시도할 수 있는 횟수를 넘었는지 확인합니다.
+     *
+     * @param deferrals 지금까지 지연시킨 횟수
+     * @return 더 지연시킬 수 있으면 true (음수처럼 잘못된 횟수는 false)
+     */
+    public boolean canDefer(int deferrals) {
+        return deferrals >= 0 && deferrals < properties.getMaxDeferrals();
+    }
+
+    /**
+     * 가득 찬 도메인/수신자 버킷을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.email.rate-limit.evict-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = clock.getAsLong();
+        domainBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        recipientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * 현재 도메인/수신자 버킷 수를 반환합니다.
+     *
+     * @return 버킷 수
+     */
+    int bucketCount() {
+        return domainBuckets.size() + recipientBuckets.size();
+    }
+
+    private Optional<String> throttled(String limit) {
+        throttledCounters.get(limit).increment();
+        return Optional.of(limit);
+    }
+
+    private static String domainOf(String recipient) {
+        return recipient.substring(recipient.lastIndexOf('@') + 1);
+    }
+
+    private static TokenBucket newBucket(EmailRateLimitProperties.Limit limit, long now) {
+        return new TokenBucket(limit.getPermits(), limit.getPeriod(), now);
+    }
+
+    private static Counter throttledCounter(NotificationMetrics notificationMetrics, String limit) {
+        return Counter.builder("notification.email.throttled")
+                .description("발송 속도 제한에 걸려 지연시킨 이메일 수")
+                .tag("limit", limit)
+                .register(notificationMetrics.getMeterRegistry());
+    }
+}
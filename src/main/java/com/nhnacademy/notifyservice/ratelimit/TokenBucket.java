@@ -0,0 +1,110 @@
+package com.nhnacademy.notifyservice.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 잠금 없이 동작하는 토큰 버킷입니다.
+ *
+ * 최대 {@code permits}개의 토큰을 보관하며 {@code period}마다 {@code permits}개의 비율로 연속적으로 보충합니다.
+ * 남은 토큰과 마지막 보충 시각을 하나의 불변 상태로 묶어 {@link AtomicReference}의 CAS로 갱신하므로,
+ * 여러 컨슈머 스레드가 동시에 토큰을 가져가도 보충과 차감이 유실되지 않습니다.
+ * 토큰이 부족하면 상태를 변경하지 않고 바로 실패를 반환합니다.
+ *
+ * 시각은 호출자가 {@link System#nanoTime()} 기준으로 전달합니다.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+
+    private final double tokensPerNano;
+
+    private final AtomicReference<State> state;
+
+    /**
+     * 가득 찬 버킷을 생성합니다.
+     *
+     * @param permits 버킷 크기이자 {@code period}마다 보충하는 토큰 수
+     * @param period 보충 주기
+     * @param nowNanos 현재 시각
+     */
+    TokenBucket(long permits, Duration period, long nowNanos) {
+        if (permits <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("permits and period must be positive: " + permits + "/" + period);
+        }
+        this.capacity = permits;
+        this.tokensPerNano = (double) permits / period.toNanos();
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * 토큰 하나를 가져갑니다.
+     *
+     * @param nowNanos 현재 시각
+     * @return 가져갔으면 true, 토큰이 부족하면 false
+     */
+    boolean tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = refilled(current, nowNanos);
+            if (tokens < 1.0) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1.0, Math.max(nowNanos, current.refilledAt())))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 가져간 토큰 하나를 되돌립니다. 다른 버킷에서 거절되어 실제로 발송하지 않은 경우에 사용합니다.
+     *
+     * @param nowNanos 현재 시각
+     */
+    void refund(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, refilled(current, nowNanos) + 1.0);
+            if (state.compareAndSet(current, new State(tokens, Math.max(nowNanos, current.refilledAt())))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찼는지 확인합니다. 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 됩니다.
+     *
+     * @param nowNanos 현재 시각
+     * @return 가득 찼으면 true
+     */
+    boolean isFull(long nowNanos) {
+        return refilled(state.get(), nowNanos) >= capacity;
+    }
+
+    /**
+     * 현재 남은 토큰 수를 반환합니다.
+     *
+     * @param nowNanos 현재 시각
+     * @return 남은 토큰 수
+     */
+    double available(long nowNanos) {
+        return refilled(state.get(), nowNanos);
+    }
+
+    private double refilled(State current, long nowNanos) {
+        long elapsed = nowNanos - current.refilledAt();
+        if (elapsed <= 0) {
+            return current.tokens();
+        }
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+
+    /**
+     * 버킷의 상태입니다.
+     *
+     * @param tokens 마지막 보충 시각 기준 남은 토큰 수
+     * @param refilledAt 마지막 보충 시각
+     */
+    private record State(double tokens, long refilledAt) {
+    }
+}
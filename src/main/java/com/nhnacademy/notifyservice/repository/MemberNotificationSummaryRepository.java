@@ -0,0 +1,152 @@
+package com.nhnacademy.notifyservice.repository;
+
+import com.nhnacademy.notifyservice.domain.MemberNotificationSummary;
+import com.nhnacademy.notifyservice.summary.MemberUnreadCount;
+import com.nhnacademy.notifyservice.summary.MemberUnreadState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 알림 요약(MemberNotificationSummary) 엔티티에 대한 데이터 접근을 담당하는 JPA 리포지토리 인터페이스입니다.
+ * <p>
+ * 동시에 여러 컨슈머가 같은 회원의 요약을 갱신해도 증감이 유실되지 않도록,
+ * 값을 읽어 계산한 뒤 저장하지 않고 모든 갱신을 단일 UPDATE 문으로 수행합니다.
+ * 모든 갱신은 조건부 GET의 ETag로 사용하는 {@code version}도 함께 증가시킵니다.
+ * </p>
+ */
+public interface MemberNotificationSummaryRepository extends JpaRepository<MemberNotificationSummary, Long> {
+
+    /**
+     * 회원의 요약 행을 추가합니다.
+     * 이미 행이 있으면 기본 키 중복으로 실패하므로 별도 트랜잭션에서 호출해야 합니다.
+     *
+     * @param mbNo 회원번호
+     * @param unreadCount 읽지 않은 알림 개수
+     * @return 추가한 행 수
+     */
+    @Modifying
+    @Query("insert into MemberNotificationSummary (mbNo, unreadCount) values (:mbNo, :unreadCount)")
+    int insert(@Param("mbNo") Long mbNo, @Param("unreadCount") long unreadCount);
+
+    /**
+     * 새 알림을 반영합니다. 읽지 않은 알림 개수를 증가시키고 마지막 알림 id를 갱신합니다.
+     *
+     * @param mbNo 회원번호
+     * @param notificationId 저장한 알림 id
+     * @param unreadDelta 읽지 않은 알림 개수 증가분 (읽음 상태로 저장한 경우 0)
+     * @return 갱신한 행 수, 요약 행이 없으면 0
+     */
+    @Modifying
+    @Query("update MemberNotificationSummary s set s.unreadCount = s.unreadCount + :unreadDelta, s.version = s.version + 1, "
+            + "s.lastNotificationId = case when s.lastNotificationId is null or s.lastNotificationId < :notificationId "
+            + "then :notificationId else s.lastNotificationId end "
+            + "where s.mbNo = :mbNo")
+    int recordNotification(@Param("mbNo") Long mbNo, @Param("notificationId") Long notificationId, @Param("unreadDelta") long unreadDelta);
+
+    /**
+     * 읽음 처리를 반영합니다. 실제로 읽음 처리한 개수만큼 감소시키므로 동시에 저장된 알림은 그대로 남습니다.
+     *
+     * @param mbNo 회원번호
+     * @param readCount 읽음 처리한 알림 수
+     * @param readAt 읽음 처리 시각
+     * @return 갱신한 행 수
+     */
+    @Modifying
+    @Query("update MemberNotificationSummary s set s.unreadCount = case when s.unreadCount > :readCount "
+            + "then s.unreadCount - :readCount else 0 end, s.lastReadAt = :readAt, s.version = s.version + 1 "
+            + "where s.mbNo = :mbNo")
+    int recordRead(@Param("mbNo") Long mbNo, @Param("readCount") long readCount, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * 삭제한 읽지 않은 알림 수만큼 감소시킵니다.
+     * 읽은 알림만 삭제한 경우에도 히스토리가 바뀌었으므로 0으로 호출하여 버전을 증가시킵니다.
+     *
+     * @param mbNo 회원번호
+     * @param deletedUnreadCount 삭제한 읽지 않은 알림 수
+     * @return 갱신한 행 수
+     */
+    @Modifying
+    @Query("update MemberNotificationSummary s set s.unreadCount = case when s.unreadCount > :deletedUnreadCount "
+            + "then s.unreadCount - :deletedUnreadCount else 0 end, s.version = s.version + 1 "
+            + "where s.mbNo = :mbNo")
+    int recordDeleted(@Param("mbNo") Long mbNo, @Param("deletedUnreadCount") long deletedUnreadCount);
+
+    /**
+     * 읽지 않은 알림 개수를 상세 테이블 기준 값으로 바로잡습니다.
+     * 검사 이후 다른 트랜잭션이 값을 변경했다면 갱신하지 않습니다.
+     *
+     * @param mbNo 회원번호
+     * @param observed 검사 시점의 요약 값
+     * @param actual 상세 테이블 기준 값
+     * @return 갱신한 행 수
+     */
+    @Modifying
+    @Query("update MemberNotificationSummary s set s.unreadCount = :actual, s.version = s.version + 1 where s.mbNo = :mbNo and s.unreadCount = :observed")
+    int repairUnreadCount(@Param("mbNo") Long mbNo, @Param("observed") long observed, @Param("actual") long actual);
+
+    /**
+     * 이메일로 회원의 읽지 않은 알림 개수를 조회합니다. 기본 키 한 행만 읽습니다.
+     *
+     * @param mbEmail 회원 이메일
+     * @return 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    @Query("select s.unreadCount from MemberNotificationSummary s, Member m where m.mbEmail = :mbEmail and s.mbNo = m.mbNo")
+    Optional<Long> findUnreadCountByMbEmail(@Param("mbEmail") String mbEmail);
+
+    /**
+     * 이메일로 회원의 알림 변경 버전을 조회합니다. 알림 테이블은 읽지 않습니다.
+     *
+     * @param mbEmail 회원 이메일
+     * @return 알림 변경 버전, 요약 행이 없으면 빈 값
+     */
+    @Query("select s.version from MemberNotificationSummary s, Member m where m.mbEmail = :mbEmail and s.mbNo = m.mbNo")
+    Optional<Long> findVersionByMbEmail(@Param("mbEmail") String mbEmail);
+
+    /**
+     * 이메일로 회원의 알림 변경 버전과 읽지 않은 알림 개수를 함께 조회합니다. 기본 키 한 행만 읽습니다.
+     *
+     * @param mbEmail 회원 이메일
+     * @return 변경 버전과 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    @Query("select new com.nhnacademy.notifyservice.summary.MemberUnreadState(s.version, s.unreadCount) "
+            + "from MemberNotificationSummary s, Member m where m.mbEmail = :mbEmail and s.mbNo = m.mbNo")
+    Optional<MemberUnreadState> findUnreadStateByMbEmail(@Param("mbEmail") String mbEmail);
+
+    /**
+     * 회원번호로 읽지 않은 알림 개수를 조회합니다.
+     *
+     * @param mbNo 회원번호
+     * @return 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    @Query("select s.unreadCount from MemberNotificationSummary s where s.mbNo = :mbNo")
+    Optional<Long> findUnreadCountByMbNo(@Param("mbNo") Long mbNo);
+
+    /**
+     * 정합성 검사를 위해 기준 회원번호 이후의 회원번호를 순서대로 조회합니다.
+     *
+     * @param mbNo 이 값보다 큰 회원번호만 조회
+     * @param pageable 조회 개수
+     * @return 회원번호 목록
+     */
+    @Query("select m.mbNo from Member m where m.mbNo > :mbNo order by m.mbNo asc")
+    List<Long> findMbNosAfter(@Param("mbNo") Long mbNo, Pageable pageable);
+
+    /**
+     * 상세 테이블 기준 회원별 읽지 않은 알림 개수를 집계합니다.
+     * 회원별 집계는 (mb_no, is_read) 인덱스 범위만 읽습니다.
+     *
+     * @param mbNos 회원번호 목록
+     * @return 회원별 읽지 않은 알림 개수
+     */
+    @Query("select new com.nhnacademy.notifyservice.summary.MemberUnreadCount(m.mbNo, "
+            + "(select count(n) from NotificationMessage n where n.member = m and n.isRead = false)) "
+            + "from Member m where m.mbNo in :mbNos")
+    List<MemberUnreadCount> countUnreadByMembers(@Param("mbNos") List<Long> mbNos);
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.notifyservice.repository;
+
+import com.nhnacademy.notifyservice.domain.NotificationEventBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 알림 본문(NotificationEventBody) 엔티티에 대한 데이터 접근을 담당하는 JPA 리포지토리 인터페이스입니다.
+ */
+public interface NotificationEventBodyRepository extends JpaRepository<NotificationEventBody, Long> {
+
+    /**
+     * 지정한 시각 이전에 생성되었고 더 이상 참조하는 알림이 없는 본문을 삭제합니다.
+     * <p>
+     * 보관 기간 정리 작업이 알림을 삭제한 뒤 호출합니다.
+     * 수신자별 알림을 저장하는 중인 본문이 삭제되지 않도록 기준 시각은 보관 기간 이전이어야 합니다.
+     * </p>
+     *
+     * @param before 기준 시각
+     * @return 삭제한 본문 수
+     */
+    @Modifying
+    @Query("delete from NotificationEventBody b where b.createdAt < :before "
+            + "and not exists (select 1 from NotificationMessage m where m.event = b)")
+    int deleteUnreferencedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,9 +2,19 @@ package com.nhnacademy.notifyservice.repository;
 
 import com.nhnacademy.notifyservice.domain.Member;
 import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -126,4 +136,57 @@ public interface NotificationMessageRepository extends JpaRepository<Notificatio
      * @throws IllegalArgumentException member가 null인 경우
      */
     List<NotificationMessage> findByMemberAndIsReadFalse(Member member);
+
+    /**
+     * 특정 회원의 읽지 않은 알림을 단일 UPDATE 문으로 모두 읽음 처리합니다.
+     *
+     * 엔티티를 조회하지 않고 (mb_no, is_read) 인덱스 범위만 갱신하며,
+     * 실제로 변경된 행 수를 반환하므로 동시에 읽음 처리해도 회원별 요약을 중복 감소시키지 않습니다.
+     *
+     * @param member 읽음 처리할 회원 객체
+     * @return int 읽음 상태로 변경된 알림 수
+     */
+    @Modifying
+    @Query("update NotificationMessage m set m.isRead = true where m.member = :member and m.isRead = false")
+    int markAllRead(@Param("member") Member member);
+
+    /**
+     * 특정 회원의 알림 중 기준 id 이후의 알림을 id 오름차순으로 조회합니다.
+     *
+     * STOMP 재접속 시 클라이언트가 마지막으로 확인한 알림 id를 커서로 사용하는 keyset 쿼리로,
+     * 메모리 링 버퍼가 해당 구간을 보장하지 못할 때의 폴백 경로로 사용됩니다.
+     * OFFSET 기반 페이징과 달리 기준 id 이전의 행을 건너뛰며 읽지 않습니다.
+     * 여러 인스턴스가 알림을 저장하는 경우 id 순서는 인스턴스 간 시계 순서이므로, 시계가 늦은 인스턴스가
+     * 기준 id 이후에 저장한 더 작은 id의 알림은 조회되지 않습니다. ({@link com.nhnacademy.notifyservice.domain.id.TimeOrderedIdSource} 참고)
+     *
+     * <p>사용 예시:</p>
+     * <pre>{@code
+     * List<NotificationMessage> missed = notificationMessageRepository
+     *     .findByMemberAndIdGreaterThanOrderByIdAsc(member, lastSeenId, PageRequest.of(0, 100));
+     * }</pre>
+     *
+     * @param member 알림 메시지를 조회할 회원 객체
+     * @param id 클라이언트가 마지막으로 확인한 알림 id (이 값보다 큰 id만 조회)
+     * @param pageable 최대 조회 개수 제한
+     * @return List&lt;NotificationMessage&gt; 기준 id 이후의 알림 목록, 없으면 빈 리스트
+     */
+    List<NotificationMessage> findByMemberAndIdGreaterThanOrderByIdAsc(Member member, Long id, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 역할별 알림을 오래된 순서로 조회합니다.
+     * <p>
+     * 보관 기간 정리 작업이 한 번에 삭제할 묶음을 가져오기 위해 사용되며,
+     * (role_no, created_at, id) 인덱스 범위만 읽습니다.
+     * 여러 인스턴스가 동시에 정리해도 같은 행을 중복 보관하지 않도록 이미 잠긴 행은 건너뜁니다(SKIP LOCKED).
+     * </p>
+     *
+     * @param role 알림 대상 역할
+     * @param cutoff 이 시각 이전에 생성된 알림이 대상
+     * @param pageable 조회 개수
+     * @return 보관 기간이 지난 알림 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from NotificationMessage m where m.role = :role and m.createdAt < :cutoff order by m.createdAt asc, m.id asc")
+    List<NotificationMessage> findExpired(@Param("role") Role role, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
@@ -0,0 +1,50 @@
+package com.nhnacademy.notifyservice.repository;
+
+import com.nhnacademy.notifyservice.domain.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 아웃박스(NotificationOutbox) 엔티티에 대한 데이터 접근을 담당하는 JPA 리포지토리 인터페이스입니다.
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 지정한 시각 이전에 생성되었고, 점유되지 않았거나 점유가 만료된 항목을 id 순서로 조회합니다.
+     * <p>
+     * 커밋 직후 전달이 유실된 항목(애플리케이션 중단 등)을 다시 전송하기 위해 사용됩니다.
+     * 여러 인스턴스가 동시에 조회해도 같은 행을 중복 점유하지 않도록 이미 잠긴 행은 건너뜁니다(SKIP LOCKED).
+     * 조회한 행은 같은 트랜잭션에서 {@link #claim(List, LocalDateTime)}으로 점유한 뒤 바로 커밋해야 합니다.
+     * </p>
+     *
+     * @param before 기준 시각 (생성 시각과 점유 시각 모두 이 시각보다 이전이어야 함)
+     * @param pageable 조회 개수
+     * @return 전송되지 않은 아웃박스 항목 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from NotificationOutbox o where o.createdAt < :before and (o.claimedAt is null or o.claimedAt < :before) order by o.id asc")
+    List<NotificationOutbox> findClaimable(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 스윕이 재전송할 항목의 점유 시각을 기록합니다.
+     * 점유된 항목은 점유 시각이 stale-after보다 오래될 때까지 다른 스윕이 가져가지 않습니다.
+     *
+     * @param ids 점유할 항목 id 목록
+     * @param claimedAt 점유 시각
+     * @return int 점유한 항목 수
+     */
+    @Modifying
+    @Query("update NotificationOutbox o set o.claimedAt = :claimedAt where o.id in :ids")
+    int claim(@Param("ids") List<Long> ids, @Param("claimedAt") LocalDateTime claimedAt);
+}
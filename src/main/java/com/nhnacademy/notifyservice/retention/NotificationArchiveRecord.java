@@ -0,0 +1,31 @@
+package com.nhnacademy.notifyservice.retention;
+
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 파일에 한 줄로 기록되는 알림 행입니다.
+ *
+ * @param id 알림 id
+ * @param mbNo 수신자 회원번호
+ * @param mbEmail 수신자 이메일
+ * @param roleName 알림 대상 역할명
+ * @param content 알림 본문
+ * @param isRead 읽음 여부
+ * @param createdAt 생성 시각
+ */
+public record NotificationArchiveRecord(Long id, Long mbNo, String mbEmail, String roleName,
+                                        String content, boolean isRead, LocalDateTime createdAt) {
+
+    static NotificationArchiveRecord of(NotificationMessage notificationMessage, String mbEmail, String roleName, String content) {
+        return new NotificationArchiveRecord(
+                notificationMessage.getId(),
+                notificationMessage.getMember().getMbNo(),
+                mbEmail,
+                roleName,
+                content,
+                notificationMessage.isRead(),
+                notificationMessage.getCreatedAt());
+    }
+}
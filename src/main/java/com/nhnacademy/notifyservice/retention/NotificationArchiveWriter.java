@@ -0,0 +1,118 @@
+package com.nhnacademy.notifyservice.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간이 지난 알림을 gzip 압축 NDJSON 파일로 내보내는 클래스입니다.
+ *
+ * 정리 작업 한 번마다 {@code notification-message-yyyyMMdd-HHmmss.ndjson.gz} 파일 하나를 만들고,
+ * 묶음을 삭제하기 전에 해당 묶음을 파일에 flush합니다.
+ * 작업 중에는 {@code .part} 확장자로 기록하고 정상 종료 시 최종 이름으로 변경하므로,
+ * {@code .part} 파일이 남아 있다면 작업이 중단된 것이며 마지막 묶음까지의 행이 기록되어 있습니다.
+ */
+public class NotificationArchiveWriter {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ObjectMapper objectMapper;
+
+    private final Path directory;
+
+    public NotificationArchiveWriter(ObjectMapper objectMapper, Path directory) {
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.directory = directory;
+    }
+
+    /**
+     * 새 보관 파일을 엽니다.
+     *
+     * @param startedAt 정리 작업 시작 시각 (파일 이름에 사용)
+     * @return 보관 파일
+     */
+    public ArchiveFile open(LocalDateTime startedAt) {
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve("notification-message-" + startedAt.format(FILE_TIMESTAMP) + ".ndjson.gz");
+            return new ArchiveFile(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot open archive file in " + directory, e);
+        }
+    }
+
+    /**
+     * 정리 작업 한 번 동안 사용하는 보관 파일입니다.
+     */
+    public final class ArchiveFile implements Closeable {
+
+        private final Path target;
+
+        private final Path partial;
+
+        private final BufferedWriter writer;
+
+        private long written;
+
+        private ArchiveFile(Path target) throws IOException {
+            this.target = target;
+            this.partial = target.resolveSibling(target.getFileName() + ".part");
+            OutputStream out = Files.newOutputStream(partial);
+            this.writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(out, true), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 묶음을 기록하고 디스크로 flush합니다. 이 메서드가 반환된 뒤에 행을 삭제해야 합니다.
+         *
+         * @param records 기록할 알림 행
+         */
+        public void append(List<NotificationArchiveRecord> records) {
+            try {
+                for (NotificationArchiveRecord record : records) {
+                    writer.write(objectMapper.writeValueAsString(record));
+                    writer.newLine();
+                }
+                writer.flush();
+                written += records.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot write archive file " + partial, e);
+            }
+        }
+
+        /**
+         * 지금까지 기록한 행 수를 반환합니다.
+         *
+         * @return 기록한 행 수
+         */
+        public long getWritten() {
+            return written;
+        }
+
+        /**
+         * 파일을 닫습니다. 기록한 행이 없으면 파일을 남기지 않습니다.
+         */
+        @Override
+        public void close() throws IOException {
+            writer.close();
+            if (written == 0) {
+                Files.deleteIfExists(partial);
+                return;
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.nhnacademy.notifyservice.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 월 단위로 파티션된 알림 테이블의 파티션을 관리하는 컴포넌트입니다.
+ *
+ * {@code notification.retention.partitioning.enabled=true}이고, 테이블을
+ * {@code db/optional/notification_message_monthly_partitions.sql}로 전환한 경우에만 사용합니다.
+ * 파티션 이름은 {@code pYYYYMM}이며, 해당 월의 알림을 보관합니다.
+ * 아직 만들지 않은 달의 알림은 {@code p_future} 파티션에 쌓입니다.
+ *
+ * <p>수행하는 작업:</p>
+ * <ul>
+ * <li>{@code p_future}를 분할하여 다음 {@code months-ahead}개월의 파티션을 미리 생성</li>
+ * <li>모든 역할의 보관 기간이 지난 달의 파티션을 DROP PARTITION으로 제거
+ * (보관 파일을 사용하는 경우 {@link NotificationRetentionJob}이 비운 파티션만 제거)</li>
+ * </ul>
+ *
+ * 파티션 제거는 행 단위 삭제와 달리 undo 로그와 긴 잠금 없이 즉시 공간을 반환합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "notification.retention.partitioning", name = "enabled", havingValue = "true")
+public class NotificationPartitionMaintainer {
+
+    static final String TABLE = "notification_message";
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NotificationRetentionProperties properties;
+
+    private final NotificationRetentionPolicy policy;
+
+    public NotificationPartitionMaintainer(JdbcTemplate jdbcTemplate, NotificationRetentionProperties properties,
+                                           NotificationRetentionPolicy policy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.policy = policy;
+    }
+
+    /**
+     * 파티션을 생성하고 제거합니다.
+     */
+    @Scheduled(cron = "${notification.retention.partition-cron:0 0 3 * * *}")
+    public void maintain() {
+        maintain(LocalDate.now());
+    }
+
+    /**
+     * 지정된 날짜를 기준으로 파티션을 생성하고 제거합니다.
+     *
+     * @param today 기준 날짜
+     */
+    void maintain(LocalDate today) {
+        List<String> existing = jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                String.class, TABLE);
+        if (existing.isEmpty()) {
+            log.warn("PARTITION: {} is not partitioned, skipping", TABLE);
+            return;
+        }
+
+        Optional<YearMonth> dropBefore = policy.longestTtl()
+                .map(ttl -> YearMonth.from(today.atStartOfDay().minus(ttl)));
+        PartitionPlan plan = PartitionPlan.of(existing, YearMonth.from(today), properties.getPartitioning().getMonthsAhead(),
+                dropBefore.orElse(null));
+
+        for (YearMonth month : plan.toCreate()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+            log.info("PARTITION: created {}", month.format(PARTITION_NAME));
+        }
+
+        boolean dropped = false;
+        for (String partition : plan.toDrop()) {
+            if (properties.getArchive().isEnabled() && !isEmpty(partition)) {
+                // 보관 파일로 내보내지 않은 행이 남아 있으면 정리 작업이 끝날 때까지 유지
+                log.info("PARTITION: {} still has rows to archive, keeping", partition);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+            log.info("PARTITION: dropped {}", partition);
+            dropped = true;
+        }
+
+        if (dropped) {
+            // 어느 회원의 알림이 제거되었는지 알 수 없으므로 모든 회원의 히스토리 ETag를 무효화
+            jdbcTemplate.update("UPDATE member_notification_summary SET version = version + 1");
+        }
+    }
+
+    private boolean isEmpty(String partition) {
+        return jdbcTemplate.queryForList("SELECT 1 FROM " + TABLE + " PARTITION (" + partition + ") LIMIT 1").isEmpty();
+    }
+
+    /**
+     * 생성하고 제거할 파티션 목록입니다.
+     *
+     * @param toCreate 오래된 순서로 생성할 월
+     * @param toDrop 제거할 파티션 이름
+     */
+    record PartitionPlan(List<YearMonth> toCreate, List<String> toDrop) {
+
+        /**
+         * 현재 파티션 목록으로 작업 계획을 만듭니다.
+         * {@code p_future}는 마지막 파티션만 분할할 수 있으므로 가장 최근 월 파티션 다음 달부터 차례대로 생성합니다.
+         *
+         * @param existing 현재 파티션 이름 목록
+         * @param current 기준 월
+         * @param monthsAhead 미리 만들어 둘 다음 달 파티션 수
+         * @param dropBefore 이 월보다 이전 월의 파티션을 제거, 제거하지 않으면 null
+         * @return 작업 계획
+         */
+        static PartitionPlan of(Collection<String> existing, YearMonth current, int monthsAhead, YearMonth dropBefore) {
+            List<YearMonth> months = existing.stream()
+                    .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+                    .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                    .sorted()
+                    .toList();
+
+            List<YearMonth> toCreate = new ArrayList<>();
+            YearMonth next = months.isEmpty() ? current : months.get(months.size() - 1).plusMonths(1);
+            for (YearMonth last = current.plusMonths(monthsAhead); !next.isAfter(last); next = next.plusMonths(1)) {
+                toCreate.add(next);
+            }
+
+            List<String> toDrop = dropBefore == null ? List.of() : months.stream()
+                    .filter(month -> month.isBefore(dropBefore))
+                    .map(month -> month.format(PARTITION_NAME))
+                    .toList();
+
+            return new PartitionPlan(toCreate, toDrop);
+        }
+    }
+}
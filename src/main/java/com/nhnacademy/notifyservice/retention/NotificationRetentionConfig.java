@@ -0,0 +1,19 @@
+package com.nhnacademy.notifyservice.retention;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림 보관 기간 관련 빈을 등록하는 Configuration 클래스입니다.
+ * {@link NotificationRetentionProperties}의 역할별 설정으로 {@link NotificationRetentionPolicy}를 구성합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(NotificationRetentionProperties.class)
+public class NotificationRetentionConfig {
+
+    @Bean
+    public NotificationRetentionPolicy notificationRetentionPolicy(NotificationRetentionProperties properties) {
+        return properties.toPolicy();
+    }
+}
@@ -0,0 +1,275 @@
+package com.nhnacademy.notifyservice.retention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.notifyservice.cache.RecentNotificationCache;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.NotificationEventBody;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationEventBodyRepository;
+import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import com.nhnacademy.notifyservice.summary.NotificationSummaryStore;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 보관 기간이 지난 알림을 작은 묶음 단위로 삭제(선택적으로 보관 파일로 내보낸 뒤 삭제)하는 배치 작업입니다.
+ *
+ * 알림은 삭제되지 않으면 테이블과 인덱스가 계속 커져 개수/히스토리 조회가 점점 느려집니다.
+ * 이 작업은 역할별 보관 기간({@link NotificationRetentionPolicy})이 지난 행을
+ * {@code notification.retention.chunk-size}개씩 별도 트랜잭션으로 삭제하여 잠금 시간을 짧게 유지합니다.
+ *
+ * <p>한 묶음의 처리 순서:</p>
+ * <ol>
+ * <li>보관 기간이 지난 행을 오래된 순서로 잠그며 조회 (다른 인스턴스가 잠근 행은 건너뜀)</li>
+ * <li>보관 파일이 설정된 경우 파일에 기록하고 flush</li>
+ * <li>id 목록으로 일괄 삭제하고 삭제한 읽지 않은 알림 수만큼 회원별 요약을 감소(변경 버전 증가)시킨 후 커밋</li>
+ * <li>해당 사용자의 최근 알림 캐시 제거</li>
+ * </ol>
+ *
+ * 커밋에 실패하면 이미 기록한 묶음이 다음 실행에서 다시 기록될 수 있습니다 (최소 한 번 보관).
+ * 모든 묶음을 처리한 뒤에는 더 이상 참조하는 알림이 없는 공유 본문({@link NotificationEventBody})을 삭제합니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.retention.purged} - 삭제한 알림 수 (role)</li>
+ * <li>{@code notification.retention.archived} - 보관 파일로 내보낸 알림 수</li>
+ * </ul>
+ *
+ * @see NotificationArchiveWriter
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationMessageRepository notificationMessageRepository;
+
+    private final NotificationEventBodyRepository notificationEventBodyRepository;
+
+    private final RoleRepository roleRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final RecentNotificationCache recentNotificationCache;
+
+    private final NotificationSummaryStore notificationSummaryStore;
+
+    private final NotificationMetrics notificationMetrics;
+
+    private final NotificationRetentionProperties properties;
+
+    private final NotificationRetentionPolicy policy;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 보관 파일 기록기입니다. 보관 파일을 사용하지 않으면 null입니다.
+     */
+    private final NotificationArchiveWriter archiveWriter;
+
+    private final Counter archivedCounter;
+
+    public NotificationRetentionJob(NotificationMessageRepository notificationMessageRepository,
+                                    NotificationEventBodyRepository notificationEventBodyRepository,
+                                    RoleRepository roleRepository,
+                                    MemberRepository memberRepository,
+                                    RecentNotificationCache recentNotificationCache,
+                                    NotificationSummaryStore notificationSummaryStore,
+                                    NotificationMetrics notificationMetrics,
+                                    NotificationRetentionProperties properties,
+                                    NotificationRetentionPolicy policy,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper) {
+        this.notificationMessageRepository = notificationMessageRepository;
+        this.notificationEventBodyRepository = notificationEventBodyRepository;
+        this.roleRepository = roleRepository;
+        this.memberRepository = memberRepository;
+        this.recentNotificationCache = recentNotificationCache;
+        this.notificationSummaryStore = notificationSummaryStore;
+        this.notificationMetrics = notificationMetrics;
+        this.properties = properties;
+        this.policy = policy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveWriter = properties.getArchive().isEnabled()
+                ? new NotificationArchiveWriter(objectMapper, properties.getArchive().getDirectory())
+                : null;
+
+        this.archivedCounter = Counter.builder("notification.retention.archived")
+                .description("보관 파일로 내보낸 알림 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 보관 기간 정리 작업을 실행합니다.
+     */
+    @Scheduled(cron = "${notification.retention.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        purge(LocalDateTime.now());
+    }
+
+    /**
+     * 지정된 시각을 기준으로 보관 기간이 지난 알림을 삭제합니다.
+     * 한 번의 실행에서 최대 {@code max-chunks-per-run}개의 묶음만 처리합니다.
+     *
+     * @param now 기준 시각
+     * @return 삭제한 알림 수
+     */
+    long purge(LocalDateTime now) {
+        long purged = 0;
+        int chunks = 0;
+
+        try (NotificationArchiveWriter.ArchiveFile archive = archiveWriter == null ? null : archiveWriter.open(now)) {
+            for (Role role : roleRepository.findAll()) {
+                Optional<LocalDateTime> cutoff = policy.cutoffFor(role.getRoleName(), now);
+                if (cutoff.isEmpty()) {
+                    continue;
+                }
+
+                int deleted;
+                do {
+                    if (chunks >= properties.getMaxChunksPerRun()) {
+                        log.info("RETENTION: chunk limit reached, purged {} (remaining rows are purged next run)", purged);
+                        return purged;
+                    }
+                    deleted = purgeChunk(role, cutoff.get(), archive);
+                    if (deleted > 0) {
+                        purged += deleted;
+                        chunks++;
+                    }
+                } while (deleted == properties.getChunkSize() && pause());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot close archive file", e);
+        }
+
+        if (purged > 0) {
+            log.info("RETENTION: purged {} notifications in {} chunks", purged, chunks);
+        }
+        purgeUnreferencedBodies(now);
+        return purged;
+    }
+
+    /**
+     * 참조하는 알림이 모두 삭제된 공유 본문을 삭제합니다.
+     * 가장 짧은 보관 기간보다 오래된 본문만 대상으로 하여, 수신자별 알림을 저장하는 중인 본문은 삭제하지 않습니다.
+     *
+     * @param now 기준 시각
+     */
+    private void purgeUnreferencedBodies(LocalDateTime now) {
+        policy.shortestTtl().ifPresent(ttl -> {
+            Integer deleted = notificationMetrics.recordDb("retention-purge-body",
+                    () -> transactionTemplate.execute(status -> notificationEventBodyRepository.deleteUnreferencedBefore(now.minus(ttl))));
+            if (deleted != null && deleted > 0) {
+                log.info("RETENTION: purged {} unreferenced notification bodies", deleted);
+            }
+        });
+    }
+
+    private int purgeChunk(Role role, LocalDateTime cutoff, NotificationArchiveWriter.ArchiveFile archive) {
+        Set<String> affectedEmails = new HashSet<>();
+
+        Integer deleted = notificationMetrics.recordDb("retention-purge", () -> transactionTemplate.execute(status -> {
+            List<NotificationMessage> expired = notificationMessageRepository
+                    .findExpired(role, cutoff, PageRequest.of(0, properties.getChunkSize()));
+            if (expired.isEmpty()) {
+                return 0;
+            }
+
+            Set<Long> mbNos = expired.stream().map(notificationMessage -> notificationMessage.getMember().getMbNo()).collect(Collectors.toSet());
+            Map<Long, String> mbNoToEmailMap = memberRepository.findAllById(mbNos).stream()
+                    .collect(Collectors.toMap(Member::getMbNo, Member::getMbEmail));
+
+            if (archive != null) {
+                Map<Long, String> bodyIdToContentMap = findBodies(expired);
+                archive.append(expired.stream()
+                        .map(notificationMessage -> NotificationArchiveRecord.of(notificationMessage,
+                                mbNoToEmailMap.get(notificationMessage.getMember().getMbNo()), role.getRoleName(),
+                                contentOf(notificationMessage, bodyIdToContentMap)))
+                        .toList());
+                archivedCounter.increment(expired.size());
+            }
+
+            notificationMessageRepository.deleteAllByIdInBatch(expired.stream().map(NotificationMessage::getId).toList());
+            // 읽은 알림만 삭제된 회원도 히스토리가 바뀌었으므로 0으로 반영하여 변경 버전을 증가시킴
+            expired.stream()
+                    .collect(Collectors.groupingBy(notificationMessage -> notificationMessage.getMember().getMbNo(),
+                            Collectors.filtering(notificationMessage -> !notificationMessage.isRead(), Collectors.counting())))
+                    .forEach(notificationSummaryStore::recordDeleted);
+            affectedEmails.addAll(mbNoToEmailMap.values());
+            return expired.size();
+        }));
+
+        // 삭제된 알림이 최근 알림 링과 읽지 않은 개수에 남지 않도록 커밋 후 제거
+        affectedEmails.forEach(recentNotificationCache::evict);
+
+        if (deleted != null && deleted > 0) {
+            notificationMetrics.counter("notification.retention.purged", "보관 기간이 지나 삭제한 알림 수",
+                    "role", role.getRoleName()).increment(deleted);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * 공유 본문을 참조하는 알림의 본문을 조회합니다.
+     * 보관 대상은 오래된 알림이므로 최근 본문 캐시를 거치지 않습니다.
+     */
+    private Map<Long, String> findBodies(List<NotificationMessage> notificationMessages) {
+        Set<Long> bodyIds = notificationMessages.stream()
+                .filter(notificationMessage -> notificationMessage.getContent() == null && notificationMessage.getEvent() != null)
+                .map(notificationMessage -> notificationMessage.getEvent().getId())
+                .collect(Collectors.toSet());
+        if (bodyIds.isEmpty()) {
+            return Map.of();
+        }
+        return notificationEventBodyRepository.findAllById(bodyIds).stream()
+                .collect(Collectors.toMap(NotificationEventBody::getId, NotificationEventBody::getContent));
+    }
+
+    private static String contentOf(NotificationMessage notificationMessage, Map<Long, String> bodyIdToContentMap) {
+        if (notificationMessage.getContent() != null || notificationMessage.getEvent() == null) {
+            return notificationMessage.getContent();
+        }
+        return bodyIdToContentMap.get(notificationMessage.getEvent().getId());
+    }
+
+    /**
+     * 묶음 사이에 잠시 대기합니다.
+     *
+     * @return 계속 진행할지 여부 (인터럽트되면 false)
+     */
+    private boolean pause() {
+        Duration chunkPause = properties.getChunkPause();
+        if (chunkPause == null || chunkPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
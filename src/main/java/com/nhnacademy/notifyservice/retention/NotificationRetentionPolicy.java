@@ -0,0 +1,87 @@
+package com.nhnacademy.notifyservice.retention;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 역할별 알림 보관 기간을 결정하는 정책 클래스입니다.
+ *
+ * 역할별 설정이 없으면 기본 보관 기간을 사용하며, 보관 기간이 0 이하이면 해당 역할의 알림은 삭제하지 않습니다.
+ */
+public class NotificationRetentionPolicy {
+
+    private final Duration defaultTtl;
+
+    private final Map<String, Duration> roleNameToTtlMap;
+
+    public NotificationRetentionPolicy(Duration defaultTtl, Map<String, Duration> roleNameToTtlMap) {
+        this.defaultTtl = defaultTtl;
+        this.roleNameToTtlMap = Map.copyOf(roleNameToTtlMap);
+    }
+
+    /**
+     * 역할의 보관 기간을 반환합니다.
+     *
+     * @param roleName 역할명
+     * @return 보관 기간, 삭제하지 않는 역할이면 빈 값
+     */
+    public Optional<Duration> ttlFor(String roleName) {
+        return effective(roleName == null ? defaultTtl : roleNameToTtlMap.getOrDefault(roleName, defaultTtl));
+    }
+
+    /**
+     * 기준 시각에서 역할의 보관 기간을 뺀 삭제 기준 시각을 반환합니다.
+     *
+     * @param roleName 역할명
+     * @param now 기준 시각
+     * @return 이 시각 이전에 생성된 알림이 삭제 대상, 삭제하지 않는 역할이면 빈 값
+     */
+    public Optional<LocalDateTime> cutoffFor(String roleName, LocalDateTime now) {
+        return ttlFor(roleName).map(now::minus);
+    }
+
+    /**
+     * 모든 역할 중 가장 긴 보관 기간을 반환합니다.
+     * 기본값을 포함하여 삭제하지 않는 설정이 하나라도 있으면 빈 값을 반환합니다.
+     *
+     * @return 가장 긴 보관 기간
+     */
+    public Optional<Duration> longestTtl() {
+        Optional<Duration> longest = effective(defaultTtl);
+        for (Duration roleTtl : roleNameToTtlMap.values()) {
+            Optional<Duration> ttl = effective(roleTtl);
+            if (longest.isEmpty() || ttl.isEmpty()) {
+                return Optional.empty();
+            }
+            if (ttl.get().compareTo(longest.get()) > 0) {
+                longest = ttl;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * 보관 기간이 있는 역할 중 가장 짧은 보관 기간을 반환합니다.
+     *
+     * @return 가장 짧은 보관 기간, 모든 역할이 삭제하지 않는 설정이면 빈 값
+     */
+    public Optional<Duration> shortestTtl() {
+        Optional<Duration> shortest = effective(defaultTtl);
+        for (Duration roleTtl : roleNameToTtlMap.values()) {
+            Optional<Duration> ttl = effective(roleTtl);
+            if (ttl.isPresent() && (shortest.isEmpty() || ttl.get().compareTo(shortest.get()) < 0)) {
+                shortest = ttl;
+            }
+        }
+        return shortest;
+    }
+
+    private static Optional<Duration> effective(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return Optional.empty();
+        }
+        return Optional.of(ttl);
+    }
+}
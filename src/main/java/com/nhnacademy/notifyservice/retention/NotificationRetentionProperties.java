@@ -0,0 +1,96 @@
+package com.nhnacademy.notifyservice.retention;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 보관 기간 정리 설정 프로퍼티입니다.
+ *
+ * <pre>
+ * notification.retention.enabled=true
+ * notification.retention.default-ttl=180d
+ * notification.retention.ttl.ROLE_USER=30d
+ * notification.retention.archive.enabled=true
+ * notification.retention.archive.directory=/var/lib/notify-service/archive
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.retention")
+public class NotificationRetentionProperties {
+
+    /**
+     * 보관 기간 정리 작업 실행 여부입니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 역할별 설정이 없을 때 적용되는 보관 기간입니다. 0 이하이면 삭제하지 않습니다.
+     */
+    private Duration defaultTtl = Duration.ofDays(180);
+
+    /**
+     * 역할명("ROLE_ADMIN", "ROLE_USER")별 보관 기간입니다. 0 이하이면 해당 역할의 알림은 삭제하지 않습니다.
+     */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    /**
+     * 한 트랜잭션에서 삭제할 최대 행 수입니다. 잠금 시간을 짧게 유지하기 위해 작은 값을 사용합니다.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 한 번 실행할 때 처리할 최대 묶음 수입니다. 남은 행은 다음 실행에서 처리합니다.
+     */
+    private int maxChunksPerRun = 1000;
+
+    /**
+     * 묶음 사이의 대기 시간입니다. 복제 지연과 다른 트랜잭션의 잠금 대기를 줄입니다.
+     */
+    private Duration chunkPause = Duration.ofMillis(100);
+
+    private Archive archive = new Archive();
+
+    private Partitioning partitioning = new Partitioning();
+
+    NotificationRetentionPolicy toPolicy() {
+        return new NotificationRetentionPolicy(defaultTtl, ttl);
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+
+        /**
+         * 삭제 전에 gzip 압축 NDJSON 파일로 내보낼지 여부입니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 보관 파일을 기록할 디렉터리입니다.
+         */
+        private Path directory = Path.of("archive");
+    }
+
+    @Getter
+    @Setter
+    public static class Partitioning {
+
+        /**
+         * 월 단위 파티션 관리 여부입니다. 테이블을 먼저 파티션 테이블로 전환해야 합니다
+         * ({@code db/optional/notification_message_monthly_partitions.sql}).
+         */
+        private boolean enabled = false;
+
+        /**
+         * 미리 만들어 둘 다음 달 파티션 개수입니다.
+         */
+        private int monthsAhead = 3;
+    }
+}
@@ -1,18 +1,46 @@
 package com.nhnacademy.notifyservice.service;
 
 
+import com.nhnacademy.notifyservice.cache.MimeMessageTemplateCache;
+import com.nhnacademy.notifyservice.circuit.NotificationCircuitBreakers;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.SharedByteArrayInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 이메일 발송 기능을 제공하는 서비스 클래스입니다.
+ * <p>
+ * 여러 수신자에게 같은 메일을 보내는 요청은 수신자를 SMTP 릴레이가 허용하는 크기의 봉투 묶음으로 나누어,
+ * 묶음마다 하나의 SMTP 트랜잭션(여러 RCPT TO)으로 발송하고 발송에 실패한 수신자를 반환합니다.
+ * </p>
+ * <p>
+ * 모든 발송은 SMTP 회로 차단기({@link NotificationCircuitBreakers#smtp()})를 거치며,
+ * 회로가 열려 있으면 릴레이에 연결하지 않고 {@link com.nhnacademy.notifyservice.circuit.CircuitOpenException}으로 즉시 실패합니다.
+ * </p>
  */
 @Slf4j
 @Service
@@ -20,6 +48,15 @@ import org.springframework.stereotype.Service;
 public class EmailService {
 
     private final JavaMailSender sender;
+    private final NotificationMetrics notificationMetrics;
+    private final MimeMessageTemplateCache mimeMessageTemplateCache;
+    private final NotificationCircuitBreakers notificationCircuitBreakers;
+
+    /**
+     * 한 SMTP 트랜잭션(봉투)에 넣을 최대 수신자 수입니다. 릴레이의 RCPT TO 제한보다 작게 설정합니다.
+     */
+    @Value("${notification.email.envelope.max-recipients:50}")
+    private int maxEnvelopeRecipients;
 
     /**
      * 일반 텍스트 형식의 이메일을 발송합니다.
@@ -32,22 +69,202 @@ public class EmailService {
         message.setSubject(request.getSubject());
         message.setText(request.getContent());
 
-        sender.send(message);
+        Timer.Sample sample = notificationMetrics.startTimer();
+        try {
+            notificationCircuitBreakers.smtp().run(() -> sender.send(message));
+            notificationMetrics.recordEmailSend(sample, "TEXT", NotificationMetrics.OUTCOME_SUCCESS);
+        } catch (RuntimeException e) {
+            notificationMetrics.recordEmailSend(sample, "TEXT", NotificationMetrics.OUTCOME_FAILURE);
+            throw e;
+        }
     }
 
     /**
      * HTML 형식의 이메일을 발송합니다.
+     * <p>
+     * 같은 본문의 인코딩된 MIME 본문이 {@link MimeMessageTemplateCache}에 있으면
+     * multipart 생성과 본문 인코딩 없이 수신자/제목 헤더만 설정하여 발송합니다.
+     * </p>
      *
      * @param request 이메일 수신자, 제목, 본문(HTML)을 포함한 요청 객체
      * @throws MessagingException 이메일 생성 또는 발송 중 오류가 발생한 경우
      */
     public void sendHtmlEmail(EmailRequest request) throws MessagingException {
-        MimeMessage message = sender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-        helper.setTo(request.getTo());
+        // MIME 메시지 생성(인코딩 포함)부터 발송까지를 측정
+        Timer.Sample sample = notificationMetrics.startTimer();
+        try {
+            MimeMessage message = createHtmlBody(request);
+            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+            helper.setTo(request.getTo());
+            helper.setSubject(request.getSubject());
+
+            notificationCircuitBreakers.smtp().run(() -> sender.send(message));
+            notificationMetrics.recordEmailSend(sample, "HTML", NotificationMetrics.OUTCOME_SUCCESS);
+        } catch (MessagingException | RuntimeException e) {
+            notificationMetrics.recordEmailSend(sample, "HTML", NotificationMetrics.OUTCOME_FAILURE);
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 메일을 여러 수신자에게 봉투 묶음으로 나누어 발송합니다.
+     * <p>
+     * 수신자를 {@code notification.email.envelope.max-recipients}명씩 나누어 묶음마다 메시지를 하나 만들고,
+     * 모든 묶음을 하나의 SMTP 연결로 발송합니다. 요청의 to는 To 헤더로, 나머지 수신자는 Bcc로 설정하므로
+     * 수신자는 서로의 주소를 볼 수 없습니다.
+     * 일부 수신자만 거절된 경우({@link SendFailedException}) 거절되거나 발송되지 않은 수신자만 실패로 반환하며,
+     * 원인을 알 수 없는 묶음 실패나 연결 실패는 해당 수신자 전체를 실패로 반환합니다.
+     * </p>
+     *
+     * @param request 제목, 본문, 형식을 포함한 요청 객체
+     * @param recipients 이메일을 받을 수신자
+     * @return 발송에 실패한 수신자 (모두 발송했으면 빈 목록)
+     * @throws MessagingException 메시지 생성 중 오류가 발생한 경우
+     */
+    public List<String> sendBulkEmail(EmailRequest request, List<String> recipients) throws MessagingException {
+        if (recipients.isEmpty()) {
+            return List.of();
+        }
+
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += maxEnvelopeRecipients) {
+            messages.add(createEnvelope(request, recipients.subList(from, Math.min(from + maxEnvelopeRecipients, recipients.size()))));
+        }
+
+        String type = "HTML".equals(request.getType()) ? "HTML" : "TEXT";
+        Timer.Sample sample = notificationMetrics.startTimer();
+        try {
+            notificationCircuitBreakers.smtp().run(() -> sender.send(messages.toArray(MimeMessage[]::new)));
+            notificationMetrics.recordEmailSend(sample, type, NotificationMetrics.OUTCOME_SUCCESS);
+            return List.of();
+        } catch (MailSendException e) {
+            List<String> failed = failedRecipients(e);
+            log.error("일부 수신자 이메일 발송 실패 : traceId={}, failed={}/{}", request.getTraceId(), failed.size(), recipients.size(), e);
+            notificationMetrics.recordEmailSend(sample, type, failed.size() < recipients.size()
+                    ? NotificationMetrics.OUTCOME_PARTIAL : NotificationMetrics.OUTCOME_FAILURE);
+            return failed;
+        } catch (MailException e) {
+            // 인증/연결 실패 등으로 어떤 묶음도 발송하지 못함
+            log.error("이메일 발송 실패 : traceId={}, recipients={}", request.getTraceId(), recipients.size(), e);
+            notificationMetrics.recordEmailSend(sample, type, NotificationMetrics.OUTCOME_FAILURE);
+            return List.copyOf(recipients);
+        }
+    }
+
+    /**
+     * 한 봉투 묶음의 메시지를 만듭니다.
+     */
+    private MimeMessage createEnvelope(EmailRequest request, List<String> recipients) throws MessagingException {
+        MimeMessage message;
+        if ("HTML".equals(request.getType())) {
+            message = createHtmlBody(request);
+        } else {
+            message = sender.createMimeMessage();
+            new MimeMessageHelper(message, StandardCharsets.UTF_8.name()).setText(request.getContent());
+        }
+
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        List<String> bcc = new ArrayList<>(recipients.size());
+        for (String recipient : recipients) {
+            if (recipient.equals(request.getTo())) {
+                helper.setTo(recipient);
+            } else {
+                bcc.add(recipient);
+            }
+        }
+        if (!bcc.isEmpty()) {
+            helper.setBcc(bcc.toArray(String[]::new));
+        }
         helper.setSubject(request.getSubject());
-        helper.setText(request.getContent(), true); // true는 HTML 형식을 의미
+        return message;
+    }
+
+    /**
+     * 실패한 묶음에서 발송하지 못한 수신자를 찾습니다.
+     * {@code mail.smtp.sendpartial=true}이면 거절된 수신자를 제외한 나머지는 발송되므로 거절/미발송 수신자만 실패입니다.
+     */
+    private static List<String> failedRecipients(MailSendException e) throws MessagingException {
+        Set<String> failed = new LinkedHashSet<>();
+        for (Map.Entry<Object, Exception> entry : e.getFailedMessages().entrySet()) {
+            SendFailedException sendFailed = findSendFailed(entry.getValue());
+            if (sendFailed != null && (sendFailed.getInvalidAddresses() != null || sendFailed.getValidUnsentAddresses() != null)) {
+                addAll(failed, sendFailed.getInvalidAddresses());
+                addAll(failed, sendFailed.getValidUnsentAddresses());
+            } else if (entry.getKey() instanceof MimeMessage message) {
+                addAll(failed, message.getAllRecipients());
+            }
+        }
+        return List.copyOf(failed);
+    }
+
+    private static SendFailedException findSendFailed(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SendFailedException sendFailed) {
+                return sendFailed;
+            }
+        }
+        return null;
+    }
+
+    private static void addAll(Set<String> failed, Address[] addresses) {
+        if (addresses == null) {
+            return;
+        }
+        for (Address address : addresses) {
+            failed.add(address instanceof InternetAddress internetAddress
+                    ? internetAddress.getAddress() : address.toString());
+        }
+    }
+
+    /**
+     * HTML 본문만 설정된 메시지를 만듭니다. 캐시할 수 있는 본문이면 캐시된 MIME 본문을 사용합니다.
+     */
+    private MimeMessage createHtmlBody(EmailRequest request) throws MessagingException {
+        return mimeMessageTemplateCache.isCacheable(request.getContent())
+                ? createFromTemplate(request)
+                : createHtmlMessage(request.getContent());
+    }
+
+    /**
+     * 수신자/제목 헤더가 없는 HTML multipart 메시지를 만듭니다.
+     */
+    private MimeMessage createHtmlMessage(String content) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, StandardCharsets.UTF_8.name());
+        helper.setText(content, true); // true는 HTML 형식을 의미
+        return message;
+    }
+
+    /**
+     * 캐시된 MIME 본문으로 메시지를 만듭니다. 캐시에 없으면 본문을 인코딩하여 직렬화한 뒤 캐시에 기록합니다.
+     * <p>
+     * {@link SharedByteArrayInputStream}으로 읽으면 본문을 복사하지 않고 공유하며,
+     * 본문을 변경하지 않으므로 발송 시에도 다시 인코딩하지 않고 그대로 기록합니다.
+     * </p>
+     */
+    private MimeMessage createFromTemplate(EmailRequest request) throws MessagingException {
+        String key = mimeMessageTemplateCache.keyOf(request.getContent());
+        byte[] template = mimeMessageTemplateCache.get(key);
+        if (template == null) {
+            template = buildTemplate(request.getContent());
+            mimeMessageTemplateCache.put(key, template);
+        }
+        return sender.createMimeMessage(new SharedByteArrayInputStream(template));
+    }
+
+    private byte[] buildTemplate(String content) throws MessagingException {
+        MimeMessage message = createHtmlMessage(content);
+        message.saveChanges();
+        // 수신자마다 새로 생성되도록 메시지 고유 헤더는 보관하지 않음
+        message.removeHeader("Message-ID");
+        message.removeHeader("Date");
 
-        sender.send(message);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length() * 2);
+        try {
+            message.writeTo(out);
+        } catch (IOException e) {
+            throw new MessagingException("cannot serialize MIME message", e);
+        }
+        return out.toByteArray();
     }
 }
@@ -0,0 +1,65 @@
+package com.nhnacademy.notifyservice.service;
+
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 엔티티를 클라이언트로 전달할 {@link NotificationMessageDto}로 변환하는 유틸리티 클래스입니다.
+ *
+ * 본문을 공유 본문 테이블에 저장한 알림은 미리 조회한 본문 맵에서 본문을 채웁니다.
+ * 서비스와 분리되어 있으므로 벤치마크에서 협력 객체 없이 변환 비용만 측정할 수 있습니다.
+ */
+public final class NotificationMessageMapper {
+
+    private NotificationMessageMapper() {
+    }
+
+    /**
+     * 알림 목록을 순서대로 변환합니다.
+     *
+     * @param notificationMessages 알림 엔티티 목록
+     * @param bodyIdToContentMap 공유 본문 id별 본문
+     * @return 변환한 DTO 목록
+     */
+    public static List<NotificationMessageDto> toDtos(List<NotificationMessage> notificationMessages, Map<Long, String> bodyIdToContentMap) {
+        List<NotificationMessageDto> notificationMessageDtos = new ArrayList<>(notificationMessages.size());
+        for (NotificationMessage notificationMessage : notificationMessages) {
+            notificationMessageDtos.add(toDto(notificationMessage, bodyIdToContentMap));
+        }
+        return notificationMessageDtos;
+    }
+
+    /**
+     * 알림을 변환합니다. 알림 행에 본문이 없으면 공유 본문 맵에서 찾습니다.
+     *
+     * @param notificationMessage 알림 엔티티
+     * @param bodyIdToContentMap 공유 본문 id별 본문
+     * @return 변환한 DTO
+     */
+    public static NotificationMessageDto toDto(NotificationMessage notificationMessage, Map<Long, String> bodyIdToContentMap) {
+        String content = notificationMessage.getContent();
+        if (content == null && notificationMessage.getEvent() != null) {
+            content = bodyIdToContentMap.get(notificationMessage.getEvent().getId());
+        }
+        return toDto(notificationMessage, content);
+    }
+
+    /**
+     * 알림을 지정한 본문으로 변환합니다.
+     *
+     * @param notificationMessage 알림 엔티티
+     * @param content 알림 본문
+     * @return 변환한 DTO
+     */
+    public static NotificationMessageDto toDto(NotificationMessage notificationMessage, String content) {
+        return NotificationMessageDto.builder()
+                .id(notificationMessage.getId())
+                .content(content)
+                .createdAt(notificationMessage.getCreatedAt())
+                .build();
+    }
+}
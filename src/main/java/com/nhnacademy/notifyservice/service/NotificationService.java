@@ -1,12 +1,16 @@
 package com.nhnacademy.notifyservice.service;
 
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
 import com.nhnacademy.notifyservice.domain.Member;
 import com.nhnacademy.notifyservice.domain.Role;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.dto.NotificationCatchUpDto;
 import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
 import com.nhnacademy.notifyservice.dto.RoleDto;
+import com.nhnacademy.notifyservice.summary.MemberUnreadState;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationService {
     RoleDto findRoleByMember(String userEmail);
@@ -15,10 +19,20 @@ public interface NotificationService {
 
     Role findByRoleName(String roleName);
 
+    NotificationEvent prepareNotificationEvent(EmailRequest request);
+
     void saveNotificationMessage(Member member, Role role , EmailRequest request);
 
+    void saveNotificationMessage(Member member, Role role, NotificationEvent event);
+
+    void saveNotificationMessages(List<Member> members, Role role, NotificationEvent event);
+
     Long getNotificationUnreadCount(String email);
 
+    Optional<Long> findNotificationVersion(String email);
+
+    Optional<MemberUnreadState> findUnreadState(String email);
+
     void readNotification(String email);
 
     List<NotificationMessageDto> getHistoryNotification(String email);
@@ -26,4 +40,8 @@ public interface NotificationService {
     Member findMemberByEmail(String extractedEmail);
 
     void sendNotification(Member member, String content);
+
+    NotificationCatchUpDto getCatchUpNotification(String email, Long lastSeenId);
+
+    void sendCatchUpNotification(String email, Long lastSeenId);
 }
@@ -1,24 +1,46 @@
 package com.nhnacademy.notifyservice.service;
 
+import com.nhnacademy.notifyservice.cache.NotificationEventBodyCache;
+import com.nhnacademy.notifyservice.cache.RecentNotificationCache;
 import com.nhnacademy.notifyservice.config.NotificationSessionTracker;
+import com.nhnacademy.notifyservice.delivery.DeliveryDecision;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicy;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicyRegistry;
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
+import com.nhnacademy.notifyservice.delivery.NotificationEventFactory;
+import com.nhnacademy.notifyservice.dto.NotificationCatchUpDto;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
-import com.nhnacademy.notifyservice.util.HtmlTextConverter;
 import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.longpoll.NotificationWaiterRegistry;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.domain.NotificationEventBody;
 import com.nhnacademy.notifyservice.domain.NotificationMessage;
 import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxRelay;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxWriter;
 import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
 import com.nhnacademy.notifyservice.dto.RoleDto;
 import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationEventBodyRepository;
 import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
 import com.nhnacademy.notifyservice.repository.RoleRepository;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import com.nhnacademy.notifyservice.summary.MemberUnreadState;
+import com.nhnacademy.notifyservice.summary.NotificationSummaryStore;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 실시간 알림 서비스의 핵심 비즈니스 로직을 구현하는 서비스 클래스입니다.
@@ -30,15 +52,24 @@ import java.util.List;
  * <p>주요 기능:</p>
  * <ul>
  * <li>사용자 역할(Role) 기반 알림 관리</li>
- * <li>실시간 WebSocket 알림 전송</li>
+ * <li>실시간 WebSocket 알림 전송 (트랜잭션 아웃박스를 통해 커밋 후 전송)</li>
  * <li>세션 기반 스마트 읽음 처리</li>
  * <li>알림 히스토리 관리</li>
  * <li>읽지 않은 알림 카운팅</li>
  * </ul>
  *
+ * 조회 경로는 {@code @Transactional(readOnly = true)}로 선언하여 Hibernate flush 모드를 MANUAL로 두고
+ * 더티 체킹과 스냅샷 보관을 생략합니다. 레플리카가 설정된 경우 이 구간의 커넥션은 레플리카로 라우팅됩니다.
+ *
+ * {@code notification.storage.normalized-content=true}이면 이벤트 본문은 {@link NotificationEventBody}에 한 번만 저장하고
+ * 수신자별 알림은 본문 id만 참조합니다. 조회 시 본문은 {@link NotificationEventBodyCache}에서 우선 찾습니다.
+ *
+ * 읽지 않은 알림 개수는 알림 저장/읽음 처리와 같은 트랜잭션에서 갱신되는 회원별 요약({@link NotificationSummaryStore})의
+ * 기본 키 한 행으로 조회합니다. 요약 행이 없는 경우에만 상세 테이블을 집계합니다.
+ *
  * @see NotificationService
  * @see NotificationSessionTracker
- * @see SimpMessageSendingOperations
+ * @see NotificationOutboxWriter
  */
 @Service
 @Transactional
@@ -49,11 +80,34 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationMessageRepository notificationMessageRepository;
     private final MemberRepository memberRepository;
     private final RoleRepository roleRepository;
-    private final SimpMessageSendingOperations messageTemplate;
+    private final NotificationOutboxWriter notificationOutboxWriter;
+    private final NotificationOutboxRelay notificationOutboxRelay;
     private final NotificationSessionTracker notificationSessionTracker;
-    private final HtmlTextConverter htmlTextConverter;
+    private final NotificationEventFactory notificationEventFactory;
+    private final DeliveryPolicyRegistry deliveryPolicyRegistry;
+    private final RecentNotificationCache recentNotificationCache;
+    private final NotificationMetrics notificationMetrics;
+    private final NotificationEventBodyRepository notificationEventBodyRepository;
+    private final NotificationEventBodyCache notificationEventBodyCache;
+    private final NotificationSummaryStore notificationSummaryStore;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final NotificationWaiterRegistry notificationWaiterRegistry;
+
+    /**
+     * 재접속 시 한 번에 전달할 놓친 알림의 최대 개수입니다.
+     */
+    @Value("${notification.catch-up.max-items:100}")
+    private int catchUpMaxItems;
+
+    /**
+     * 이벤트 본문을 수신자마다 저장하지 않고 공유 본문으로 한 번만 저장할지 여부입니다.
+     * 모든 인스턴스가 공유 본문을 조회할 수 있는 버전으로 배포된 뒤에 활성화합니다.
+     */
+    @Value("${notification.storage.normalized-content:false}")
+    private boolean normalizedContent;
 
 
+    @Transactional(readOnly = true)
     public Member findMemberByEmail(String email) {
         return memberRepository.findByMbEmail(email).orElseThrow(() -> new EntityNotFoundException("member cannot be found."));
     }
@@ -68,6 +122,7 @@ public class NotificationServiceImpl implements NotificationService {
      * @return RoleDto 사용자의 역할 정보를 담은 DTO 객체
      * @throws EntityNotFoundException 해당 이메일의 사용자를 찾을 수 없는 경우
      */
+    @Transactional(readOnly = true)
     @Override
     public RoleDto findRoleByMember(String userEmail) {
         Member member = memberRepository.findByMbEmail(userEmail).orElseThrow(() -> new EntityNotFoundException("member cannot be found."));
@@ -89,6 +144,7 @@ public class NotificationServiceImpl implements NotificationService {
      * @param roleName 조회할 역할명 (예: "ROLE_ADMIN", "ROLE_USER")
      * @return List&lt;Member&gt; 해당 역할을 가진 사용자 목록, 없으면 빈 리스트
      */
+    @Transactional(readOnly = true)
     @Override
     public List<Member> findByRole_RoleName(String roleName) {
         List<Member> roleMembers = memberRepository.findByRole_RoleName(roleName);
@@ -110,90 +166,140 @@ public class NotificationServiceImpl implements NotificationService {
      * @throws EntityNotFoundException ROLE_ADMIN 역할을 찾을 수 없는 경우
      * @deprecated 매개변수와 실제 로직이 일치하지 않아 수정이 필요합니다
      */
+    @Transactional(readOnly = true)
     @Override
     public Role findByRoleName(String roleName) {
         Role role = roleRepository.findByRoleName("ROLE_ADMIN").orElseThrow(() -> new EntityNotFoundException("role cannot be found."));
 
         return role;
     }
+    /**
+     * 큐에서 수신한 요청으로부터 수신자와 무관한 알림 이벤트 데이터를 한 번만 계산합니다.
+     *
+     * 관리자 수만큼 반복되는 저장 루프 전에 호출하여 HTML 변환, 팝업 요약 생성,
+     * 본인 작성 여부 판별용 이메일 추출이 수신자마다 반복되지 않도록 합니다.
+     * 공유 본문 저장이 활성화된 경우 본문을 여기서 한 번만 저장합니다.
+     *
+     * @param request 큐에서 수신한 요청
+     * @return NotificationEvent 이벤트 단위로 미리 계산된 알림 데이터
+     */
+    @Override
+    public NotificationEvent prepareNotificationEvent(EmailRequest request) {
+        NotificationEvent event = notificationEventFactory.create(request);
+        if(!normalizedContent || event.formattedContent() == null) {
+            return event;
+        }
+
+        NotificationEventBody body = notificationMetrics.recordDb("save-event-body",
+                () -> notificationEventBodyRepository.save(NotificationEventBody.of(event.formattedContent())));
+        notificationEventBodyCache.put(body.getId(), body.getContent());
+        return event.withBodyId(body.getId());
+    }
+
+    /**
+     * 여러 수신자의 알림 메시지를 하나의 트랜잭션에서 저장하고 전송합니다.
+     *
+     * {@link com.nhnacademy.notifyservice.fanout.NotificationFanOutExecutor}가 나눈 묶음 단위로 호출되며,
+     * 묶음 중 한 명이라도 실패하면 묶음 전체가 롤백되고 아웃박스에 기록한 전송도 취소됩니다.
+     *
+     * @param members 알림을 받을 사용자 목록
+     * @param role 사용자의 역할 정보
+     * @param event 이벤트 단위로 미리 계산된 알림 데이터
+     */
+    @Override
+    public void saveNotificationMessages(List<Member> members, Role role, NotificationEvent event) {
+        for(Member member : members) {
+            saveNotificationMessage(member, role, event);
+        }
+    }
+
+    /**
+     * 알림 메시지를 저장하고 실시간으로 사용자에게 전송합니다.
+     *
+     * 단건 호출용 편의 메서드로, 이벤트 데이터를 계산한 뒤
+     * {@link #saveNotificationMessage(Member, Role, NotificationEvent)}에 위임합니다.
+     *
+     * @param member 알림을 받을 사용자 정보
+     * @param role 사용자의 역할 정보
+     * @param request 큐에서 수신한 요청
+     */
+    @Override
+    public void saveNotificationMessage(Member member, Role role , EmailRequest request) {
+        saveNotificationMessage(member, role, prepareNotificationEvent(request));
+    }
+
     /**
      * 알림 메시지를 저장하고 실시간으로 사용자에게 전송합니다.
      *
      * 이 메서드는 알림 시스템의 핵심 기능으로, 다음과 같은 스마트 알림 처리를 수행합니다:
      * <ol>
-     * <li>사용자의 현재 활성 세션 수를 계산</li>
-     * <li>세션 수가 2개 이상인 경우 자동으로 읽음 처리 (알림 페이지 접속 중으로 간주)</li>
-     * <li>알림 메시지를 데이터베이스에 저장</li>
-     * <li>활성 사용자에게 실시간 WebSocket 알림 전송</li>
+     * <li>사용자의 현재 활성 세션 수를 조회 (O(1))</li>
+     * <li>이벤트 형식별 {@link DeliveryPolicy}로 읽음 처리 및 전송할 프레임을 결정
+     * (STOMP 세션 없이 SSE 배지 리스너만 있으면 개수/요약 프레임만 전송)</li>
+     * <li>알림 메시지를 데이터베이스에 저장하고 회원별 요약에 반영</li>
+     * <li>결정에 따라 실시간 WebSocket 알림 전송</li>
      * </ol>
      *
      * <p>전송되는 알림 유형:</p>
      * <ul>
-     * <li>읽지 않은 알림 개수 업데이트 (세션 수 &lt; 2인 경우)</li>
-     * <li>팝업 알림 메시지 (세션 수 &lt; 2인 경우)</li>
+     * <li>읽지 않은 알림 개수 업데이트 (기본 정책: 세션 수 &lt; 2인 경우)</li>
+     * <li>팝업 알림 메시지 (기본 정책: 세션 수 &lt; 2이고 본인이 발생시킨 이벤트가 아닌 경우)</li>
      * <li>일반 알림 메시지 (모든 활성 세션)</li>
      * </ul>
      *
+     * 수신자마다 호출되므로 본문 문자열 검색이나 HTML 변환은 수행하지 않습니다.
+     *
      * @param member 알림을 받을 사용자 정보
      * @param role 사용자의 역할 정보
-     * @param content 알림 메시지 내용
+     * @param event 이벤트 단위로 미리 계산된 알림 데이터
      */
     @Override
-    public void saveNotificationMessage(Member member, Role role , EmailRequest request) {
-
-        String adminFormattedContent = request.getContent();
-        String adminSummary = null;
-
-        if(request.getType().equals("HTML")) {
-            // 관리자용 구조화된 텍스트로 변환
-            // HTML인 경우 관리자가 보기 편한 형태로 저장
-            adminFormattedContent = htmlTextConverter.convertToAdminNotification(adminFormattedContent);
-        }
+    public void saveNotificationMessage(Member member, Role role, NotificationEvent event) {
+        String memberEmail = member.getMbEmail();
+        int sessionCount = notificationSessionTracker.countSessionsByUserEmail(memberEmail);
 
-        // ✅ 현재 사용자의 활성 세션 수 계산
-        long sessionCount = notificationSessionTracker.getNotificationSessionIdToUserEmailMap().values()
-                .stream()
-                .filter(email -> email.equals(member.getMbEmail()))
-                .count();
+        DeliveryPolicy deliveryPolicy = deliveryPolicyRegistry.getPolicy(event.type());
+        DeliveryDecision decision = sessionCount == 0 && notificationStreamRegistry.hasListeners(memberEmail)
+                // STOMP 세션 없이 SSE 배지 리스너만 연결된 경우 개수/요약 프레임만 전송
+                ? deliveryPolicy.decideBadge(event, memberEmail)
+                : deliveryPolicy.decide(event, memberEmail, sessionCount);
 
-        NotificationMessage notificationMessage = NotificationMessage.builder()
+        NotificationMessage.NotificationMessageBuilder builder = NotificationMessage.builder()
                 .member(member)
                 .role(role)
-                .content(adminFormattedContent)
-                .isRead(sessionCount >= 2) // ✅ 2개 이상 세션 시 즉시 읽음
-                .build();
+                .isRead(decision.markRead());
+        if(event.bodyId() != null) {
+            // 본문은 이벤트당 한 번 저장되었으므로 id만 참조 (조회 쿼리 없음)
+            builder.event(notificationEventBodyRepository.getReferenceById(event.bodyId()));
+        } else {
+            builder.content(event.formattedContent());
+        }
+        NotificationMessage notificationMessage = builder.build();
+
+        notificationMetrics.recordDb("save-notification", () -> notificationMessageRepository.save(notificationMessage));
+
+        // 재접속 시 놓친 알림을 메모리에서 전달할 수 있도록 최근 알림 링에 기록
+        if(notificationMessage.getId() != null) {
+            notificationMetrics.recordDb("update-summary",
+                    () -> notificationSummaryStore.recordNotification(member, notificationMessage.getId(), notificationMessage.isRead()));
+            NotificationMessageDto dto = NotificationMessageMapper.toDto(notificationMessage, event.formattedContent());
+            notificationOutboxWriter.afterCommit(() -> recentNotificationCache.append(memberEmail, dto));
+            // 읽지 않은 개수를 롱 폴링 중인 요청을 깨움
+            notificationOutboxWriter.afterCommit(() -> notificationWaiterRegistry.signal(memberEmail));
+        }
 
-        notificationMessageRepository.save(notificationMessage);
-
-        if(notificationSessionTracker.getNotificationSessionIdToUserEmailMap().containsValue(member.getMbEmail())) {
-            // 현재 접속중인 사용자에게만 notification count 및 content 메시지 보냄
-            if(sessionCount < 2) {
-                // 관리자용 요약 메시지 (팝업용)
-                if(request.getType().equals("HTML")) {
-                    // 관리자용 구조화된 텍스트로 변환
-                    // HTML인 경우 관리자가 보기 편한 형태로 저장
-                    adminSummary = htmlTextConverter.createAdminSummary(request.getContent(), 150);
-                } else if(request.getType().equals("TEXT")) {
-                    adminSummary = request.getContent();
-                }
-
-                // 알림 페이지에 접속하지 않았을 때만 안읽은 알림 개수와 팝업 메시지 전송
-                Long count = notificationMessageRepository.countByMemberAndIsReadFalse(member);
-
-                messageTemplate.convertAndSend("/notification/unread-notification-count-updates/" + member.getMbEmail(),
-                        count);
-
-                // 관리자 본인이 예약/취소한 경우의 팝업 메시지는 발송하지 않도록 설정
-                if(!request.getContent().contains(member.getMbEmail())) {
-                    messageTemplate.convertAndSend("/notification/notification-message/" + member.getMbEmail(),
-                            adminSummary);
-                }
-            }
+        if(decision.pushUnreadCount()) {
+            Long count = notificationMetrics.recordDb("count-unread", () -> countUnread(member));
+            push("/notification/unread-notification-count-updates/" + memberEmail, count, "unread-count");
+        }
 
+        if(decision.pushPopup()) {
+            push("/notification/notification-message/" + memberEmail, event.summary(), "popup");
+        }
 
+        if(decision.pushContent()) {
             // notification 페이지로 전송하는 메시지
-            messageTemplate.convertAndSend("/notification/" + member.getMbEmail(),
-                    adminFormattedContent);
+            push("/notification/" + memberEmail, event.formattedContent(), "content");
         }
     }
 
@@ -201,26 +307,57 @@ public class NotificationServiceImpl implements NotificationService {
      * 특정 사용자의 읽지 않은 알림 개수를 조회합니다.
      *
      * 사용자 인터페이스에서 알림 배지나 카운터를 표시하기 위해 사용됩니다.
-     * 실시간으로 업데이트되는 읽지 않은 알림 개수를 제공합니다.
+     * 이메일로 회원별 요약 한 행을 조회하며, 요약 행이 없는 경우에만 상세 테이블을 집계합니다.
      *
      * @param email 조회할 사용자의 이메일 주소
      * @return Long 읽지 않은 알림의 개수
      * @throws EntityNotFoundException 해당 이메일의 사용자를 찾을 수 없는 경우
      */
+    @Transactional(readOnly = true)
     @Override
     public Long getNotificationUnreadCount(String email) {
-        Member member = memberRepository.findByMbEmail(email).orElseThrow(() -> new EntityNotFoundException("member cannot be found."));
-
-        Long count = notificationMessageRepository.countByMemberAndIsReadFalse(member);
+        Long count = notificationMetrics.recordDb("count-unread", () -> notificationSummaryStore.findUnreadCount(email)
+                .orElseGet(() -> notificationMessageRepository.countByMemberAndIsReadFalse(findMemberByEmail(email))));
 
         return count;
     }
+
+    /**
+     * 특정 사용자의 알림 변경 버전을 조회합니다.
+     *
+     * 알림 저장, 읽음 처리, 삭제마다 증가하는 회원별 요약의 버전으로, 읽지 않은 개수와 히스토리 응답의 ETag로 사용합니다.
+     * 회원과 요약의 기본 키만 읽고 알림 테이블은 읽지 않습니다.
+     *
+     * @param email 조회할 사용자의 이메일 주소
+     * @return Optional&lt;Long&gt; 알림 변경 버전, 요약 행이 없으면 빈 값
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Long> findNotificationVersion(String email) {
+        return notificationMetrics.recordDb("find-version", () -> notificationSummaryStore.findVersion(email));
+    }
+
+    /**
+     * 특정 사용자의 알림 변경 버전과 읽지 않은 알림 개수를 회원별 요약 한 행에서 함께 조회합니다.
+     *
+     * 롱 폴링 요청이 변경 신호를 받은 직후 방금 커밋된 값을 읽어야 하므로 읽기 전용으로 선언하지 않습니다.
+     * (레플리카가 설정된 경우 복제 지연 없이 프라이머리에서 읽음)
+     *
+     * @param email 조회할 사용자의 이메일 주소
+     * @return Optional&lt;MemberUnreadState&gt; 변경 버전과 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    @Override
+    public Optional<MemberUnreadState> findUnreadState(String email) {
+        return notificationMetrics.recordDb("find-unread-state", () -> notificationSummaryStore.findUnreadState(email));
+    }
     /**
      * 특정 사용자의 모든 읽지 않은 알림을 읽음 상태로 일괄 처리합니다.
      *
      * 사용자가 알림 목록을 확인하거나 알림 페이지에 접근할 때 호출되어
      * 해당 사용자의 모든 미읽음 알림을 읽음 처리합니다.
      * 이를 통해 알림 카운터가 0으로 리셋됩니다.
+     * 단일 UPDATE 문으로 읽음 처리하고, 실제로 변경된 개수만큼 회원별 요약을 감소시키므로
+     * 동시에 저장된 알림은 읽지 않은 상태로 남습니다.
      *
      * @param email 읽음 처리할 사용자의 이메일 주소
      * @throws EntityNotFoundException 해당 이메일의 사용자를 찾을 수 없는 경우
@@ -229,11 +366,12 @@ public class NotificationServiceImpl implements NotificationService {
     public void readNotification(String email) {
         Member member = memberRepository.findByMbEmail(email).orElseThrow(() -> new EntityNotFoundException("member cannot be found."));
 
-        List<NotificationMessage> notificationMessages = notificationMessageRepository.findByMemberAndIsReadFalse(member);
+        notificationMetrics.recordDb("mark-read", () -> {
+            int readCount = notificationMessageRepository.markAllRead(member);
+            notificationSummaryStore.recordRead(member, readCount, LocalDateTime.now());
+        });
 
-        for(NotificationMessage notificationMessage : notificationMessages) {
-            notificationMessage.updateIsRead(true);
-        }
+        notificationOutboxWriter.afterCommit(() -> notificationWaiterRegistry.signal(email));
     }
     /**
      * 특정 사용자의 모든 알림 히스토리를 조회하여 DTO 형태로 반환합니다.
@@ -246,27 +384,137 @@ public class NotificationServiceImpl implements NotificationService {
      * @return List&lt;NotificationMessageDto&gt; 사용자의 알림 히스토리 목록
      * @throws EntityNotFoundException 해당 이메일의 사용자를 찾을 수 없는 경우
      */
+    @Transactional(readOnly = true)
     @Override
     public List<NotificationMessageDto> getHistoryNotification(String email) {
         Member member = memberRepository.findByMbEmail(email).orElseThrow(() -> new EntityNotFoundException("member cannot be found."));
 
-        List<NotificationMessage> notificationMessages = notificationMessageRepository.findByMember(member);
+        List<NotificationMessage> notificationMessages = notificationMetrics.recordDb("find-history", () -> notificationMessageRepository.findByMember(member));
+        return NotificationMessageMapper.toDtos(notificationMessages, findEventBodies(notificationMessages));
+    }
+
+    @Override
+    public void sendNotification(Member member, String content) {
+        push("/notification/notification-message/" + member.getMbEmail(), content, "popup");
+    }
 
-        List<NotificationMessageDto> notificationMessageDtos = new ArrayList<>();
+    /**
+     * STOMP 재접속 시 전달할 읽지 않은 알림 개수와 놓친 알림 목록을 조회합니다.
+     *
+     * 최근 알림 링 버퍼를 우선 조회하고, 링이 요청 구간을 보장하지 못하는 경우에만
+     * 마지막 확인 id를 커서로 하는 keyset 쿼리로 데이터베이스를 조회합니다.
+     * 재접속이 몰리는 상황에서도 대부분의 요청이 메모리 조회로 처리됩니다.
+     * 읽지 않은 알림 개수는 동시 저장/읽음 처리와 경합하지 않도록 원자적으로 갱신되는 회원별 요약 행에서 조회합니다.
+     *
+     * 여러 인스턴스가 알림을 저장하는 경우, 시계가 늦은 인스턴스가 마지막 확인 id보다 작은 id로 나중에 저장한 알림은
+     * 전달되지 않고 히스토리 API에서만 조회됩니다. 누락 구간은 인스턴스 간 시계 차이만큼입니다.
+     *
+     * 재접속 직전에 커밋된 알림까지 전달해야 하므로 읽기 전용으로 선언하지 않습니다.
+     * (레플리카가 설정된 경우 복제 지연 없이 프라이머리에서 읽음)
+     *
+     * @param email 재접속한 사용자의 이메일 주소
+     * @param lastSeenId 클라이언트가 마지막으로 확인한 알림 id, 없으면 null (개수만 전달)
+     * @return NotificationCatchUpDto 읽지 않은 알림 개수와 놓친 알림 목록
+     * @throws EntityNotFoundException 데이터베이스 조회가 필요하지만 해당 이메일의 사용자를 찾을 수 없는 경우
+     */
+    @Override
+    public NotificationCatchUpDto getCatchUpNotification(String email, Long lastSeenId) {
+        Long unreadCount = getNotificationUnreadCount(email);
+        List<NotificationMessageDto> missed = lastSeenId == null ? List.of() : recentNotificationCache.findAfter(email, lastSeenId);
+
+        if(missed == null) {
+            Member member = findMemberByEmail(email);
+            // 한 건을 더 조회하여 최대 개수 초과 여부를 판단
+            List<NotificationMessage> notificationMessages = notificationMetrics.recordDb("catch-up-keyset", () -> notificationMessageRepository
+                    .findByMemberAndIdGreaterThanOrderByIdAsc(member, lastSeenId, PageRequest.of(0, catchUpMaxItems + 1)));
+            Map<Long, String> bodyIdToContentMap = findEventBodies(notificationMessages);
+            missed = NotificationMessageMapper.toDtos(notificationMessages, bodyIdToContentMap);
+        }
 
-        for(NotificationMessage notificationMessage : notificationMessages) {
-            NotificationMessageDto notificationMessageDto = NotificationMessageDto.builder()
-                    .content(notificationMessage.getContent())
-                    .createdAt(notificationMessage.getCreatedAt())
-                    .build();
-            notificationMessageDtos.add(notificationMessageDto);
+        boolean truncated = missed.size() > catchUpMaxItems;
+        if(truncated) {
+            // 커서 이후 순서대로 최대 개수만 전달하고, 나머지는 클라이언트가 히스토리 API로 조회
+            missed = missed.subList(0, catchUpMaxItems);
         }
 
-        return notificationMessageDtos;
+        return NotificationCatchUpDto.builder()
+                .unreadCount(unreadCount)
+                .notifications(missed)
+                .truncated(truncated)
+                .build();
     }
 
+    /**
+     * STOMP 재접속한 사용자에게 놓친 알림을 한 번에 전송합니다.
+     *
+     * 이미 커밋된 알림을 조회해서 만든 응답이므로 아웃박스에 기록하지 않고 구독 시점에 바로 전송하며,
+     * {@link NotificationCatchUpDto}는 메시지 컨버터가 JSON으로 변환합니다.
+     *
+     * @param email 재접속한 사용자의 이메일 주소
+     * @param lastSeenId 클라이언트가 마지막으로 확인한 알림 id, 없으면 null
+     */
     @Override
-    public void sendNotification(Member member, String content) {
-        messageTemplate.convertAndSend("/notification/notification-message/" + member.getMbEmail(), content);
+    public void sendCatchUpNotification(String email, Long lastSeenId) {
+        notificationOutboxRelay.sendDirect("/notification/catch-up/" + email, getCatchUpNotification(email, lastSeenId), "catch-up");
+    }
+
+    /**
+     * STOMP 프레임을 현재 트랜잭션의 아웃박스에 기록합니다.
+     * 전송은 커밋 후 {@link NotificationOutboxRelay}가 수행하며, 롤백되면 전송하지 않습니다.
+     * 현재 요청의 trace id는 아웃박스 항목에 저장되어 전송 시 {@code X-Trace-Id} 네이티브 헤더로 첨부됩니다.
+     *
+     * @param destination 전송할 목적지
+     * @param payload 전송할 데이터 (문자열 또는 숫자)
+     * @param frame 메트릭용 프레임 종류
+     */
+    private void push(String destination, Object payload, String frame) {
+        // 트랜잭션 안에서는 아웃박스에만 기록하고, 전송은 커밋 후 릴레이가 수행
+        notificationOutboxWriter.enqueue(destination, payload, frame);
+    }
+
+    /**
+     * 회원별 요약에서 읽지 않은 알림 개수를 조회하고, 요약 행이 없으면 상세 테이블을 집계합니다.
+     *
+     * @param member 조회할 회원
+     * @return 읽지 않은 알림 개수
+     */
+    private Long countUnread(Member member) {
+        return notificationSummaryStore.findUnreadCount(member)
+                .orElseGet(() -> notificationMessageRepository.countByMemberAndIsReadFalse(member));
+    }
+
+    /**
+     * 공유 본문을 참조하는 알림의 본문을 조회합니다.
+     * 최근 본문 캐시에서 먼저 찾고, 없는 본문만 한 번의 쿼리로 조회합니다.
+     *
+     * @param notificationMessages 조회한 알림 목록
+     * @return 본문 id별 본문, 공유 본문을 참조하는 알림이 없으면 빈 맵
+     */
+    private Map<Long, String> findEventBodies(List<NotificationMessage> notificationMessages) {
+        Map<Long, String> bodyIdToContentMap = new HashMap<>();
+        Set<Long> missingIds = new HashSet<>();
+
+        for(NotificationMessage notificationMessage : notificationMessages) {
+            if(notificationMessage.getContent() != null || notificationMessage.getEvent() == null) {
+                continue;
+            }
+            // 프록시의 id 조회는 본문을 초기화하지 않음
+            Long bodyId = notificationMessage.getEvent().getId();
+            String content = notificationEventBodyCache.get(bodyId);
+            if(content != null) {
+                bodyIdToContentMap.put(bodyId, content);
+            } else {
+                missingIds.add(bodyId);
+            }
+        }
+
+        if(!missingIds.isEmpty()) {
+            List<NotificationEventBody> bodies = notificationMetrics.recordDb("find-event-body", () -> notificationEventBodyRepository.findAllById(missingIds));
+            for(NotificationEventBody body : bodies) {
+                notificationEventBodyCache.put(body.getId(), body.getContent());
+                bodyIdToContentMap.put(body.getId(), body.getContent());
+            }
+        }
+        return bodyIdToContentMap;
     }
 }
@@ -0,0 +1,143 @@
+package com.nhnacademy.notifyservice.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * SSE 연결 하나의 전송 대기 상태입니다.
+ *
+ * 읽지 않은 개수는 마지막 값만 의미가 있으므로 하나로 합치고, 요약은 최대 {@code bufferSize}개까지만 보관하며
+ * 넘치면 가장 오래된 요약을 버립니다. 대기 중인 이벤트가 없는 유휴 연결은 버퍼를 할당하지 않습니다.
+ * 한 연결은 동시에 하나의 전송 작업에서만 기록합니다.
+ */
+final class NotificationStreamConnection {
+
+    static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    static final String EVENT_SUMMARY = "summary";
+
+    private final String email;
+
+    private final SseEmitter emitter;
+
+    private final int bufferSize;
+
+    private Object pendingCount;
+
+    private ArrayDeque<Object> pendingSummaries;
+
+    private boolean heartbeatDue;
+
+    /**
+     * 전송 작업이 예약되었거나 실행 중인지 여부입니다.
+     */
+    private boolean scheduled;
+
+    NotificationStreamConnection(String email, SseEmitter emitter, int bufferSize) {
+        this.email = email;
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * 읽지 않은 개수를 기록합니다. 아직 전송하지 않은 이전 값은 덮어씁니다.
+     */
+    synchronized void offerCount(Object count) {
+        pendingCount = count;
+    }
+
+    /**
+     * 요약을 기록합니다. 버퍼가 가득 차면 가장 오래된 요약을 버립니다.
+     *
+     * @return 버린 요약 수
+     */
+    synchronized int offerSummary(Object summary) {
+        if (pendingSummaries == null) {
+            pendingSummaries = new ArrayDeque<>(Math.min(bufferSize, 4));
+        }
+        int dropped = 0;
+        while (pendingSummaries.size() >= bufferSize) {
+            pendingSummaries.pollFirst();
+            dropped++;
+        }
+        pendingSummaries.addLast(summary);
+        return dropped;
+    }
+
+    /**
+     * heartbeat 주석 전송을 요청합니다. 다른 이벤트가 함께 전송되면 주석은 생략합니다.
+     */
+    synchronized void offerHeartbeat() {
+        heartbeatDue = true;
+    }
+
+    /**
+     * 전송 작업을 예약합니다. 이미 예약되었거나 실행 중이면 그 작업이 새 이벤트까지 전송합니다.
+     *
+     * @return 전송 작업을 새로 제출해야 하면 true
+     */
+    synchronized boolean requestFlush() {
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+
+    /**
+     * 대기 중인 이벤트를 모두 전송합니다. 전송 중 새로 들어온 이벤트도 이어서 전송합니다.
+     *
+     * @throws IOException 클라이언트 연결이 끊긴 경우
+     */
+    void flush() throws IOException {
+        while (true) {
+            Object count;
+            List<Object> summaries;
+            boolean heartbeat;
+            synchronized (this) {
+                if (pendingCount == null && (pendingSummaries == null || pendingSummaries.isEmpty()) && !heartbeatDue) {
+                    scheduled = false;
+                    pendingSummaries = null;
+                    return;
+                }
+                count = pendingCount;
+                summaries = pendingSummaries == null ? List.of() : List.copyOf(pendingSummaries);
+                heartbeat = heartbeatDue && count == null && summaries.isEmpty();
+                pendingCount = null;
+                pendingSummaries = null;
+                heartbeatDue = false;
+            }
+
+            for (Object summary : summaries) {
+                emitter.send(SseEmitter.event().name(EVENT_SUMMARY).data(summary));
+            }
+            if (count != null) {
+                emitter.send(SseEmitter.event().name(EVENT_UNREAD_COUNT).data(count));
+            }
+            if (heartbeat) {
+                emitter.send(SseEmitter.event().comment(""));
+            }
+        }
+    }
+
+    /**
+     * 전송에 실패한 연결의 예약 상태를 해제합니다.
+     */
+    synchronized void abandon() {
+        scheduled = false;
+        pendingCount = null;
+        pendingSummaries = null;
+        heartbeatDue = false;
+    }
+}
@@ -0,0 +1,227 @@
+package com.nhnacademy.notifyservice.stream;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽지 않은 개수/요약만 필요한 클라이언트를 위한 SSE(Server-Sent Events) 연결을 관리하는 컴포넌트입니다.
+ *
+ * SockJS+STOMP 세션은 프레이밍, 구독 등록, {@link com.nhnacademy.notifyservice.config.NotificationSessionTracker}의
+ * 세션 추적 비용이 들지만, 배지만 표시하는 클라이언트는 개수와 요약만 받으면 됩니다.
+ * 이 컴포넌트는 {@link com.nhnacademy.notifyservice.outbox.NotificationOutboxRelay}가 STOMP로 전송하는
+ * {@code unread-count}, {@code popup} 프레임을 같은 사용자의 SSE 연결에도 전달합니다.
+ *
+ * <p>연결당 비용을 작게 유지하기 위한 방식:</p>
+ * <ul>
+ * <li>읽지 않은 개수는 마지막 값 하나로 합치고, 요약은 연결당 {@code notification.sse.buffer-size}개까지만 보관</li>
+ * <li>전송은 이벤트가 있을 때만 가상 스레드에서 수행하여 유휴 연결이 스레드를 점유하지 않음</li>
+ * <li>{@code notification.sse.heartbeat-interval}마다 SSE 주석을 보내 프록시의 유휴 연결 종료를 막고 끊긴 연결을 정리</li>
+ * </ul>
+ *
+ * 연결 수는 사용자당 {@code notification.sse.max-connections-per-user}, 전체 {@code notification.sse.max-connections}로 제한합니다.
+ * 연결은 이 인스턴스의 메모리에만 등록되므로, 아웃박스를 전송하는 인스턴스에 연결된 클라이언트만 이벤트를 받습니다 (STOMP와 같음).
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.stream.connections} - 현재 SSE 연결 수</li>
+ * <li>{@code notification.stream.dropped} - 버퍼가 가득 차 버린 요약 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+    private static final String FRAME_UNREAD_COUNT = "unread-count";
+
+    private static final String FRAME_POPUP = "popup";
+
+    private final Map<String, List<NotificationStreamConnection>> connections = new ConcurrentHashMap<>();
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("notification-stream-", 0).factory());
+
+    private final long timeoutMillis;
+
+    private final int bufferSize;
+
+    private final int maxConnections;
+
+    private final int maxConnectionsPerUser;
+
+    private final Counter droppedCounter;
+
+    public NotificationStreamRegistry(NotificationMetrics notificationMetrics,
+                                      @Value("${notification.sse.timeout:1800000}") long timeoutMillis,
+                                      @Value("${notification.sse.buffer-size:16}") int bufferSize,
+                                      @Value("${notification.sse.max-connections:20000}") int maxConnections,
+                                      @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+
+        Gauge.builder("notification.stream.connections", connectionCount, AtomicInteger::get)
+                .description("현재 SSE 연결 수")
+                .register(notificationMetrics.getMeterRegistry());
+        this.droppedCounter = Counter.builder("notification.stream.dropped")
+                .description("연결별 버퍼가 가득 차 버린 요약 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 사용자의 SSE 연결을 등록하고 현재 읽지 않은 개수를 첫 이벤트로 전송합니다.
+     *
+     * @param email 사용자 이메일
+     * @param unreadCount 현재 읽지 않은 알림 개수
+     * @return 응답으로 반환할 emitter, 연결 수 제한을 넘으면 empty
+     */
+    public Optional<SseEmitter> open(String email, Object unreadCount) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        NotificationStreamConnection connection = new NotificationStreamConnection(email, emitter, bufferSize);
+        boolean[] added = {false};
+        connections.compute(email, (key, list) -> {
+            List<NotificationStreamConnection> userConnections = list == null ? new CopyOnWriteArrayList<>() : list;
+            if (userConnections.size() < maxConnectionsPerUser) {
+                userConnections.add(connection);
+                added[0] = true;
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        if (!added[0]) {
+            connectionCount.decrementAndGet();
+            return Optional.empty();
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(connection));
+
+        connection.offerCount(unreadCount);
+        requestFlush(connection);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 사용자에게 열린 SSE 연결이 있는지 확인합니다.
+     *
+     * @param email 사용자 이메일
+     * @return 연결이 있으면 true
+     */
+    public boolean hasListeners(String email) {
+        return connections.containsKey(email);
+    }
+
+    /**
+     * 아웃박스에서 STOMP로 전송한 프레임을 같은 사용자의 SSE 연결에 전달합니다.
+     * 읽지 않은 개수와 팝업(요약) 프레임만 전달하고 나머지 프레임은 무시합니다.
+     *
+     * @param destination STOMP 목적지 (마지막 경로가 사용자 이메일)
+     * @param frame 프레임 종류
+     * @param payload 전송한 값
+     */
+    public void publish(String destination, String frame, Object payload) {
+        if (!FRAME_UNREAD_COUNT.equals(frame) && !FRAME_POPUP.equals(frame)) {
+            return;
+        }
+        List<NotificationStreamConnection> userConnections = connections.get(destination.substring(destination.lastIndexOf('/') + 1));
+        if (userConnections == null) {
+            return;
+        }
+
+        for (NotificationStreamConnection connection : userConnections) {
+            if (FRAME_UNREAD_COUNT.equals(frame)) {
+                connection.offerCount(payload);
+            } else {
+                int dropped = connection.offerSummary(payload);
+                if (dropped > 0) {
+                    droppedCounter.increment(dropped);
+                }
+            }
+            requestFlush(connection);
+        }
+    }
+
+    /**
+     * 모든 연결에 heartbeat 주석을 보냅니다. 끊긴 연결은 전송에 실패하여 제거됩니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (List<NotificationStreamConnection> userConnections : connections.values()) {
+            for (NotificationStreamConnection connection : userConnections) {
+                connection.offerHeartbeat();
+                requestFlush(connection);
+            }
+        }
+    }
+
+    /**
+     * 현재 연결 수를 반환합니다.
+     *
+     * @return 연결 수
+     */
+    public int size() {
+        return connectionCount.get();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void requestFlush(NotificationStreamConnection connection) {
+        if (connection.requestFlush()) {
+            sender.execute(() -> flush(connection));
+        }
+    }
+
+    private void flush(NotificationStreamConnection connection) {
+        try {
+            connection.flush();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결 (요청 정리는 컨테이너의 오류 콜백이 수행)
+            log.debug("SSE: dropping connection of {}", connection.getEmail(), e);
+            connection.abandon();
+            remove(connection);
+        }
+    }
+
+    private void remove(NotificationStreamConnection connection) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(connection.getEmail(), (key, list) -> {
+            removed[0] = list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+        connections.values().forEach(list -> list.forEach(connection -> connection.getEmitter().complete()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.notifyservice.summary;
+
+/**
+ * 상세 테이블에서 집계한 회원별 읽지 않은 알림 개수입니다.
+ *
+ * @param mbNo 회원번호
+ * @param unreadCount 읽지 않은 알림 개수
+ */
+public record MemberUnreadCount(Long mbNo, long unreadCount) {
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.notifyservice.summary;
+
+/**
+ * 회원별 요약 한 행에서 함께 읽은 알림 변경 버전과 읽지 않은 알림 개수입니다.
+ *
+ * @param version 알림 변경 버전
+ * @param unreadCount 읽지 않은 알림 개수
+ */
+public record MemberUnreadState(long version, long unreadCount) {
+}
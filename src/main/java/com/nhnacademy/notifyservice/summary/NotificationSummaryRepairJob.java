@@ -0,0 +1,119 @@
+package com.nhnacademy.notifyservice.summary;
+
+import com.nhnacademy.notifyservice.domain.MemberNotificationSummary;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.MemberNotificationSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 알림 요약의 읽지 않은 알림 개수를 상세 테이블과 비교하여 바로잡는 배치 작업입니다.
+ *
+ * 요약은 트랜잭션 안에서 증감되므로 정상적으로는 어긋나지 않지만, 요약을 갱신하지 않는 이전 버전 인스턴스의 저장,
+ * 수동 데이터 변경, 파티션 제거 등으로 어긋날 수 있습니다.
+ * 회원번호 순서로 {@code notification.summary.repair-page-size}명씩 검사하며,
+ * 검사 이후 다른 트랜잭션이 값을 변경한 행은 덮어쓰지 않고 다음 실행에서 다시 검사합니다.
+ *
+ * <p>노출하는 메트릭:</p>
+ * <ul>
+ * <li>{@code notification.summary.repaired} - 바로잡은 요약 행 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationSummaryRepairJob {
+
+    private final MemberNotificationSummaryRepository memberNotificationSummaryRepository;
+
+    private final NotificationSummaryStore notificationSummaryStore;
+
+    private final NotificationMetrics notificationMetrics;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int pageSize;
+
+    private final Counter repairedCounter;
+
+    public NotificationSummaryRepairJob(MemberNotificationSummaryRepository memberNotificationSummaryRepository,
+                                        NotificationSummaryStore notificationSummaryStore,
+                                        NotificationMetrics notificationMetrics,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.summary.repair-page-size:500}") int pageSize) {
+        this.memberNotificationSummaryRepository = memberNotificationSummaryRepository;
+        this.notificationSummaryStore = notificationSummaryStore;
+        this.notificationMetrics = notificationMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+
+        this.repairedCounter = Counter.builder("notification.summary.repaired")
+                .description("상세 테이블 기준으로 바로잡은 회원별 알림 요약 수")
+                .register(notificationMetrics.getMeterRegistry());
+    }
+
+    /**
+     * 모든 회원의 알림 요약을 검사합니다.
+     *
+     * @return 바로잡은 요약 행 수
+     */
+    @Scheduled(cron = "${notification.summary.repair-cron:0 45 4 * * *}")
+    public int repair() {
+        int repaired = 0;
+        long after = 0L;
+
+        while (true) {
+            long pageAfter = after;
+            List<Long> mbNos = memberNotificationSummaryRepository.findMbNosAfter(pageAfter, PageRequest.of(0, pageSize));
+            if (mbNos.isEmpty()) {
+                break;
+            }
+
+            Integer pageRepaired = notificationMetrics.recordDb("summary-repair",
+                    () -> transactionTemplate.execute(status -> repairPage(mbNos)));
+            repaired += pageRepaired == null ? 0 : pageRepaired;
+            after = mbNos.get(mbNos.size() - 1);
+        }
+
+        if (repaired > 0) {
+            log.warn("SUMMARY: repaired {} member notification summaries", repaired);
+        }
+        return repaired;
+    }
+
+    private int repairPage(List<Long> mbNos) {
+        // 요약을 먼저 읽어야 집계 사이에 커밋된 알림을 되돌리지 않음 (변경된 행은 조건부 UPDATE가 건너뜀)
+        Map<Long, Long> mbNoToObservedMap = memberNotificationSummaryRepository.findAllById(mbNos).stream()
+                .collect(Collectors.toMap(MemberNotificationSummary::getMbNo, MemberNotificationSummary::getUnreadCount));
+        List<MemberUnreadCount> actualCounts = memberNotificationSummaryRepository.countUnreadByMembers(mbNos);
+
+        int repaired = 0;
+        for (MemberUnreadCount actual : actualCounts) {
+            Long observed = mbNoToObservedMap.get(actual.mbNo());
+            if (observed == null) {
+                // 알림이 없던 회원은 첫 알림 저장 시 생성되므로 읽지 않은 알림이 있는 경우에만 생성
+                if (actual.unreadCount() > 0) {
+                    notificationSummaryStore.createIfAbsent(actual.mbNo());
+                    repaired++;
+                }
+                continue;
+            }
+            if (observed != actual.unreadCount()
+                    && memberNotificationSummaryRepository.repairUnreadCount(actual.mbNo(), observed, actual.unreadCount()) > 0) {
+                log.info("SUMMARY: member {} unread count {} -> {}", actual.mbNo(), observed, actual.unreadCount());
+                repaired++;
+            }
+        }
+        repairedCounter.increment(repaired);
+        return repaired;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.notifyservice.summary;
+
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.repository.MemberNotificationSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 알림 요약({@code member_notification_summary})을 갱신하고 조회하는 컴포넌트입니다.
+ *
+ * 알림 저장/읽음 처리/보관 기간 삭제와 같은 트랜잭션에서 호출되어 요약을 단일 UPDATE 문으로 증감합니다.
+ * 같은 회원에게 여러 컨슈머가 동시에 알림을 저장해도 행 잠금으로 직렬화되므로 증가분이 유실되지 않습니다.
+ *
+ * <p>요약 행이 없는 회원(마이그레이션 이후 가입한 회원 등)은 처음 알림을 저장할 때
+ * 별도 트랜잭션에서 커밋된 상세 테이블 기준 개수로 행을 만든 뒤 증가시킵니다.
+ * 없는 기본 키에 대한 UPDATE는 MySQL에서 갭 잠금을 잡아 별도 트랜잭션의 INSERT와 교착되므로,
+ * 잠그지 않는 조회로 행의 존재를 먼저 확인합니다.</p>
+ *
+ * @see NotificationSummaryRepairJob
+ */
+@Slf4j
+@Component
+public class NotificationSummaryStore {
+
+    private final MemberNotificationSummaryRepository memberNotificationSummaryRepository;
+
+    /**
+     * 요약 행 생성을 호출자 트랜잭션과 분리하기 위한 템플릿입니다.
+     * 동시에 생성하여 기본 키가 중복되어도 호출자 트랜잭션은 롤백되지 않습니다.
+     */
+    private final TransactionTemplate requiresNewTemplate;
+
+    public NotificationSummaryStore(MemberNotificationSummaryRepository memberNotificationSummaryRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.memberNotificationSummaryRepository = memberNotificationSummaryRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 저장한 알림을 요약에 반영합니다.
+     *
+     * @param member 알림을 받은 회원
+     * @param notificationId 저장한 알림 id
+     * @param isRead 저장 시점의 읽음 여부
+     */
+    public void recordNotification(Member member, Long notificationId, boolean isRead) {
+        if (memberNotificationSummaryRepository.findUnreadCountByMbNo(member.getMbNo()).isEmpty()) {
+            createIfAbsent(member.getMbNo());
+        }
+        memberNotificationSummaryRepository.recordNotification(member.getMbNo(), notificationId, isRead ? 0L : 1L);
+    }
+
+    /**
+     * 읽음 처리한 알림 수를 요약에 반영합니다.
+     *
+     * @param member 읽음 처리한 회원
+     * @param readCount 실제로 읽음 상태로 변경된 알림 수
+     * @param readAt 읽음 처리 시각
+     */
+    public void recordRead(Member member, long readCount, LocalDateTime readAt) {
+        memberNotificationSummaryRepository.recordRead(member.getMbNo(), readCount, readAt);
+    }
+
+    /**
+     * 삭제한 읽지 않은 알림 수를 요약에 반영합니다.
+     * 읽은 알림만 삭제했더라도(0) 히스토리가 바뀌었으므로 변경 버전을 증가시킵니다.
+     *
+     * @param mbNo 회원번호
+     * @param deletedUnreadCount 삭제한 읽지 않은 알림 수
+     */
+    public void recordDeleted(Long mbNo, long deletedUnreadCount) {
+        memberNotificationSummaryRepository.recordDeleted(mbNo, deletedUnreadCount);
+    }
+
+    /**
+     * 알림 변경 버전을 조회합니다.
+     * 알림 저장, 읽음 처리, 삭제마다 증가하므로 읽지 않은 개수와 히스토리의 ETag로 사용합니다.
+     *
+     * @param email 회원 이메일
+     * @return 알림 변경 버전, 요약 행이 없으면 빈 값
+     */
+    public Optional<Long> findVersion(String email) {
+        return memberNotificationSummaryRepository.findVersionByMbEmail(email);
+    }
+
+    /**
+     * 알림 변경 버전과 읽지 않은 알림 개수를 함께 조회합니다.
+     *
+     * @param email 회원 이메일
+     * @return 변경 버전과 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    public Optional<MemberUnreadState> findUnreadState(String email) {
+        return memberNotificationSummaryRepository.findUnreadStateByMbEmail(email);
+    }
+
+    /**
+     * 읽지 않은 알림 개수를 조회합니다.
+     *
+     * @param email 회원 이메일
+     * @return 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    public Optional<Long> findUnreadCount(String email) {
+        return memberNotificationSummaryRepository.findUnreadCountByMbEmail(email);
+    }
+
+    /**
+     * 읽지 않은 알림 개수를 조회합니다.
+     *
+     * @param member 회원
+     * @return 읽지 않은 알림 개수, 요약 행이 없으면 빈 값
+     */
+    public Optional<Long> findUnreadCount(Member member) {
+        return memberNotificationSummaryRepository.findUnreadCountByMbNo(member.getMbNo());
+    }
+
+    /**
+     * 요약 행이 없으면 커밋된 상세 테이블 기준 개수로 생성합니다.
+     * 호출자 트랜잭션에서 아직 커밋하지 않은 알림은 포함되지 않으므로, 생성 후 호출자가 증가시킵니다.
+     * 집계는 잠그지 않는 조회이므로 호출자 트랜잭션이 저장한 행을 기다리지 않습니다.
+     *
+     * @param mbNo 회원번호
+     */
+    void createIfAbsent(Long mbNo) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> memberNotificationSummaryRepository
+                    .countUnreadByMembers(List.of(mbNo))
+                    .forEach(actual -> memberNotificationSummaryRepository.insert(actual.mbNo(), actual.unreadCount())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 먼저 생성함
+            log.debug("SUMMARY: summary of {} already created", mbNo);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.nhnacademy.notifyservice.trace;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * HTTP 요청부터 WebSocket 전달까지 알림 한 건을 추적하기 위한 trace 식별자 유틸리티입니다.
+ *
+ * trace id는 다음 경로로 전파됩니다:
+ * <ol>
+ * <li>{@code EmailQueueProducer} - MDC(trace-logger)의 trace id를 사용하거나 새로 발급하여 요청 본문과 AMQP 헤더에 기록</li>
+ * <li>{@code EmailQueueConsumer} - 본문 또는 AMQP 헤더에서 복원하여 처리 중 MDC에 설정</li>
+ * <li>{@code NotificationServiceImpl} - STOMP 프레임의 네이티브 헤더로 첨부</li>
+ * </ol>
+ *
+ * MDC 키는 공유 logback 설정(logback-shared.xml)의 JSON 인코더가 출력하는 {@code traceId}를 사용하므로,
+ * 로그 파이프라인에서 같은 trace id로 전체 경로를 조회할 수 있습니다.
+ */
+public final class NotificationTrace {
+
+    /**
+     * trace id를 전달하는 AMQP/STOMP 헤더 이름입니다.
+     */
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    /**
+     * 큐 적재 시각(epoch millis)을 전달하는 AMQP 헤더 이름입니다.
+     */
+    public static final String ENQUEUED_AT_HEADER = "X-Enqueued-At";
+
+    /**
+     * trace id를 저장하는 MDC 키입니다.
+     */
+    public static final String MDC_TRACE_ID = "traceId";
+
+    private NotificationTrace() {
+    }
+
+    /**
+     * 현재 스레드의 trace id를 반환합니다.
+     *
+     * @return MDC에 설정된 trace id, 없으면 null
+     */
+    public static String currentTraceId() {
+        return MDC.get(MDC_TRACE_ID);
+    }
+
+    /**
+     * 현재 스레드의 trace id를 반환하거나, 없으면 새로 발급합니다.
+     *
+     * @return trace id
+     */
+    public static String currentOrNewTraceId() {
+        String traceId = currentTraceId();
+        return traceId != null ? traceId : UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * 현재 스레드의 trace id를 STOMP 네이티브 헤더 맵으로 반환합니다.
+     *
+     * @return trace id 헤더 맵, trace id가 없으면 빈 맵
+     */
+    public static Map<String, Object> stompHeaders() {
+        return stompHeaders(currentTraceId());
+    }
+
+    /**
+     * 지정한 trace id를 STOMP 네이티브 헤더 맵으로 반환합니다.
+     * 요청 스레드가 아닌 곳(아웃박스 릴레이 등)에서 저장해 둔 trace id로 프레임을 보낼 때 사용합니다.
+     *
+     * @param traceId trace id, 없으면 null
+     * @return trace id 헤더 맵, trace id가 없으면 빈 맵
+     */
+    public static Map<String, Object> stompHeaders(String traceId) {
+        return traceId == null ? Map.of() : Map.of(TRACE_ID_HEADER, traceId);
+    }
+}
@@ -1,5 +1,7 @@
 package com.nhnacademy.notifyservice.util;
 
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import lombok.RequiredArgsConstructor;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -7,8 +9,11 @@ import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class HtmlTextConverter {
 
+    private final NotificationMetrics notificationMetrics;
+
     /**
      * 관리자용 알림 메시지로 HTML을 변환 (구조화된 텍스트)
      */
@@ -16,6 +21,10 @@ public class HtmlTextConverter {
         if (htmlContent == null || htmlContent.trim().isEmpty()) {
             return "";
         }
+        return notificationMetrics.recordHtmlConversion("admin-notification", () -> doConvertToAdminNotification(htmlContent));
+    }
+
+    private String doConvertToAdminNotification(String htmlContent) {
 
         Document doc = Jsoup.parse(htmlContent);
         StringBuilder result = new StringBuilder();
@@ -61,6 +70,10 @@ public class HtmlTextConverter {
      * 관리자용 요약 메시지 생성 (팝업용)
      */
     public String createAdminSummary(String htmlContent, int maxLength) {
+        return notificationMetrics.recordHtmlConversion("admin-summary", () -> doCreateAdminSummary(htmlContent, maxLength));
+    }
+
+    private String doCreateAdminSummary(String htmlContent, int maxLength) {
         Document doc = Jsoup.parse(htmlContent);
 
         // 사용자 이메일 추출
@@ -174,6 +187,6 @@ public class HtmlTextConverter {
         if (htmlContent == null || htmlContent.trim().isEmpty()) {
             return "";
         }
-        return Jsoup.parse(htmlContent).text();
+        return notificationMetrics.recordHtmlConversion("plain-text", () -> Jsoup.parse(htmlContent).text());
     }
 }
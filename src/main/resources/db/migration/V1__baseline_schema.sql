@@ -0,0 +1,37 @@
+-- 알림 서비스가 사용하는 기존 스키마 (Hibernate ddl-auto로 생성되던 구조)
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate로 이 버전을 기준선으로 기록하고 건너뜁니다.
+
+CREATE TABLE IF NOT EXISTS roles (
+    role_no          BIGINT       NOT NULL AUTO_INCREMENT,
+    role_name        VARCHAR(50)  NOT NULL,
+    role_description VARCHAR(200) NOT NULL,
+    PRIMARY KEY (role_no),
+    CONSTRAINT uk_roles_role_name UNIQUE (role_name),
+    CONSTRAINT uk_roles_role_description UNIQUE (role_description)
+);
+
+CREATE TABLE IF NOT EXISTS members (
+    mb_no        BIGINT       NOT NULL AUTO_INCREMENT,
+    role_no      BIGINT       NOT NULL,
+    mb_name      VARCHAR(50)  NOT NULL,
+    mb_email     VARCHAR(100) NOT NULL,
+    mb_password  VARCHAR(200) NOT NULL,
+    phone_number VARCHAR(15)  NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    withdrawn_at DATETIME(6),
+    PRIMARY KEY (mb_no),
+    CONSTRAINT uk_members_mb_email UNIQUE (mb_email),
+    CONSTRAINT fk_members_role FOREIGN KEY (role_no) REFERENCES roles (role_no)
+);
+
+CREATE TABLE IF NOT EXISTS notification_message (
+    id         BIGINT        NOT NULL AUTO_INCREMENT,
+    mb_no      BIGINT        NOT NULL,
+    role_no    BIGINT        NOT NULL,
+    content    VARCHAR(1000) NOT NULL,
+    is_read    BIT           NOT NULL,
+    created_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notification_message_member FOREIGN KEY (mb_no) REFERENCES members (mb_no),
+    CONSTRAINT fk_notification_message_role FOREIGN KEY (role_no) REFERENCES roles (role_no)
+);
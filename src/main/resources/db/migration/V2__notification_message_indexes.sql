@@ -0,0 +1,8 @@
+-- 읽지 않은 알림 개수/목록 조회 (countByMemberAndIsReadFalse, findByMemberAndIsReadFalse)
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 읽음 처리 대상 조회까지 인덱스만으로 처리됩니다.
+CREATE INDEX idx_notification_message_member_read
+    ON notification_message (mb_no, is_read);
+
+-- 회원별 최신순 히스토리와 보관 기간 조회 (mb_no = ? ORDER BY created_at, id)
+CREATE INDEX idx_notification_message_member_created
+    ON notification_message (mb_no, created_at, id);
@@ -0,0 +1,12 @@
+-- 커밋 이후 전송할 STOMP 프레임 아웃박스 (NotificationOutbox)
+-- 기준선(V1) 이후에 추가된 테이블이므로, 기준선으로 기록된 기존 DB에도 이 버전부터 적용됩니다.
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id           BIGINT       NOT NULL,
+    destination  VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    payload_type VARCHAR(10)  NOT NULL,
+    frame        VARCHAR(30)  NOT NULL,
+    trace_id     VARCHAR(64),
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- 역할별 보관 기간 정리 작업 (role_no = ? AND created_at < ? ORDER BY created_at, id)
+CREATE INDEX idx_notification_message_role_created
+    ON notification_message (role_no, created_at, id);
@@ -0,0 +1,13 @@
+-- 수신자 수만큼 반복 저장되던 관리자 알림 본문을 이벤트당 한 번만 저장하는 테이블
+-- notification.storage.normalized-content=true인 경우에만 사용되며, 기존 행은 content를 그대로 유지합니다.
+CREATE TABLE notification_event_body (
+    id         BIGINT        NOT NULL,
+    content    VARCHAR(1000) NOT NULL,
+    created_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 본문을 공유하는 알림은 content 대신 event_id를 기록합니다. (content의 NULL 허용은 V5_1, DB별 문법)
+ALTER TABLE notification_message ADD COLUMN event_id BIGINT NULL;
+ALTER TABLE notification_message
+    ADD CONSTRAINT fk_notification_message_event FOREIGN KEY (event_id) REFERENCES notification_event_body (id);
@@ -0,0 +1,16 @@
+-- 회원별 알림 요약 (읽지 않은 알림 개수 배지를 기본 키 한 행으로 조회)
+-- 상세 테이블에서 파생되는 값이므로 외래 키를 두지 않으며, 어긋난 값은 NotificationSummaryRepairJob이 바로잡습니다.
+CREATE TABLE member_notification_summary (
+    mb_no                BIGINT      NOT NULL,
+    unread_count         BIGINT      NOT NULL,
+    last_notification_id BIGINT,
+    last_read_at         DATETIME(6),
+    PRIMARY KEY (mb_no)
+);
+
+-- 기존 회원의 요약을 현재 상세 테이블 기준으로 채웁니다. (idx_notification_message_member_read 사용)
+INSERT INTO member_notification_summary (mb_no, unread_count, last_notification_id)
+SELECT m.mb_no,
+       (SELECT COUNT(*) FROM notification_message n WHERE n.mb_no = m.mb_no AND n.is_read = FALSE),
+       (SELECT MAX(n.id) FROM notification_message n WHERE n.mb_no = m.mb_no)
+FROM members m;
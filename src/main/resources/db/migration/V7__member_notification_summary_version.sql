@@ -0,0 +1,3 @@
+-- 회원별 알림 변경 버전 (읽지 않은 개수/히스토리 조건부 GET의 ETag)
+-- 요약을 갱신하는 모든 UPDATE 문이 함께 증가시키므로, 값이 같으면 알림 테이블을 다시 읽지 않고 304로 응답할 수 있습니다.
+ALTER TABLE member_notification_summary ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
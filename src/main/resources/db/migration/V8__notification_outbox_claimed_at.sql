@@ -0,0 +1,3 @@
+-- 스윕이 재전송하기 위해 가져간 아웃박스 항목의 점유 시각
+-- 짧은 트랜잭션에서 점유만 기록하고 잠금을 해제한 뒤 전송하므로, 점유가 stale-after보다 오래된 항목만 다른 스윕이 다시 가져갑니다.
+ALTER TABLE notification_outbox ADD COLUMN claimed_at DATETIME(6);
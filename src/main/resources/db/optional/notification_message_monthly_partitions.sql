@@ -0,0 +1,25 @@
+-- 알림 테이블을 created_at 기준 월 단위 RANGE 파티션 테이블로 전환하는 선택 스크립트 (MySQL 8)
+-- Flyway 경로(db/migration)에 포함되지 않으며, 점검 시간에 수동으로 실행합니다.
+--
+-- 제약 사항:
+--  * 파티션 테이블은 외래 키를 지원하지 않으므로 notification_message의 외래 키를 제거합니다.
+--    (회원/역할 삭제 시 알림 정리는 애플리케이션에서 보장해야 합니다.)
+--    파티션 제거로 참조가 없어진 공유 본문(notification_event_body)은 보관 기간 정리 작업이 삭제합니다.
+--  * 모든 고유 키에 파티션 키가 포함되어야 하므로 기본 키를 (id, created_at)으로 변경합니다.
+--    id는 애플리케이션이 할당하는 시간 순 id이므로 고유성은 그대로 유지됩니다.
+--
+-- 실행 후 notification.retention.partitioning.enabled=true로 설정하면
+-- NotificationPartitionMaintainer가 다음 달 파티션을 미리 만들고 보관 기간이 지난 파티션을 제거합니다.
+-- 아래의 첫 파티션 월은 실행 시점에 맞게 변경합니다.
+
+ALTER TABLE notification_message DROP FOREIGN KEY fk_notification_message_member;
+ALTER TABLE notification_message DROP FOREIGN KEY fk_notification_message_role;
+ALTER TABLE notification_message DROP FOREIGN KEY fk_notification_message_event;
+
+ALTER TABLE notification_message DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE notification_message
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
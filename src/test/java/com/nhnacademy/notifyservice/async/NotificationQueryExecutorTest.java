@@ -0,0 +1,32 @@
+package com.nhnacademy.notifyservice.async;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationQueryExecutorTest {
+
+    @Test
+    @DisplayName("비동기 조회 스레드 수가 커넥션 풀 크기 이상이면 기동 시 실패한다")
+    void requireWithinConnectionPool_poolSizeNotBelowConnections_throws() {
+        assertDoesNotThrow(() -> NotificationQueryExecutor.requireWithinConnectionPool(4, 20));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> NotificationQueryExecutor.requireWithinConnectionPool(20, 20));
+        assertTrue(e.getMessage().contains("maximum-pool-size(20)"));
+    }
+
+    @Test
+    @DisplayName("제출한 조회는 실행기 스레드에서 실행된다")
+    void supply_runsOnQueryThread() {
+        NotificationQueryExecutor executor = new NotificationQueryExecutor(1, 10, 10);
+        try {
+            String threadName = executor.supply(() -> Thread.currentThread().getName()).join();
+
+            assertTrue(threadName.startsWith("notification-query-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.notifyservice.autoscaling;
+
+import com.nhnacademy.notifyservice.consumer.EmailQueueConsumer;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConsumerAutoscalerTest {
+
+    static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    AmqpAdmin amqpAdmin;
+    SimpleMessageListenerContainer container;
+    SimpleMeterRegistry meterRegistry;
+    AtomicLong now;
+    ConsumerAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        amqpAdmin = mock(AmqpAdmin.class);
+        container = mock(SimpleMessageListenerContainer.class);
+        RabbitListenerEndpointRegistry registry = mock(RabbitListenerEndpointRegistry.class);
+        when(registry.getListenerContainer(EmailQueueConsumer.LISTENER_ID)).thenReturn(container);
+        when(container.isRunning()).thenReturn(true);
+        when(container.getActiveConsumerCount()).thenReturn(1);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        autoscaler = new ConsumerAutoscaler(amqpAdmin, registry, new ConsumerAutoscalingProperties(),
+                new NotificationMetrics(meterRegistry), "email.queue", 250, now::get);
+    }
+
+    private void record(String name, String operation, int count, long millis) {
+        Timer timer = operation == null
+                ? Timer.builder(name).register(meterRegistry)
+                : Timer.builder(name).tag("operation", operation).register(meterRegistry);
+        IntStream.range(0, count).forEach(i -> timer.record(Duration.ofMillis(millis)));
+    }
+
+    @Test
+    @DisplayName("큐 깊이와 처리 시간으로 소비자 수와 prefetch를 조정하고, 배치 DB 작업 시간은 지연 판단에서 제외한다")
+    void adjust_backlog_scalesUpContainer() {
+        when(amqpAdmin.getQueueInfo("email.queue")).thenReturn(new QueueInformation("email.queue", 0, 1));
+        autoscaler.adjust();
+        assertEquals(new ConsumerAutoscalingPolicy.Decision(1, 250), autoscaler.current());
+
+        when(amqpAdmin.getQueueInfo("email.queue")).thenReturn(new QueueInformation("email.queue", 600, 1));
+        record("notification.queue.process", null, 50, 200);
+        record("notification.db", "save-notification", 50, 50);
+        record("notification.db", "retention-purge", 1, 60_000);
+        now.set(SECOND * 10);
+        autoscaler.adjust();
+
+        verify(container).setConcurrentConsumers(2);
+        verify(container).setPrefetchCount(5);
+        assertEquals(new ConsumerAutoscalingPolicy.Decision(2, 5), autoscaler.current());
+        assertEquals(1.0, meterRegistry.get("notification.consumer.autoscaling.adjustments").tag("direction", "up").counter().count());
+        assertEquals(2.0, meterRegistry.get("notification.consumer.autoscaling.consumers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("최대 소비자 수가 (커넥션 풀 크기 - 비동기 조회 몫) / (fan-out 병렬도 * 2)를 넘으면 기동 시 실패한다")
+    void requireWithinConnectionPool_tooManyConsumers_throws() {
+        ConsumerAutoscalingProperties properties = new ConsumerAutoscalingProperties();
+        properties.setMaxConsumers(2);
+        assertDoesNotThrow(() -> ConsumerAutoscaler.requireWithinConnectionPool(properties, 20, 4, 4));
+
+        properties.setMaxConsumers(10);
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ConsumerAutoscaler.requireWithinConnectionPool(properties, 20, 4, 4));
+        assertTrue(e.getMessage().contains("= 2"));
+    }
+
+    @Test
+    @DisplayName("비동기 조회에 나눠 준 커넥션은 소비자 몫에서 제외된다")
+    void requireWithinConnectionPool_asyncQueryShare_reducesConsumerLimit() {
+        ConsumerAutoscalingProperties properties = new ConsumerAutoscalingProperties();
+        properties.setMaxConsumers(2);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ConsumerAutoscaler.requireWithinConnectionPool(properties, 20, 4, 8));
+        assertTrue(e.getMessage().contains("= 1"));
+    }
+
+    @Test
+    @DisplayName("회로 차단기가 리스너를 멈춘 동안에는 큐를 조회하거나 조정하지 않는다")
+    void adjust_listenerStopped_skips() {
+        when(container.isRunning()).thenReturn(false);
+
+        autoscaler.adjust();
+
+        verifyNoInteractions(amqpAdmin);
+        verify(container, never()).setConcurrentConsumers(anyInt());
+        assertNull(autoscaler.current());
+    }
+}
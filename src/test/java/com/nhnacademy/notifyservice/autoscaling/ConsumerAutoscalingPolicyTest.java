@@ -0,0 +1,182 @@
+package com.nhnacademy.notifyservice.autoscaling;
+
+import com.nhnacademy.notifyservice.autoscaling.ConsumerAutoscalingPolicy.Decision;
+import com.nhnacademy.notifyservice.autoscaling.ConsumerAutoscalingPolicy.Observation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 합성 부하 곡선으로 큐와 소비자를 모의 실행하여 소비자 수가 진동 없이 수렴하는지 확인합니다.
+ */
+class ConsumerAutoscalingPolicyTest {
+
+    static final int TICK_SECONDS = 10;
+
+    ConsumerAutoscalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConsumerAutoscalingProperties();
+        properties.setMaxConsumers(16);
+        properties.setDbLatencyThreshold(Duration.ofMillis(400));
+    }
+
+    /**
+     * 주기마다 유입량만큼 메시지를 쌓고 소비자 수만큼 처리한 뒤 정책을 적용하는 모의 큐입니다.
+     * 메시지 한 건의 처리 시간은 SMTP 발송 시간과 소비자 수에 따라 늘어나는 DB 시간의 합입니다.
+     */
+    final class Simulation {
+
+        final ConsumerAutoscalingPolicy policy = new ConsumerAutoscalingPolicy(properties);
+
+        final double smtpMillis;
+
+        final IntToDoubleFunction dbMillis;
+
+        final List<Integer> consumers = new ArrayList<>();
+
+        final List<Long> depths = new ArrayList<>();
+
+        Decision current = new Decision(1, 250);
+
+        long depth;
+
+        Simulation(double smtpMillis, IntToDoubleFunction dbMillis) {
+            this.smtpMillis = smtpMillis;
+            this.dbMillis = dbMillis;
+        }
+
+        void run(int ticks, IntToDoubleFunction arrivalPerSecond) {
+            for (int i = 0; i < ticks; i++) {
+                int c = current.consumers();
+                double db = dbMillis.applyAsDouble(c);
+                double processMillis = smtpMillis + db;
+
+                long available = depth + Math.round(arrivalPerSecond.applyAsDouble(consumers.size()) * TICK_SECONDS);
+                long processed = Math.min(available, (long) (c * TICK_SECONDS * 1000.0 / processMillis));
+                depth = available - processed;
+
+                Observation observation = processed > 0
+                        ? new Observation(depth, c, processed, processMillis, smtpMillis, db, TICK_SECONDS)
+                        : new Observation(depth, c, 0, Double.NaN, Double.NaN, Double.NaN, TICK_SECONDS);
+                current = policy.next(current, observation);
+                assertTrue(current.consumers() >= properties.getMinConsumers() && current.consumers() <= properties.getMaxConsumers());
+                consumers.add(current.consumers());
+                depths.add(depth);
+            }
+        }
+
+        /**
+         * 소비자 수가 늘다가 줄거나 줄다가 는 횟수입니다.
+         */
+        int reversals() {
+            int reversals = 0;
+            int direction = 0;
+            for (int i = 1; i < consumers.size(); i++) {
+                int step = Integer.signum(consumers.get(i) - consumers.get(i - 1));
+                if (step != 0) {
+                    if (direction != 0 && step != direction) {
+                        reversals++;
+                    }
+                    direction = step;
+                }
+            }
+            return reversals;
+        }
+
+        /**
+         * 마지막 ticks 주기 동안 소비자 수가 바뀌지 않았는지 확인합니다.
+         */
+        boolean stableFor(int ticks) {
+            return consumers.subList(consumers.size() - ticks, consumers.size()).stream().distinct().count() == 1;
+        }
+    }
+
+    @Test
+    @DisplayName("유입량이 계단식으로 늘면 밀린 메시지를 비우고 필요한 소비자 수로 수렴한 뒤, 줄면 하나씩 줄인다")
+    void stepLoad_convergesWithoutOscillation() {
+        // 처리 시간 200ms = 소비자당 초당 5건, 초당 40건이면 40 / (5 * 0.8) = 10개 필요
+        Simulation simulation = new Simulation(150, c -> 50);
+
+        simulation.run(30, tick -> 2);
+        assertEquals(1, simulation.current.consumers());
+
+        simulation.run(60, tick -> 40);
+        assertEquals(10, simulation.current.consumers());
+        assertTrue(simulation.stableFor(30));
+        assertEquals(0L, simulation.depth);
+        assertEquals(5, simulation.current.prefetch());
+
+        simulation.run(40, tick -> 2);
+        assertEquals(1, simulation.current.consumers());
+        // 밀린 메시지를 비우느라 한 번 넘게 늘린 뒤 줄이는 것 외에는 방향을 바꾸지 않음
+        assertTrue(simulation.reversals() <= 1, "reversals=" + simulation.reversals() + " " + simulation.consumers);
+    }
+
+    @Test
+    @DisplayName("하루 주기처럼 완만하게 오르내리는 부하에서는 주기마다 한 번씩만 늘리고 줄인다")
+    void dailyCurve_followsLoadWithoutJitter() {
+        Simulation simulation = new Simulation(150, c -> 50);
+
+        // 초당 2건에서 시작해 60주기마다 최대(38건)와 최소를 오가는 부하
+        simulation.run(240, tick -> 20 - 18 * Math.cos(2 * Math.PI * tick / 120));
+
+        // 최대/최소 지점(60, 120, 180)에서만 방향을 바꿈
+        assertTrue(simulation.reversals() <= 3, "reversals=" + simulation.reversals() + " " + simulation.consumers);
+        // 밀린 메시지가 목표 시간(30초) 동안의 최대 유입량을 넘지 않음
+        assertTrue(simulation.depths.stream().allMatch(depth -> depth <= 38 * 30), simulation.depths.toString());
+    }
+
+    @Test
+    @DisplayName("DB 지연이 임계값에 도달하면 소비자를 줄이고, 임계값 근처에서는 늘렸다 줄였다 반복하지 않는다")
+    void saturatedDatabase_backsOffAndHolds() {
+        // 커넥션 풀 4개를 넘으면 DB 시간이 소비자 수에 비례해 늘어남 (16개면 400ms)
+        Simulation simulation = new Simulation(50, c -> 100 * Math.max(1.0, c / 4.0));
+
+        simulation.run(80, tick -> 200);
+
+        assertEquals(15, simulation.current.consumers());
+        assertTrue(simulation.stableFor(60));
+        assertTrue(simulation.reversals() <= 1, "reversals=" + simulation.reversals() + " " + simulation.consumers);
+    }
+
+    @Test
+    @DisplayName("한꺼번에 쌓인 메시지는 최대 두 배씩 늘려 비우고, 비운 뒤에는 최소 소비자 수로 돌아간다")
+    void spike_drainsAndReturnsToMinimum() {
+        Simulation simulation = new Simulation(80, c -> 20);
+        simulation.depth = 5_000;
+
+        simulation.run(80, tick -> 0);
+
+        assertEquals(List.of(2, 4, 8), simulation.consumers.subList(0, 3));
+        assertEquals(0L, simulation.depth);
+        assertEquals(1, simulation.current.consumers());
+        assertTrue(simulation.reversals() <= 1, "reversals=" + simulation.reversals() + " " + simulation.consumers);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 같은 큐를 소비하면 밀린 메시지는 소비자 비율만큼만 맡는다")
+    void next_sharedQueue_takesBacklogShare() {
+        properties.setMaxConsumers(32);
+        Decision current = new Decision(8, 10);
+
+        // 처리 시간 100ms = 소비자당 초당 10건, 유입 초당 20건, 밀린 메시지 2,400건
+        Decision alone = new ConsumerAutoscalingPolicy(properties)
+                .next(current, new Observation(2_400, 8, 200, 100, 80, 20, 10));
+        Decision shared = new ConsumerAutoscalingPolicy(properties)
+                .next(current, new Observation(2_400, 32, 200, 100, 80, 20, 10));
+
+        // (20 + 2400 / 30) / (10 * 0.8) = 12.5
+        assertEquals(13, alone.consumers());
+        // (20 + 600 / 30) / (10 * 0.8) = 5, 줄이려면 연속 주기가 필요
+        assertEquals(8, shared.consumers());
+    }
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.notifyservice.cache;
+
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentNotificationCacheTest {
+
+    RecentNotificationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecentNotificationCache(3, 1);
+    }
+
+    @Test
+    @DisplayName("마지막 확인 id 이후의 알림만 오래된 순으로 반환한다")
+    void findAfter_returnsNewerEntriesInOrder() {
+        cache.append("admin@test.com", dto(10L));
+        cache.append("admin@test.com", dto(11L));
+        cache.append("admin@test.com", dto(12L));
+
+        List<NotificationMessageDto> result = cache.findAfter("admin@test.com", 10L);
+
+        assertEquals(List.of(11L, 12L), result.stream().map(NotificationMessageDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("링이 보장하지 못하는 구간을 요청하면 null(캐시 미스)을 반환한다")
+    void findAfter_beforeCoveredRange_returnsNull() {
+        cache.append("admin@test.com", dto(10L));
+        cache.append("admin@test.com", dto(11L));
+        cache.append("admin@test.com", dto(12L));
+        cache.append("admin@test.com", dto(13L)); // 10 제거
+
+        assertNull(cache.findAfter("admin@test.com", 9L));
+        assertEquals(List.of(11L, 12L, 13L),
+                cache.findAfter("admin@test.com", 10L).stream().map(NotificationMessageDto::getId).toList());
+        assertNull(cache.findAfter("unknown@test.com", 10L));
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 실행 중이면 다른 인스턴스가 저장한 알림을 볼 수 없으므로 항상 캐시 미스로 처리한다")
+    void findAfter_multipleInstances_returnsNull() {
+        RecentNotificationCache multiInstanceCache = new RecentNotificationCache(3, 2);
+        multiInstanceCache.append("admin@test.com", dto(10L));
+        multiInstanceCache.append("admin@test.com", dto(11L));
+
+        assertNull(multiInstanceCache.findAfter("admin@test.com", 10L));
+    }
+
+    @Test
+    @DisplayName("id 순서가 뒤바뀌어 추가되어도 오름차순을 유지한다")
+    void append_outOfOrder_keepsIdOrder() {
+        cache.append("admin@test.com", dto(10L));
+        cache.append("admin@test.com", dto(12L));
+        cache.append("admin@test.com", dto(11L));
+
+        assertEquals(List.of(10L, 11L, 12L),
+                cache.findAfter("admin@test.com", 9L).stream().map(NotificationMessageDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("링을 제거하면 이후 조회는 캐시 미스로 처리된다")
+    void evict_removesRing() {
+        cache.append("admin@test.com", dto(10L));
+
+        cache.evict("admin@test.com");
+
+        assertNull(cache.findAfter("admin@test.com", 9L));
+    }
+
+    private NotificationMessageDto dto(Long id) {
+        return NotificationMessageDto.builder()
+                .id(id)
+                .content("알림 " + id)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
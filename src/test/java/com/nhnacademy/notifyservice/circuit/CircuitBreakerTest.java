@@ -0,0 +1,163 @@
+package com.nhnacademy.notifyservice.circuit;
+
+import com.nhnacademy.notifyservice.consumer.EmailQueueConsumer;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CircuitBreakerTest {
+
+    static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    final AtomicLong now = new AtomicLong();
+
+    final List<CircuitBreaker.State> transitions = new ArrayList<>();
+
+    private CircuitBreaker breaker(int failureThreshold, int halfOpenCalls) {
+        return new CircuitBreaker("test", failureThreshold, Duration.ofSeconds(10), halfOpenCalls,
+                e -> e instanceof IllegalStateException, now::get, transitions::add);
+    }
+
+    private static void fail(CircuitBreaker breaker, RuntimeException e) {
+        assertThrows(e.getClass(), () -> breaker.run(() -> {
+            throw e;
+        }));
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계값에 도달하면 열리고, 열려 있는 동안 호출하지 않고 즉시 실패한다")
+    void execute_opensAfterThresholdAndFastFails() {
+        CircuitBreaker breaker = breaker(3, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            fail(breaker, new IllegalStateException("down"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.isCallPermitted());
+
+        assertThrows(CircuitOpenException.class, () -> breaker.run(calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        assertEquals(List.of(CircuitBreaker.State.OPEN), transitions);
+    }
+
+    @Test
+    @DisplayName("성공하거나 장애가 아닌 예외가 발생하면 연속 실패 수가 초기화된다")
+    void execute_successOrIgnoredFailureResetsCount() {
+        CircuitBreaker breaker = breaker(2, 1);
+
+        fail(breaker, new IllegalStateException("down"));
+        breaker.run(() -> { });
+        fail(breaker, new IllegalStateException("down"));
+        fail(breaker, new IllegalArgumentException("bad input"));
+        fail(breaker, new IllegalStateException("down"));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출만 허용하고, 시험 호출이 모두 성공하면 닫힌다")
+    void execute_halfOpenProbesClose() {
+        CircuitBreaker breaker = breaker(1, 2);
+        fail(breaker, new IllegalStateException("down"));
+
+        now.set(SECOND * 10);
+        assertTrue(breaker.isCallPermitted());
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.run(() -> { });
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED), transitions);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열리고, 허용된 시험 호출 수를 넘으면 즉시 실패한다")
+    void execute_halfOpenFailureReopens() {
+        CircuitBreaker breaker = breaker(1, 1);
+        fail(breaker, new IllegalStateException("down"));
+        now.set(SECOND * 10);
+
+        // 진행 중인 시험 호출이 있는 동안 다른 호출은 거절
+        breaker.run(() -> assertThrows(CircuitOpenException.class, () -> breaker.run(() -> { })));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(breaker, new IllegalStateException("down"));
+        now.set(SECOND * 20);
+        fail(breaker, new IllegalStateException("still down"));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        now.set(SECOND * 29);
+        assertFalse(breaker.isCallPermitted());
+    }
+
+    @Test
+    @DisplayName("수신자 거절은 SMTP 장애가 아니고, 연결 실패는 SMTP 장애이다")
+    void isSmtpFailure_ignoresRejectedRecipients() {
+        MailSendException rejected = new MailSendException(Map.of(new Object(), new SendFailedException("550 no such user")));
+        MailSendException connectionFailed = new MailSendException("Mail server connection failed",
+                new MessagingException("Connection refused"));
+        MailSendException allConnectionFailed = new MailSendException(Map.of(new Object(), new MessagingException("Connection refused")));
+
+        assertFalse(NotificationCircuitBreakers.isSmtpFailure(rejected));
+        assertTrue(NotificationCircuitBreakers.isSmtpFailure(connectionFailed));
+        assertTrue(NotificationCircuitBreakers.isSmtpFailure(allConnectionFailed));
+        assertFalse(NotificationCircuitBreakers.isSmtpFailure(new IllegalArgumentException()));
+    }
+
+    @Test
+    @DisplayName("연결 획득 실패와 쿼리 시간 초과는 데이터베이스 장애이고, 제약 조건 위반은 아니다")
+    void isDatabaseFailure_classifiesResourceFailures() {
+        assertTrue(NotificationCircuitBreakers.isDatabaseFailure(new CannotCreateTransactionException("no connection")));
+        assertTrue(NotificationCircuitBreakers.isDatabaseFailure(new RuntimeException(new QueryTimeoutException("timeout"))));
+        assertFalse(NotificationCircuitBreakers.isDatabaseFailure(new DataIntegrityViolationException("duplicate")));
+    }
+
+    @Test
+    @DisplayName("데이터베이스 회로가 열리면 이메일 큐 리스너를 열린 시간만큼 멈춘다")
+    void database_open_pausesListener() {
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.getDatabase().setFailureThreshold(1);
+        ListenerPauseController pauseController = mock(ListenerPauseController.class);
+        NotificationCircuitBreakers breakers = new NotificationCircuitBreakers(properties,
+                new NotificationMetrics(new SimpleMeterRegistry()), pauseController, now::get);
+
+        fail(breakers.smtp(), new MailSendException("Mail server connection failed"));
+        verifyNoInteractions(pauseController);
+
+        fail(breakers.database(), new CannotCreateTransactionException("no connection"));
+        verify(pauseController).pause(EmailQueueConsumer.LISTENER_ID, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("회로 차단기를 사용하지 않으면 장애가 반복되어도 열리지 않는다")
+    void disabled_neverOpens() {
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.setEnabled(false);
+        properties.getDatabase().setFailureThreshold(1);
+        NotificationCircuitBreakers breakers = new NotificationCircuitBreakers(properties,
+                new NotificationMetrics(new SimpleMeterRegistry()), mock(ListenerPauseController.class), now::get);
+
+        fail(breakers.database(), new CannotCreateTransactionException("no connection"));
+        fail(breakers.database(), new CannotCreateTransactionException("no connection"));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breakers.database().getState());
+    }
+}
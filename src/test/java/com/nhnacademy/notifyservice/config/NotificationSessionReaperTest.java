@@ -0,0 +1,61 @@
+package com.nhnacademy.notifyservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationSessionReaperTest {
+
+    NotificationSessionTracker tracker;
+    MeterRegistry meterRegistry;
+    NotificationSessionReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new NotificationSessionTracker();
+        meterRegistry = new SimpleMeterRegistry();
+        reaper = new NotificationSessionReaper(tracker, meterRegistry, 60_000L, 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("heartbeat가 끊긴 세션은 stale-timeout 이후 제거되고 reaped 메트릭이 증가한다")
+    void reapStaleSessions_heartbeatSessionIdle_reaped() {
+        tracker.notificationSessionIdToUserEmailMapRegisterSession("s1", "admin@test.com", 10_000L);
+        tracker.notificationSessionIdToUserEmailMapRegisterSession("s2", "admin@test.com", 10_000L);
+        long now = System.currentTimeMillis();
+
+        assertEquals(0, reaper.reapStaleSessions(now + 30_000L));
+        assertEquals(2.0, meterRegistry.get("notification.sessions.leaked").gauge().value());
+
+        assertEquals(2, reaper.reapStaleSessions(now + 61_000L));
+        assertTrue(tracker.getNotificationSessionIdToUserEmailMap().isEmpty());
+        assertEquals(2.0, meterRegistry.get("notification.sessions.reaped").counter().count());
+        assertEquals(0.0, meterRegistry.get("notification.sessions.live").gauge().value());
+    }
+
+    @Test
+    @DisplayName("heartbeat를 보내는 세션은 제거되지 않는다")
+    void reapStaleSessions_touchedSession_kept() throws InterruptedException {
+        tracker.notificationSessionIdToUserEmailMapRegisterSession("s1", "admin@test.com", 10_000L);
+        long registeredAt = System.currentTimeMillis();
+        Thread.sleep(5);
+        tracker.touch("s1");
+
+        assertEquals(0, reaper.reapStaleSessions(registeredAt + 60_001L));
+        assertEquals(1.0, meterRegistry.get("notification.sessions.live").gauge().value());
+    }
+
+    @Test
+    @DisplayName("heartbeat가 협상되지 않은 세션은 max-idle 이전에는 제거되지 않는다")
+    void reapStaleSessions_noHeartbeat_usesMaxIdle() {
+        tracker.notificationSessionIdToUserEmailMapRegisterSession("s1", "user@test.com");
+        long now = System.currentTimeMillis();
+
+        assertEquals(0, reaper.reapStaleSessions(now + 120_000L));
+        assertEquals(1, reaper.reapStaleSessions(now + 3_600_001L));
+    }
+}
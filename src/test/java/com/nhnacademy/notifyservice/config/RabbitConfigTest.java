@@ -37,6 +37,9 @@ class RabbitConfigTest {
     @Autowired
     private Binding dlqBinding;
 
+    @Autowired
+    private Queue emailDelayQueue;
+
     @MockitoBean
     JavaMailSender javaMailSender;
 
@@ -97,4 +100,16 @@ class RabbitConfigTest {
         assertEquals(emailDlq.getName(), dlqBinding.getDestination());
         assertEquals("email-queue.dlq", dlqBinding.getRoutingKey());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("지연 큐는 고정 TTL이 지나면 원본 큐로 메시지를 되돌린다")
+    void testEmailDelayQueue() {
+        assertEquals("email-queue.delay", emailDelayQueue.getName());
+        assertTrue(emailDelayQueue.isDurable());
+
+        Map<String, Object> args = emailDelayQueue.getArguments();
+        assertEquals(5000L, args.get("x-message-ttl"));
+        assertEquals("", args.get("x-dead-letter-exchange"));
+        assertEquals("email-queue", args.get("x-dead-letter-routing-key"));
+    }
+}
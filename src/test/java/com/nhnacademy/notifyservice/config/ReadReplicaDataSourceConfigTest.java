@@ -0,0 +1,225 @@
+package com.nhnacademy.notifyservice.config;
+
+import com.nhnacademy.notifyservice.cache.NotificationEventBodyCache;
+import com.nhnacademy.notifyservice.cache.RecentNotificationCache;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicyRegistry;
+import com.nhnacademy.notifyservice.delivery.NotificationEventFactory;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.longpoll.NotificationWaiterRegistry;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxRelay;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxWriter;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import com.nhnacademy.notifyservice.service.NotificationService;
+import com.nhnacademy.notifyservice.service.NotificationServiceImpl;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import com.nhnacademy.notifyservice.summary.NotificationSummaryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "notification.datasource.replica.url=jdbc:h2:mem:routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReadReplicaDataSourceConfig.class, NotificationServiceImpl.class, NotificationSummaryStore.class, ReadReplicaDataSourceConfigTest.CountingConfig.class})
+class ReadReplicaDataSourceConfigTest {
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    NotificationMessageRepository notificationMessageRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    NotificationOutboxWriter notificationOutboxWriter;
+
+    @MockitoBean
+    NotificationOutboxRelay notificationOutboxRelay;
+
+    @MockitoBean
+    NotificationSessionTracker notificationSessionTracker;
+
+    @MockitoBean
+    NotificationEventFactory notificationEventFactory;
+
+    @MockitoBean
+    DeliveryPolicyRegistry deliveryPolicyRegistry;
+
+    @MockitoBean
+    RecentNotificationCache recentNotificationCache;
+
+    @MockitoBean
+    NotificationEventBodyCache notificationEventBodyCache;
+
+    @MockitoBean
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @MockitoBean
+    NotificationWaiterRegistry notificationWaiterRegistry;
+
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        Role role = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        member = memberRepository.save(Member.ofNewMember(role, "관리자", "admin@test.com", "password", "010-0000-0000"));
+        notificationMessageRepository.save(NotificationMessage.builder()
+                .member(member)
+                .role(role)
+                .content("회의실 예약 알림")
+                .isRead(false)
+                .build());
+        CountingConfig.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationMessageRepository.deleteAll();
+        memberRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회 경로는 레플리카 데이터소스에서 커넥션을 가져온다")
+    void readOnlyQueries_routedToReplica() {
+        assertEquals(1L, notificationService.getNotificationUnreadCount("admin@test.com"));
+        assertEquals(1, notificationService.getHistoryNotification("admin@test.com").size());
+        assertEquals("ROLE_ADMIN", notificationService.findRoleByMember("admin@test.com").getRoleName());
+
+        assertEquals(3, CountingConfig.replicaConnections.get());
+        assertEquals(0, CountingConfig.primaryConnections.get());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리 데이터소스에서 커넥션을 가져온다")
+    void writeTransaction_routedToPrimary() {
+        notificationService.readNotification("admin@test.com");
+
+        assertEquals(0, CountingConfig.replicaConnections.get());
+        assertEquals(1, CountingConfig.primaryConnections.get());
+        assertEquals(0L, notificationMessageRepository.countByMemberAndIsReadFalse(member));
+    }
+
+    @Test
+    @DisplayName("롱 폴링 상태 조회는 방금 커밋된 값을 읽도록 프라이머리 데이터소스에서 커넥션을 가져온다")
+    void unreadState_routedToPrimary() {
+        notificationService.findUnreadState("admin@test.com");
+
+        assertEquals(0, CountingConfig.replicaConnections.get());
+        assertEquals(1, CountingConfig.primaryConnections.get());
+    }
+
+    @Test
+    @DisplayName("재접속 catch-up 조회는 방금 커밋된 알림을 읽도록 프라이머리 데이터소스에서 커넥션을 가져온다")
+    void catchUp_routedToPrimary() {
+        when(recentNotificationCache.findAfter("admin@test.com", 0L)).thenReturn(null);
+
+        assertEquals(1, notificationService.getCatchUpNotification("admin@test.com", 0L).getNotifications().size());
+
+        assertEquals(0, CountingConfig.replicaConnections.get());
+        assertEquals(1, CountingConfig.primaryConnections.get());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션에서는 엔티티를 변경해도 더티 체킹으로 UPDATE가 발생하지 않는다")
+    void readOnlyTransaction_dirtyCheckingSkipped() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status ->
+                memberRepository.findByMbEmail("admin@test.com").orElseThrow().update("변경된 이름", "010-1111-1111"));
+
+        assertEquals("관리자", memberRepository.findByMbEmail("admin@test.com").orElseThrow().getMbName());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberRepository.findByMbEmail("admin@test.com").orElseThrow().update("변경된 이름", "010-1111-1111"));
+
+        assertEquals("변경된 이름", memberRepository.findByMbEmail("admin@test.com").orElseThrow().getMbName());
+    }
+
+    @TestConfiguration
+    static class CountingConfig {
+
+        static final AtomicInteger primaryConnections = new AtomicInteger();
+        static final AtomicInteger replicaConnections = new AtomicInteger();
+
+        @Bean
+        NotificationMetrics notificationMetrics() {
+            return new NotificationMetrics(new SimpleMeterRegistry());
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return switch (beanName) {
+                        case "primaryDataSource" -> new CountingDataSource((DataSource) bean, primaryConnections);
+                        case "replicaDataSource" -> new CountingDataSource((DataSource) bean, replicaConnections);
+                        default -> bean;
+                    };
+                }
+            };
+        }
+
+        static void reset() {
+            primaryConnections.set(0);
+            replicaConnections.set(0);
+        }
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger counter;
+
+        CountingDataSource(DataSource target, AtomicInteger counter) {
+            super(target);
+            this.counter = counter;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            counter.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.notifyservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulingConfigTest {
+
+    @Test
+    @DisplayName("브로커 heartbeat 스케줄러가 있어도 @Scheduled 작업은 전용 스케줄러에서 실행된다")
+    void scheduledJob_withBrokerScheduler_runsOnDedicatedScheduler() throws Exception {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(BrokerSchedulerConfig.class, SchedulingConfig.class, ScheduledJob.class);
+            context.refresh();
+
+            String threadName = context.getBean(ScheduledJob.class).threadName.get(5, TimeUnit.SECONDS);
+
+            assertTrue(threadName.startsWith("notification-scheduling-"), threadName);
+        }
+    }
+
+    @Configuration
+    @EnableScheduling
+    static class BrokerSchedulerConfig {
+
+        @Bean
+        ThreadPoolTaskScheduler messageBrokerTaskScheduler() {
+            ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+            taskScheduler.setThreadNamePrefix("MessageBroker-");
+            return taskScheduler;
+        }
+    }
+
+    static class ScheduledJob {
+
+        final CompletableFuture<String> threadName = new CompletableFuture<>();
+
+        @Scheduled(fixedDelay = 10)
+        void run() {
+            threadName.complete(Thread.currentThread().getName());
+        }
+    }
+}
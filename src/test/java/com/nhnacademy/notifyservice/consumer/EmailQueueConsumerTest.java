@@ -1,22 +1,53 @@
 package com.nhnacademy.notifyservice.consumer;
 
+import com.nhnacademy.notifyservice.circuit.CircuitBreakerProperties;
+import com.nhnacademy.notifyservice.circuit.ListenerPauseController;
+import com.nhnacademy.notifyservice.circuit.NotificationCircuitBreakers;
+import com.nhnacademy.notifyservice.delivery.NotificationEventFactory;
+import com.nhnacademy.notifyservice.digest.NotificationDigestAggregator;
+import com.nhnacademy.notifyservice.digest.NotificationDigestProperties;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.Role;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.fanout.NotificationFanOutExecutor;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.producer.EmailQueueProducer;
+import com.nhnacademy.notifyservice.ratelimit.EmailRateLimitProperties;
+import com.nhnacademy.notifyservice.ratelimit.EmailRateLimiter;
 import com.nhnacademy.notifyservice.service.EmailService;
 import com.nhnacademy.notifyservice.service.NotificationService;
 import com.nhnacademy.notifyservice.service.NotificationServiceImpl;
+import com.nhnacademy.notifyservice.util.HtmlTextConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.CannotCreateTransactionException;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class EmailQueueConsumerTest {
 
     EmailService emailService;
     NotificationService notificationService;
+    SimpleMeterRegistry meterRegistry;
+    EmailQueueProducer emailQueueProducer;
+    EmailRateLimitProperties rateLimitProperties;
+    NotificationDigestProperties digestProperties;
+    NotificationDigestAggregator digestAggregator;
+    ListenerPauseController listenerPauseController;
+    NotificationCircuitBreakers circuitBreakers;
     EmailQueueConsumer consumer;
 
 
@@ -24,7 +55,20 @@ class EmailQueueConsumerTest {
     void setUp() {
         emailService = mock(EmailService.class);
         notificationService = mock(NotificationServiceImpl.class);
-        consumer = new EmailQueueConsumer(emailService, notificationService);
+        meterRegistry = new SimpleMeterRegistry();
+        emailQueueProducer = mock(EmailQueueProducer.class);
+        rateLimitProperties = new EmailRateLimitProperties();
+        digestProperties = new NotificationDigestProperties();
+        NotificationMetrics metrics = new NotificationMetrics(meterRegistry);
+        digestAggregator = new NotificationDigestAggregator(digestProperties, emailQueueProducer, metrics);
+        CircuitBreakerProperties circuitBreakerProperties = new CircuitBreakerProperties();
+        circuitBreakerProperties.getSmtp().setFailureThreshold(1);
+        circuitBreakerProperties.getDatabase().setFailureThreshold(1);
+        listenerPauseController = mock(ListenerPauseController.class);
+        circuitBreakers = new NotificationCircuitBreakers(circuitBreakerProperties, metrics, listenerPauseController);
+        consumer = new EmailQueueConsumer(emailService, notificationService, metrics,
+                new NotificationFanOutExecutor(2, 1, true), emailQueueProducer, new EmailRateLimiter(rateLimitProperties, metrics),
+                digestAggregator, new NotificationEventFactory(new HtmlTextConverter(metrics)), circuitBreakers);
     }
 
     @Test
@@ -72,4 +116,278 @@ class EmailQueueConsumerTest {
 
         verify(emailService).sendHtmlEmail(request);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("관리자 알림도 HTML 타입이면 sendHtmlEmail, TEXT 타입이면 sendTextEmail이 호출된다")
+    void receiveEmailRequest_adminRequest_callsEmailOfType() throws Exception {
+        EmailRequest htmlRequest = new EmailRequest("to@example.com", "제목", "<b>내용</b>", "ROLE_ADMIN", "HTML");
+        EmailRequest textRequest = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+
+        consumer.receiveEmailRequest(htmlRequest);
+        consumer.receiveEmailRequest(textRequest);
+
+        verify(emailService).sendHtmlEmail(htmlRequest);
+        verify(emailService).sendTextEmail(textRequest);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 타입은 텍스트로 발송하지 않고 알림 저장 전에 DLQ로 이동시킨다")
+    void receiveEmailRequest_unknownType_rejectedWithoutSending() throws Exception {
+        admins("a@test.com");
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "MARKDOWN");
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> consumer.receiveEmailRequest(request));
+
+        verify(emailService, never()).sendTextEmail(any());
+        verify(emailService, never()).sendHtmlEmail(any());
+        verify(notificationService, never()).saveNotificationMessages(any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("notification.queue.consumed").tag("outcome", "failure").counter().count());
+    }
+
+    private List<Member> admins(String... emails) {
+        Role role = Role.ofNewRole("ROLE_ADMIN", "관리자");
+        List<Member> admins = Arrays.stream(emails)
+                .map(email -> Member.ofNewMember(role, "관리자", email, "password", "010-0000-0000"))
+                .toList();
+        when(notificationService.findByRole_RoleName("ROLE_ADMIN")).thenReturn(admins);
+        when(notificationService.findByRoleName("ROLE_ADMIN")).thenReturn(role);
+        return admins;
+    }
+
+    private List<String> savedRecipients() {
+        ArgumentCaptor<List<Member>> captor = ArgumentCaptor.captor();
+        verify(notificationService, atLeast(0)).saveNotificationMessages(captor.capture(), any(), any());
+        return captor.getAllValues().stream().flatMap(List::stream).map(Member::getMbEmail).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("이메일 발송만 실패하면 원본은 정상 처리하고 이메일 재발송용 복사본을 DLQ로 보낸다")
+    void receiveEmailRequest_sendEmailThrowsException_deadLettersEmailOnly() throws Exception {
+        admins("a@test.com");
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "HTML");
+        doThrow(new RuntimeException("메일 발송 실패")).when(emailService).sendHtmlEmail(request);
+
+        consumer.receiveEmailRequest(request);
+
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDeadLetter(captor.capture());
+        assertEquals(List.of(), captor.getValue().getRetryRecipients());
+        assertFalse(captor.getValue().isEmailSent());
+        assertEquals(1.0, meterRegistry.get("notification.queue.consumed").tag("outcome", "partial").counter().count());
+    }
+
+    @Test
+    @DisplayName("일부 묶음 저장에 실패하면 해당 묶음의 수신자만 담은 복사본을 DLQ로 보낸다")
+    void receiveEmailRequest_chunkFails_deadLettersFailedRecipientsOnly() throws Exception {
+        admins("a@test.com", "b@test.com", "c@test.com");
+        doThrow(new RuntimeException("저장 실패")).when(notificationService)
+                .saveNotificationMessages(argThat(chunk -> chunk.get(0).getMbEmail().equals("b@test.com")), any(), any());
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+
+        consumer.receiveEmailRequest(request);
+
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDeadLetter(captor.capture());
+        assertEquals(List.of("b@test.com"), captor.getValue().getRetryRecipients());
+        assertTrue(captor.getValue().isEmailSent());
+        verify(emailService).sendTextEmail(request);
+    }
+
+    @Test
+    @DisplayName("재처리 요청은 지정된 수신자만 저장하고 이미 발송한 이메일은 다시 보내지 않는다")
+    void receiveEmailRequest_retryRequest_savesListedRecipientsOnly() throws Exception {
+        admins("a@test.com", "b@test.com", "c@test.com");
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT")
+                .forRetry(List.of("b@test.com", "c@test.com"), true);
+
+        consumer.receiveEmailRequest(request);
+
+        assertEquals(List.of("b@test.com", "c@test.com"), savedRecipients());
+        verify(emailService, never()).sendTextEmail(any());
+        verify(emailQueueProducer, never()).sendToDeadLetter(any());
+    }
+
+    @Test
+    @DisplayName("실패한 수신자를 DLQ로 보내지 못하면 DLQ 이동 예외를 던져 원본 메시지를 DLQ로 이동시킨다")
+    void receiveEmailRequest_deadLetterFails_throwsAmqpRejectAndDontRequeueException() throws Exception {
+        admins("a@test.com");
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "HTML");
+        doThrow(new RuntimeException("메일 발송 실패")).when(emailService).sendHtmlEmail(request);
+        doThrow(new AmqpException("브로커 연결 실패")).when(emailQueueProducer).sendToDeadLetter(any());
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> consumer.receiveEmailRequest(request));
+    }
+
+    @Test
+    @DisplayName("수신자별 발송 한도를 넘으면 이메일만 다시 보내는 복사본을 지연 큐로 보낸다")
+    void receiveEmailRequest_recipientThrottled_defersEmailOnly() throws Exception {
+        admins("a@test.com");
+        rateLimitProperties.setRecipient(new EmailRateLimitProperties.Limit(1, Duration.ofHours(1)));
+        EmailRequest first = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+        EmailRequest second = new EmailRequest("to@example.com", "제목2", "내용2", "ROLE_ADMIN", "TEXT");
+
+        consumer.receiveEmailRequest(first);
+        consumer.receiveEmailRequest(second);
+
+        verify(emailService).sendTextEmail(first);
+        verify(emailService, never()).sendTextEmail(second);
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDelay(captor.capture());
+        assertEquals("제목2", captor.getValue().getSubject());
+        assertEquals(List.of(), captor.getValue().getRetryRecipients());
+        assertFalse(captor.getValue().isEmailSent());
+        assertEquals(1, captor.getValue().getDeferrals());
+        verify(emailQueueProducer, never()).sendToDeadLetter(any());
+        assertEquals(1.0, meterRegistry.get("notification.email.throttled").tag("limit", EmailRateLimiter.LIMIT_RECIPIENT).counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 지연 횟수를 넘긴 이메일은 지연 큐 대신 DLQ로 보낸다")
+    void receiveEmailRequest_maxDeferralsExceeded_deadLettersEmailOnly() throws Exception {
+        admins("a@test.com");
+        rateLimitProperties.setRecipient(new EmailRateLimitProperties.Limit(1, Duration.ofHours(1)));
+        rateLimitProperties.setMaxDeferrals(1);
+        consumer.receiveEmailRequest(new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT"));
+        EmailRequest deferred = new EmailRequest("to@example.com", "제목2", "내용2", "ROLE_ADMIN", "TEXT").forDeferredEmail();
+
+        consumer.receiveEmailRequest(deferred);
+
+        verify(emailQueueProducer, never()).sendToDelay(any());
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDeadLetter(captor.capture());
+        assertEquals(List.of(), captor.getValue().getRetryRecipients());
+        assertFalse(captor.getValue().isEmailSent());
+    }
+
+    @Test
+    @DisplayName("요약 모드여도 알림은 바로 저장하고 이메일만 요약 버퍼에 모은다")
+    void receiveEmailRequest_digestRecipients_storesNotificationsAndBuffersEmail() throws Exception {
+        admins("a@test.com", "b@test.com");
+        digestProperties.setEnabled(true);
+        digestProperties.setMembers(Set.of("a@test.com", "to@example.com"));
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+
+        consumer.receiveEmailRequest(request);
+
+        assertEquals(List.of("a@test.com", "b@test.com"), savedRecipients());
+        verify(emailService, never()).sendTextEmail(any());
+        verify(emailQueueProducer, never()).sendToDeadLetter(any());
+        assertEquals(1.0, meterRegistry.get("notification.digest.buffered").counter().count());
+    }
+
+    @Test
+    @DisplayName("요약으로 보내는 이메일만 담은 요청은 다시 모으지 않고 바로 발송한다")
+    void receiveEmailRequest_digestEmailOnly_sentImmediately() throws Exception {
+        admins("a@test.com");
+        digestProperties.setEnabled(true);
+        digestProperties.setRoles(Set.of("ROLE_ADMIN"));
+        EmailRequest request = new EmailRequest("to@example.com", "[알림 요약] 새 알림 3건", "내용", "ROLE_ADMIN", "TEXT")
+                .forRetry(List.of(), false);
+
+        consumer.receiveEmailRequest(request);
+
+        verify(emailService).sendTextEmail(request);
+        verify(notificationService, never()).prepareNotificationEvent(any());
+        assertEquals(List.of(), savedRecipients());
+    }
+
+    @Test
+    @DisplayName("여러 수신자 메일은 제한에 걸린 수신자는 지연 큐로, 발송에 실패한 수신자만 DLQ로 보낸다")
+    void receiveEmailRequest_bulkEmail_defersThrottledAndDeadLettersFailedOnly() throws Exception {
+        admins("admin@test.com");
+        rateLimitProperties.setDomain(new EmailRateLimitProperties.Limit(2, Duration.ofHours(1)));
+        EmailRequest request = new EmailRequest(null, "공지", "공지 내용", "ROLE_ADMIN", "TEXT");
+        request.setBcc(List.of("a@test.com", "b@test.com", "c@test.com"));
+        when(emailService.sendBulkEmail(request, List.of("a@test.com", "b@test.com"))).thenReturn(List.of("b@test.com"));
+
+        consumer.receiveEmailRequest(request);
+
+        ArgumentCaptor<EmailRequest> delayed = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDelay(delayed.capture());
+        assertEquals(List.of("c@test.com"), delayed.getValue().envelopeRecipients());
+        assertEquals(1, delayed.getValue().getDeferrals());
+
+        ArgumentCaptor<EmailRequest> deadLettered = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDeadLetter(deadLettered.capture());
+        assertEquals(List.of("b@test.com"), deadLettered.getValue().envelopeRecipients());
+        assertEquals(List.of(), deadLettered.getValue().getRetryRecipients());
+        assertFalse(deadLettered.getValue().isEmailSent());
+        assertEquals(List.of(), savedRecipients());
+        verify(emailService, never()).sendTextEmail(any());
+    }
+
+    @Test
+    @DisplayName("여러 수신자 메일은 역할과 무관하게 알림을 저장하지 않고 이메일만 발송한다")
+    void receiveEmailRequest_bulkEmailWithRole_sendsEmailOnly() throws Exception {
+        admins("admin@test.com");
+        EmailRequest request = new EmailRequest("to@example.com", "공지", "공지 내용", "ROLE_ALL", "TEXT");
+        request.setBcc(List.of("a@test.com", "b@test.com"));
+        when(emailService.sendBulkEmail(request, List.of("to@example.com", "a@test.com", "b@test.com"))).thenReturn(List.of());
+
+        consumer.receiveEmailRequest(request);
+
+        verify(emailService).sendBulkEmail(request, List.of("to@example.com", "a@test.com", "b@test.com"));
+        verify(notificationService, never()).findMemberByEmail(any());
+        verify(notificationService, never()).sendNotification(any(), any());
+        verify(notificationService, never()).prepareNotificationEvent(any());
+        assertEquals(List.of(), savedRecipients());
+        verify(emailQueueProducer, never()).sendToDeadLetter(any());
+    }
+
+    @Test
+    @DisplayName("데이터베이스 회로가 열리면 리스너를 멈추고, 이후 요청은 처리하지 않고 그대로 지연 큐로 보낸다")
+    void receiveEmailRequest_databaseCircuitOpen_parksRequest() throws Exception {
+        when(notificationService.findByRole_RoleName("ROLE_ADMIN")).thenThrow(new CannotCreateTransactionException("no connection"));
+        EmailRequest first = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+        EmailRequest second = new EmailRequest("to@example.com", "제목2", "내용2", "ROLE_ADMIN", "TEXT");
+
+        assertThrows(CannotCreateTransactionException.class, () -> consumer.receiveEmailRequest(first));
+        verify(listenerPauseController).pause(eq(EmailQueueConsumer.LISTENER_ID), any());
+
+        consumer.receiveEmailRequest(second);
+
+        verify(notificationService, times(1)).findByRole_RoleName("ROLE_ADMIN");
+        verify(emailQueueProducer).sendToDelay(second);
+        verify(emailQueueProducer, never()).sendToDeadLetter(any());
+        verify(emailService, never()).sendTextEmail(any());
+        assertEquals(0, second.getDeferrals());
+        assertEquals(1L, meterRegistry.get("notification.queue.process")
+                .tag("outcome", NotificationMetrics.OUTCOME_PARKED).timer().count());
+    }
+
+    @Test
+    @DisplayName("SMTP 회로가 열려 있으면 알림은 저장하고 이메일만 다시 보내는 복사본을 지연 큐로 보낸다")
+    void receiveEmailRequest_smtpCircuitOpen_defersEmailOnly() throws Exception {
+        admins("a@test.com");
+        assertThrows(MailSendException.class, () -> circuitBreakers.smtp().run(() -> {
+            throw new MailSendException("Mail server connection failed");
+        }));
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+
+        consumer.receiveEmailRequest(request);
+
+        verify(emailService, never()).sendTextEmail(any());
+        assertEquals(List.of("a@test.com"), savedRecipients());
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDelay(captor.capture());
+        assertEquals(List.of(), captor.getValue().getRetryRecipients());
+        assertEquals(1, captor.getValue().getDeferrals());
+        verify(emailQueueProducer, never()).sendToDeadLetter(any());
+        verifyNoInteractions(listenerPauseController);
+    }
+
+    @Test
+    @DisplayName("헤더로 전달된 trace 정보를 요청에 복원하고 큐 대기/전체 지연 시간을 기록한다")
+    void onMessage_traceHeaders_restoredAndStagesRecorded() throws MessagingException {
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+        long enqueuedAt = System.currentTimeMillis() - 100L;
+
+        consumer.onMessage(request, "trace-1", enqueuedAt);
+
+        assertEquals("trace-1", request.getTraceId());
+        assertEquals(enqueuedAt, request.getEnqueuedAt());
+        verify(emailService).sendTextEmail(request);
+        assertEquals(1L, meterRegistry.get("notification.stage").tag("stage", "queue-wait").timer().count());
+        assertEquals(1L, meterRegistry.get("notification.stage").tag("stage", "end-to-end").timer().count());
+    }
+}
@@ -0,0 +1,240 @@
+package com.nhnacademy.notifyservice.controller;
+
+import com.nhnacademy.notifyservice.async.NotificationQueryExecutor;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import com.nhnacademy.notifyservice.longpoll.NotificationWaiterRegistry;
+import com.nhnacademy.notifyservice.service.NotificationService;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import com.nhnacademy.notifyservice.summary.MemberUnreadState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = NotificationController.class)
+class NotificationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private NotificationQueryExecutor notificationQueryExecutor;
+
+    @MockitoBean
+    private NotificationStreamRegistry notificationStreamRegistry;
+
+    @MockitoBean
+    private NotificationWaiterRegistry notificationWaiterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 조회 작업을 호출 스레드에서 바로 실행
+        when(notificationQueryExecutor.supply(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
+    private MvcResult startAsync(String path) throws Exception {
+        return mockMvc.perform(get(path).header("X-USER", "user@test.com"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    @DisplayName("읽지 않은 개수 API는 알림 변경 버전을 ETag로 반환한다")
+    void getNotificationUnreadCount_returnsVersionETag() throws Exception {
+        when(notificationService.findNotificationVersion("user@test.com")).thenReturn(Optional.of(7L));
+        when(notificationService.getNotificationUnreadCount("user@test.com")).thenReturn(3L);
+
+        mockMvc.perform(get("/api/v1/notification/unread/count").header("X-USER", "user@test.com"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 알림을 조회하지 않고 304를 반환한다")
+    void conditionalGet_sameVersion_returnsNotModifiedWithoutQuery() throws Exception {
+        when(notificationService.findNotificationVersion("user@test.com")).thenReturn(Optional.of(7L));
+
+        mockMvc.perform(get("/api/v1/notification/unread/count").header("X-USER", "user@test.com").header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/notification/history").header("X-USER", "user@test.com").header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified());
+
+        verify(notificationService, never()).getNotificationUnreadCount(anyString());
+        verify(notificationService, never()).getHistoryNotification(anyString());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 히스토리를 조회하여 새 ETag와 함께 반환한다")
+    void getHistoryNotification_versionChanged_returnsHistory() throws Exception {
+        when(notificationService.findNotificationVersion("user@test.com")).thenReturn(Optional.of(8L));
+        when(notificationService.getHistoryNotification("user@test.com")).thenReturn(List.of(
+                new NotificationMessageDto(1L, "알림", LocalDateTime.of(2026, 6, 1, 9, 0))));
+
+        mockMvc.perform(get("/api/v1/notification/history").header("X-USER", "user@test.com").header("If-None-Match", "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""))
+                .andExpect(jsonPath("$[0].content").value("알림"));
+    }
+
+    @Test
+    @DisplayName("요약 행이 없으면 ETag 없이 조회 결과를 반환한다")
+    void getNotificationUnreadCount_noSummary_returnsWithoutETag() throws Exception {
+        when(notificationService.findNotificationVersion("user@test.com")).thenReturn(Optional.empty());
+        when(notificationService.getNotificationUnreadCount("user@test.com")).thenReturn(0L);
+
+        mockMvc.perform(get("/api/v1/notification/unread/count").header("X-USER", "user@test.com").header("If-None-Match", "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(content().string("0"));
+    }
+
+    @Test
+    @DisplayName("롱 폴링은 클라이언트의 ETag가 현재 버전과 다르면 바로 새 개수를 반환한다")
+    void waitNotificationUnreadCount_versionChanged_returnsImmediately() throws Exception {
+        when(notificationWaiterRegistry.register(eq("user@test.com"), any(), any())).thenReturn(true);
+        when(notificationService.findUnreadState("user@test.com")).thenReturn(Optional.of(new MemberUnreadState(8L, 4L)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/notification/unread/count/wait")
+                        .header("X-USER", "user@test.com").header("If-None-Match", "\"7\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""))
+                .andExpect(content().string("4"));
+    }
+
+    @Test
+    @DisplayName("롱 폴링은 값이 같으면 대기하다가 변경 신호를 받으면 새 개수를 반환한다")
+    void waitNotificationUnreadCount_unchanged_waitsForSignal() throws Exception {
+        ArgumentCaptor<Runnable> onChange = ArgumentCaptor.forClass(Runnable.class);
+        when(notificationWaiterRegistry.register(eq("user@test.com"), any(), onChange.capture())).thenReturn(true);
+        when(notificationService.findUnreadState("user@test.com")).thenReturn(Optional.of(new MemberUnreadState(7L, 3L)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/notification/unread/count/wait")
+                        .header("X-USER", "user@test.com").param("count", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThrows(IllegalStateException.class, () -> result.getAsyncResult(0));
+
+        when(notificationService.findUnreadState("user@test.com")).thenReturn(Optional.of(new MemberUnreadState(8L, 4L)));
+        onChange.getValue().run();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""))
+                .andExpect(content().string("4"));
+    }
+
+    @Test
+    @DisplayName("롱 폴링 대기 요청 수 제한을 넘으면 503을 반환한다")
+    void waitNotificationUnreadCount_limitExceeded_returnsServiceUnavailable() throws Exception {
+        when(notificationWaiterRegistry.register(eq("user@test.com"), any(), any())).thenReturn(false);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/notification/unread/count/wait").header("X-USER", "user@test.com"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("비동기 읽지 않은 개수 API는 조회 결과를 200 OK로 반환한다")
+    void getNotificationUnreadCountAsync_returnsCount() throws Exception {
+        when(notificationService.getNotificationUnreadCount("user@test.com")).thenReturn(3L);
+
+        MvcResult result = startAsync("/api/v1/notification/unread/count/async");
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @DisplayName("비동기 히스토리 API는 조회 결과를 200 OK로 반환한다")
+    void getHistoryNotificationAsync_returnsHistory() throws Exception {
+        when(notificationService.getHistoryNotification("user@test.com")).thenReturn(List.of(
+                new NotificationMessageDto(1L, "알림", LocalDateTime.of(2026, 6, 1, 9, 0))));
+
+        MvcResult result = startAsync("/api/v1/notification/history/async");
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].content").value("알림"));
+    }
+
+    @Test
+    @DisplayName("조회 대기열이 가득 차면 비동기 API는 503과 Retry-After를 반환한다")
+    void asyncEndpoints_queueFull_returnsServiceUnavailable() throws Exception {
+        doReturn(CompletableFuture.failedFuture(new TaskRejectedException("가득 참"))).when(notificationQueryExecutor).supply(any());
+
+        mockMvc.perform(asyncDispatch(startAsync("/api/v1/notification/unread/count/async")))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(asyncDispatch(startAsync("/api/v1/notification/history/async")))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("SSE 스트림 연결 수 제한을 넘으면 503을 반환한다")
+    void stream_limitExceeded_returnsServiceUnavailable() throws Exception {
+        when(notificationService.getNotificationUnreadCount("user@test.com")).thenReturn(3L);
+        when(notificationStreamRegistry.open("user@test.com", 3L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/notification/stream").header("X-USER", "user@test.com"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("SSE 스트림은 현재 읽지 않은 개수로 연결을 열고 text/event-stream으로 응답한다")
+    void stream_opensWithUnreadCount() throws Exception {
+        when(notificationService.getNotificationUnreadCount("user@test.com")).thenReturn(3L);
+        SseEmitter emitter = new SseEmitter();
+        when(notificationStreamRegistry.open("user@test.com", 3L)).thenReturn(Optional.of(emitter));
+
+        MvcResult result = startAsync("/api/v1/notification/stream");
+        emitter.send(SseEmitter.event().name("unread-count").data(3L));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/event-stream"))
+                .andExpect(content().string("event:unread-count\ndata:3\n\n"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.notifyservice.delivery;
+
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.util.HtmlTextConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PresenceDeliveryPolicyTest {
+
+    PresenceDeliveryPolicy policy = new PresenceDeliveryPolicy(2, true, true);
+
+    NotificationEvent event = new NotificationEvent("HTML", "ROLE_ADMIN", "본문", "요약",
+            Set.of("booker@test.com"));
+
+    @Test
+    @DisplayName("접속하지 않은 수신자는 저장만 하고 프레임을 전송하지 않는다")
+    void decide_offline_storeOnly() {
+        DeliveryDecision decision = policy.decide(event, "admin@test.com", 0);
+
+        assertEquals(DeliveryDecision.STORE_ONLY, decision);
+        assertFalse(decision.hasPush());
+    }
+
+    @Test
+    @DisplayName("세션이 하나면 개수, 팝업, 본문을 모두 전송하고 읽음 처리하지 않는다")
+    void decide_singleSession_pushesAll() {
+        DeliveryDecision decision = policy.decide(event, "admin@test.com", 1);
+
+        assertEquals(new DeliveryDecision(false, true, true, true), decision);
+    }
+
+    @Test
+    @DisplayName("세션이 임계값 이상이면 즉시 읽음 처리하고 본문만 전송한다")
+    void decide_thresholdReached_markReadAndContentOnly() {
+        DeliveryDecision decision = policy.decide(event, "admin@test.com", 2);
+
+        assertEquals(new DeliveryDecision(true, false, false, true), decision);
+    }
+
+    @Test
+    @DisplayName("본인이 발생시킨 이벤트는 팝업을 전송하지 않는다")
+    void decide_selfAuthored_noPopup() {
+        DeliveryDecision decision = policy.decide(event, "booker@test.com", 1);
+
+        assertTrue(decision.pushUnreadCount());
+        assertFalse(decision.pushPopup());
+    }
+
+    @Test
+    @DisplayName("임계값이 0이면 자동 읽음 처리를 하지 않는다")
+    void decide_thresholdDisabled_neverMarksRead() {
+        DeliveryDecision decision = new PresenceDeliveryPolicy(0, true, true).decide(event, "admin@test.com", 5);
+
+        assertFalse(decision.markRead());
+        assertTrue(decision.pushPopup());
+    }
+
+    @Test
+    @DisplayName("SSE 배지 결정은 읽음 처리와 본문 프레임을 제외하고 개수와 팝업만 전송한다")
+    void decideBadge_keepsCountAndPopupOnly() {
+        assertEquals(new DeliveryDecision(false, true, true, false), policy.decideBadge(event, "admin@test.com"));
+        assertEquals(new DeliveryDecision(false, true, false, false), policy.decideBadge(event, "booker@test.com"));
+    }
+
+    @Test
+    @DisplayName("읽음 처리 기준 세션 수가 1이어도 SSE 배지 리스너만 있는 수신자는 읽음 처리하지 않고 팝업을 전송한다")
+    void decideBadge_readThresholdOne_notMarkedRead() {
+        PresenceDeliveryPolicy readOnFirstSession = new PresenceDeliveryPolicy(1, true, true);
+
+        assertTrue(readOnFirstSession.decide(event, "admin@test.com", 1).markRead());
+        assertEquals(new DeliveryDecision(false, true, true, false), readOnFirstSession.decideBadge(event, "admin@test.com"));
+    }
+
+    @Test
+    @DisplayName("형식별 정책이 없으면 기본 정책을 사용한다")
+    void registry_fallsBackToDefault() {
+        DeliveryPolicy textPolicy = new PresenceDeliveryPolicy(2, false, true);
+        DeliveryPolicyRegistry registry = new DeliveryPolicyRegistry(Map.of("TEXT", textPolicy), policy);
+
+        assertSame(textPolicy, registry.getPolicy("TEXT"));
+        assertSame(policy, registry.getPolicy("HTML"));
+        assertSame(policy, registry.getPolicy(null));
+    }
+
+    @Test
+    @DisplayName("이벤트 생성 시 본문의 이메일을 한 번만 추출하여 본인 작성 여부를 판별한다")
+    void eventFactory_extractsMentionedEmails() {
+        NotificationEventFactory factory = new NotificationEventFactory(new HtmlTextConverter(new NotificationMetrics(new SimpleMeterRegistry())));
+        EmailRequest request = new EmailRequest("booker@test.com", "예약 완료",
+                "<h2>예약이 완료되었습니다</h2><p><strong>booker@test.com</strong>님</p>", "ROLE_ADMIN", "HTML");
+
+        NotificationEvent created = factory.create(request);
+
+        assertTrue(created.isAuthoredBy("booker@test.com"));
+        assertFalse(created.isAuthoredBy("admin@test.com"));
+        assertEquals("booker@test.com님이 회의실을 예약하였습니다", created.summary());
+    }
+}
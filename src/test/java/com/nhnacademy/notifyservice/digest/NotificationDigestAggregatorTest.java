@@ -0,0 +1,179 @@
+package com.nhnacademy.notifyservice.digest;
+
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.producer.EmailQueueProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NotificationDigestAggregatorTest {
+
+    AtomicLong clock;
+    EmailQueueProducer emailQueueProducer;
+    SimpleMeterRegistry meterRegistry;
+    NotificationDigestProperties properties;
+    NotificationDigestAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000L);
+        emailQueueProducer = mock(EmailQueueProducer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new NotificationDigestProperties();
+        properties.setEnabled(true);
+        properties.setWindow(Duration.ofMinutes(5));
+        properties.setRoles(Set.of("ROLE_ADMIN"));
+        aggregator = new NotificationDigestAggregator(properties, emailQueueProducer,
+                new NotificationMetrics(meterRegistry), clock::get);
+    }
+
+    private static NotificationEvent event(String summary) {
+        return new NotificationEvent("HTML", "ROLE_ADMIN", "본문 " + summary, summary, Set.of());
+    }
+
+    private void bufferEmails(String to, int count) {
+        for (int i = 1; i <= count; i++) {
+            aggregator.bufferEmail(new EmailRequest(to, "예약 " + i, "내용", "ROLE_ADMIN", "HTML",
+                    "trace-" + i, 100L * i, null, false, 0, null), event("예약 " + i));
+        }
+    }
+
+    private EmailRequest sentEmail() {
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendEmailOnly(captor.capture());
+        return captor.getValue();
+    }
+
+    private double flushed(String outcome) {
+        return meterRegistry.get("notification.digest.flushed").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 수신자에게 가는 이메일은 시간 창이 끝나면 요약 텍스트 이메일 한 통으로 보낸다")
+    void flushDue_windowElapsed_sendsSingleDigestEmail() {
+        bufferEmails("To@Example.com", 3);
+
+        clock.addAndGet(Duration.ofMinutes(4).toMillis());
+        aggregator.flushDue();
+        verify(emailQueueProducer, never()).sendEmailOnly(any());
+
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        aggregator.flushDue();
+
+        EmailRequest digest = sentEmail();
+        assertEquals("To@Example.com", digest.getTo());
+        assertEquals("[알림 요약] 새 알림 3건", digest.getSubject());
+        assertEquals("TEXT", digest.getType());
+        assertEquals("【알림 요약】 새 알림 3건\n\n• 예약 1\n• 예약 2\n• 예약 3", digest.getContent());
+        assertEquals(List.of(), digest.getRetryRecipients());
+        assertFalse(digest.isEmailSent());
+        assertEquals("trace-1", digest.getTraceId());
+        assertEquals(100L, digest.getEnqueuedAt());
+        assertEquals(0, aggregator.pendingCount());
+    }
+
+    @Test
+    @DisplayName("최대 개수가 모이면 시간 창이 끝나기 전에 바로 보낸다")
+    void bufferEmail_maxEntries_flushesEarly() {
+        properties.setMaxEntries(2);
+
+        bufferEmails("to@example.com", 2);
+
+        assertEquals("[알림 요약] 새 알림 2건", sentEmail().getSubject());
+        assertEquals(0, aggregator.pendingCount());
+    }
+
+    @Test
+    @DisplayName("이메일이 하나뿐이면 요약하지 않고 원래 이메일을 보낸다")
+    void flushDue_singleEntry_sendsOriginal() {
+        EmailRequest request = new EmailRequest("to@example.com", "예약 완료", "<b>내용</b>", "ROLE_ADMIN", "HTML");
+        aggregator.bufferEmail(request, event("예약 1"));
+
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        aggregator.flushDue();
+
+        EmailRequest sent = sentEmail();
+        assertEquals("예약 완료", sent.getSubject());
+        assertEquals("HTML", sent.getType());
+        assertEquals(List.of(), sent.getRetryRecipients());
+    }
+
+    @Test
+    @DisplayName("요약을 큐에 넣지 못하면 같은 요청을 DLQ로 보낸다")
+    void flushDue_sendFails_deadLettersDigest() {
+        doThrow(new AmqpException("broker down")).when(emailQueueProducer).sendEmailOnly(any());
+        bufferEmails("to@example.com", 2);
+
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        aggregator.flushDue();
+
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer).sendToDeadLetter(captor.capture());
+        assertEquals("[알림 요약] 새 알림 2건", captor.getValue().getSubject());
+        assertEquals(List.of(), captor.getValue().getRetryRecipients());
+        assertEquals(0, aggregator.pendingCount());
+        assertEquals(1.0, flushed(NotificationDigestAggregator.OUTCOME_DEAD_LETTERED));
+    }
+
+    @Test
+    @DisplayName("DLQ 전송도 실패하면 버퍼에 되돌려 다음 주기에 새 이메일과 함께 다시 보낸다")
+    void flushDue_deadLetterFails_retriesNextFlush() {
+        doThrow(new AmqpException("broker down")).doNothing().when(emailQueueProducer).sendEmailOnly(any());
+        doThrow(new AmqpException("broker down")).when(emailQueueProducer).sendToDeadLetter(any());
+        bufferEmails("to@example.com", 2);
+
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        aggregator.flushDue();
+        assertEquals(2, aggregator.pendingCount());
+        assertEquals(1.0, flushed(NotificationDigestAggregator.OUTCOME_RETRIED));
+
+        aggregator.bufferEmail(new EmailRequest("to@example.com", "예약 3", "내용", "ROLE_ADMIN", "HTML"), event("예약 3"));
+        aggregator.flushDue();
+
+        ArgumentCaptor<EmailRequest> captor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(emailQueueProducer, times(2)).sendEmailOnly(captor.capture());
+        assertEquals("【알림 요약】 새 알림 3건\n\n• 예약 1\n• 예약 2\n• 예약 3", captor.getValue().getContent());
+        assertEquals(0, aggregator.pendingCount());
+        assertEquals(1.0, flushed(NotificationMetrics.OUTCOME_SUCCESS));
+    }
+
+    @Test
+    @DisplayName("종료 시 시간 창이 끝나지 않은 버퍼도 모두 보낸다")
+    void flushAll_sendsPendingBuffers() {
+        bufferEmails("to@example.com", 2);
+
+        aggregator.flushAll();
+
+        assertEquals("[알림 요약] 새 알림 2건", sentEmail().getSubject());
+        assertEquals(0, aggregator.pendingCount());
+    }
+
+    @Test
+    @DisplayName("역할 또는 수신자 이메일로 요약 모드 수신자를 판별하고, 재처리 요청은 모으지 않는다")
+    void isDigestRecipient_roleOrMember() {
+        properties.setRoles(Set.of("ROLE_ADMIN"));
+        properties.setMembers(Set.of("user@test.com"));
+
+        assertTrue(aggregator.isDigestRecipient("ROLE_ADMIN", "admin@test.com"));
+        assertTrue(aggregator.isDigestRecipient("ROLE_USER", "user@test.com"));
+        assertFalse(aggregator.isDigestRecipient("ROLE_USER", "other@test.com"));
+
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+        assertTrue(aggregator.accepts(request));
+        assertFalse(aggregator.accepts(request.forRetry(List.of(), false)));
+    }
+}
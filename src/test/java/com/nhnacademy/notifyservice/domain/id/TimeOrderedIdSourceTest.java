@@ -0,0 +1,80 @@
+package com.nhnacademy.notifyservice.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdSourceTest {
+
+    AtomicLong clock = new AtomicLong(TimeOrderedIdSource.EPOCH + 1_000L);
+
+    TimeOrderedIdSource source = new TimeOrderedIdSource(3, clock::get);
+
+    @Test
+    @DisplayName("같은 밀리초 안에서는 순번이 증가하고 노드 번호가 id에 포함된다")
+    void nextId_sameMillis_sequenceIncreases() {
+        long first = source.nextId();
+        long second = source.nextId();
+
+        assertEquals(first + 1, second);
+        assertEquals(1_000L, first >> 12);
+        assertEquals(3L, (first >> 8) & 0xF);
+    }
+
+    @Test
+    @DisplayName("순번을 모두 사용하면 다음 밀리초로 넘어가 단조 증가를 유지한다")
+    void nextId_sequenceExhausted_borrowsNextMillis() {
+        long last = 0L;
+        for (int i = 0; i <= TimeOrderedIdSource.MAX_SEQUENCE + 1; i++) {
+            long id = source.nextId();
+            assertTrue(id > last);
+            last = id;
+        }
+
+        assertEquals(1_001L, last >> 12);
+        clock.set(TimeOrderedIdSource.EPOCH + 1_001L);
+        assertTrue(source.nextId() > last);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 이동해도 이전 id보다 큰 id를 생성한다")
+    void nextId_clockMovesBackwards_stillIncreasing() {
+        long before = source.nextId();
+        clock.set(TimeOrderedIdSource.EPOCH + 500L);
+
+        assertTrue(source.nextId() > before);
+    }
+
+    @Test
+    @DisplayName("69년 후의 id도 JavaScript 안전 정수 범위를 넘지 않는다")
+    void nextId_farFuture_fitsJavaScriptSafeInteger() {
+        clock.set(TimeOrderedIdSource.EPOCH + (1L << 41) - 1);
+        TimeOrderedIdSource lastNode = new TimeOrderedIdSource(TimeOrderedIdSource.MAX_NODE, clock::get);
+
+        assertTrue(lastNode.nextId() <= (1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 허용하지 않는다")
+    void constructor_invalidNode_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdSource(16, clock::get));
+    }
+
+    @Test
+    @DisplayName("노드 번호가 설정되지 않았거나 잘못되면 임의 번호 대신 시작 시점에 실패한다")
+    void forNode_missingOrInvalidNode_failsFast() {
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdSource.forNode(null));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdSource.forNode(" "));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdSource.forNode("node-1"));
+        assertThrows(IllegalStateException.class, () -> TimeOrderedIdSource.forNode("16"));
+    }
+
+    @Test
+    @DisplayName("같은 노드 번호는 JVM 안에서 하나의 생성기를 공유한다")
+    void forNode_sameNode_sharesSource() {
+        assertSame(TimeOrderedIdSource.forNode("7"), TimeOrderedIdSource.forNode(" 7 "));
+    }
+}
@@ -0,0 +1,115 @@
+package com.nhnacademy.notifyservice.fanout;
+
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.trace.NotificationTrace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationFanOutExecutorTest {
+
+    NotificationFanOutExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        MDC.clear();
+    }
+
+    private static List<Member> members(int count) {
+        Role role = Role.ofNewRole("ROLE_ADMIN", "관리자");
+        return IntStream.range(0, count)
+                .mapToObj(i -> Member.ofNewMember(role, "관리자" + i, "admin" + i + "@test.com", "password", "010-0000-0000"))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("수신자를 chunk-size 단위로 나누어 모든 수신자를 한 번씩 처리한다")
+    void execute_partitionsIntoChunks() {
+        executor = new NotificationFanOutExecutor(4, 3, true);
+        Queue<List<Member>> chunks = new ConcurrentLinkedQueue<>();
+
+        FanOutResult result = executor.execute(members(10), chunks::add);
+
+        assertEquals(10, result.recipients());
+        assertFalse(result.hasFailures());
+        assertEquals(4, chunks.size());
+        assertEquals(10, chunks.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("동시에 처리하는 묶음 수는 parallelism을 넘지 않는다")
+    void execute_boundsConcurrency() {
+        executor = new NotificationFanOutExecutor(2, 1, true);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        executor.execute(members(12), chunk -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+
+        assertTrue(maxRunning.get() <= 2, "max concurrent chunks: " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("실패한 묶음의 수신자만 실패로 집계하고 나머지 묶음은 계속 처리한다")
+    void execute_failedChunk_isolatesRecipients() {
+        executor = new NotificationFanOutExecutor(2, 2, false);
+        AtomicInteger processed = new AtomicInteger();
+
+        FanOutResult result = executor.execute(members(6), chunk -> {
+            if (chunk.get(0).getMbEmail().equals("admin2@test.com")) {
+                throw new IllegalStateException("저장 실패");
+            }
+            processed.addAndGet(chunk.size());
+        });
+
+        assertEquals(List.of("admin2@test.com", "admin3@test.com"), result.failedRecipients());
+        assertInstanceOf(IllegalStateException.class, result.firstFailure());
+        assertEquals(4, processed.get());
+    }
+
+    @Test
+    @DisplayName("묶음이 하나이면 호출 스레드에서 처리한다")
+    void execute_singleChunk_runsInline() {
+        executor = new NotificationFanOutExecutor(4, 50, true);
+        Thread caller = Thread.currentThread();
+        AtomicInteger inline = new AtomicInteger();
+
+        executor.execute(members(3), chunk -> {
+            if (Thread.currentThread() == caller) {
+                inline.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, inline.get());
+    }
+
+    @Test
+    @DisplayName("작업 스레드에 호출 스레드의 trace id를 전달한다")
+    void execute_propagatesMdc() {
+        executor = new NotificationFanOutExecutor(2, 1, true);
+        MDC.put(NotificationTrace.MDC_TRACE_ID, "trace-1");
+        Queue<String> traceIds = new ConcurrentLinkedQueue<>();
+
+        executor.execute(members(3), chunk -> traceIds.add(String.valueOf(MDC.get(NotificationTrace.MDC_TRACE_ID))));
+
+        assertEquals(List.of("trace-1", "trace-1", "trace-1"), List.copyOf(traceIds));
+    }
+}
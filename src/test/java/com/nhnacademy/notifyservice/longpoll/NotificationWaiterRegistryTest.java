@@ -0,0 +1,102 @@
+package com.nhnacademy.notifyservice.longpoll;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationWaiterRegistryTest {
+
+    SimpleMeterRegistry meterRegistry;
+    NotificationWaiterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new NotificationWaiterRegistry(new NotificationMetrics(meterRegistry), 25_000L, 3, 2);
+    }
+
+    @Test
+    @DisplayName("변경 신호는 해당 사용자의 대기 요청을 모두 한 번씩 깨우고 제거한다")
+    void signal_wakesAllWaitersOfUserOnce() {
+        AtomicInteger woken = new AtomicInteger();
+        AtomicInteger other = new AtomicInteger();
+        assertTrue(registry.register("a@test.com", new CapturingResult(), woken::incrementAndGet));
+        assertTrue(registry.register("a@test.com", new CapturingResult(), woken::incrementAndGet));
+        assertTrue(registry.register("b@test.com", new CapturingResult(), other::incrementAndGet));
+
+        registry.signal("a@test.com");
+        registry.signal("a@test.com");
+
+        assertEquals(2, woken.get());
+        assertEquals(0, other.get());
+        assertEquals(1, registry.size());
+        assertEquals(2.0, meterRegistry.get("notification.long-poll.woken").counter().count());
+    }
+
+    @Test
+    @DisplayName("시간 초과 등으로 완료된 요청은 제거되어 신호를 받지 않는다")
+    void completion_removesWaiter() {
+        AtomicInteger woken = new AtomicInteger();
+        CapturingResult result = new CapturingResult();
+        registry.register("a@test.com", result, woken::incrementAndGet);
+
+        result.complete();
+        registry.signal("a@test.com");
+
+        assertEquals(0, woken.get());
+        assertEquals(0, registry.size());
+        assertEquals(0.0, meterRegistry.get("notification.long-poll.waiters").gauge().value());
+    }
+
+    @Test
+    @DisplayName("사용자당, 전체 대기 요청 수 제한을 넘으면 등록하지 않는다")
+    void register_limitExceeded_rejected() {
+        assertTrue(registry.register("a@test.com", new CapturingResult(), () -> { }));
+        assertTrue(registry.register("a@test.com", new CapturingResult(), () -> { }));
+        assertFalse(registry.register("a@test.com", new CapturingResult(), () -> { }));
+        assertTrue(registry.register("b@test.com", new CapturingResult(), () -> { }));
+        assertFalse(registry.register("c@test.com", new CapturingResult(), () -> { }));
+
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    @DisplayName("깨우는 작업이 실패해도 같은 사용자의 다른 대기 요청은 깨운다")
+    void signal_failingWaiter_othersStillWoken() {
+        AtomicInteger woken = new AtomicInteger();
+        registry.register("a@test.com", new CapturingResult(), () -> {
+            throw new IllegalStateException("실패");
+        });
+        registry.register("a@test.com", new CapturingResult(), woken::incrementAndGet);
+
+        registry.signal("a@test.com");
+
+        assertEquals(1, woken.get());
+        assertEquals(0, registry.size());
+    }
+
+    /**
+     * MVC 없이 완료 콜백을 실행할 수 있도록 등록된 콜백을 보관합니다.
+     */
+    static class CapturingResult extends DeferredResult<Object> {
+
+        private Runnable completionCallback;
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+            super.onCompletion(callback);
+        }
+
+        void complete() {
+            completionCallback.run();
+        }
+    }
+}
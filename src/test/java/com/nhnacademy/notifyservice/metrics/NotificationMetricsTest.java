@@ -0,0 +1,127 @@
+package com.nhnacademy.notifyservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationMetricsTest {
+
+    SimpleMeterRegistry meterRegistry;
+    NotificationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new NotificationMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("큐 소비 결과는 형식, 역할, 결과 태그별로 개수와 처리 시간을 기록한다")
+    void recordConsume_successAndFailure_tagsEachOutcome() {
+        metrics.recordConsume(metrics.startTimer(), "HTML", "ROLE_ADMIN", NotificationMetrics.OUTCOME_SUCCESS);
+        metrics.recordConsume(metrics.startTimer(), "HTML", "ROLE_ADMIN", NotificationMetrics.OUTCOME_SUCCESS);
+        metrics.recordConsume(metrics.startTimer(), "TEXT", "ROLE_ALL", NotificationMetrics.OUTCOME_FAILURE);
+
+        assertEquals(2.0, meterRegistry.get("notification.queue.consumed")
+                .tags("type", "HTML", "roleType", "ROLE_ADMIN", "outcome", "success").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.queue.consumed")
+                .tags("type", "TEXT", "roleType", "ROLE_ALL", "outcome", "failure").counter().count());
+        assertEquals(2L, meterRegistry.get("notification.queue.process")
+                .tags("type", "HTML", "roleType", "ROLE_ADMIN", "outcome", "success").timer().count());
+        assertEquals(1L, meterRegistry.get("notification.queue.process")
+                .tags("type", "TEXT", "roleType", "ROLE_ALL", "outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 태그 값은 other, 없는 값은 none으로 기록한다")
+    void recordConsume_unknownValues_normalizesTags() {
+        metrics.recordConsume(metrics.startTimer(), "MARKDOWN", null, NotificationMetrics.OUTCOME_FAILURE);
+
+        assertEquals(1.0, meterRegistry.get("notification.queue.consumed")
+                .tags("type", "other", "roleType", "none", "outcome", "failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("SMTP 발송 시간은 형식과 결과 태그로 기록한다")
+    void recordEmailSend_tagsTypeAndOutcome() {
+        metrics.recordEmailSend(metrics.startTimer(), "TEXT", NotificationMetrics.OUTCOME_SUCCESS);
+        metrics.recordEmailSend(metrics.startTimer(), "TEXT", NotificationMetrics.OUTCOME_FAILURE);
+
+        assertEquals(1L, meterRegistry.get("notification.email.send").tags("type", "TEXT", "outcome", "success").timer().count());
+        assertEquals(1L, meterRegistry.get("notification.email.send").tags("type", "TEXT", "outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("DB 작업과 HTML 변환 시간은 실패해도 작업 태그로 기록한다")
+    void recordDb_failure_stillRecorded() {
+        assertEquals(3L, metrics.recordDb("count-unread", () -> 3L));
+        metrics.recordDb("mark-read", () -> { });
+        assertThrows(IllegalStateException.class, () -> metrics.recordDb("count-unread", () -> {
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals("<p>본문</p>", metrics.recordHtmlConversion("to-html", () -> "<p>본문</p>"));
+
+        assertEquals(2L, meterRegistry.get("notification.db").tag("operation", "count-unread").timer().count());
+        assertEquals(1L, meterRegistry.get("notification.db").tag("operation", "mark-read").timer().count());
+        assertEquals(1L, meterRegistry.get("notification.html.convert").tag("operation", "to-html").timer().count());
+    }
+
+    @Test
+    @DisplayName("STOMP 전송 수는 프레임 종류별로 증가한다")
+    void countPush_countsPerFrame() {
+        metrics.countPush("popup");
+        metrics.countPush("popup");
+        metrics.countPush("unread-count");
+
+        assertEquals(2.0, meterRegistry.get("notification.push").tag("frame", "popup").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.push").tag("frame", "unread-count").counter().count());
+    }
+
+    @Test
+    @DisplayName("큐 대기 시간은 queue-wait 단계와 큐 지연 게이지에 기록하고 음수는 0으로 처리한다")
+    void recordQueueWait_updatesStageAndGauge() {
+        assertEquals(0.0, meterRegistry.get("notification.queue.lag").gauge().value());
+
+        assertEquals(250L, metrics.recordQueueWait(1_000L, 1_250L));
+        assertEquals(250.0, meterRegistry.get("notification.queue.lag").gauge().value());
+
+        assertEquals(0L, metrics.recordQueueWait(2_000L, 1_000L));
+        assertEquals(0.0, meterRegistry.get("notification.queue.lag").gauge().value());
+
+        Timer queueWait = meterRegistry.get("notification.stage").tag("stage", "queue-wait").timer();
+        assertEquals(2L, queueWait.count());
+        assertEquals(250.0, queueWait.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("단계별 지연 시간은 stage 태그로 기록하고 백분위를 함께 노출한다")
+    void recordStage_publishesPercentiles() {
+        metrics.recordStage("push", 40L);
+        metrics.recordStage("end-to-end", () -> { });
+
+        Timer push = meterRegistry.get("notification.stage").tag("stage", "push").timer();
+        assertEquals(1L, push.count());
+        assertEquals(3, push.takeSnapshot().percentileValues().length);
+        assertEquals(1L, meterRegistry.get("notification.stage").tag("stage", "end-to-end").timer().count());
+    }
+
+    @Test
+    @DisplayName("같은 이름과 태그의 미터는 처음 등록한 인스턴스를 다시 사용한다")
+    void counter_sameTags_reusesRegisteredMeter() {
+        Counter first = metrics.counter("notification.test", "테스트", "frame", "popup");
+
+        assertSame(first, metrics.counter("notification.test", "테스트", "frame", "popup"));
+        assertNotSame(first, metrics.counter("notification.test", "테스트", "frame", "content"));
+
+        metrics.countPush("popup");
+        metrics.countPush("popup");
+        assertEquals(2.0, meterRegistry.get("notification.push").tag("frame", "popup").counter().count());
+    }
+}
@@ -0,0 +1,273 @@
+package com.nhnacademy.notifyservice.outbox;
+
+import com.nhnacademy.notifyservice.domain.NotificationOutbox;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.NotificationOutboxRepository;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxRelayTest {
+
+    NotificationOutboxRepository repository;
+    SimpMessageSendingOperations messageTemplate;
+    PlatformTransactionManager transactionManager;
+    NotificationOutboxRelay relay;
+    NotificationOutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NotificationOutboxRepository.class);
+        messageTemplate = mock(SimpMessageSendingOperations.class);
+        NotificationMetrics metrics = new NotificationMetrics(new SimpleMeterRegistry());
+        transactionManager = mock(PlatformTransactionManager.class);
+        relay = new NotificationOutboxRelay(repository, messageTemplate, mock(NotificationStreamRegistry.class), metrics,
+                transactionManager, 100, 30_000L);
+        writer = new NotificationOutboxWriter(repository, relay, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private NotificationOutbox entry(long id, String destination, Object payload, String traceId) {
+        OutboxFrames frames = new OutboxFrames();
+        frames.add(destination, payload, "content");
+        return entry(id, frames, traceId);
+    }
+
+    private NotificationOutbox entry(long id, OutboxFrames frames, String traceId) {
+        NotificationOutbox entry = NotificationOutbox.of(frames.encode(), traceId);
+        ReflectionTestUtils.setField(entry, "id", id);
+        entry.prePersist();
+        return entry;
+    }
+
+    @Test
+    @DisplayName("커밋된 항목을 id 순서로 trace 헤더와 함께 전송하고 삭제한다")
+    void publish_sendsInIdOrderAndDeletes() {
+        NotificationOutbox count = entry(2L, "/notification/unread-notification-count-updates/a@test.com", 3L, "trace-1");
+        NotificationOutbox content = entry(1L, "/notification/a@test.com", "본문", "trace-1");
+        // publish 호출마다 별도 배치로 드레인될 수 있으므로 요청한 id의 항목만 반환
+        when(repository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return List.of(count, content).stream().filter(entry -> ids.contains(entry.getId())).toList();
+        });
+
+        relay.publish(1L);
+        relay.publish(2L);
+
+        verify(messageTemplate, timeout(1000).times(2)).convertAndSend(anyString(), any(Object.class), anyMap());
+        verify(repository, timeout(1000).atLeastOnce()).deleteAllByIdInBatch(anyList());
+        InOrder inOrder = inOrder(messageTemplate);
+        inOrder.verify(messageTemplate).convertAndSend("/notification/a@test.com", (Object) "본문", Map.of("X-Trace-Id", "trace-1"));
+        inOrder.verify(messageTemplate).convertAndSend("/notification/unread-notification-count-updates/a@test.com", (Object) 3L, Map.of("X-Trace-Id", "trace-1"));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 항목은 삭제하지 않고 스윕에서 다시 전송한다")
+    void publish_failedSend_keptForSweep() {
+        NotificationOutbox failing = entry(1L, "/notification/a@test.com", "실패", null);
+        NotificationOutbox ok = entry(2L, "/notification/b@test.com", "성공", null);
+        // publish 호출마다 별도 배치로 드레인될 수 있으므로 요청한 id의 항목만 반환
+        when(repository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return List.of(failing, ok).stream().filter(entry -> ids.contains(entry.getId())).toList();
+        });
+        doThrow(new MessageDeliveryException("broker down"))
+                .when(messageTemplate).convertAndSend(eq("/notification/a@test.com"), any(Object.class), anyMap());
+
+        relay.publish(1L);
+        relay.publish(2L);
+
+        verify(repository, timeout(1000)).deleteAllByIdInBatch(List.of(2L));
+
+        reset(messageTemplate);
+        when(repository.findClaimable(any(), any())).thenReturn(List.of(failing));
+        relay.sweep();
+
+        verify(messageTemplate).convertAndSend("/notification/a@test.com", (Object) "실패", Map.of());
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("스윕은 항목을 점유한 트랜잭션을 커밋한 뒤에 전송한다")
+    void sweep_claimsAndCommitsBeforeSending() {
+        NotificationOutbox stale = entry(1L, "/notification/a@test.com", "본문", null);
+        when(repository.findClaimable(any(), any())).thenReturn(List.of(stale));
+
+        relay.sweep();
+
+        InOrder inOrder = inOrder(repository, transactionManager, messageTemplate);
+        inOrder.verify(repository).claim(eq(List.of(1L)), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(messageTemplate).convertAndSend("/notification/a@test.com", (Object) "본문", Map.of());
+        inOrder.verify(repository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("릴레이 스레드가 전송 중인 항목은 스윕이 점유하거나 다시 전송하지 않는다")
+    void sweep_skipsEntriesBeingRelayed() throws InterruptedException {
+        NotificationOutbox relaying = entry(1L, "/notification/a@test.com", "본문", null);
+        CountDownLatch fetched = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findAllById(List.of(1L))).thenAnswer(invocation -> {
+            fetched.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return List.of(relaying);
+        });
+        when(repository.findClaimable(any(), any())).thenReturn(List.of(relaying));
+
+        relay.publish(1L);
+        assertTrue(fetched.await(1, TimeUnit.SECONDS));
+        relay.sweep();
+        release.countDown();
+
+        verify(messageTemplate, timeout(1000).times(1)).convertAndSend(anyString(), any(Object.class), anyMap());
+        verify(repository, never()).claim(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록한 프레임은 커밋 직전에 한 행으로 저장하고 커밋 후에만 전송을 요청한다")
+    void enqueue_insideTransaction_writesOneRowAndPublishesAfterCommit() {
+        List<NotificationOutbox> saved = new ArrayList<>();
+        when(repository.save(any(NotificationOutbox.class))).thenAnswer(invocation -> {
+            NotificationOutbox entry = invocation.getArgument(0);
+            ReflectionTestUtils.setField(entry, "id", 7L);
+            entry.prePersist();
+            saved.add(entry);
+            return entry;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.enqueue("/notification/unread-notification-count-updates/a@test.com", 3L, "unread-count");
+        writer.enqueue("/notification/a@test.com", "본문", "content");
+        writer.enqueue("/notification/unread-notification-count-updates/b@test.com", 5L, "unread-count");
+        writer.enqueue("/notification/b@test.com", "본문", "content");
+
+        verify(repository, never()).save(any(NotificationOutbox.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        verify(repository, times(1)).save(any(NotificationOutbox.class));
+        verify(repository, after(200).never()).findAllById(anyList());
+
+        // 같은 본문을 받는 목적지는 한 프레임으로 묶여 본문이 한 번만 저장됨
+        assertEquals(List.of(
+                new OutboxFrame("unread-count", 3L, List.of("/notification/unread-notification-count-updates/a@test.com")),
+                new OutboxFrame("content", "본문", List.of("/notification/a@test.com", "/notification/b@test.com")),
+                new OutboxFrame("unread-count", 5L, List.of("/notification/unread-notification-count-updates/b@test.com"))),
+                OutboxFrames.decode(saved.get(0)));
+
+        when(repository.findAllById(List.of(7L))).thenReturn(saved);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(messageTemplate, timeout(1000).times(4)).convertAndSend(anyString(), any(Object.class), anyMap());
+        verify(messageTemplate).convertAndSend("/notification/b@test.com", (Object) "본문", Map.of());
+        verify(messageTemplate).convertAndSend("/notification/unread-notification-count-updates/b@test.com", (Object) 5L, Map.of());
+        verify(repository, timeout(1000)).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("같은 목적지에 기록한 프레임은 묶은 뒤에도 기록한 순서대로 전송한다")
+    void add_sameDestinationInterleaved_keepsOrder() {
+        OutboxFrames frames = new OutboxFrames();
+        frames.add("/notification/a@test.com", "첫 번째", "content");
+        frames.add("/notification/a@test.com", "두 번째", "content");
+        frames.add("/notification/a@test.com", "첫 번째", "content");
+
+        assertEquals(List.of("첫 번째", "두 번째", "첫 번째"),
+                OutboxFrames.decode(entry(1L, frames, null)).stream().map(OutboxFrame::payload).toList());
+    }
+
+    @Test
+    @DisplayName("일부 목적지에만 전송하지 못한 행은 남은 프레임만 보관하고 삭제하지 않는다")
+    void publish_partialFailure_retainsUnsentFrames() {
+        OutboxFrames frames = new OutboxFrames();
+        frames.add("/notification/a@test.com", "본문", "content");
+        frames.add("/notification/b@test.com", "본문", "content");
+        NotificationOutbox entry = entry(1L, frames, null);
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(entry));
+        doThrow(new MessageDeliveryException("broker down"))
+                .when(messageTemplate).convertAndSend(eq("/notification/b@test.com"), any(Object.class), anyMap());
+
+        relay.publish(1L);
+
+        verify(repository, timeout(1000)).save(entry);
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+        assertEquals(List.of(new OutboxFrame("content", "본문", List.of("/notification/b@test.com"))), OutboxFrames.decode(entry));
+    }
+
+    @Test
+    @DisplayName("프레임마다 한 행으로 기록된 이전 형식의 항목도 전송한다")
+    void publish_legacyRow_sent() {
+        NotificationOutbox legacy = NotificationOutbox.of(null, null);
+        ReflectionTestUtils.setField(legacy, "id", 1L);
+        ReflectionTestUtils.setField(legacy, "destination", "/notification/unread-notification-count-updates/a@test.com");
+        ReflectionTestUtils.setField(legacy, "payload", "3");
+        ReflectionTestUtils.setField(legacy, "payloadType", NotificationOutbox.PAYLOAD_COUNT);
+        ReflectionTestUtils.setField(legacy, "frame", "unread-count");
+        legacy.prePersist();
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(legacy));
+
+        relay.publish(1L);
+
+        verify(messageTemplate, timeout(1000)).convertAndSend("/notification/unread-notification-count-updates/a@test.com", (Object) 3L, Map.of());
+        verify(repository, timeout(1000)).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 프레임은 전송하지 않는다")
+    void enqueue_rolledBack_notPublished() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.enqueue("/notification/a@test.com", "본문", "content");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(repository, after(200).never()).findAllById(anyList());
+        verifyNoInteractions(messageTemplate);
+    }
+
+    @Test
+    @DisplayName("바로 전송하는 프레임은 아웃박스에 기록하지 않고 객체 그대로 메시지 컨버터에 넘긴다")
+    void sendDirect_sendsObjectWithoutOutbox() {
+        Map<String, Object> payload = Map.of("unreadCount", 3L);
+
+        relay.sendDirect("/notification/catch-up/a@test.com", payload, "catch-up");
+
+        verify(messageTemplate).convertAndSend("/notification/catch-up/a@test.com", (Object) payload, Map.of());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("문자열이나 숫자가 아닌 페이로드는 아웃박스에 기록하지 않는다")
+    void of_objectPayload_rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OutboxFrames().add("/notification/catch-up/a@test.com", Map.of("unreadCount", 3L), "catch-up"));
+    }
+}
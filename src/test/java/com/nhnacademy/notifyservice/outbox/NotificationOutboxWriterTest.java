@@ -0,0 +1,83 @@
+package com.nhnacademy.notifyservice.outbox;
+
+import com.nhnacademy.notifyservice.domain.NotificationOutbox;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxWriterTest {
+
+    static final int ADMINS = 200;
+
+    @Autowired
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    NotificationOutboxRelay relay;
+    NotificationOutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        relay = mock(NotificationOutboxRelay.class);
+        writer = new NotificationOutboxWriter(notificationOutboxRepository, relay, new NotificationMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 관리자 200명에게 기록한 프레임은 커밋 시 아웃박스 한 행으로 저장된다")
+    void enqueue_fanOut_commitsOneRow() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < ADMINS; i++) {
+                String email = "admin" + i + "@test.com";
+                writer.enqueue("/notification/unread-notification-count-updates/" + email, (long) i % 3, "unread-count");
+                writer.enqueue("/notification/notification-message/" + email, "회의실 예약", "popup");
+                writer.enqueue("/notification/" + email, "회의실 예약 알림", "content");
+            }
+            verifyNoInteractions(relay);
+        });
+
+        List<NotificationOutbox> rows = notificationOutboxRepository.findAll();
+        assertEquals(1, rows.size());
+        verify(relay).publish(rows.get(0).getId());
+
+        List<OutboxFrame> frames = OutboxFrames.decode(rows.get(0));
+        assertEquals(ADMINS * 3, frames.stream().mapToInt(frame -> frame.destinations().size()).sum());
+        // 개수 3가지 + 팝업 + 본문
+        assertEquals(5, frames.size());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 프레임은 아웃박스에 남지 않는다")
+    void enqueue_rolledBack_noRow() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            writer.enqueue("/notification/a@test.com", "본문", "content");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, notificationOutboxRepository.count());
+        verifyNoInteractions(relay);
+    }
+}
@@ -4,9 +4,16 @@ import com.nhnacademy.notifyservice.dto.EmailRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -28,7 +35,9 @@ class EmailQueueProducerTest {
         producer.sendTextEmail(request);
 
         assertEquals("TEXT", request.getType());
-        verify(rabbitTemplate).convertAndSend("email-queue", request);
+        assertNotNull(request.getTraceId());
+        assertNotNull(request.getEnqueuedAt());
+        verify(rabbitTemplate).convertAndSend(eq("email-queue"), eq(request), any(MessagePostProcessor.class));
     }
 
     @Test
@@ -38,6 +47,60 @@ class EmailQueueProducerTest {
         producer.sendHtmlEmail(request);
 
         assertEquals("HTML", request.getType());
-        verify(rabbitTemplate).convertAndSend("email-queue", request);
+        verify(rabbitTemplate).convertAndSend(eq("email-queue"), eq(request), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    @DisplayName("외부 요청에 담긴 재처리 상태는 큐에 넣기 전에 초기화된다")
+    void sendTextEmail_clearsRetryState() {
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT");
+        request.setRetryRecipients(List.of("admin@test.com"));
+        request.setEmailSent(true);
+        request.setDeferrals(-100);
+
+        producer.sendTextEmail(request);
+
+        assertNull(request.getRetryRecipients());
+        assertFalse(request.isEmailSent());
+        assertEquals(0, request.getDeferrals());
+        verify(rabbitTemplate).convertAndSend(eq("email-queue"), eq(request), any(MessagePostProcessor.class));
+    }
+
+    @Test
+    @DisplayName("sendEmailOnly: 원래 요청의 trace id와 큐 적재 시각을 유지한다")
+    void sendEmailOnly_keepsTrace() {
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT",
+                "trace-1", 1_000L, List.of(), false, 0, null);
+
+        producer.sendEmailOnly(request);
+
+        verify(rabbitTemplate).convertAndSend(eq("email-queue"), same(request), any(MessagePostProcessor.class));
+        assertEquals("trace-1", request.getTraceId());
+        assertEquals(1_000L, request.getEnqueuedAt());
+    }
+
+    @Test
+    @DisplayName("sendEmailOnly: 추적 정보가 없으면 전달받은 요청을 바꾸지 않고 복사본에 기록한다")
+    void sendEmailOnly_withoutTrace_sendsTracedCopy() {
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용", "ROLE_ADMIN", "TEXT").forRetry(List.of(), false);
+
+        producer.sendEmailOnly(request);
+
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq("email-queue"), sent.capture(), any(MessagePostProcessor.class));
+        EmailRequest traced = (EmailRequest) sent.getValue();
+        assertNotNull(traced.getTraceId());
+        assertNotNull(traced.getEnqueuedAt());
+        assertNull(request.getTraceId());
+        assertNull(request.getEnqueuedAt());
+    }
+
+    @Test
+    @DisplayName("sendToDelay: 지연 큐로 trace 정보와 함께 전송된다")
+    void sendToDelay_sendsToDelayQueue() {
+        EmailRequest request = new EmailRequest("to@example.com", "제목", "내용").forDeferredEmail();
+        producer.sendToDelay(request);
+
+        verify(rabbitTemplate).convertAndSend(eq("email-queue.delay"), eq(request), any(MessagePostProcessor.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package com.nhnacademy.notifyservice.ratelimit;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailRateLimiterTest {
+
+    AtomicLong clock;
+    SimpleMeterRegistry meterRegistry;
+    EmailRateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new EmailRateLimitProperties();
+        properties.setGlobal(new EmailRateLimitProperties.Limit(10, Duration.ofSeconds(1)));
+        properties.setDomain(new EmailRateLimitProperties.Limit(5, Duration.ofSeconds(1)));
+        properties.setRecipient(new EmailRateLimitProperties.Limit(2, Duration.ofHours(1)));
+    }
+
+    private EmailRateLimiter limiter() {
+        return new EmailRateLimiter(properties, new NotificationMetrics(meterRegistry), clock::get);
+    }
+
+    private double throttled(String limit) {
+        return meterRegistry.get("notification.email.throttled").tag("limit", limit).counter().count();
+    }
+
+    @Test
+    @DisplayName("수신자별 한도를 넘으면 해당 수신자만 제한하고 도메인/전체 토큰은 쓰지 않는다")
+    void tryAcquire_recipientCap_throttlesOnlyRecipient() {
+        EmailRateLimiter limiter = limiter();
+
+        assertTrue(limiter.tryAcquire("a@test.com").isEmpty());
+        assertTrue(limiter.tryAcquire("A@Test.com ").isEmpty());
+        assertEquals(Optional.of(EmailRateLimiter.LIMIT_RECIPIENT), limiter.tryAcquire("a@test.com"));
+
+        // 도메인 5개 중 2개만 사용했으므로 다른 수신자는 3통 발송 가능
+        assertTrue(limiter.tryAcquire("b@test.com").isEmpty());
+        assertTrue(limiter.tryAcquire("b@test.com").isEmpty());
+        assertTrue(limiter.tryAcquire("c@test.com").isEmpty());
+        assertEquals(Optional.of(EmailRateLimiter.LIMIT_DOMAIN), limiter.tryAcquire("c@test.com"));
+        assertEquals(1.0, throttled(EmailRateLimiter.LIMIT_RECIPIENT));
+        assertEquals(1.0, throttled(EmailRateLimiter.LIMIT_DOMAIN));
+    }
+
+    @Test
+    @DisplayName("전체 속도에 걸리면 이미 가져간 수신자/도메인 토큰을 되돌린다")
+    void tryAcquire_globalLimit_refundsNarrowerBuckets() {
+        properties.setGlobal(new EmailRateLimitProperties.Limit(1, Duration.ofSeconds(1)));
+        EmailRateLimiter limiter = limiter();
+
+        assertTrue(limiter.tryAcquire("a@one.com").isEmpty());
+        assertEquals(Optional.of(EmailRateLimiter.LIMIT_GLOBAL), limiter.tryAcquire("b@two.com"));
+
+        // 1초 뒤 전체 토큰이 보충되면 b@two.com은 되돌려 받은 토큰으로 수신자 한도 2통을 모두 쓸 수 있음
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(limiter.tryAcquire("b@two.com").isEmpty());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(limiter.tryAcquire("b@two.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("가득 찬 도메인/수신자 버킷은 정리 작업에서 제거된다")
+    void evictIdleBuckets_removesFullBuckets() {
+        EmailRateLimiter limiter = limiter();
+        limiter.tryAcquire("a@test.com");
+        assertEquals(2, limiter.bucketCount());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        limiter.evictIdleBuckets();
+        // 도메인 버킷은 보충되어 제거, 수신자 버킷은 1시간 동안 보충 중이므로 유지
+        assertEquals(1, limiter.bucketCount());
+
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        limiter.evictIdleBuckets();
+        assertEquals(0, limiter.bucketCount());
+    }
+
+    @Test
+    @DisplayName("사용하지 않도록 설정하면 모든 발송을 허용한다")
+    void tryAcquire_disabled_alwaysAllowed() {
+        properties.setEnabled(false);
+        EmailRateLimiter limiter = limiter();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire("a@test.com").isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("여러 컨슈머가 동시에 발송해도 전체 속도보다 많이 허용하지 않는다")
+    void tryAcquire_concurrentConsumers_respectsGlobalLimit() throws Exception {
+        properties.setGlobal(new EmailRateLimitProperties.Limit(100, Duration.ofSeconds(1)));
+        properties.setDomain(new EmailRateLimitProperties.Limit(1_000, Duration.ofSeconds(1)));
+        properties.setRecipient(new EmailRateLimitProperties.Limit(1_000, Duration.ofHours(1)));
+        EmailRateLimiter limiter = limiter();
+
+        int consumers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(consumers);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < consumers; i++) {
+                String domain = "d" + (i % 3) + ".com";
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int j = 0; j < 500; j++) {
+                        if (limiter.tryAcquire("user" + (j % 50) + "@" + domain).isEmpty()) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Integer> future : futures) {
+                granted += future.get();
+            }
+            assertEquals(100, granted);
+            assertEquals(consumers * 500 - 100, throttled(EmailRateLimiter.LIMIT_GLOBAL));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("지연 횟수가 최대값에 도달하면 더 지연시키지 않는다")
+    void canDefer_maxDeferrals() {
+        properties.setMaxDeferrals(3);
+        EmailRateLimiter limiter = limiter();
+
+        assertTrue(limiter.canDefer(2));
+        assertFalse(limiter.canDefer(3));
+        assertFalse(limiter.canDefer(-1));
+    }
+}
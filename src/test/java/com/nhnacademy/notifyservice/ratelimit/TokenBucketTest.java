@@ -0,0 +1,100 @@
+package com.nhnacademy.notifyservice.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    @DisplayName("가득 찬 버킷은 크기만큼 가져갈 수 있고 주기에 비례해 보충된다")
+    void tryConsume_refillsProportionally() {
+        TokenBucket bucket = new TokenBucket(10, Duration.ofSeconds(1), 0L);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bucket.tryConsume(0L));
+        }
+        assertFalse(bucket.tryConsume(0L));
+
+        // 0.3초 동안 3개 보충
+        long now = SECOND * 3 / 10;
+        assertTrue(bucket.tryConsume(now));
+        assertTrue(bucket.tryConsume(now));
+        assertTrue(bucket.tryConsume(now));
+        assertFalse(bucket.tryConsume(now));
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버킷 크기보다 많이 보충되지 않는다")
+    void refill_cappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(1), 0L);
+        bucket.tryConsume(0L);
+
+        assertEquals(5.0, bucket.available(SECOND * 60));
+        assertTrue(bucket.isFull(SECOND * 60));
+    }
+
+    @Test
+    @DisplayName("되돌린 토큰은 다시 가져갈 수 있지만 버킷 크기를 넘지 않는다")
+    void refund_returnsToken() {
+        TokenBucket bucket = new TokenBucket(1, Duration.ofHours(1), 0L);
+        assertTrue(bucket.tryConsume(0L));
+        assertFalse(bucket.tryConsume(0L));
+
+        bucket.refund(0L);
+        bucket.refund(0L);
+
+        assertEquals(1.0, bucket.available(0L));
+        assertTrue(bucket.tryConsume(0L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 가져가도 버킷 크기보다 많이 허용하지 않는다")
+    void tryConsume_concurrent_neverOverGrants() throws Exception {
+        int threads = 8;
+        int attemptsPerThread = 10_000;
+        TokenBucket bucket = new TokenBucket(1_000, Duration.ofHours(1), 0L);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int j = 0; j < attemptsPerThread; j++) {
+                        if (bucket.tryConsume(0L)) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                });
+            }
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Callable<Integer> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Integer> future : futures) {
+                granted += future.get();
+            }
+            assertEquals(1_000, granted);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
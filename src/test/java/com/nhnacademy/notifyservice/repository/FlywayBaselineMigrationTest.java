@@ -0,0 +1,69 @@
+package com.nhnacademy.notifyservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 도입 전부터 운영 중인 데이터베이스가 기준선(V1)으로 기록된 뒤
+ * 이후 버전의 테이블을 모두 받는지 확인합니다.
+ */
+class FlywayBaselineMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    @DisplayName("기준선으로 기록된 기존 데이터베이스에도 V1 이후에 추가된 테이블이 생성된다")
+    void migrate_existingDatabase_createsTablesAddedAfterBaseline() throws Exception {
+        // Hibernate ddl-auto로 만들어진 기존 스키마 (Flyway 이력 테이블 없음)
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE roles (role_no BIGINT NOT NULL AUTO_INCREMENT, role_name VARCHAR(50) NOT NULL, "
+                    + "role_description VARCHAR(200) NOT NULL, PRIMARY KEY (role_no))");
+            statement.execute("CREATE TABLE members (mb_no BIGINT NOT NULL AUTO_INCREMENT, role_no BIGINT NOT NULL, mb_name VARCHAR(50) NOT NULL, "
+                    + "mb_email VARCHAR(100) NOT NULL, mb_password VARCHAR(200) NOT NULL, phone_number VARCHAR(15) NOT NULL, "
+                    + "created_at DATETIME(6) NOT NULL, withdrawn_at DATETIME(6), PRIMARY KEY (mb_no))");
+            statement.execute("CREATE TABLE notification_message (id BIGINT NOT NULL AUTO_INCREMENT, mb_no BIGINT NOT NULL, "
+                    + "role_no BIGINT NOT NULL, content VARCHAR(1000) NOT NULL, is_read BIT NOT NULL, created_at DATETIME(6) NOT NULL, "
+                    + "PRIMARY KEY (id))");
+        }
+
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .table("notify_flyway_schema_history")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            assertTrue(tableExists(connection, "notification_outbox"));
+            assertTrue(tableExists(connection, "notification_event_body"));
+            assertTrue(tableExists(connection, "member_notification_summary"));
+        }
+    }
+
+    private boolean tableExists(Connection connection, String tableName) throws SQLException {
+        try (ResultSet resultSet = connection.getMetaData().getTables(null, null, tableName, null)) {
+            return resultSet.next();
+        }
+    }
+}
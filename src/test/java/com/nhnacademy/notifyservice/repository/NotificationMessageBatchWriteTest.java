@@ -0,0 +1,176 @@
+package com.nhnacademy.notifyservice.repository;
+
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(NotificationMessageBatchWriteTest.StatementCountingConfig.class)
+class NotificationMessageBatchWriteTest {
+
+    static final int NOTIFICATIONS = 200;
+    static final int BATCH_SIZE = 50;
+
+    @Autowired
+    NotificationMessageRepository notificationMessageRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Member member;
+    Role role;
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        role = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        member = memberRepository.save(Member.ofNewMember(role, "관리자", "admin@test.com", "password", "010-0000-0000"));
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        StatementCountingConfig.executions.set(0);
+    }
+
+    private List<NotificationMessage> notifications() {
+        List<NotificationMessage> notificationMessages = new ArrayList<>();
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            notificationMessages.add(NotificationMessage.builder()
+                    .member(member)
+                    .role(role)
+                    .content("회의실 예약 알림 " + i)
+                    .isRead(false)
+                    .build());
+        }
+        return notificationMessages;
+    }
+
+    @Test
+    @DisplayName("알림 N건 저장은 persist 시점에 id가 정해지고 약 N/batch_size개의 INSERT 문으로 실행된다")
+    void saveAll_insertsInBatches() {
+        List<NotificationMessage> saved = notificationMessageRepository.saveAll(notifications());
+
+        // IDENTITY와 달리 persist 시점에 INSERT를 실행하지 않음
+        assertTrue(saved.stream().allMatch(notificationMessage -> notificationMessage.getId() != null));
+        assertEquals(0, StatementCountingConfig.executions.get());
+
+        entityManager.flush();
+
+        assertEquals(NOTIFICATIONS, statistics.getEntityInsertCount());
+        assertEquals(NOTIFICATIONS / BATCH_SIZE, StatementCountingConfig.executions.get());
+    }
+
+    @Test
+    @DisplayName("읽음 처리된 알림 N건은 약 N/batch_size개의 UPDATE 문으로 실행된다")
+    void markRead_updatesInBatches() {
+        notificationMessageRepository.saveAll(notifications());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        StatementCountingConfig.executions.set(0);
+
+        List<NotificationMessage> unread = notificationMessageRepository.findByMemberAndIsReadFalse(member);
+        unread.forEach(notificationMessage -> notificationMessage.updateIsRead(true));
+        entityManager.flush();
+
+        assertEquals(NOTIFICATIONS, statistics.getEntityUpdateCount());
+        // 조회 1건 + UPDATE 배치
+        assertEquals(1 + NOTIFICATIONS / BATCH_SIZE, StatementCountingConfig.executions.get());
+    }
+
+    @Test
+    @DisplayName("저장 순서대로 id가 증가하여 keyset 조회 순서가 유지된다")
+    void saveAll_idsIncreaseInInsertOrder() {
+        List<NotificationMessage> saved = notificationMessageRepository.saveAll(notifications());
+
+        for (int i = 1; i < saved.size(); i++) {
+            assertTrue(saved.get(i).getId() > saved.get(i - 1).getId());
+        }
+    }
+
+    /**
+     * 데이터베이스 왕복 횟수를 세기 위해 Statement 실행 호출 수를 기록합니다.
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        static final AtomicInteger executions = new AtomicInteger();
+
+        private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeBatch", "executeLargeUpdate", "executeLargeBatch");
+
+        @Bean
+        static BeanPostProcessor statementCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return countingProxy(super.getConnection(), Connection.class);
+                        }
+                    };
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T countingProxy(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (EXECUTE_METHODS.contains(method.getName())) {
+                    executions.incrementAndGet();
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                        return countingProxy(statement, (Class<Statement>) method.getReturnType());
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.nhnacademy.notifyservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에 대량의 알림을 적재한 뒤,
+ * 핫 쿼리의 실행 계획이 복합 인덱스를 사용하는지 확인합니다.
+ *
+ * 기본 빌드에서는 인덱스 사용 여부만 빠르게 확인하도록 20,000건을 적재하며,
+ * 운영 규모(1,000,000건) 검증은 {@code mvn -Pquery-plan test -Dtest=NotificationMessageQueryPlanTest}로 실행합니다.
+ * 적재 건수는 {@code -Dnotification.plan.rows}로 직접 지정할 수도 있습니다.
+ */
+class NotificationMessageQueryPlanTest {
+
+    static final String URL = "jdbc:h2:mem:plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final long ROWS = Long.getLong("notification.plan.rows", 20_000L);
+    static final int MEMBERS = 1_000;
+
+    static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        // 운영 환경처럼 데이터가 쌓인 테이블에 V2 인덱스 마이그레이션을 적용
+        flyway("1").migrate();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO roles (role_no, role_name, role_description) VALUES (1, 'ROLE_ADMIN', '관리자')");
+            statement.execute("INSERT INTO members (mb_no, role_no, mb_name, mb_email, mb_password, phone_number, created_at) "
+                    + "SELECT n, 1, 'member' || n, 'member' || n || '@test.com', 'password', '010-0000-0000', CURRENT_TIMESTAMP "
+                    + range(MEMBERS));
+            // 회원마다 고르게 분산하고 약 5%만 읽지 않은 상태로 적재
+            statement.execute("INSERT INTO notification_message (id, mb_no, role_no, content, is_read, created_at) "
+                    + "SELECT n, MOD(n, " + MEMBERS + ") + 1, 1, '회의실 예약 알림', MOD(n / " + MEMBERS + ", 20) <> 0, "
+                    + "DATEADD('SECOND', n, TIMESTAMP '2025-01-01 00:00:00') "
+                    + range(ROWS));
+        }
+
+        flyway("latest").migrate();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .table("notify_flyway_schema_history")
+                .target(target)
+                .load();
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private static String range(long count) {
+        // DATABASE_TO_LOWER 모드에서도 SYSTEM_RANGE의 대문자 컬럼을 참조할 수 있도록 별칭을 붙임
+        return "FROM (SELECT \"X\" AS n FROM SYSTEM_RANGE(1, " + count + "))";
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1).toLowerCase();
+        }
+    }
+
+    @Test
+    @DisplayName("마이그레이션 후 알림 테이블에 복합 인덱스가 생성된다")
+    void migrate_createsCompositeIndexes() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'notification_message'");
+             ResultSet resultSet = statement.executeQuery()) {
+            StringBuilder indexes = new StringBuilder();
+            while (resultSet.next()) {
+                indexes.append(resultSet.getString(1).toLowerCase()).append(',');
+            }
+
+            assertTrue(indexes.toString().contains("idx_notification_message_member_read"));
+            assertTrue(indexes.toString().contains("idx_notification_message_member_created"));
+        }
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 개수 조회는 (mb_no, is_read) 인덱스를 사용한다")
+    void countUnread_usesMemberReadIndex() throws SQLException {
+        String plan = explain("SELECT COUNT(*) FROM notification_message WHERE mb_no = 42 AND is_read = FALSE");
+
+        assertTrue(plan.contains("idx_notification_message_member_read"), plan);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 대상 조회는 (mb_no, is_read) 인덱스를 사용한다")
+    void findUnread_usesMemberReadIndex() throws SQLException {
+        String plan = explain("SELECT id, content FROM notification_message WHERE mb_no = 42 AND is_read = FALSE");
+
+        assertTrue(plan.contains("idx_notification_message_member_read"), plan);
+    }
+
+    @Test
+    @DisplayName("회원별 기간 조회는 (mb_no, created_at, id) 인덱스를 사용한다")
+    void historyByPeriod_usesMemberCreatedIndex() throws SQLException {
+        String plan = explain("SELECT id, content, created_at FROM notification_message WHERE mb_no = 42 "
+                + "AND created_at >= TIMESTAMP '2025-01-05 00:00:00' ORDER BY created_at DESC, id DESC LIMIT 20");
+
+        assertTrue(plan.contains("idx_notification_message_member_created"), plan);
+    }
+}
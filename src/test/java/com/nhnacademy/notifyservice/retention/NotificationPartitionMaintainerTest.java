@@ -0,0 +1,109 @@
+package com.nhnacademy.notifyservice.retention;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationPartitionMaintainerTest {
+
+    JdbcTemplate jdbcTemplate;
+    NotificationRetentionProperties properties;
+    NotificationPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        properties = new NotificationRetentionProperties();
+        properties.setDefaultTtl(Duration.ofDays(90));
+        properties.setTtl(Map.of("ROLE_USER", Duration.ofDays(30)));
+        properties.getPartitioning().setMonthsAhead(2);
+        maintainer = new NotificationPartitionMaintainer(jdbcTemplate, properties, properties.toPolicy());
+    }
+
+    @Test
+    @DisplayName("가장 최근 월 파티션 다음 달부터 months-ahead까지 차례대로 생성한다")
+    void plan_createsMissingMonthsInOrder() {
+        NotificationPartitionMaintainer.PartitionPlan plan = NotificationPartitionMaintainer.PartitionPlan.of(
+                List.of("p202604", "p202605", "p_future"), YearMonth.of(2026, 6), 2, null);
+
+        assertEquals(List.of(YearMonth.of(2026, 6), YearMonth.of(2026, 7), YearMonth.of(2026, 8)), plan.toCreate());
+        assertTrue(plan.toDrop().isEmpty());
+    }
+
+    @Test
+    @DisplayName("기준 월보다 이전 월의 파티션만 제거 대상이다")
+    void plan_dropsMonthsBeforeCutoff() {
+        NotificationPartitionMaintainer.PartitionPlan plan = NotificationPartitionMaintainer.PartitionPlan.of(
+                List.of("p202601", "p202602", "p202603", "p202609", "p_future"), YearMonth.of(2026, 6), 2, YearMonth.of(2026, 3));
+
+        assertEquals(List.of("p202601", "p202602"), plan.toDrop());
+        assertTrue(plan.toCreate().isEmpty());
+    }
+
+    @Test
+    @DisplayName("가장 긴 보관 기간이 지난 파티션을 제거하고 다음 달 파티션을 미리 만든다")
+    void maintain_dropsExpiredAndCreatesAhead() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of("p202601", "p202602", "p202603", "p202606", "p202607", "p_future"));
+
+        maintainer.maintain(LocalDate.of(2026, 6, 15));
+
+        // 90일 전 = 2026-03-17, 3월 파티션은 아직 보관 기간 안의 행이 있으므로 유지
+        verify(jdbcTemplate).execute("ALTER TABLE notification_message DROP PARTITION p202601");
+        verify(jdbcTemplate).execute("ALTER TABLE notification_message DROP PARTITION p202602");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE notification_message DROP PARTITION p202603");
+        verify(jdbcTemplate).execute("ALTER TABLE notification_message REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p202608 VALUES LESS THAN ('2026-09-01'), PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        // 제거된 알림의 히스토리 ETag 무효화
+        verify(jdbcTemplate).update("UPDATE member_notification_summary SET version = version + 1");
+    }
+
+    @Test
+    @DisplayName("보관 파일을 사용하면 아직 행이 남은 파티션은 제거하지 않는다")
+    void maintain_archiveEnabled_keepsNonEmptyPartition() {
+        properties.getArchive().setEnabled(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of("p202601", "p202606", "p202607", "p202608", "p_future"));
+        when(jdbcTemplate.queryForList("SELECT 1 FROM notification_message PARTITION (p202601) LIMIT 1"))
+                .thenReturn(List.of(Map.of("1", 1)));
+
+        maintainer.maintain(LocalDate.of(2026, 6, 15));
+
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE notification_message DROP PARTITION"));
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+
+    @Test
+    @DisplayName("삭제하지 않는 역할이 있으면 파티션을 제거하지 않는다")
+    void maintain_roleKeptForever_neverDrops() {
+        properties.setTtl(Map.of("ROLE_ADMIN", Duration.ZERO));
+        maintainer = new NotificationPartitionMaintainer(jdbcTemplate, properties, properties.toPolicy());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of("p202001", "p202606", "p202607", "p202608", "p_future"));
+
+        maintainer.maintain(LocalDate.of(2026, 6, 15));
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 아무 작업도 하지 않는다")
+    void maintain_notPartitioned_skips() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of());
+
+        maintainer.maintain(LocalDate.of(2026, 6, 15));
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,261 @@
+package com.nhnacademy.notifyservice.retention;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nhnacademy.notifyservice.cache.RecentNotificationCache;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.NotificationEventBody;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.MemberNotificationSummaryRepository;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationEventBodyRepository;
+import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import com.nhnacademy.notifyservice.summary.NotificationSummaryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationRetentionJobTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 3, 30);
+
+    @Autowired
+    NotificationMessageRepository notificationMessageRepository;
+
+    @Autowired
+    NotificationEventBodyRepository notificationEventBodyRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberNotificationSummaryRepository memberNotificationSummaryRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path archiveDirectory;
+
+    RecentNotificationCache recentNotificationCache = new RecentNotificationCache(10, 1);
+
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    Member admin;
+    Member user;
+
+    @BeforeEach
+    void setUp() {
+        Role adminRole = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        Role userRole = roleRepository.save(Role.ofNewRole("ROLE_USER", "사용자"));
+        admin = memberRepository.save(Member.ofNewMember(adminRole, "관리자", "admin@test.com", "password", "010-0000-0000"));
+        user = memberRepository.save(Member.ofNewMember(userRole, "사용자", "user@test.com", "password", "010-1111-1111"));
+
+        // 관리자: 200일 전 3건, 10일 전 1건 / 사용자: 40일 전 5건, 10일 전 1건
+        save(admin, adminRole, 3, NOW.minusDays(200));
+        save(admin, adminRole, 1, NOW.minusDays(10));
+        save(user, userRole, 5, NOW.minusDays(40));
+        save(user, userRole, 1, NOW.minusDays(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationMessageRepository.deleteAll();
+        notificationEventBodyRepository.deleteAll();
+        memberNotificationSummaryRepository.deleteAll();
+        memberRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    private void save(Member member, Role role, int count, LocalDateTime createdAt) {
+        for (int i = 0; i < count; i++) {
+            NotificationMessage notificationMessage = notificationMessageRepository.save(NotificationMessage.builder()
+                    .member(member)
+                    .role(role)
+                    .content("알림 " + i)
+                    .isRead(false)
+                    .build());
+            jdbcTemplate.update("UPDATE notification_message SET created_at = ? WHERE id = ?", createdAt, notificationMessage.getId());
+        }
+    }
+
+    private NotificationEventBody saveBody(String content, LocalDateTime createdAt) {
+        NotificationEventBody body = notificationEventBodyRepository.save(NotificationEventBody.of(content));
+        jdbcTemplate.update("UPDATE notification_event_body SET created_at = ? WHERE id = ?", createdAt, body.getId());
+        return body;
+    }
+
+    private void saveShared(Member member, Role role, NotificationEventBody body, LocalDateTime createdAt) {
+        NotificationMessage notificationMessage = notificationMessageRepository.save(NotificationMessage.builder()
+                .member(member)
+                .role(role)
+                .event(body)
+                .isRead(false)
+                .build());
+        jdbcTemplate.update("UPDATE notification_message SET created_at = ? WHERE id = ?", createdAt, notificationMessage.getId());
+    }
+
+    private List<JsonNode> readArchive(String fileName) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(archiveDirectory)) {
+            files = list.toList();
+        }
+        assertEquals(1, files.size());
+        assertEquals(fileName, files.get(0).getFileName().toString());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+            return reader.lines().map(line -> {
+                try {
+                    return objectMapper.readTree(line);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+    }
+
+    private NotificationRetentionJob job(NotificationRetentionProperties properties) {
+        return new NotificationRetentionJob(notificationMessageRepository, notificationEventBodyRepository, roleRepository, memberRepository,
+                recentNotificationCache, new NotificationSummaryStore(memberNotificationSummaryRepository, transactionManager), new NotificationMetrics(new SimpleMeterRegistry()), properties,
+                properties.toPolicy(), transactionManager, objectMapper);
+    }
+
+    private NotificationRetentionProperties properties() {
+        NotificationRetentionProperties properties = new NotificationRetentionProperties();
+        properties.setDefaultTtl(Duration.ofDays(180));
+        properties.setTtl(Map.of("ROLE_USER", Duration.ofDays(30)));
+        properties.setChunkSize(2);
+        properties.setChunkPause(Duration.ZERO);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("역할별 보관 기간이 지난 알림만 작은 묶음 단위로 삭제한다")
+    void purge_deletesExpiredPerRoleTtl() {
+        long purged = job(properties()).purge(NOW);
+
+        assertEquals(8, purged);
+        assertEquals(1L, notificationMessageRepository.countByMemberAndIsReadFalse(admin));
+        assertEquals(1L, notificationMessageRepository.countByMemberAndIsReadFalse(user));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 0인 역할의 알림은 삭제하지 않는다")
+    void purge_zeroTtl_keepsRole() {
+        NotificationRetentionProperties properties = properties();
+        properties.setTtl(Map.of("ROLE_USER", Duration.ZERO));
+
+        assertEquals(3, job(properties).purge(NOW));
+        assertEquals(6L, notificationMessageRepository.countByMemberAndIsReadFalse(user));
+    }
+
+    @Test
+    @DisplayName("한 번의 실행은 max-chunks-per-run개의 묶음까지만 처리하고 나머지는 다음 실행에서 처리한다")
+    void purge_chunkLimit_resumesNextRun() {
+        NotificationRetentionProperties properties = properties();
+        properties.setMaxChunksPerRun(2);
+
+        // 관리자 3건(2+1) → 사용자 5건 중 4건(2+2) → 남은 1건
+        assertEquals(3, job(properties).purge(NOW));
+        assertEquals(4, job(properties).purge(NOW));
+        assertEquals(1, job(properties).purge(NOW));
+        assertEquals(0, job(properties).purge(NOW));
+    }
+
+    @Test
+    @DisplayName("보관 파일을 사용하면 삭제한 행을 gzip NDJSON 파일로 내보낸다")
+    void purge_archiveEnabled_writesCompressedNdjson() throws IOException {
+        NotificationRetentionProperties properties = properties();
+        properties.getArchive().setEnabled(true);
+        properties.getArchive().setDirectory(archiveDirectory);
+
+        job(properties).purge(NOW);
+
+        List<JsonNode> rows = readArchive("notification-message-20260601-033000.ndjson.gz");
+        assertEquals(8, rows.size());
+        assertEquals(3, rows.stream().filter(row -> "admin@test.com".equals(row.get("mbEmail").asText())).count());
+        assertEquals(5, rows.stream().filter(row -> "ROLE_USER".equals(row.get("roleName").asText())).count());
+    }
+
+    @Test
+    @DisplayName("공유 본문을 참조하는 알림은 본문을 채워 보관하고, 참조하는 알림이 없어진 본문은 삭제한다")
+    void purge_sharedBody_archivedWithContentAndUnreferencedBodyDeleted() throws IOException {
+        NotificationRetentionProperties properties = properties();
+        properties.getArchive().setEnabled(true);
+        properties.getArchive().setDirectory(archiveDirectory);
+        Role adminRole = admin.getRole();
+        NotificationEventBody expiredBody = saveBody("공유 본문", NOW.minusDays(200));
+        NotificationEventBody recentBody = saveBody("최근 공유 본문", NOW.minusDays(10));
+        saveShared(admin, adminRole, expiredBody, NOW.minusDays(200));
+        saveShared(admin, adminRole, recentBody, NOW.minusDays(10));
+
+        assertEquals(9, job(properties).purge(NOW));
+
+        List<JsonNode> rows = readArchive("notification-message-20260601-033000.ndjson.gz");
+        assertEquals(1, rows.stream().filter(row -> "공유 본문".equals(row.get("content").asText())).count());
+        assertEquals(List.of(recentBody.getId()), notificationEventBodyRepository.findAll().stream().map(NotificationEventBody::getId).toList());
+    }
+
+    @Test
+    @DisplayName("삭제할 행이 없으면 보관 파일을 남기지 않는다")
+    void purge_nothingExpired_noArchiveFile() throws IOException {
+        NotificationRetentionProperties properties = properties();
+        properties.getArchive().setEnabled(true);
+        properties.getArchive().setDirectory(archiveDirectory);
+
+        assertEquals(0, job(properties).purge(NOW.minusDays(300)));
+        try (Stream<Path> list = Files.list(archiveDirectory)) {
+            assertEquals(0, list.count());
+        }
+    }
+
+    @Test
+    @DisplayName("알림을 삭제한 사용자의 최근 알림 캐시를 제거한다")
+    void purge_evictsRecentNotificationCache() {
+        recentNotificationCache.append("user@test.com", NotificationMessageDto.builder().id(1L).content("알림").build());
+        recentNotificationCache.append("admin@test.com", NotificationMessageDto.builder().id(2L).content("알림").build());
+
+        job(properties()).purge(NOW);
+
+        assertNull(recentNotificationCache.findAfter("user@test.com", 0L));
+        assertNull(recentNotificationCache.findAfter("admin@test.com", 0L));
+    }
+}
@@ -1,29 +1,112 @@
 package com.nhnacademy.notifyservice.service;
 
+import com.nhnacademy.notifyservice.cache.MimeMessageTemplateCache;
+import com.nhnacademy.notifyservice.circuit.CircuitBreakerProperties;
+import com.nhnacademy.notifyservice.circuit.CircuitOpenException;
+import com.nhnacademy.notifyservice.circuit.ListenerPauseController;
+import com.nhnacademy.notifyservice.circuit.NotificationCircuitBreakers;
 import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class EmailServiceTest {
     @Mock
     private JavaMailSender sender;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private NotificationMetrics notificationMetrics = new NotificationMetrics(meterRegistry);
+
+    @Spy
+    private MimeMessageTemplateCache mimeMessageTemplateCache = new MimeMessageTemplateCache(true, 16, 1024, notificationMetrics);
+
+    @Spy
+    private NotificationCircuitBreakers notificationCircuitBreakers = new NotificationCircuitBreakers(
+            new CircuitBreakerProperties(), notificationMetrics, Mockito.mock(ListenerPauseController.class));
+
     @InjectMocks
     private EmailService service;
 
+    private final Session session = Session.getInstance(System.getProperties());
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(service, "maxEnvelopeRecipients", 2);
+        Mockito.when(sender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        Mockito.when(sender.createMimeMessage(Mockito.any(InputStream.class)))
+                .thenAnswer(invocation -> new MimeMessage(session, invocation.<InputStream>getArgument(0)));
+    }
+
+    private List<MimeMessage> sentMessages(int times) throws MessagingException {
+        ArgumentCaptor<MimeMessage> captor = ArgumentCaptor.forClass(MimeMessage.class);
+        Mockito.verify(sender, Mockito.times(times)).send(captor.capture());
+        for (MimeMessage message : captor.getAllValues()) {
+            // JavaMailSenderImpl이 발송 전에 수행하는 헤더 갱신
+            message.saveChanges();
+        }
+        return captor.getAllValues();
+    }
+
+    private static List<String> addressesOf(Address[] addresses) {
+        return addresses == null ? List.of() : Arrays.stream(addresses).map(address -> ((InternetAddress) address).getAddress()).toList();
+    }
+
+    private MimeMessage[] sentEnvelopes() {
+        ArgumentCaptor<MimeMessage[]> captor = ArgumentCaptor.forClass(MimeMessage[].class);
+        Mockito.verify(sender).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String htmlOf(Part part) throws MessagingException, IOException {
+        if (part.isMimeType("text/html")) {
+            return (String) part.getContent();
+        }
+        if (part.isMimeType("multipart/*")) {
+            Multipart multipart = (Multipart) part.getContent();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart bodyPart = multipart.getBodyPart(i);
+                String html = htmlOf(bodyPart);
+                if (html != null) {
+                    return html;
+                }
+            }
+        }
+        return null;
     }
 
     @Test
@@ -36,16 +119,103 @@ class EmailServiceTest {
     }
 
     @Test
-    @DisplayName("이메일 발송 - html")
-    void sendHtmlEmail() throws MessagingException {
-        Session session = Session.getDefaultInstance(System.getProperties());
-        MimeMessage message = new MimeMessage(session);
-        Mockito.when(sender.createMimeMessage()).thenReturn(message);
+    @DisplayName("SMTP 연결 실패가 임계값만큼 반복되면 회로가 열려 릴레이에 연결하지 않고 즉시 실패한다")
+    void sendTextEmail_smtpCircuitOpen_fastFails() {
+        EmailRequest request = new EmailRequest("test@test.com", "제목", "내용", "TEXT");
+        Mockito.doThrow(new MailSendException("Mail server connection failed")).when(sender).send(Mockito.any(SimpleMailMessage.class));
 
+        for (int i = 0; i < 5; i++) {
+            assertThrows(MailSendException.class, () -> service.sendTextEmail(request));
+        }
+        assertThrows(CircuitOpenException.class, () -> service.sendTextEmail(request));
+
+        Mockito.verify(sender, Mockito.times(5)).send(Mockito.any(SimpleMailMessage.class));
+    }
+
+    @Test
+    @DisplayName("이메일 발송 - html")
+    void sendHtmlEmail() throws Exception {
         EmailRequest request = new EmailRequest("test@test.com", "이메일 발송(text)", "<p><b>이메일</b> 발송 테스트</p>", "HTML");
         service.sendHtmlEmail(request);
 
         Mockito.verify(sender, Mockito.times(1)).createMimeMessage();
-        Mockito.verify(sender, Mockito.times(1)).send(message);
+        MimeMessage message = sentMessages(1).get(0);
+        assertEquals("test@test.com", message.getRecipients(Message.RecipientType.TO)[0].toString());
+        assertEquals("이메일 발송(text)", message.getSubject());
+        assertEquals("<p><b>이메일</b> 발송 테스트</p>", htmlOf(message));
+    }
+
+    @Test
+    @DisplayName("본문이 같은 HTML 메일은 인코딩된 본문을 재사용하고 수신자/제목 헤더만 바꾼다")
+    void sendHtmlEmail_sameBody_reusesEncodedBody() throws Exception {
+        String html = "<h1>회의실 예약 완료</h1><p>예약번호 1234</p>";
+        service.sendHtmlEmail(new EmailRequest("a@test.com", "예약 완료 A", html, "HTML"));
+        service.sendHtmlEmail(new EmailRequest("b@test.com", "예약 완료 B", html, "HTML"));
+
+        // 본문 multipart는 처음 한 번만 생성
+        Mockito.verify(sender, Mockito.times(1)).createMimeMessage();
+        List<MimeMessage> messages = sentMessages(2);
+        assertEquals("b@test.com", messages.get(1).getRecipients(Message.RecipientType.TO)[0].toString());
+        assertEquals("예약 완료 B", messages.get(1).getSubject());
+        assertEquals(html, htmlOf(messages.get(0)));
+        assertEquals(html, htmlOf(messages.get(1)));
+        assertNotEquals(messages.get(0).getMessageID(), messages.get(1).getMessageID());
+        // 인코딩된 본문 바이트를 그대로 공유
+        assertArrayEquals(messages.get(0).getRawInputStream().readAllBytes(), messages.get(1).getRawInputStream().readAllBytes());
+        assertEquals(1.0, meterRegistry.get("notification.email.mime-cache").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.email.mime-cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 크기보다 큰 본문은 캐시하지 않고 매번 만든다")
+    void sendHtmlEmail_largeBody_notCached() throws Exception {
+        String html = "<p>" + "가".repeat(2000) + "</p>";
+        service.sendHtmlEmail(new EmailRequest("a@test.com", "제목", html, "HTML"));
+        service.sendHtmlEmail(new EmailRequest("b@test.com", "제목", html, "HTML"));
+
+        Mockito.verify(sender, Mockito.times(2)).createMimeMessage();
+        Mockito.verify(sender, Mockito.never()).createMimeMessage(Mockito.any(InputStream.class));
+        assertEquals(html, htmlOf(sentMessages(2).get(1)));
+    }
+
+    @Test
+    @DisplayName("여러 수신자 메일은 봉투 최대 수신자 수로 나누어 한 번에 발송하고, to 외의 수신자는 Bcc로 설정한다")
+    void sendBulkEmail_splitsIntoEnvelopes() throws Exception {
+        EmailRequest request = new EmailRequest("a@test.com", "공지", "<p>공지</p>", "HTML");
+        List<String> recipients = List.of("a@test.com", "b@test.com", "c@test.com", "d@test.com", "e@test.com");
+
+        assertEquals(List.of(), service.sendBulkEmail(request, recipients));
+
+        MimeMessage[] envelopes = sentEnvelopes();
+        assertEquals(3, envelopes.length);
+        assertEquals(List.of("a@test.com"), addressesOf(envelopes[0].getRecipients(Message.RecipientType.TO)));
+        assertEquals(List.of("b@test.com"), addressesOf(envelopes[0].getRecipients(Message.RecipientType.BCC)));
+        assertEquals(List.of(), addressesOf(envelopes[1].getRecipients(Message.RecipientType.TO)));
+        assertEquals(List.of("c@test.com", "d@test.com"), addressesOf(envelopes[1].getRecipients(Message.RecipientType.BCC)));
+        assertEquals(List.of("e@test.com"), addressesOf(envelopes[2].getAllRecipients()));
+        assertEquals("공지", envelopes[2].getSubject());
+        // 본문은 한 번만 인코딩
+        Mockito.verify(sender, Mockito.times(1)).createMimeMessage();
+    }
+
+    @Test
+    @DisplayName("일부 수신자가 거절되면 거절/미발송 수신자만, 원인을 모르는 묶음 실패는 묶음 전체를 실패로 반환한다")
+    void sendBulkEmail_partialFailure_returnsFailedRecipients() throws Exception {
+        EmailRequest request = new EmailRequest(null, "공지", "공지 내용", "TEXT");
+        List<String> recipients = IntStream.rangeClosed(1, 4).mapToObj(i -> "user" + i + "@test.com").toList();
+        Mockito.doAnswer(invocation -> {
+            Object[] envelopes = invocation.getArguments();
+            Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            failedMessages.put(envelopes[0], new SendFailedException("rejected", null,
+                    new Address[0], new Address[0],
+                    new Address[]{new InternetAddress("user2@test.com")}));
+            failedMessages.put(envelopes[1], new MessagingException("connection reset"));
+            throw new MailSendException(failedMessages);
+        }).when(sender).send(Mockito.any(MimeMessage[].class));
+
+        List<String> failed = service.sendBulkEmail(request, recipients);
+
+        assertEquals(List.of("user2@test.com", "user3@test.com", "user4@test.com"), failed);
+        assertEquals(1L, meterRegistry.get("notification.email.send").tag("outcome", "partial").timer().count());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,240 @@
+package com.nhnacademy.notifyservice.service;
+
+import com.nhnacademy.notifyservice.cache.NotificationEventBodyCache;
+import com.nhnacademy.notifyservice.cache.RecentNotificationCache;
+import com.nhnacademy.notifyservice.config.NotificationSessionTracker;
+import com.nhnacademy.notifyservice.delivery.DeliveryDecision;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicy;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicyRegistry;
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
+import com.nhnacademy.notifyservice.delivery.NotificationEventFactory;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.dto.NotificationCatchUpDto;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import com.nhnacademy.notifyservice.longpoll.NotificationWaiterRegistry;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxRelay;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxWriter;
+import com.nhnacademy.notifyservice.repository.MemberNotificationSummaryRepository;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import com.nhnacademy.notifyservice.summary.NotificationSummaryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "notification.catch-up.max-items=3"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({NotificationServiceImpl.class, NotificationEventBodyCache.class, NotificationSummaryStore.class, RecentNotificationCache.class, NotificationCatchUpTest.DeliveryConfig.class})
+class NotificationCatchUpTest {
+
+    static final String EMAIL = "admin@test.com";
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    NotificationMessageRepository notificationMessageRepository;
+
+    @Autowired
+    MemberNotificationSummaryRepository memberNotificationSummaryRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    RecentNotificationCache recentNotificationCache;
+
+    @MockitoBean
+    NotificationOutboxWriter notificationOutboxWriter;
+
+    @MockitoBean
+    NotificationOutboxRelay notificationOutboxRelay;
+
+    @MockitoBean
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @MockitoBean
+    NotificationWaiterRegistry notificationWaiterRegistry;
+
+    @MockitoBean
+    NotificationSessionTracker notificationSessionTracker;
+
+    @MockitoBean
+    NotificationEventFactory notificationEventFactory;
+
+    Role role;
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        role = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        member = memberRepository.save(Member.ofNewMember(role, "관리자", EMAIL, "password", "010-0000-0000"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recentNotificationCache.evict(EMAIL);
+        memberNotificationSummaryRepository.deleteAll();
+        notificationMessageRepository.deleteAll();
+        memberRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    private List<Long> saveNotifications(int count) {
+        for (int i = 0; i < count; i++) {
+            String content = "알림 " + i;
+            notificationService.saveNotificationMessage(member, role, new NotificationEvent("TEXT", "ROLE_ADMIN", content, content, Set.of()));
+        }
+        return notificationMessageRepository.findAll().stream()
+                .map(notificationMessage -> notificationMessage.getId())
+                .sorted()
+                .toList();
+    }
+
+    private List<Long> ids(NotificationCatchUpDto catchUp) {
+        return catchUp.getNotifications().stream().map(NotificationMessageDto::getId).toList();
+    }
+
+    @Test
+    @DisplayName("링에 없는 구간은 마지막 확인 id 이후의 알림을 오래된 순으로 최대 개수만 반환한다")
+    void catchUp_cacheMiss_returnsOldestFirstUpToLimit() {
+        List<Long> savedIds = saveNotifications(5);
+
+        NotificationCatchUpDto catchUp = notificationService.getCatchUpNotification(EMAIL, savedIds.get(0));
+
+        assertEquals(savedIds.subList(1, 4), ids(catchUp));
+        assertTrue(catchUp.isTruncated());
+        assertEquals(5L, catchUp.getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("최대 개수 이하의 알림만 남아 있으면 잘림 표시 없이 모두 반환한다")
+    void catchUp_withinLimit_notTruncated() {
+        List<Long> savedIds = saveNotifications(5);
+
+        NotificationCatchUpDto catchUp = notificationService.getCatchUpNotification(EMAIL, savedIds.get(2));
+
+        assertEquals(savedIds.subList(3, 5), ids(catchUp));
+        assertFalse(catchUp.isTruncated());
+    }
+
+    @Test
+    @DisplayName("링이 보장하는 구간은 링의 알림을 반환하고 개수는 회원별 요약에서 조회한다")
+    void catchUp_cacheHit_usesRingAndSummaryCount() {
+        List<Long> savedIds = saveNotifications(2);
+        recentNotificationCache.append(EMAIL, NotificationMessageDto.builder().id(savedIds.get(0)).content("링 알림").createdAt(LocalDateTime.now()).build());
+        recentNotificationCache.append(EMAIL, NotificationMessageDto.builder().id(savedIds.get(1)).content("링 알림").createdAt(LocalDateTime.now()).build());
+
+        NotificationCatchUpDto catchUp = notificationService.getCatchUpNotification(EMAIL, savedIds.get(0));
+
+        assertEquals(List.of(savedIds.get(1)), ids(catchUp));
+        assertEquals("링 알림", catchUp.getNotifications().get(0).getContent());
+        assertEquals(2L, catchUp.getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("마지막 확인 id가 없으면 읽지 않은 개수만 전달하고 읽음 처리 후에는 0을 반환한다")
+    void catchUp_withoutLastSeenId_returnsCountOnly() {
+        saveNotifications(3);
+
+        NotificationCatchUpDto catchUp = notificationService.getCatchUpNotification(EMAIL, null);
+        assertTrue(catchUp.getNotifications().isEmpty());
+        assertEquals(3L, catchUp.getUnreadCount());
+
+        notificationService.readNotification(EMAIL);
+
+        assertEquals(0L, notificationService.getCatchUpNotification(EMAIL, null).getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 알림을 저장해도 읽지 않은 개수가 유실되지 않는다")
+    void catchUp_concurrentSaves_countsEveryNotification() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 20)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> notificationService.saveNotificationMessage(member, role,
+                            new NotificationEvent("TEXT", "ROLE_ADMIN", "알림 " + i, "알림 " + i, Set.of()))))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(20L, notificationService.getCatchUpNotification(EMAIL, null).getUnreadCount());
+    }
+
+    @Test
+    @DisplayName("catch-up은 아웃박스에 기록하지 않고 DTO 그대로 바로 전송한다")
+    void sendCatchUp_sendsDtoDirectly() {
+        List<Long> savedIds = saveNotifications(2);
+        clearInvocations(notificationOutboxWriter);
+
+        notificationService.sendCatchUpNotification(EMAIL, savedIds.get(0));
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(notificationOutboxRelay).sendDirect(eq("/notification/catch-up/" + EMAIL), payload.capture(), eq("catch-up"));
+        assertEquals(List.of(savedIds.get(1)), ids((NotificationCatchUpDto) payload.getValue()));
+        verify(notificationOutboxWriter, never()).enqueue(any(), any(), any());
+    }
+
+    @TestConfiguration
+    static class DeliveryConfig {
+
+        @Bean
+        DeliveryPolicyRegistry deliveryPolicyRegistry() {
+            return new DeliveryPolicyRegistry(Map.of(), new DeliveryPolicy() {
+                @Override
+                public DeliveryDecision decide(NotificationEvent event, String recipientEmail, int sessionCount) {
+                    return DeliveryDecision.STORE_ONLY;
+                }
+
+                @Override
+                public DeliveryDecision decideBadge(NotificationEvent event, String recipientEmail) {
+                    return DeliveryDecision.STORE_ONLY;
+                }
+            });
+        }
+
+        @Bean
+        NotificationMetrics notificationMetrics() {
+            return new NotificationMetrics(new SimpleMeterRegistry());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.nhnacademy.notifyservice.service;
+
+import com.nhnacademy.notifyservice.cache.NotificationEventBodyCache;
+import com.nhnacademy.notifyservice.cache.RecentNotificationCache;
+import com.nhnacademy.notifyservice.config.NotificationSessionTracker;
+import com.nhnacademy.notifyservice.delivery.DeliveryDecision;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicy;
+import com.nhnacademy.notifyservice.delivery.DeliveryPolicyRegistry;
+import com.nhnacademy.notifyservice.delivery.NotificationEvent;
+import com.nhnacademy.notifyservice.delivery.NotificationEventFactory;
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.NotificationEventBody;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.dto.EmailRequest;
+import com.nhnacademy.notifyservice.dto.NotificationMessageDto;
+import com.nhnacademy.notifyservice.longpoll.NotificationWaiterRegistry;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxRelay;
+import com.nhnacademy.notifyservice.outbox.NotificationOutboxWriter;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationEventBodyRepository;
+import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import com.nhnacademy.notifyservice.stream.NotificationStreamRegistry;
+import com.nhnacademy.notifyservice.summary.NotificationSummaryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "notification.storage.normalized-content=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({NotificationServiceImpl.class, NotificationEventBodyCache.class, NotificationSummaryStore.class, NotificationContentNormalizationTest.DeliveryConfig.class})
+class NotificationContentNormalizationTest {
+
+    static final String CONTENT = "[회의실 예약] 3층 회의실 A - 10:00 ~ 11:00";
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    NotificationMessageRepository notificationMessageRepository;
+
+    @Autowired
+    NotificationEventBodyRepository notificationEventBodyRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    NotificationEventBodyCache notificationEventBodyCache;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    NotificationOutboxWriter notificationOutboxWriter;
+
+    @MockitoBean
+    NotificationOutboxRelay notificationOutboxRelay;
+
+    @MockitoBean
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @MockitoBean
+    NotificationWaiterRegistry notificationWaiterRegistry;
+
+    @MockitoBean
+    NotificationSessionTracker notificationSessionTracker;
+
+    @MockitoBean
+    NotificationEventFactory notificationEventFactory;
+
+    @MockitoBean
+    RecentNotificationCache recentNotificationCache;
+
+    Role role;
+    List<Member> admins = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        role = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        for (int i = 0; i < 3; i++) {
+            admins.add(memberRepository.save(Member.ofNewMember(role, "관리자" + i, "admin" + i + "@test.com", "password", "010-0000-000" + i)));
+        }
+        when(notificationEventFactory.create(any())).thenReturn(new NotificationEvent("TEXT", "ROLE_ADMIN", CONTENT, CONTENT, Set.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationMessageRepository.deleteAll();
+        notificationEventBodyRepository.deleteAll();
+        memberRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    private void fanOut() {
+        NotificationEvent event = notificationService.prepareNotificationEvent(new EmailRequest("admin@test.com", "회의실 예약", CONTENT, "ROLE_ADMIN", "TEXT"));
+        for (Member admin : admins) {
+            notificationService.saveNotificationMessage(admin, role, event);
+        }
+    }
+
+    @Test
+    @DisplayName("관리자 알림의 본문은 이벤트당 한 번만 저장하고 수신자별 행은 본문 id만 참조한다")
+    void fanOut_storesBodyOnce() {
+        fanOut();
+
+        assertEquals(1, notificationEventBodyRepository.count());
+        Long bodyId = notificationEventBodyRepository.findAll().get(0).getId();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT content, event_id FROM notification_message");
+        assertEquals(admins.size(), rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.get("content") == null && bodyId.equals(row.get("event_id"))));
+    }
+
+    @Test
+    @DisplayName("히스토리 조회는 공유 본문을 최근 본문 캐시에서 찾아 채운다")
+    void history_resolvesBodyFromCache() {
+        fanOut();
+        Long bodyId = notificationEventBodyRepository.findAll().get(0).getId();
+        // 캐시의 본문이 사용되는지 확인하기 위해 DB의 본문을 변경
+        jdbcTemplate.update("UPDATE notification_event_body SET content = ? WHERE id = ?", "변경된 본문", bodyId);
+
+        List<NotificationMessageDto> history = notificationService.getHistoryNotification("admin0@test.com");
+
+        assertEquals(1, history.size());
+        assertEquals(CONTENT, history.get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 공유 본문은 데이터베이스에서 조회하여 캐시에 기록한다")
+    void history_cacheMiss_loadsBodyAndCaches() {
+        NotificationEventBody body = notificationEventBodyRepository.save(NotificationEventBody.of(CONTENT));
+        notificationMessageRepository.save(NotificationMessage.builder()
+                .member(admins.get(0))
+                .role(role)
+                .event(body)
+                .isRead(false)
+                .build());
+        notificationMessageRepository.save(NotificationMessage.builder()
+                .member(admins.get(0))
+                .role(role)
+                .content("본문을 직접 저장한 이전 알림")
+                .isRead(false)
+                .build());
+        assertNull(notificationEventBodyCache.get(body.getId()));
+
+        List<NotificationMessageDto> history = notificationService.getHistoryNotification("admin0@test.com");
+
+        assertEquals(Set.of(CONTENT, "본문을 직접 저장한 이전 알림"),
+                history.stream().map(NotificationMessageDto::getContent).collect(Collectors.toSet()));
+        assertEquals(CONTENT, notificationEventBodyCache.get(body.getId()));
+    }
+
+    @TestConfiguration
+    static class DeliveryConfig {
+
+        @Bean
+        DeliveryPolicyRegistry deliveryPolicyRegistry() {
+            return new DeliveryPolicyRegistry(Map.of(), new DeliveryPolicy() {
+                @Override
+                public DeliveryDecision decide(NotificationEvent event, String recipientEmail, int sessionCount) {
+                    return DeliveryDecision.STORE_ONLY;
+                }
+
+                @Override
+                public DeliveryDecision decideBadge(NotificationEvent event, String recipientEmail) {
+                    return DeliveryDecision.STORE_ONLY;
+                }
+            });
+        }
+
+        @Bean
+        NotificationMetrics notificationMetrics() {
+            return new NotificationMetrics(new SimpleMeterRegistry());
+        }
+    }
+}
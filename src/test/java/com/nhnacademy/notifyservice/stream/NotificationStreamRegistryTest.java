@@ -0,0 +1,194 @@
+package com.nhnacademy.notifyservice.stream;
+
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationStreamRegistryTest {
+
+    static final String COUNT_DESTINATION = "/notification/unread-notification-count-updates/a@test.com";
+    static final String POPUP_DESTINATION = "/notification/notification-message/a@test.com";
+
+    SimpleMeterRegistry meterRegistry;
+    List<RecordingEmitter> emitters;
+    NotificationStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emitters = new CopyOnWriteArrayList<>();
+        registry = registry(2, 10, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    private NotificationStreamRegistry registry(int bufferSize, int maxConnections, int maxConnectionsPerUser) {
+        return new NotificationStreamRegistry(new NotificationMetrics(meterRegistry), 60_000L, bufferSize, maxConnections, maxConnectionsPerUser) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("연결 직후 현재 읽지 않은 개수를 unread-count 이벤트로 보낸다")
+    void open_sendsInitialUnreadCount() throws InterruptedException {
+        assertTrue(registry.open("a@test.com", 3L).isPresent());
+
+        await(() -> !emitters.get(0).events.isEmpty());
+        assertEquals(List.of("event:unread-count\ndata:3\n\n"), emitters.get(0).events);
+        assertTrue(registry.hasListeners("a@test.com"));
+    }
+
+    @Test
+    @DisplayName("개수/팝업 프레임은 같은 사용자의 모든 연결에 전달하고 다른 프레임과 다른 사용자는 무시한다")
+    void publish_routesCountAndSummaryFrames() throws InterruptedException {
+        registry.open("a@test.com", 0L);
+        registry.open("a@test.com", 0L);
+        registry.open("b@test.com", 0L);
+        await(() -> emitters.stream().allMatch(emitter -> emitter.events.size() == 1));
+
+        registry.publish(POPUP_DESTINATION, "popup", "새 알림");
+        registry.publish("/notification/a@test.com", "content", "본문");
+
+        await(() -> emitters.get(0).events.size() == 2 && emitters.get(1).events.size() == 2);
+        assertEquals("event:summary\ndata:새 알림\n\n", emitters.get(0).events.get(1));
+        assertEquals("event:summary\ndata:새 알림\n\n", emitters.get(1).events.get(1));
+        assertEquals(1, emitters.get(2).events.size());
+    }
+
+    @Test
+    @DisplayName("전송 중에 쌓인 개수는 마지막 값 하나로 합치고 요약은 버퍼 크기만큼만 보관한다")
+    void publish_slowClient_coalescesCountAndBoundsSummaries() throws InterruptedException {
+        registry.open("a@test.com", 0L);
+        RecordingEmitter emitter = emitters.get(0);
+        await(() -> emitter.events.size() == 1);
+
+        emitter.block();
+        registry.publish(COUNT_DESTINATION, "unread-count", 1L);
+        await(emitter::isBlocked);
+        for (int i = 2; i <= 5; i++) {
+            registry.publish(POPUP_DESTINATION, "popup", "요약 " + i);
+            registry.publish(COUNT_DESTINATION, "unread-count", (long) i);
+        }
+        emitter.unblock();
+
+        await(() -> emitter.events.size() == 5);
+        assertEquals(List.of("unread-count:0", "unread-count:1", "summary:요약 4", "summary:요약 5", "unread-count:5"), emitter.summaries());
+        assertEquals(2.0, meterRegistry.get("notification.stream.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("heartbeat는 SSE 주석으로 보내고, 전송에 실패한 연결은 제거한다")
+    void heartbeat_sendsCommentAndRemovesBrokenConnection() throws InterruptedException {
+        registry.open("a@test.com", 0L);
+        registry.open("b@test.com", 0L);
+        await(() -> emitters.stream().allMatch(emitter -> emitter.events.size() == 1));
+        emitters.get(1).fail();
+
+        registry.heartbeat();
+
+        await(() -> emitters.get(0).events.size() == 2 && !registry.hasListeners("b@test.com"));
+        assertEquals(":\n\n", emitters.get(0).events.get(1));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("사용자별/전체 연결 수 제한을 넘으면 연결을 거절한다")
+    void open_limitsExceeded_rejected() {
+        NotificationStreamRegistry limited = registry(2, 3, 2);
+        try {
+            assertTrue(limited.open("a@test.com", 0L).isPresent());
+            assertTrue(limited.open("a@test.com", 0L).isPresent());
+            assertTrue(limited.open("a@test.com", 0L).isEmpty());
+            assertTrue(limited.open("b@test.com", 0L).isPresent());
+            assertTrue(limited.open("c@test.com", 0L).isEmpty());
+            assertEquals(3, limited.size());
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    /**
+     * 전송한 이벤트를 문자열로 기록하는 emitter입니다. 전송을 멈추거나 실패시킬 수 있습니다.
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        private volatile CountDownLatch gate;
+
+        private volatile boolean blocked;
+
+        private volatile boolean failing;
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        boolean isBlocked() {
+            return blocked;
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        void fail() {
+            failing = true;
+        }
+
+        List<String> summaries() {
+            return events.stream()
+                    .map(event -> event.replace("event:", "").replace("\ndata:", ":").strip())
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            String event = builder.build().stream().map(data -> data.getData().toString()).collect(Collectors.joining());
+            events.add(event);
+            CountDownLatch latch = gate;
+            if (latch != null) {
+                blocked = true;
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                gate = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.nhnacademy.notifyservice.summary;
+
+import com.nhnacademy.notifyservice.domain.Member;
+import com.nhnacademy.notifyservice.domain.MemberNotificationSummary;
+import com.nhnacademy.notifyservice.domain.NotificationMessage;
+import com.nhnacademy.notifyservice.domain.Role;
+import com.nhnacademy.notifyservice.metrics.NotificationMetrics;
+import com.nhnacademy.notifyservice.repository.MemberNotificationSummaryRepository;
+import com.nhnacademy.notifyservice.repository.MemberRepository;
+import com.nhnacademy.notifyservice.repository.NotificationMessageRepository;
+import com.nhnacademy.notifyservice.repository.RoleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationSummaryTest {
+
+    @Autowired
+    NotificationMessageRepository notificationMessageRepository;
+
+    @Autowired
+    MemberNotificationSummaryRepository memberNotificationSummaryRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    NotificationSummaryStore notificationSummaryStore;
+    TransactionTemplate transactionTemplate;
+    Role role;
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        notificationSummaryStore = new NotificationSummaryStore(memberNotificationSummaryRepository, transactionManager);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        role = roleRepository.save(Role.ofNewRole("ROLE_ADMIN", "관리자"));
+        member = memberRepository.save(Member.ofNewMember(role, "관리자", "admin@test.com", "password", "010-0000-0000"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationMessageRepository.deleteAll();
+        memberNotificationSummaryRepository.deleteAll();
+        memberRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    private NotificationMessage newNotification(boolean isRead) {
+        return NotificationMessage.builder()
+                .member(member)
+                .role(role)
+                .content("회의실 예약 알림")
+                .isRead(isRead)
+                .build();
+    }
+
+    /**
+     * 서비스와 같이 알림 저장과 요약 갱신을 한 트랜잭션에서 수행합니다.
+     */
+    private Long saveAndRecord(boolean isRead) {
+        return transactionTemplate.execute(status -> {
+            NotificationMessage notificationMessage = notificationMessageRepository.save(newNotification(isRead));
+            notificationSummaryStore.recordNotification(member, notificationMessage.getId(), isRead);
+            return notificationMessage.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("요약 행이 없으면 커밋된 상세 테이블 기준으로 생성한 뒤 새 알림을 반영한다")
+    void recordNotification_noSummary_createsFromDetail() {
+        notificationMessageRepository.save(newNotification(false));
+        notificationMessageRepository.save(newNotification(false));
+        notificationMessageRepository.save(newNotification(true));
+
+        Long lastId = saveAndRecord(false);
+
+        assertEquals(3L, notificationSummaryStore.findUnreadCount("admin@test.com").orElseThrow());
+        assertEquals(lastId, memberNotificationSummaryRepository.findById(member.getMbNo()).orElseThrow().getLastNotificationId());
+    }
+
+    @Test
+    @DisplayName("여러 컨슈머가 동시에 저장해도 읽지 않은 알림 개수 증가가 유실되지 않는다")
+    void recordNotification_concurrent_noLostUpdates() throws Exception {
+        int threads = 8;
+        int perThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        saveAndRecord(false);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals((long) threads * perThread, notificationSummaryStore.findUnreadCount(member).orElseThrow());
+        assertEquals(notificationMessageRepository.countByMemberAndIsReadFalse(member),
+                notificationSummaryStore.findUnreadCount(member).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 실제로 변경된 알림 수만큼만 요약을 감소시킨다")
+    void recordRead_decrementsByChangedRows() {
+        saveAndRecord(false);
+        saveAndRecord(false);
+
+        int firstRead = transactionTemplate.execute(status -> {
+            int readCount = notificationMessageRepository.markAllRead(member);
+            notificationSummaryStore.recordRead(member, readCount, LocalDateTime.now());
+            return readCount;
+        });
+        saveAndRecord(false);
+        int secondRead = transactionTemplate.execute(status -> notificationMessageRepository.markAllRead(member));
+
+        assertEquals(2, firstRead);
+        assertEquals(1, secondRead);
+        MemberNotificationSummary summary = memberNotificationSummaryRepository.findById(member.getMbNo()).orElseThrow();
+        // 두 번째 읽음 처리는 요약에 반영하지 않았으므로 1건이 남음
+        assertEquals(1L, summary.getUnreadCount());
+        assertNotNull(summary.getLastReadAt());
+    }
+
+    @Test
+    @DisplayName("알림 저장, 읽음 처리, 삭제마다 알림 변경 버전이 증가한다")
+    void version_changesOnNotificationReadAndDelete() {
+        saveAndRecord(false);
+        long created = notificationSummaryStore.findVersion("admin@test.com").orElseThrow();
+
+        saveAndRecord(true);
+        long afterInsert = notificationSummaryStore.findVersion("admin@test.com").orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> notificationSummaryStore.recordRead(member, 1, LocalDateTime.now()));
+        long afterRead = notificationSummaryStore.findVersion("admin@test.com").orElseThrow();
+        // 읽은 알림만 삭제해도 히스토리가 바뀌므로 증가
+        transactionTemplate.executeWithoutResult(status -> notificationSummaryStore.recordDeleted(member.getMbNo(), 0));
+        long afterDelete = notificationSummaryStore.findVersion("admin@test.com").orElseThrow();
+
+        assertTrue(created < afterInsert);
+        assertTrue(afterInsert < afterRead);
+        assertTrue(afterRead < afterDelete);
+        assertTrue(notificationSummaryStore.findVersion("nobody@test.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("정합성 검사 작업은 상세 테이블과 다른 요약 값을 바로잡고 없는 요약 행을 생성한다")
+    void repair_fixesDriftAndCreatesMissing() {
+        saveAndRecord(false);
+        saveAndRecord(false);
+        jdbcTemplate.update("UPDATE member_notification_summary SET unread_count = 42 WHERE mb_no = ?", member.getMbNo());
+
+        Member other = memberRepository.save(Member.ofNewMember(role, "다른 관리자", "other@test.com", "password", "010-1111-1111"));
+        notificationMessageRepository.save(NotificationMessage.builder()
+                .member(other)
+                .role(role)
+                .content("요약 없이 저장된 알림")
+                .isRead(false)
+                .build());
+
+        NotificationSummaryRepairJob repairJob = new NotificationSummaryRepairJob(memberNotificationSummaryRepository,
+                notificationSummaryStore, new NotificationMetrics(new SimpleMeterRegistry()), transactionManager, 1);
+
+        assertEquals(2, repairJob.repair());
+        assertEquals(2L, notificationSummaryStore.findUnreadCount(member).orElseThrow());
+        assertEquals(1L, notificationSummaryStore.findUnreadCount(other).orElseThrow());
+        assertEquals(0, repairJob.repair());
+    }
+}